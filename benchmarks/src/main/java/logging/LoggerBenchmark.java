@@ -0,0 +1,49 @@
+package logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of a log statement for the thread that logs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+
+    /**
+     * The logger under test.
+     */
+    private ILogger logger;
+
+    /**
+     * Creates the logger.
+     */
+    @Setup
+    public void setUp() {
+        this.logger = BenchmarkServiceLocators.create(0L).getLoggerFactory().createLogger(LoggerBenchmark.class);
+    }
+
+    /**
+     * Benchmarks logging a message like the ones logged every tick.
+     */
+    @Benchmark
+    public void info() {
+        this.logger.info("A new Ordinary Enemy has been created: x = 100, y = 200");
+    }
+
+}
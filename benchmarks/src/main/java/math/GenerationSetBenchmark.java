@@ -0,0 +1,59 @@
+package math;
+
+import objects.IGameObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks drawing a random platform or powerup from a {@link GenerationSet}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationSetBenchmark {
+
+    /**
+     * The type of set.
+     */
+    @Param({"platforms", "powerups"})
+    private String setType;
+
+    /**
+     * The set under test.
+     */
+    private IWeightsSet generationSet;
+
+    /**
+     * Creates the set.
+     */
+    @Setup
+    public void setUp() {
+        this.generationSet = new GenerationSet(BenchmarkServiceLocators.create(0L), this.setType);
+    }
+
+    /**
+     * Benchmarks drawing a random element.
+     *
+     * @return The element, to prevent dead code elimination.
+     */
+    @Benchmark
+    public IGameObject getRandomElement() {
+        return this.generationSet.getRandomElement();
+    }
+
+}
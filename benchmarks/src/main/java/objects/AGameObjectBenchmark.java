@@ -0,0 +1,65 @@
+package objects;
+
+import objects.blocks.platform.IPlatformFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the hitbox check of {@link AGameObject#checkCollision(IGameObject)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AGameObjectBenchmark {
+
+    /**
+     * Whether the two objects overlap.
+     */
+    @Param({"false", "true"})
+    private boolean overlapping;
+
+    /**
+     * The object that checks for the collision.
+     */
+    private IGameObject first;
+    /**
+     * The object it is checked against.
+     */
+    private IGameObject second;
+
+    /**
+     * Creates two platforms, either on top of each other or far apart.
+     */
+    @Setup
+    public void setUp() {
+        final IPlatformFactory platformFactory = BenchmarkServiceLocators.create(0L).getPlatformFactory();
+        this.first = platformFactory.createPlatform(100, 100);
+        this.second = this.overlapping ? platformFactory.createPlatform(110, 105) : platformFactory.createPlatform(600, 900);
+    }
+
+    /**
+     * Benchmarks a single collision check.
+     *
+     * @return Whether the objects collide, to prevent dead code elimination.
+     */
+    @Benchmark
+    public boolean checkCollision() {
+        return this.first.checkCollision(this.second);
+    }
+
+}
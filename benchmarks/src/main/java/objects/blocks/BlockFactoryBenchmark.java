@@ -0,0 +1,70 @@
+package objects.blocks;
+
+import objects.IJumpable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating a {@link IBlock} of every {@link BlockTypes type}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockFactoryBenchmark {
+
+    /**
+     * The type of block to create.
+     */
+    @Param({"standardBlock", "normalOnlyBlock", "horizontalOnlyBlock", "verticalOnlyBlock"})
+    private BlockTypes type;
+
+    /**
+     * Whether the block may contain an enemy.
+     */
+    @Param({"false", "true"})
+    private boolean enemy;
+
+    /**
+     * The block factory under test.
+     */
+    private IBlockFactory blockFactory;
+    /**
+     * The highest platform of the block below the new one.
+     */
+    private IJumpable lastPlatform;
+
+    /**
+     * Creates the block factory and the block to build upon.
+     */
+    @Setup
+    public void setUp() {
+        this.blockFactory = BenchmarkServiceLocators.create(0L).getBlockFactory();
+        this.lastPlatform = this.blockFactory.createStartBlock().getTopJumpable();
+    }
+
+    /**
+     * Benchmarks creating a block on top of the same platform.
+     *
+     * @return The new block, to prevent dead code elimination.
+     */
+    @Benchmark
+    public IBlock createBlock() {
+        return this.blockFactory.createBlock(this.lastPlatform, this.type, this.enemy);
+    }
+
+}
@@ -0,0 +1,85 @@
+package progression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks writing the progression of the player to a save file. A temporary file is used, so the progression of
+ * the player is not overwritten.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressionManagerBenchmark {
+
+    /**
+     * The temporary save file.
+     */
+    private File saveFile;
+    /**
+     * The progression manager under test, backed by the temporary save file.
+     */
+    private IProgressionManager progressionManager;
+    /**
+     * The private {@code saveData()} of the progression manager.
+     */
+    private MethodHandle saveData;
+
+    /**
+     * Creates the temporary save file and the progression manager.
+     *
+     * @throws ReflectiveOperationException When saveData cannot be accessed.
+     * @throws IOException                  When the temporary save file cannot be created.
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        this.saveFile = File.createTempFile("saveFile", ".data");
+        this.progressionManager = BenchmarkServiceLocators.createPersistent(this.saveFile.getAbsolutePath())
+                .getProgressionManager();
+
+        final Method method = ProgressionManager.class.getDeclaredMethod("saveData");
+        method.setAccessible(true);
+        this.saveData = MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * Benchmarks serialising and writing the save file once.
+     *
+     * @throws Throwable When the save file cannot be written.
+     */
+    @Benchmark
+    public void saveData() throws Throwable {
+        this.saveData.invoke(this.progressionManager);
+    }
+
+    /**
+     * Deletes the temporary save file.
+     */
+    @TearDown
+    public void tearDown() {
+        if (!this.saveFile.delete()) {
+            this.saveFile.deleteOnExit();
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package rendering;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the darkness of the darkness mode: cutting the lights of a busy screen out of a {@link LightMap} and
+ * drawing it over a frame of the size of the game, for several resolutions of the map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightMapBenchmark {
+
+    /**
+     * The width and height of the game.
+     */
+    private static final int WIDTH = 640, HEIGHT = 960;
+    /**
+     * The amount of lit platforms and powerups on the screen.
+     */
+    private static final int LIGHTS = 12;
+    /**
+     * The radius of the light of the doodle and of the other lights.
+     */
+    private static final int DOODLE_RADIUS = 260, RADIUS = 90;
+
+    /**
+     * How much smaller than the screen the light map is.
+     */
+    @Param({"1", "2", "4", "8"})
+    private int divisor;
+
+    /**
+     * The light map under test.
+     */
+    private LightMap lights;
+    /**
+     * The graphics of the frame.
+     */
+    private Graphics2D graphics;
+
+    /**
+     * Creates the light map and the frame it is drawn over.
+     */
+    @Setup
+    public void setUp() {
+        this.lights = new LightMap(LightMapBenchmark.WIDTH, LightMapBenchmark.HEIGHT);
+        this.lights.setDivisor(this.divisor);
+        final BufferedImage frame = new BufferedImage(LightMapBenchmark.WIDTH, LightMapBenchmark.HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        this.graphics = frame.createGraphics();
+    }
+
+    /**
+     * Releases the graphics of the frame.
+     */
+    @TearDown
+    public void tearDown() {
+        this.graphics.dispose();
+    }
+
+    /**
+     * Benchmarks the lights and the darkness of one frame.
+     */
+    @Benchmark
+    public void lightFrame() {
+        this.lights.light(LightMapBenchmark.WIDTH / 2, LightMapBenchmark.HEIGHT / 2, LightMapBenchmark.DOODLE_RADIUS);
+        for (int i = 0; i < LightMapBenchmark.LIGHTS; i++) {
+            this.lights.light(i * LightMapBenchmark.WIDTH / LightMapBenchmark.LIGHTS,
+                    i * LightMapBenchmark.HEIGHT / LightMapBenchmark.LIGHTS, LightMapBenchmark.RADIUS);
+        }
+        this.lights.draw(this.graphics);
+    }
+
+}
@@ -0,0 +1,113 @@
+package rendering;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import resources.sprites.SpriteFactory;
+import scenes.World;
+import system.BenchmarkServiceLocators;
+import system.Game;
+import system.IServiceLocator;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks capturing frames of a game in progress with the {@link OffscreenRenderer}, for every skin, at the size
+ * of the game, the size of the window and thumbnail size, and with frames drawn at the size of the game or at half
+ * of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffscreenBenchmark {
+
+    /**
+     * The amount of ticks simulated before capturing.
+     */
+    private static final int TICKS = 200;
+
+    /**
+     * The skin of the game.
+     */
+    @Param({"regular", "space", "underwater", "darkness"})
+    private Game.Modes mode;
+
+    /**
+     * How much smaller than the game the captured frames are.
+     */
+    @Param({"1", "2", "4"})
+    private int divisor;
+
+    /**
+     * The scale at which the frames are drawn.
+     */
+    @Param({"1", "0.5"})
+    private double renderScale;
+
+    /**
+     * The amount of players, two players split the screen into two views.
+     */
+    @Param({"1", "2"})
+    private int players;
+
+    /**
+     * Whether the platforms that never move are drawn from tiles.
+     */
+    @Param({"false", "true"})
+    private boolean staticTiles;
+
+    /**
+     * The renderer under test.
+     */
+    private OffscreenRenderer renderer;
+    /**
+     * The world that is captured.
+     */
+    private World world;
+
+    /**
+     * Creates a world with the skin and simulates it for a while.
+     */
+    @Setup
+    public void setUp() {
+        final IServiceLocator serviceLocator = BenchmarkServiceLocators.create(0L);
+        serviceLocator.getRes().setSkin(this.mode);
+        SpriteFactory.register(serviceLocator);
+        OffscreenRenderer.register(serviceLocator, serviceLocator.getConstants().getGameWidth() / this.divisor,
+                serviceLocator.getConstants().getGameHeight() / this.divisor);
+        this.renderer = (OffscreenRenderer) serviceLocator.getRenderer();
+        this.renderer.setRenderScale(this.renderScale);
+        this.renderer.setStaticSpriteTiles(this.staticTiles);
+
+        this.world = this.players == 1 ? serviceLocator.getSceneFactory().createSinglePlayerWorld()
+                : serviceLocator.getSceneFactory().createTwoPlayerWorld();
+        for (int i = 0; i < OffscreenBenchmark.TICKS; i++) {
+            BenchmarkServiceLocators.tick(serviceLocator, this.world, 1d);
+        }
+    }
+
+    /**
+     * Benchmarks recording, publishing and capturing a frame of the world.
+     *
+     * @return The captured frame, to prevent dead code elimination.
+     */
+    @Benchmark
+    public BufferedImage capture() {
+        this.world.render();
+        this.renderer.publish();
+        return this.renderer.capture();
+    }
+
+}
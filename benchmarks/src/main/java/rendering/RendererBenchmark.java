@@ -0,0 +1,93 @@
+package rendering;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import resources.IRes;
+import resources.sprites.ISprite;
+import system.BenchmarkServiceLocators;
+import system.IServiceLocator;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks drawing a sprite with the {@link Renderer} into an offscreen image the size of the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark {
+
+    /**
+     * The sprite to draw.
+     */
+    @Param({"platform1", "background"})
+    private IRes.Sprites spriteName;
+
+    /**
+     * The renderer under test.
+     */
+    private IRenderer renderer;
+    /**
+     * The sprite to draw.
+     */
+    private ISprite sprite;
+    /**
+     * The graphics of the offscreen image.
+     */
+    private Graphics2D graphics;
+    /**
+     * The position at which the sprite is drawn.
+     */
+    private final Point point = new Point(100, 100);
+
+    /**
+     * Creates the renderer and points it at an offscreen image.
+     */
+    @Setup
+    public void setUp() {
+        final IServiceLocator serviceLocator = BenchmarkServiceLocators.create(0L);
+        this.renderer = serviceLocator.getRenderer();
+        this.renderer.setCamera(serviceLocator.getCameraFactory().createStaticCamera());
+        this.sprite = serviceLocator.getSpriteFactory().getSprite(this.spriteName);
+
+        final BufferedImage image = new BufferedImage(serviceLocator.getConstants().getGameWidth(),
+                serviceLocator.getConstants().getGameHeight(), BufferedImage.TYPE_INT_ARGB);
+        this.graphics = image.createGraphics();
+        this.renderer.setGraphicsBuffer(this.graphics);
+    }
+
+    /**
+     * Releases the graphics of the offscreen image.
+     */
+    @TearDown
+    public void tearDown() {
+        this.graphics.dispose();
+    }
+
+    /**
+     * Benchmarks recording, publishing and replaying a single draw of the sprite.
+     */
+    @Benchmark
+    public void drawSprite() {
+        this.renderer.drawSprite(this.sprite, this.point);
+        this.renderer.publish();
+        this.renderer.flush();
+    }
+
+}
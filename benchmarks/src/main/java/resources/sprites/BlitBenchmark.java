@@ -0,0 +1,90 @@
+package resources.sprites;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import resources.IRes;
+import system.BenchmarkServiceLocators;
+import system.IServiceLocator;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks drawing a sprite into an opaque frame, with the image as it was read and after it has been converted
+ * by {@link SpriteFactory#toCompatibleImage(BufferedImage)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlitBenchmark {
+
+    /**
+     * The sprite to draw.
+     */
+    @Param({"platform1", "greenDoodleLeftAscend", "background"})
+    private IRes.Sprites spriteName;
+
+    /**
+     * Whether the sprite is converted to the compatible format before it is drawn.
+     */
+    @Param({"false", "true"})
+    private boolean compatible;
+
+    /**
+     * The image of the sprite.
+     */
+    private BufferedImage image;
+    /**
+     * The graphics of the frame.
+     */
+    private Graphics2D graphics;
+
+    /**
+     * Reads the sprite and creates the frame it is drawn to.
+     *
+     * @throws FileNotFoundException When the sprite cannot be found.
+     */
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        final IServiceLocator serviceLocator = BenchmarkServiceLocators.create(0L);
+        final BufferedImage read = serviceLocator.getFileSystem().readImage(
+                serviceLocator.getRes().getSpritePath(this.spriteName));
+        this.image = this.compatible ? SpriteFactory.toCompatibleImage(read) : read;
+
+        final BufferedImage frame = new BufferedImage(serviceLocator.getConstants().getGameWidth(),
+                serviceLocator.getConstants().getGameHeight(), BufferedImage.TYPE_INT_RGB);
+        this.graphics = frame.createGraphics();
+    }
+
+    /**
+     * Releases the graphics of the frame.
+     */
+    @TearDown
+    public void tearDown() {
+        this.graphics.dispose();
+    }
+
+    /**
+     * Benchmarks drawing the sprite once.
+     */
+    @Benchmark
+    public void blit() {
+        this.graphics.drawImage(this.image, 0, 0, null);
+    }
+
+}
@@ -0,0 +1,121 @@
+package scenes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import system.BenchmarkServiceLocators;
+import system.IServiceLocator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a tick of the {@link World} and its collision check.
+ * <br>
+ * The world is first simulated for {@link #ticks} ticks, so the amount of blocks, enemies and powerups is the
+ * amount a player meets at that point of a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+
+    /**
+     * The length of a tick relative to a frame.
+     */
+    private static final double DELTA = 1d;
+
+    /**
+     * The amount of ticks simulated before measuring.
+     */
+    @Param({"0", "2000", "20000"})
+    private int ticks;
+
+    /**
+     * The service locator of the world.
+     */
+    private IServiceLocator serviceLocator;
+    /**
+     * The world under test.
+     */
+    private World world;
+    /**
+     * The private {@code checkCollisions()} of the world.
+     */
+    private MethodHandle checkCollisions;
+
+    /**
+     * Creates the world and simulates it up to the requested point.
+     *
+     * @throws ReflectiveOperationException When the collision check cannot be accessed.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws ReflectiveOperationException {
+        this.serviceLocator = BenchmarkServiceLocators.create(0L);
+        this.world = this.createWorld();
+
+        final Method method = World.class.getDeclaredMethod("checkCollisions");
+        method.setAccessible(true);
+        this.checkCollisions = MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * Replaces the world when its Doodle has died. This runs outside the measured time, as creating a world simulates
+     * up to {@link #ticks} ticks.
+     */
+    @Setup(Level.Invocation)
+    public void replaceEndedWorld() {
+        if (this.world.isGameOver()) {
+            this.world = this.createWorld();
+        }
+    }
+
+    /**
+     * Benchmarks a complete update of the world.
+     *
+     * @return The world, to prevent dead code elimination.
+     */
+    @Benchmark
+    public World update() {
+        BenchmarkServiceLocators.tick(this.serviceLocator, this.world, DELTA);
+        return this.world;
+    }
+
+    /**
+     * Benchmarks checking the collisions of the Doodle with every block in view.
+     *
+     * @throws Throwable When the collision check fails.
+     */
+    @Benchmark
+    public void checkCollisions() throws Throwable {
+        this.checkCollisions.invokeExact(this.world);
+    }
+
+    /**
+     * Creates a world and simulates it for {@link #ticks} ticks.
+     *
+     * @return The world.
+     */
+    private World createWorld() {
+        final World w = this.serviceLocator.getSceneFactory().createSinglePlayerWorld();
+        for (int i = 0; i < this.ticks && !w.isGameOver(); i++) {
+            BenchmarkServiceLocators.tick(this.serviceLocator, w, DELTA);
+        }
+        return w;
+    }
+
+}
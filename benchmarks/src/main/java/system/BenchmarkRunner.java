@@ -0,0 +1,40 @@
+package system;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks given on the command line, or all of them, always with the GC profiler attached so every
+ * result reports its allocation rate next to its time.
+ * <br>
+ * Accepts the same arguments as the JMH runner, e.g. {@code WorldBenchmark -rf json -rff baseline.json}.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args The JMH command line arguments.
+     * @throws CommandLineOptionException When the arguments are not valid.
+     * @throws RunnerException            When a benchmark fails.
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,151 @@
+package system;
+
+import constants.IConstants;
+import scenes.World;
+
+/**
+ * Gives the benchmarks access to fully initialised service locators, which cannot be created outside this package.
+ */
+public final class BenchmarkServiceLocators {
+
+    static {
+        // The benchmarks never open a window
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkServiceLocators() {
+    }
+
+    /**
+     * Creates a service locator with a seeded random generator and a progression that is kept in memory.
+     *
+     * @param seed The seed of the random generator.
+     * @return A new service locator.
+     */
+    public static IServiceLocator create(final long seed) {
+        final IServiceLocator sL = new ServiceLocatorNoAudio(seed);
+        sL.getProgressionManager().init();
+        return sL;
+    }
+
+    /**
+     * Advances a world by one tick the way the game does, running the delayed tasks of its service locator first.
+     *
+     * @param sL    The service locator of the world.
+     * @param world The world.
+     * @param delta The length of the tick relative to a frame at the target FPS.
+     */
+    public static void tick(final IServiceLocator sL, final World world, final double delta) {
+        sL.getTaskQueue().runTasks();
+        world.update(delta);
+    }
+
+    /**
+     * Creates a service locator whose progression is read from and written to a save file of its own, so the save
+     * file of the player is left alone.
+     *
+     * @param saveFilePath The path of the save file to use instead.
+     * @return A new service locator.
+     */
+    public static IServiceLocator createPersistent(final String saveFilePath) {
+        final IServiceLocator sL = new ServiceLocatorNoAudio();
+        sL.provide(new SaveFileConstants(sL.getConstants(), saveFilePath));
+        sL.getProgressionManager().init();
+        return sL;
+    }
+
+    /**
+     * The constants of the game with another path for the save file.
+     */
+    private static final class SaveFileConstants implements IConstants {
+
+        /**
+         * The constants all other values are taken from.
+         */
+        private final IConstants constants;
+        /**
+         * The path of the save file.
+         */
+        private final String saveFilePath;
+
+        /**
+         * Creates the constants.
+         *
+         * @param c The constants all other values are taken from.
+         * @param s The path of the save file.
+         */
+        private SaveFileConstants(final IConstants c, final String s) {
+            this.constants = c;
+            this.saveFilePath = s;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getGameWidth() {
+            return this.constants.getGameWidth();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getGameHeight() {
+            return this.constants.getGameHeight();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getGravityAcceleration() {
+            return this.constants.getGravityAcceleration();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getScoreMultiplier() {
+            return this.constants.getScoreMultiplier();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean getLogPendingTasks() {
+            return this.constants.getLogPendingTasks();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getLogFile() {
+            return this.constants.getLogFile();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSaveFilePath() {
+            return this.saveFilePath;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getTicksPerSecond() {
+            return this.constants.getTicksPerSecond();
+        }
+
+    }
+
+}
@@ -3,7 +3,6 @@ package buttons;
 import groovy.lang.Tuple2;
 import logging.ILogger;
 import resources.sprites.ISprite;
-import system.Game;
 import system.IServiceLocator;
 
 import java.awt.Point;
@@ -63,8 +62,8 @@ import java.awt.Point;
         this.serviceLocator = sL;
         this.logger = sL.getLoggerFactory().createLogger(Button.class);
         this.sprite = s;
-        this.width = s.getImage().getWidth(null);
-        this.height = s.getImage().getHeight(null);
+        this.width = s.getWidth();
+        this.height = s.getHeight();
         this.topLeft[0] = x;
         this.topLeft[1] = y;
         this.bottomRight[0] = x + width;
@@ -123,7 +122,9 @@ import java.awt.Point;
 
         if (x > this.topLeft[0] && x < this.bottomRight[0] && y > this.topLeft[1] && y < this.bottomRight[1]) {
             this.logger.info("Button clicked: \"" + this.name + "\"");
-            Game.schedule(this.action);
+            if (!this.serviceLocator.getTaskQueue().offer(this.action)) {
+                this.logger.warning("The task queue is full, the action of \"" + this.name + "\" has been dropped");
+            }
         }
     }
 
@@ -22,12 +22,7 @@ public final class ButtonFactory implements IButtonFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
-    /**
-     * The singleton button factory.
-     * Constructed using synchronization.
-     */
-    private static IButtonFactory buttonFactory;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger.
      */
@@ -47,6 +42,7 @@ public final class ButtonFactory implements IButtonFactory {
      * @param serviceLocator The service locator
      */
     private ButtonFactory(final IServiceLocator serviceLocator) {
+        this.serviceLocator = serviceLocator;
         this.logger = serviceLocator.getLoggerFactory().createLogger(this.getClass());
         this.gameWidth = serviceLocator.getConstants().getGameWidth();
         this.gameHeight = serviceLocator.getConstants().getGameHeight();
@@ -61,21 +57,7 @@ public final class ButtonFactory implements IButtonFactory {
         if (serviceLocator == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        ButtonFactory.serviceLocator = serviceLocator;
-        ButtonFactory.serviceLocator.provide(getButtonFactory(ButtonFactory.serviceLocator));
-    }
-
-    /**
-     * The synchronized getter of the singleton buttonFactory.
-     *
-     * @param serviceLocator the service locator.
-     * @return the button factory
-     */
-    private static synchronized IButtonFactory getButtonFactory(final IServiceLocator serviceLocator) {
-        if (ButtonFactory.buttonFactory == null) {
-            ButtonFactory.buttonFactory = new ButtonFactory(serviceLocator);
-        }
-        return ButtonFactory.buttonFactory;
+        serviceLocator.provide(new ButtonFactory(serviceLocator));
     }
 
     /**
@@ -83,11 +65,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createPlayButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.play);
-        Runnable playAction = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createSinglePlayerWorld());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAction, "play");
+        Runnable playAction = () -> Game.setScene(this.serviceLocator.getSceneFactory().createSinglePlayerWorld());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAction, "play");
     }
 
     /**
@@ -95,11 +77,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createMultiplayerButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.multiplayer);
-        Runnable playAction = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createTwoPlayerWorld());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAction, "multiplayer");
+        Runnable playAction = () -> Game.setScene(this.serviceLocator.getSceneFactory().createTwoPlayerWorld());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAction, "multiplayer");
     }
 
     /**
@@ -107,14 +89,14 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createResumeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.resume);
         Runnable resumeAction = () -> {
             Game.resumeGame();
             Game.getScene().register();
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, resumeAction, "resume");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, resumeAction, "resume");
     }
 
     /**
@@ -122,17 +104,17 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createPlayAgainButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.playAgain);
         Runnable playAgainAction = () -> {
             if (Game.getPlayerMode() == Game.PlayerModes.single) {
-                Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createSinglePlayerWorld());
+                Game.setScene(this.serviceLocator.getSceneFactory().createSinglePlayerWorld());
             } else {
-                Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createTwoPlayerWorld());
+                Game.setScene(this.serviceLocator.getSceneFactory().createTwoPlayerWorld());
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAgainAction, "playAgain");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, playAgainAction, "playAgain");
     }
 
     /**
@@ -140,11 +122,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createShopButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.shop);
-        Runnable toShop = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createShopScreen());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, toShop, "shop");
+        Runnable toShop = () -> Game.setScene(this.serviceLocator.getSceneFactory().createShopScreen());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, toShop, "shop");
     }
 
     /**
@@ -152,11 +134,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createMainMenuButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.menu);
-        Runnable mainMenu = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createMainMenu());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, mainMenu, "mainMenu");
+        Runnable mainMenu = () -> Game.setScene(this.serviceLocator.getSceneFactory().createMainMenu());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, mainMenu, "mainMenu");
     }
 
     /**
@@ -164,11 +146,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createScoreButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.scoreButton);
-        Runnable scoreScreen = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createScoreScreen());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, scoreScreen, "scores");
+        Runnable scoreScreen = () -> Game.setScene(this.serviceLocator.getSceneFactory().createScoreScreen());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, scoreScreen, "scores");
     }
 
     /**
@@ -176,11 +158,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createChooseModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.chooseMode);
-        Runnable chooseMode = () -> Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().newChooseMode());
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, chooseMode, "chooseMode");
+        Runnable chooseMode = () -> Game.setScene(this.serviceLocator.getSceneFactory().newChooseMode());
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, chooseMode, "chooseMode");
     }
 
     /**
@@ -188,8 +170,8 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createRegularModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.regularMode);
         Runnable regularMode = () -> {
             if (serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.regular.getRankRequired()) {
@@ -200,7 +182,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, regularMode, "regularMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, regularMode, "regularMode");
     }
 
     /**
@@ -208,14 +190,14 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createOkPopupButton(final double x, final double y, final Popup popup) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.popupOkButton);
         Runnable deletePopup = () -> {
             Game.deletePopup(popup);
             ChooseModeScreen.hidePopup();
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, deletePopup, "popupOkButton");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, deletePopup, "popupOkButton");
     }
 
     /**
@@ -223,8 +205,8 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createDarknessModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.darknessMode);
         Runnable darknessMode = () -> {
             if (serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.darkness.getRankRequired()) {
@@ -235,7 +217,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, darknessMode, "darknessMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, darknessMode, "darknessMode");
     }
 
     /**
@@ -243,8 +225,8 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createInvertModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.verticalOnlyMode);
         Runnable invertMode = () -> {
             if (serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.verticalOnly.getRankRequired()) {
@@ -255,7 +237,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, invertMode, "verticalOnlyMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, invertMode, "verticalOnlyMode");
     }
 
     /**
@@ -263,11 +245,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createSpaceModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.spaceMode);
         Runnable spaceMode = () -> {
-            if (ButtonFactory.serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.space.getRankRequired()) {
+            if (this.serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.space.getRankRequired()) {
                 Game.setMode(Game.Modes.space);
             } else {
                 Popup popup = new Popup(serviceLocator, Ranks.getRankByLevelNumber(Game.Modes.space.getRankRequired()).getName() + " rank required.");
@@ -275,7 +257,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, spaceMode, "spaceMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, spaceMode, "spaceMode");
     }
 
     /**
@@ -283,8 +265,8 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createUnderwaterModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.underwaterMode);
         Runnable underwaterMode = () -> {
             if (serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.underwater.getRankRequired()) {
@@ -295,7 +277,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, underwaterMode, "underwaterMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, underwaterMode, "underwaterMode");
     }
 
     /**
@@ -303,8 +285,8 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createStoryModeButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.horizontalOnlyMode);
         Runnable storyMode = () -> {
             if (serviceLocator.getProgressionManager().getRank().getLevelNumber() >= Game.Modes.horizontalOnly.getRankRequired()) {
@@ -315,7 +297,7 @@ public final class ButtonFactory implements IButtonFactory {
                 ChooseModeScreen.showPopup();
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, storyMode, "horizontalOnlyMode");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, storyMode, "horizontalOnlyMode");
     }
 
     /**
@@ -323,7 +305,7 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createShopPowerupButton(final Powerups powerup, final double x, final double y, final int height) {
-        assert ButtonFactory.serviceLocator != null;
+        assert this.serviceLocator != null;
 
         if (powerup == null) {
             final String error = "There cannot a button be created for a null powerup";
@@ -334,7 +316,7 @@ public final class ButtonFactory implements IButtonFactory {
         final IProgressionManager progressionManager = serviceLocator.getProgressionManager();
         final int currentPowerupLevel = progressionManager.getPowerupLevel(powerup);
 
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getPowerupSprite(powerup, currentPowerupLevel + 1);
         Runnable shop = () -> {
             final int powerupLevel = progressionManager.getPowerupLevel(powerup);
@@ -343,13 +325,13 @@ public final class ButtonFactory implements IButtonFactory {
                 if (progressionManager.getCoins() >= price) {
                     progressionManager.decreaseCoins(price);
                     progressionManager.increasePowerupLevel(powerup);
-                    Game.setScene(ButtonFactory.serviceLocator.getSceneFactory().createShopScreen());
+                    Game.setScene(this.serviceLocator.getSceneFactory().createShopScreen());
                 }
             }
 
         };
         final int buttonWidth = (int) ((double) height * ((double) buttonSprite.getWidth() / (double) buttonSprite.getHeight()));
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, shop, "shop", new Tuple2<>(buttonWidth, height));
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, shop, "shop", new Tuple2<>(buttonWidth, height));
     }
 
     /**
@@ -357,7 +339,7 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createPausePowerupButton(final Powerups powerup, final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
+        assert this.serviceLocator != null;
 
         if (powerup == null) {
             final String error = "There cannot a button be created for a null powerup";
@@ -368,7 +350,7 @@ public final class ButtonFactory implements IButtonFactory {
         final IProgressionManager progressionManager = serviceLocator.getProgressionManager();
         final int currentPowerupLevel = progressionManager.getPowerupLevel(powerup);
 
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getPowerupSprite(powerup, currentPowerupLevel + 1);
         Runnable shop = () -> {
             final int powerupLevel = progressionManager.getPowerupLevel(powerup);
@@ -381,7 +363,7 @@ public final class ButtonFactory implements IButtonFactory {
                 }
             }
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, shop, "shop");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, shop, "shop");
     }
 
     /**
@@ -389,14 +371,14 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createPauseButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.pause);
         Runnable pause = () -> {
             Game.pauseGame();
             Game.getScene().deregister();
         };
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, pause, "pause");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, pause, "pause");
     }
 
     /**
@@ -404,11 +386,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createSwitchToShopButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.shop);
         Runnable switchAction = () -> Game.getPauseScreen().switchDisplay(PauseScreenModes.shop);
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, switchAction, "switch");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, switchAction, "switch");
     }
 
     /**
@@ -416,11 +398,11 @@ public final class ButtonFactory implements IButtonFactory {
      */
     @Override
     public IButton createSwitchToMissionButton(final double x, final double y) {
-        assert ButtonFactory.serviceLocator != null;
-        ISpriteFactory spriteFactory = ButtonFactory.serviceLocator.getSpriteFactory();
+        assert this.serviceLocator != null;
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite buttonSprite = spriteFactory.getSprite(IRes.Sprites.shop);
         Runnable switchAction = () -> Game.getPauseScreen().switchDisplay(PauseScreenModes.mission);
-        return new Button(ButtonFactory.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, switchAction, "switch");
+        return new Button(this.serviceLocator, (int) (gameWidth * x), (int) (gameHeight * y), buttonSprite, switchAction, "switch");
     }
 
 }
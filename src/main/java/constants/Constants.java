@@ -37,15 +37,22 @@ public final class Constants implements IConstants {
      * The file to which the logs will be written to.
      */
     private static final AtomicReference<String> LOG_FILE = new AtomicReference<>("async.log");
+    /**
+     * The amount of times per second the simulation is updated. Should be either 60 or 120.
+     */
+    private static final int TICKS_PER_SECOND = 60;
     /**
      * The service locator for the Constants class.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
 
     /**
      * Prevent public instantiation of Constants.
+     *
+     * @param sL The service locator.
      */
-    private Constants() {
+    private Constants(final IServiceLocator sL) {
+        this.serviceLocator = sL;
     }
 
     /**
@@ -57,8 +64,7 @@ public final class Constants implements IConstants {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        Constants.serviceLocator = sL;
-        Constants.serviceLocator.provide(new Constants());
+        sL.provide(new Constants(sL));
     }
 
     /**
@@ -117,4 +123,12 @@ public final class Constants implements IConstants {
         return Constants.SAVEFILE_DATA;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTicksPerSecond() {
+        return Constants.TICKS_PER_SECOND;
+    }
+
 }
@@ -53,4 +53,11 @@ public interface IConstants {
      * @return The name of the save file.
      */
     String getSaveFilePath();
+
+    /**
+     * Get the rate at which the simulation is updated.
+     *
+     * @return The amount of simulation ticks per second.
+     */
+    int getTicksPerSecond();
 }
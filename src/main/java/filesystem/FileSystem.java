@@ -46,10 +46,15 @@ public final class FileSystem implements IFileSystem {
      * The font used when the font requested could not be found.
      */
     private static final Font DEFAULT_FONT = new Font("serif", Font.PLAIN, 24);
+    /**
+     * The writer to the log file shared by every FileSystem in the process, so that games running side by side
+     * append to the same log instead of truncating it.
+     */
+    private static Writer sharedLogWriter;
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The writer to the log files.
      */
@@ -57,8 +62,24 @@ public final class FileSystem implements IFileSystem {
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
+     */
+    private FileSystem(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logWriter = FileSystem.getSharedLogWriter();
+    }
+
+    /**
+     * Opens the log file the first time it is requested and returns the same writer afterwards.
+     *
+     * @return The writer to the log file.
      */
-    private FileSystem() {
+    private static synchronized Writer getSharedLogWriter() {
+        if (FileSystem.sharedLogWriter != null) {
+            return FileSystem.sharedLogWriter;
+        }
+
         // If the LOGFILE is not found, the game should either crash on the exception or not crash at all (so also
         // not when something is logged. Therefore we provide an empty interface instead of null to prevent
         // a {@link NullPointerException}.
@@ -83,7 +104,8 @@ public final class FileSystem implements IFileSystem {
             e.printStackTrace();
         }
 
-        this.logWriter = new BufferedWriter(fw);
+        FileSystem.sharedLogWriter = new BufferedWriter(fw);
+        return FileSystem.sharedLogWriter;
     }
 
     /**
@@ -95,8 +117,7 @@ public final class FileSystem implements IFileSystem {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        FileSystem.serviceLocator = sL;
-        FileSystem.serviceLocator.provide(new FileSystem());
+        sL.provide(new FileSystem(sL));
     }
 
     /**
@@ -193,7 +214,7 @@ public final class FileSystem implements IFileSystem {
         File file = new File(filename);
         boolean success = file.delete();
 
-        ILogger logger = FileSystem.serviceLocator.getLoggerFactory().createLogger(this.getClass());
+        ILogger logger = this.serviceLocator.getLoggerFactory().createLogger(this.getClass());
         logger.error("The file \"" + filename + "\" has been deleted successfully=" + success);
     }
 
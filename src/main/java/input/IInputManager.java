@@ -16,6 +16,13 @@ public interface IInputManager extends MouseListener, KeyListener {
      */
     void setMainWindowBorderSize(final int windowLeftBorderSize, final int windowTopBorderSize);
 
+    /**
+     * Set the scale from the main window to the game, used for mouse inputs.
+     *
+     * @param scale The amount of pixels of the game per pixel of the window.
+     */
+    void setMainWindowScale(final double scale);
+
     // MOUSE
 
     /**
@@ -20,11 +20,15 @@ public final class InputManager implements IInputManager {
      * An empty list used as default for keyInputObservers.get().
      */
     private static final List<IKeyInputObserver> EMPTY_LIST = new ArrayList<>();
+    /**
+     * The amount of pixels of the game per pixel of the window, when the window is half the size of the game.
+     */
+    private static final double DEFAULT_SCALE = 2d;
 
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the InputManager.
      */
@@ -45,11 +49,18 @@ public final class InputManager implements IInputManager {
      * Offset for the mouse position Y.
      */
     private int offsetY = 0;
+    /**
+     * The amount of pixels of the game per pixel of the window.
+     */
+    private double scale = InputManager.DEFAULT_SCALE;
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private InputManager() {
+    private InputManager(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         this.logger = serviceLocator.getLoggerFactory().createLogger(InputManager.class);
     }
 
@@ -62,8 +73,7 @@ public final class InputManager implements IInputManager {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        InputManager.serviceLocator = sL;
-        InputManager.serviceLocator.provide(new InputManager());
+        sL.provide(new InputManager(sL));
     }
 
     /* MOUSE EVENTS */
@@ -80,7 +90,7 @@ public final class InputManager implements IInputManager {
      */
     @Override
     public synchronized void mousePressed(final MouseEvent e) {
-        int x = (2 * e.getX() - 2 * offsetX), y = (2 * e.getY() - 2 * offsetY);
+        int x = this.toGame(e.getX() - offsetX), y = this.toGame(e.getY() - offsetY);
         this.logger.info("Mouse pressed, button: " + e.getButton() + ", position: (" + x + "," + y + ")");
 
         for (IMouseInputObserver observer : mouseInputObservers) {
@@ -93,7 +103,7 @@ public final class InputManager implements IInputManager {
      */
     @Override
     public synchronized void mouseReleased(final MouseEvent e) {
-        int x = (2 * e.getX() - 2 * offsetX), y = (2 * e.getY() - 2 * offsetY);
+        int x = this.toGame(e.getX() - offsetX), y = this.toGame(e.getY() - offsetY);
         this.logger.info("Mouse released, button: " + e.getButton() + ", position: (" + x + "," + y + ")");
     }
 
@@ -195,4 +205,25 @@ public final class InputManager implements IInputManager {
         this.offsetY = windowTBSize;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void setMainWindowScale(final double s) {
+        if (s <= 0d) {
+            throw new IllegalArgumentException("The scale of the main window must be positive");
+        }
+        this.scale = s;
+    }
+
+    /**
+     * Converts a position in the main window to the game.
+     *
+     * @param position The position in pixels of the window, without the border.
+     * @return The position in the game.
+     */
+    private int toGame(final int position) {
+        return (int) Math.round(position * this.scale);
+    }
+
 }
@@ -8,6 +8,7 @@ import system.IServiceLocator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Standard implementation of the LoggingFactory. Used to create loggers.
@@ -18,6 +19,11 @@ public final class LoggerFactory implements ILoggerFactory {
      * The file to which the log data should be written.
      */
     private static final String LOG_IGNORE_FILE = "logIgnore.json";
+    /**
+     * Whether the log file has already been cleared by this process. Every service locator creates its own
+     * LoggerFactory, but only the first one may clear the log.
+     */
+    private static final AtomicBoolean LOG_CLEARED = new AtomicBoolean(false);
     /**
      * A fake logger which shall be returned when a class is being ignored.
      */
@@ -44,7 +50,7 @@ public final class LoggerFactory implements ILoggerFactory {
     /**
      * Used to gain access to all services.
      */
-    private static IServiceLocator serviceLocator;
+    private final IServiceLocator serviceLocator;
     /**
      * The file to which the log data should be written.
      */
@@ -60,12 +66,15 @@ public final class LoggerFactory implements ILoggerFactory {
 
     /**
      * Hidden constructor to prevent instantiation.
+     *
+     * @param sL The service locator.
      */
-    private LoggerFactory() {
-        IFileSystem fileSystem = LoggerFactory.serviceLocator.getFileSystem();
+    private LoggerFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        IFileSystem fileSystem = this.serviceLocator.getFileSystem();
 
-        LoggerFactory.logFile = LoggerFactory.serviceLocator.getConstants().getLogFile();
-        if (Game.CLEAR_LOG_ON_STARTUP) {
+        LoggerFactory.logFile = this.serviceLocator.getConstants().getLogFile();
+        if (Game.CLEAR_LOG_ON_STARTUP && LoggerFactory.LOG_CLEARED.compareAndSet(false, true)) {
             fileSystem.clearFile(logFile);
         }
 
@@ -100,8 +109,7 @@ public final class LoggerFactory implements ILoggerFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        LoggerFactory.serviceLocator = sL;
-        LoggerFactory.serviceLocator.provide(new LoggerFactory());
+        sL.provide(new LoggerFactory(sL));
     }
 
     /**
@@ -112,7 +120,7 @@ public final class LoggerFactory implements ILoggerFactory {
         if (this.logIgnore.contains(cl)) {
             return LoggerFactory.FAKE_LOGGER;
         } else {
-            return new Logger(LoggerFactory.serviceLocator, cl);
+            return new Logger(this.serviceLocator, cl);
         }
     }
 
@@ -11,14 +11,24 @@ import java.util.Random;
 public final class Calc implements ICalc {
 
     /**
-     * Random generator.
+     * Random generator, owned by a single service locator so concurrent games do not share a seed or a lock.
      */
-    private static final Random RANDOM = new Random();
+    private final Random random;
 
     /**
      * Prevents instantiation from outside the class.
      */
     private Calc() {
+        this(new Random());
+    }
+
+    /**
+     * Prevents instantiation from outside the class.
+     *
+     * @param r The random generator used for all calculations.
+     */
+    private Calc(final Random r) {
+        this.random = r;
     }
 
     /**
@@ -33,6 +43,19 @@ public final class Calc implements ICalc {
         sL.provide(new Calc());
     }
 
+    /**
+     * Register the Calc into the service locator, using a fixed seed so the generated worlds are reproducible.
+     *
+     * @param sL   the service locator.
+     * @param seed the seed for the random generator.
+     */
+    public static void register(final IServiceLocator sL, final long seed) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        sL.provide(new Calc(new Random(seed)));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -42,7 +65,7 @@ public final class Calc implements ICalc {
             throw new IllegalArgumentException("The upper-bound cannot equal to or lower than the lower-bound");
         }
 
-        return RANDOM.nextInt(upper - lower) + lower;
+        return this.random.nextInt(upper - lower) + lower;
     }
 
     /**
@@ -55,7 +78,7 @@ public final class Calc implements ICalc {
                     + max + "] instead");
         }
 
-        return RANDOM.nextDouble() * max;
+        return this.random.nextDouble() * max;
     }
 
 }
@@ -22,15 +22,11 @@ public abstract class AGameObject implements IGameObject {
      * The size of the hitbox array.
      */
     private static final int HITBOX_SIZE = 4;
-    /**
-     * A LOCK to prevent concurrent modification of e.g. the service locator.
-     */
-    private static final Object LOCK = new Object();
 
     /**
      * Used to gain access to all services.
      */
-    private static IServiceLocator serviceLocator;
+    private final IServiceLocator serviceLocator;
     /**
      * The logger for the class.
      */
@@ -51,6 +47,14 @@ public abstract class AGameObject implements IGameObject {
      * The position on the y axis of the game object.
      */
     private double yPos;
+    /**
+     * The position on the x axis of the game object at the start of the latest tick.
+     */
+    private double previousXPos;
+    /**
+     * The position on the y axis of the game object at the start of the latest tick.
+     */
+    private double previousYPos;
 
     /**
      * Creates a new game object and determines its hitbox by using the sprites dimensions automatically.
@@ -61,12 +65,11 @@ public abstract class AGameObject implements IGameObject {
      * @param objectClass   The class of the object (e.g. Doodle.class)
      */
     public AGameObject(final IServiceLocator sL, final Point point, final ISprite s, final Class<?> objectClass) {
-        synchronized (LOCK) {
-            AGameObject.serviceLocator = sL;
-        }
+        this.serviceLocator = sL;
 
         this.setXPos(point.getX());
         this.setYPos(point.getY());
+        this.savePosition();
 
         if (s == null) {
             this.setHitBox((int) point.getX(), (int) point.getY(), sL.getConstants().getGameWidth(), Integer.MAX_VALUE);
@@ -143,6 +146,31 @@ public abstract class AGameObject implements IGameObject {
         return this.yPos;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getPreviousXPos() {
+        return this.previousXPos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getPreviousYPos() {
+        return this.previousYPos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void savePosition() {
+        this.previousXPos = this.xPos;
+        this.previousYPos = this.yPos;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -211,7 +239,7 @@ public abstract class AGameObject implements IGameObject {
      *
      * @return The serviceLocator.
      */
-    protected static IServiceLocator getServiceLocator() {
+    protected IServiceLocator getServiceLocator() {
         assert serviceLocator != null;
         return serviceLocator;
     }
@@ -69,6 +69,28 @@ public interface IGameObject extends IRenderable, IUpdatable {
      */
     double getYPos();
 
+    /**
+     * Retrieve the x position of the game object at the start of the latest tick, from which it is drawn
+     * interpolated to its latest position.
+     *
+     * @return the previous x position.
+     */
+    double getPreviousXPos();
+
+    /**
+     * Retrieve the y position of the game object at the start of the latest tick, from which it is drawn
+     * interpolated to its latest position.
+     *
+     * @return the previous y position.
+     */
+    double getPreviousYPos();
+
+    /**
+     * Remember the current position as the position at the start of a tick. Called by whatever updates the game
+     * object, before it updates it.
+     */
+    void savePosition();
+
     /**
      * Retrieve a point of the x and y position of the game object.
      *
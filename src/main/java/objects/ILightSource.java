@@ -0,0 +1,15 @@
+package objects;
+
+/**
+ * Interface for GameObjects that light up their surroundings in the darkness mode.
+ */
+public interface ILightSource extends IGameObject {
+
+    /**
+     * Get how far the light of the object reaches.
+     *
+     * @return The radius of the light around the center of the hit box, or 0 if the object does not give light.
+     */
+    int getLightRadius();
+
+}
@@ -2,7 +2,13 @@ package objects.blocks;
 
 import objects.IGameObject;
 import objects.IJumpable;
+import objects.blocks.platform.Platform;
+import rendering.IRenderer;
+import resources.sprites.ISprite;
+import system.IServiceLocator;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -15,24 +21,44 @@ import java.util.Set;
  * The choice for block was made as to make separate sub-levels in a continuous world.
  */
 /* package */ final class Block implements IBlock {
+    /**
+     * Used to gain access to all services.
+     */
+    private final transient IServiceLocator serviceLocator;
     /**
      * A set of all the game objects in this block.
      */
     private final Set<IGameObject> elements;
+    /**
+     * The elements that never move or change, the platforms without decorators.
+     */
+    private final Set<IGameObject> staticElements = new HashSet<>();
     /**
      * The highest located jumpable in this block.
      */
     private final IJumpable topJumpable;
+    /**
+     * The area covered by the elements, updated every update.
+     */
+    private double top, bottom;
 
     /**
      * Package protected constructor so only the BlockFactory can create blocks.
      *
+     * @param sL The service locator.
      * @param e  The elements for the block.
      * @param tJ The highest jumpable object.
      */
-    /* package */ Block(final Set<IGameObject> e, final IJumpable tJ) {
+    /* package */ Block(final IServiceLocator sL, final Set<IGameObject> e, final IJumpable tJ) {
+        this.serviceLocator = sL;
         this.elements = e;
         this.topJumpable = tJ;
+        for (IGameObject element : e) {
+            if (element instanceof Platform) {
+                this.staticElements.add(element);
+            }
+        }
+        this.updateBounds();
     }
 
     /**
@@ -51,6 +77,22 @@ import java.util.Set;
         return topJumpable;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTop() {
+        return this.top;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBottom() {
+        return this.bottom;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -59,14 +101,91 @@ import java.util.Set;
         elements.forEach(IGameObject::render);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int render(final double rangeTop, final double rangeBottom) {
+        return this.render(rangeTop, rangeBottom, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<IGameObject> getStaticElements() {
+        return Collections.unmodifiableSet(this.staticElements);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int renderDynamic(final double rangeTop, final double rangeBottom) {
+        return this.render(rangeTop, rangeBottom, false);
+    }
+
+    /**
+     * Render the elements that overlap a vertical range.
+     *
+     * @param rangeTop      The top of the range.
+     * @param rangeBottom   The bottom of the range.
+     * @param includeStatic Whether the static elements are rendered as well.
+     * @return The amount of elements that have been rendered.
+     */
+    private int render(final double rangeTop, final double rangeBottom, final boolean includeStatic) {
+        final IRenderer renderer = this.serviceLocator.getRenderer();
+        int rendered = 0;
+        for (IGameObject gameObject : elements) {
+            if (!includeStatic && this.staticElements.contains(gameObject)) {
+                continue;
+            }
+            final double y = gameObject.getYPos();
+            if (y <= rangeBottom && y + Block.getHeight(gameObject) >= rangeTop) {
+                renderer.setMotion(gameObject);
+                gameObject.render();
+                rendered++;
+            }
+        }
+        renderer.setMotion(0d, 0d);
+        return rendered;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void update(final double delta) {
         for (IGameObject gameObject : elements) {
+            gameObject.savePosition();
             gameObject.update(delta);
         }
+        this.updateBounds();
+    }
+
+    /**
+     * Computes the area covered by the elements.
+     */
+    private void updateBounds() {
+        double newTop = Double.POSITIVE_INFINITY, newBottom = Double.NEGATIVE_INFINITY;
+        for (IGameObject gameObject : elements) {
+            final double y = gameObject.getYPos();
+            newTop = Math.min(newTop, y);
+            newBottom = Math.max(newBottom, y + Block.getHeight(gameObject));
+        }
+        this.top = newTop;
+        this.bottom = newBottom;
+    }
+
+    /**
+     * Get the height of an element, which is the height of its sprite.
+     *
+     * @param gameObject The element.
+     * @return The height of the element, 0 if it has no sprite.
+     */
+    private static int getHeight(final IGameObject gameObject) {
+        final ISprite sprite = gameObject.getSprite();
+        return sprite == null ? 0 : sprite.getHeight();
     }
 
     /**
@@ -75,6 +194,7 @@ import java.util.Set;
     @Override
     public void removeElement(final IGameObject element) {
         elements.remove(element);
+        this.staticElements.remove(element);
     }
 
 }
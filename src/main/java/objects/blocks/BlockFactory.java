@@ -57,7 +57,7 @@ public final class BlockFactory implements IBlockFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * A weighted set for the spawning of powerups.
      */
@@ -65,8 +65,11 @@ public final class BlockFactory implements IBlockFactory {
 
     /**
      * Initialize the BlockFactory.
+     *
+     * @param sL The service locator.
      */
-    private BlockFactory() {
+    private BlockFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         this.powerupGenerationSet = new GenerationSet(serviceLocator, "powerups");
     }
 
@@ -79,8 +82,7 @@ public final class BlockFactory implements IBlockFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        BlockFactory.serviceLocator = sL;
-        BlockFactory.serviceLocator.provide(new BlockFactory());
+        sL.provide(new BlockFactory(sL));
     }
 
     /**
@@ -103,7 +105,7 @@ public final class BlockFactory implements IBlockFactory {
             platform = newPlatform;
         }
 
-        return new Block(elements, platform);
+        return new Block(serviceLocator, elements, platform);
     }
 
     /**
@@ -174,7 +176,7 @@ public final class BlockFactory implements IBlockFactory {
             }
         }
 
-        return new Block(elements, newTopJumpable);
+        return new Block(serviceLocator, elements, newTopJumpable);
     }
 
     /**
@@ -1,8 +1,10 @@
 package objects.blocks;
 
+import math.ICalc;
 import system.Game;
 
 import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * An enumerator describing the different blocktypes and their weighted chance of spawning.
@@ -29,36 +31,25 @@ public enum BlockTypes {
      */
     verticalOnlyBlock;
 
-    /**
-     * A map containing the weight of each block type.
-     */
-    private static EnumMap<BlockTypes, Integer> map;
-
-    /**
-     * Initialize the weight.
-     */
-    static {
-        map = new EnumMap<>(BlockTypes.class);
-        setMode(Game.Modes.regular);
-    }
-
     /**
      * Get a random block type.
      *
+     * @param weights The weight of each block type, types without a weight are never picked.
+     * @param calc    The random generator of the game.
      * @return the type.
      */
-    public static BlockTypes randomType() {
+    public static BlockTypes randomType(final Map<BlockTypes, Integer> weights, final ICalc calc) {
 
         int total = 0;
         for (BlockTypes type : BlockTypes.values()) {
-            total += type.getWeight();
+            total += weights.getOrDefault(type, 0);
         }
 
-        int select = (int) (Math.ceil(Math.random() * total));
+        int select = calc.getRandomIntBetween(1, total + 1);
         int current = 0;
 
         for (BlockTypes type : BlockTypes.values()) {
-            current += type.getWeight();
+            current += weights.getOrDefault(type, 0);
             if (current >= select) {
                 return type;
             }
@@ -67,27 +58,13 @@ public enum BlockTypes {
     }
 
     /**
-     * Set the weights of the blocktypes.
-     *
-     * @param newMap the new weights.
-     */
-    private static void setAllWeights(final EnumMap<BlockTypes, Integer> newMap) {
-
-        for (BlockTypes type : BlockTypes.values()) {
-            if (newMap.containsKey(type)) {
-                type.setWeight(newMap.get(type));
-            } else {
-                type.setWeight(0);
-            }
-        }
-    }
-
-    /**
-     * Set the weigths to match the game mode.
+     * Get the weights of the blocktypes that match a game mode. Every call returns a new map, so every game can keep
+     * its own weights.
      *
-     * @param m the new game mode.
+     * @param m the game mode.
+     * @return the weight of each block type.
      */
-    public static void setMode(final Game.Modes m) {
+    public static EnumMap<BlockTypes, Integer> getWeights(final Game.Modes m) {
         EnumMap<BlockTypes, Integer> newMap = new EnumMap<>(BlockTypes.class);
 
         switch (m) {
@@ -122,24 +99,6 @@ public enum BlockTypes {
                 throw new RuntimeException("No such mode (" + m + ") defined");
         }
 
-        setAllWeights(newMap);
-    }
-
-    /**
-     * Get the weight of the block type.
-     *
-     * @return the weight
-     */
-    private int getWeight() {
-        return map.get(this);
-    }
-
-    /**
-     * Set the weight of the block type.
-     *
-     * @param w the new weight.
-     */
-    private void setWeight(final int w) {
-        map.put(this, w);
+        return newMap;
     }
 }
@@ -32,6 +32,46 @@ public interface IBlock extends IRenderable, IUpdatable {
      */
     IJumpable getTopJumpable();
 
+    /**
+     * Get the top of the area covered by the elements of the block, as of the latest update.
+     *
+     * @return The lowest Y position of the elements.
+     */
+    double getTop();
+
+    /**
+     * Get the bottom of the area covered by the elements of the block, as of the latest update.
+     *
+     * @return The highest Y position of the bottoms of the elements.
+     */
+    double getBottom();
+
+    /**
+     * Render only the elements that overlap a vertical range, like the part of the World that is on the screen.
+     *
+     * @param top    The top of the range.
+     * @param bottom The bottom of the range.
+     * @return The amount of elements that have been rendered.
+     */
+    int render(final double top, final double bottom);
+
+    /**
+     * Get the elements that never move or change, the plain platforms. They can be drawn once as static sprites,
+     * see {@link rendering.IRenderer#addStaticSprite}, instead of being rendered every frame.
+     *
+     * @return The static elements of the block.
+     */
+    Set<IGameObject> getStaticElements();
+
+    /**
+     * Render only the elements that are not static and overlap a vertical range.
+     *
+     * @param top    The top of the range.
+     * @param bottom The bottom of the range.
+     * @return The amount of elements that have been rendered.
+     */
+    int renderDynamic(final double top, final double bottom);
+
 
     /**
      * Removes an element from the elements list.
@@ -1,5 +1,6 @@
 package objects.blocks.platform;
 
+import objects.ILightSource;
 import objects.doodles.IDoodle;
 import resources.IRes;
 import system.IServiceLocator;
@@ -10,7 +11,17 @@ import system.IServiceLocator;
  * This is done by retaining their default skin until jumped upon
  * The default skin iss set to invisible due to the mode.
  */
-public final class PlatformDarkness extends PlatformDecorator implements IPlatform {
+public final class PlatformDarkness extends PlatformDecorator implements IPlatform, ILightSource {
+
+    /**
+     * The radius of the light around a platform that has been jumped upon.
+     */
+    private static final int LIGHT_RADIUS = 90;
+
+    /**
+     * Whether the platform has been jumped upon.
+     */
+    private boolean lit = false;
 
     /**
      * Darkness platform constructor.
@@ -31,7 +42,16 @@ public final class PlatformDarkness extends PlatformDecorator implements IPlatfo
     @Override
     public void collidesWith(final IDoodle doodle) {
         getContained().setSprite(getServiceLocator().getSpriteFactory().getSprite(IRes.Sprites.platform4));
+        this.lit = true;
         getContained().collidesWith(doodle);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLightRadius() {
+        return this.lit ? PlatformDarkness.LIGHT_RADIUS : 0;
+    }
+
 }
@@ -149,6 +149,30 @@ import java.awt.Point;
         return contained.getYPos();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousXPos() {
+        return contained.getPreviousXPos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousYPos() {
+        return contained.getPreviousYPos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void savePosition() {
+        contained.savePosition();
+    }
+
     /**
      * {@inheritDoc}
      */
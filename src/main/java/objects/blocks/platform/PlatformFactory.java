@@ -17,7 +17,7 @@ public final class PlatformFactory implements IPlatformFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
 
     /**
      * A weighted set for the spawning of platforms.
@@ -26,8 +26,11 @@ public final class PlatformFactory implements IPlatformFactory {
 
     /**
      * Prevent instantiations of PlatformFactory.
+     *
+     * @param sL The service locator.
      */
-    private PlatformFactory() {
+    private PlatformFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         platformGenerationSet = new GenerationSet(serviceLocator, "platforms");
     }
 
@@ -40,8 +43,7 @@ public final class PlatformFactory implements IPlatformFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        PlatformFactory.serviceLocator = sL;
-        sL.provide(new PlatformFactory());
+        sL.provide(new PlatformFactory(sL));
     }
 
     /**
@@ -5,6 +5,7 @@ import input.Keys;
 import objects.AGameObject;
 import objects.IGameObject;
 import objects.IJumpable;
+import objects.ILightSource;
 import objects.blocks.platform.IPlatform;
 import objects.doodles.doodle_behavior.MovementBehavior;
 import objects.doodles.doodle_behavior.RegularBehavior;
@@ -33,7 +34,7 @@ import java.util.Set;
  * This class describes the behaviour of the Doodle.
  */
 @SuppressWarnings("checkstyle:designforextension")
-public class Doodle extends AGameObject implements IDoodle {
+public class Doodle extends AGameObject implements IDoodle, ILightSource {
 
     /**
      * The height of the legs of the doodle. When this value is very large, for example 1,
@@ -80,6 +81,10 @@ public class Doodle extends AGameObject implements IDoodle {
      * The scalar value that assists in calculating the size of the out of screen arrow.
      */
     private static final double ARROW_SCALAR = 100d;
+    /**
+     * The radius of the light around the Doodle in the darkness mode.
+     */
+    private static final int LIGHT_RADIUS = 260;
 
     /**
      * Fake APowerup instance to return when actual powerup value is null.
@@ -134,6 +139,20 @@ public class Doodle extends AGameObject implements IDoodle {
             return 0;
         }
 
+        @Override
+        public double getPreviousXPos() {
+            return 0;
+        }
+
+        @Override
+        public double getPreviousYPos() {
+            return 0;
+        }
+
+        @Override
+        public void savePosition() {
+        }
+
         @Override
         public Point getPoint() {
             return null;
@@ -211,6 +230,14 @@ public class Doodle extends AGameObject implements IDoodle {
      * The shooting observer of this Doodle.
      */
     private ShootingObserver shootingObserver;
+    /**
+     * The camera of the view that follows this Doodle, or {@code null} if it uses the camera of the renderer.
+     */
+    private ICamera camera;
+    /**
+     * The height of the part of the world shown by the view that follows this Doodle.
+     */
+    private int viewHeight;
 
     /**
      * Doodle constructor.
@@ -243,6 +270,14 @@ public class Doodle extends AGameObject implements IDoodle {
         this.world = world;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLightRadius() {
+        return Doodle.LIGHT_RADIUS;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -335,6 +370,22 @@ public class Doodle extends AGameObject implements IDoodle {
         this.behavior.updateActions();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCamera(final ICamera c, final int height) {
+        if (c == null) {
+            throw new IllegalArgumentException("The camera cannot be null");
+        }
+        if (height <= 0) {
+            throw new IllegalArgumentException("The height of the view must be positive");
+        }
+
+        this.camera = c;
+        this.viewHeight = height;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -380,8 +431,8 @@ public class Doodle extends AGameObject implements IDoodle {
     @Override
     public final void register() {
         this.shootingObserver.register();
-        Doodle.getServiceLocator().getInputManager().addObserver(this.getKeyLeft(), this);
-        Doodle.getServiceLocator().getInputManager().addObserver(this.getKeyRight(), this);
+        this.getServiceLocator().getInputManager().addObserver(this.getKeyLeft(), this);
+        this.getServiceLocator().getInputManager().addObserver(this.getKeyRight(), this);
         this.getLogger().info("The doodle registered itself as an observer of the input manager");
     }
 
@@ -391,8 +442,8 @@ public class Doodle extends AGameObject implements IDoodle {
     @Override
     public final void deregister() {
         shootingObserver.deregister();
-        Doodle.getServiceLocator().getInputManager().removeObserver(this.getKeyLeft(), this);
-        Doodle.getServiceLocator().getInputManager().removeObserver(this.getKeyRight(), this);
+        this.getServiceLocator().getInputManager().removeObserver(this.getKeyLeft(), this);
+        this.getServiceLocator().getInputManager().removeObserver(this.getKeyRight(), this);
         this.getLogger().info("The doodle removed itself as an observer from the input manager");
     }
 
@@ -401,8 +452,9 @@ public class Doodle extends AGameObject implements IDoodle {
      */
     @Override
     public final void render() {
-        final IRenderer renderer = Doodle.getServiceLocator().getRenderer();
-        final ISpriteFactory spriteFactory = Doodle.getServiceLocator().getSpriteFactory();
+        final IRenderer renderer = this.getServiceLocator().getRenderer();
+        final ISpriteFactory spriteFactory = this.getServiceLocator().getSpriteFactory();
+        renderer.setMotion(this);
         final double camY = renderer.getCamera().getYPos();
         final ISprite sprite = this.getSprite();
 
@@ -418,22 +470,26 @@ public class Doodle extends AGameObject implements IDoodle {
         }
 
         if (!this.isAlive()) {
-            Doodle.getServiceLocator().getRenderer().drawSprite(getStarSprite(),
+            this.getServiceLocator().getRenderer().drawSprite(getStarSprite(),
                     new Point((int) (this.getXPos() + (STARS_OFFSET * this.spriteScalar)),
                             (int) this.getYPos()),
                     (int) (getSprite().getWidth() * this.spriteScalar * STARS_SCALAR),
                     (int) (getSprite().getHeight() * this.spriteScalar * STARS_SCALAR));
         }
 
+        renderer.setMotion(this.getPowerup());
         this.getPowerup().render();
         this.renderProjectiles();
+        renderer.setMotion(0d, 0d);
     }
 
     /**
      * Render the projectiles this Doodle has shot.
      */
     private void renderProjectiles() {
+        final IRenderer renderer = this.getServiceLocator().getRenderer();
         for (IGameObject projectile : this.projectiles) {
+            renderer.setMotion(projectile);
             projectile.render();
         }
     }
@@ -444,12 +500,14 @@ public class Doodle extends AGameObject implements IDoodle {
     @Override
     public final void update(final double delta) {
         starNumber++;
+        this.savePosition();
 
         this.applyMovementBehavior(delta);
         this.wrap();
         this.checkDeadPosition();
         this.updateScore();
         this.updateProjectiles(delta);
+        this.getPowerup().savePosition();
         this.getPowerup().update(delta);
     }
 
@@ -463,7 +521,8 @@ public class Doodle extends AGameObject implements IDoodle {
         Set<IGameObject> toRemove = new HashSet<>();
         for (IGameObject projectile : projectiles) {
             if (projectile.getXPos() <= width + projectile.getHitBox()[HITBOX_TOP] && projectile.getXPos() >= -projectile.getHitBox()[HITBOX_TOP]) {
-                if (projectile.getYPos() >= -projectile.getHitBox()[HITBOX_BOTTOM] + getServiceLocator().getRenderer().getCamera().getYPos()) {
+                if (projectile.getYPos() >= -projectile.getHitBox()[HITBOX_BOTTOM] + this.getCamera().getYPos()) {
+                    projectile.savePosition();
                     projectile.update(delta);
                 } else {
                     toRemove.add(projectile);
@@ -557,13 +616,22 @@ public class Doodle extends AGameObject implements IDoodle {
      * Check the dead position of the Doodle.
      */
     private void checkDeadPosition() {
-        ICamera camera = getServiceLocator().getRenderer().getCamera();
-        if (this.getYPos() + this.getHitBox()[AGameObject.HITBOX_BOTTOM] > camera.getYPos() + getServiceLocator().getConstants().getGameHeight()) {
+        final int height = this.camera == null ? getServiceLocator().getConstants().getGameHeight() : this.viewHeight;
+        if (this.getYPos() + this.getHitBox()[AGameObject.HITBOX_BOTTOM] > this.getCamera().getYPos() + height) {
             getLogger().info("The Doodle died with score " + this.score);
             this.world.endGameInstance(this.score, this.experience);
         }
     }
 
+    /**
+     * Get the camera of the view that follows the Doodle.
+     *
+     * @return The camera set by {@link #setCamera(ICamera, int)}, or the camera of the renderer.
+     */
+    private ICamera getCamera() {
+        return this.camera == null ? getServiceLocator().getRenderer().getCamera() : this.camera;
+    }
+
     /**
      * Set the behavior of the Doodle with respect to the mode.
      *
@@ -19,7 +19,7 @@ public final class DoodleFactory implements IDoodleFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * Logger for the DoodleFactory.
      */
@@ -27,9 +27,12 @@ public final class DoodleFactory implements IDoodleFactory {
 
     /**
      * Prevent instantiations of DoodleFactory.
+     *
+     * @param sL The service locator.
      */
-    private DoodleFactory() {
-        this.logger = DoodleFactory.serviceLocator.getLoggerFactory().createLogger(DoodleFactory.class);
+    private DoodleFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(DoodleFactory.class);
     }
 
     /**
@@ -41,8 +44,7 @@ public final class DoodleFactory implements IDoodleFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        DoodleFactory.serviceLocator = sL;
-        DoodleFactory.serviceLocator.provide(new DoodleFactory());
+        sL.provide(new DoodleFactory(sL));
     }
 
     /**
@@ -51,7 +53,7 @@ public final class DoodleFactory implements IDoodleFactory {
     @Override
     public IDoodle createDoodle(final World world, final DoodleColors color) {
         this.logger.info("A new Doodle has been created");
-        IDoodle doodle = new Doodle(DoodleFactory.serviceLocator, this.getSprites(color), world);
+        IDoodle doodle = new Doodle(this.serviceLocator, this.getSprites(color), world);
         doodle.setVerticalSpeed(DoodleFactory.DOODLE_INITIAL_SPEED);
         return doodle;
     }
@@ -63,9 +65,9 @@ public final class DoodleFactory implements IDoodleFactory {
     public IDoodle createStartScreenDoodle() {
         this.logger.info("A new StartScreenDoodle has been created");
 
-        ISpriteFactory spriteFactory = DoodleFactory.serviceLocator.getSpriteFactory();
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         ISprite[] sprites = spriteFactory.getGreenDoodleSprites();
-        return new StartScreenDoodle(sprites, DoodleFactory.serviceLocator);
+        return new StartScreenDoodle(sprites, this.serviceLocator);
     }
 
     /**
@@ -75,7 +77,7 @@ public final class DoodleFactory implements IDoodleFactory {
      * @return                  An array of sprites.
      */
     private ISprite[] getSprites(final DoodleColors color) {
-        ISpriteFactory spriteFactory = DoodleFactory.serviceLocator.getSpriteFactory();
+        ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
         switch (color) {
             case blue:
                 return spriteFactory.getBlueDoodleSprites();
@@ -6,6 +6,7 @@ import objects.IGameObject;
 import objects.IJumpable;
 import objects.doodles.doodle_behavior.MovementBehavior;
 import objects.powerups.IPowerup;
+import rendering.ICamera;
 import scenes.World;
 
 import java.util.List;
@@ -139,6 +140,15 @@ public interface IDoodle extends IGameObject, IKeyInputObserver {
      */
     void setKeys(final Keys left, final Keys right);
 
+    /**
+     * Set the camera of the view that follows this Doodle, such as the view of one player in split-screen. The Doodle
+     * dies when it falls below that view instead of below the camera of the renderer.
+     *
+     * @param camera The camera of the view.
+     * @param height The height of the part of the world the view shows.
+     */
+    void setCamera(final ICamera camera, final int height);
+
     /**
      * Adds a projectile to the projectiles from this Doodle.
      * @param projectile The projectile that has to be add.
@@ -13,7 +13,7 @@ public final class ProjectileFactory implements IProjectileFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * Logger instance for the ProjectileFactory.
      */
@@ -21,9 +21,12 @@ public final class ProjectileFactory implements IProjectileFactory {
 
     /**
      * Prevent instantiations of DoodleFactory.
+     *
+     * @param sL The service locator.
      */
-    private ProjectileFactory() {
-        this.logger = ProjectileFactory.serviceLocator.getLoggerFactory().createLogger(ProjectileFactory.class);
+    private ProjectileFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(ProjectileFactory.class);
     }
 
     /**
@@ -35,8 +38,7 @@ public final class ProjectileFactory implements IProjectileFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        ProjectileFactory.serviceLocator = sL;
-        ProjectileFactory.serviceLocator.provide(new ProjectileFactory());
+        sL.provide(new ProjectileFactory(sL));
     }
 
     /**
@@ -45,7 +47,7 @@ public final class ProjectileFactory implements IProjectileFactory {
     @Override
     public RegularProjectile createRegularProjectile(final Point point, final int direction) {
         this.logger.info("Created a new regular projectile");
-        return new RegularProjectile(ProjectileFactory.serviceLocator, point, direction);
+        return new RegularProjectile(this.serviceLocator, point, direction);
     }
 
 }
@@ -14,7 +14,7 @@ public final class EnemyFactory implements IEnemyFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the EnemyBuilder class.
      */
@@ -22,8 +22,11 @@ public final class EnemyFactory implements IEnemyFactory {
 
     /**
      * Private constructor to prevent instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private EnemyFactory() {
+    private EnemyFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         logger = serviceLocator.getLoggerFactory().createLogger(EnemyFactory.class);
     }
 
@@ -36,8 +39,7 @@ public final class EnemyFactory implements IEnemyFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        EnemyFactory.serviceLocator = sL;
-        EnemyFactory.serviceLocator.provide(new EnemyFactory());
+        sL.provide(new EnemyFactory(sL));
     }
 
     /**
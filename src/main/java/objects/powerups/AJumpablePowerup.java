@@ -4,8 +4,6 @@ import objects.IJumpable;
 import resources.sprites.ISprite;
 import system.IServiceLocator;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.awt.Point;
 
 /**
@@ -13,6 +11,11 @@ import java.awt.Point;
  */
 /* package */ abstract class AJumpablePowerup extends APowerup implements IJumpable {
 
+    /**
+     * The amount of milliseconds in a second, to express the retract speed in ticks.
+     */
+    private static final double MILLISECONDS_PER_SECOND = 1000d;
+
     /**
      * The default sprite for the jumpable powerup.
      */
@@ -62,8 +65,11 @@ import java.awt.Point;
 
     /**
      * Executes the default animation: a change between the default- and used-sprite after the player hit the powerup.
+     * The powerup retracts in a delayed task of the {@link system.TaskQueue task queue}, so it stays in step with the
+     * ticks of the game it is part of.
      *
-     * @param retractSpeed The speed with which the {@link AJumpablePowerup powerup} rectracts after it is used.
+     * @param retractSpeed The speed with which the {@link AJumpablePowerup powerup} rectracts after it is used, in
+     *                     milliseconds.
      */
     /* package */ final void executeDefaultAnimation(final int retractSpeed) {
         final int oldHeight = getSprite().getHeight();
@@ -71,13 +77,13 @@ import java.awt.Point;
         this.addYPos(oldHeight - newHeight);
         this.setSprite(this.usedSprite);
 
-        final AJumpablePowerup self = this;
-        new Timer().schedule(new TimerTask() {
-            public void run() {
-                self.addYPos(newHeight - oldHeight);
-                self.setSprite(self.defaultSprite);
-            }
-        }, retractSpeed);
+        final IServiceLocator serviceLocator = this.getServiceLocator();
+        final long delay = Math.round(retractSpeed * serviceLocator.getConstants().getTicksPerSecond()
+                / AJumpablePowerup.MILLISECONDS_PER_SECOND);
+        serviceLocator.getTaskQueue().offer(() -> {
+            this.addYPos(newHeight - oldHeight);
+            this.setSprite(this.defaultSprite);
+        }, delay, 0L);
     }
 
 }
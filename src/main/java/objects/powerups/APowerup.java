@@ -2,6 +2,7 @@ package objects.powerups;
 
 import math.ICalc;
 import objects.AGameObject;
+import objects.ILightSource;
 import objects.blocks.platform.IPlatform;
 import system.IServiceLocator;
 
@@ -10,7 +11,12 @@ import java.awt.Point;
 /**
  * This class describes the abstract functionality of powerups.
  */
-public abstract class APowerup extends AGameObject implements IPowerup {
+public abstract class APowerup extends AGameObject implements IPowerup, ILightSource {
+
+    /**
+     * The radius of the light around a powerup in the darkness mode.
+     */
+    private static final int LIGHT_RADIUS = 110;
 
     /**
      * Creates a new powerup and determines its hitbox by using the sprites dimensions automatically.
@@ -40,6 +46,14 @@ public abstract class APowerup extends AGameObject implements IPowerup {
         getServiceLocator().getRenderer().drawSprite(this.getSprite(), new Point((int) this.getXPos(), (int) this.getYPos()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLightRadius() {
+        return APowerup.LIGHT_RADIUS;
+    }
+
     /**
      * Called when the powerup is finished (e.g. flying).
      */
@@ -61,7 +75,7 @@ public abstract class APowerup extends AGameObject implements IPowerup {
      * @param platform The platform at which the powerup must be placed
      */
     /* package */ final void setPositionOnPlatformRandom(final IPlatform platform) {
-        ICalc calc = AGameObject.getServiceLocator().getCalc();
+        ICalc calc = this.getServiceLocator().getCalc();
 
         double[] hitbox = platform.getHitBox();
         final int platformWidth = (int) hitbox[AGameObject.HITBOX_RIGHT];
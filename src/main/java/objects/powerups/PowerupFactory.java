@@ -16,7 +16,7 @@ public final class PowerupFactory implements IPowerupFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the PowerupFactory class.
      */
@@ -52,8 +52,11 @@ public final class PowerupFactory implements IPowerupFactory {
 
     /**
      * Private constructor to prevent instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private PowerupFactory() {
+    private PowerupFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         logger = serviceLocator.getLoggerFactory().createLogger(PowerupFactory.class);
     }
 
@@ -66,8 +69,7 @@ public final class PowerupFactory implements IPowerupFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        PowerupFactory.serviceLocator = sL;
-        PowerupFactory.serviceLocator.provide(new PowerupFactory());
+        sL.provide(new PowerupFactory(sL));
     }
 
     /**
@@ -0,0 +1,15 @@
+package profiling;
+
+/**
+ * The events that are counted by the {@link IProfiler}.
+ */
+public enum Counters {
+    /**
+     * Objects in the World that were rendered because they were on the screen.
+     */
+    renderVisited,
+    /**
+     * Objects in the World that were not rendered because they were not on the screen.
+     */
+    renderCulled
+}
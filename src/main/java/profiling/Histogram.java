@@ -0,0 +1,158 @@
+package profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations that uses a fixed amount of memory, no matter how many values are recorded.
+ * <br>
+ * Values are counted in log-linear buckets: every power of two is split into {@link #SUB_BUCKETS} equally
+ * sized buckets, so a percentile is never more than about 6% off. Recording is lock-free.
+ */
+/* package */ final class Histogram {
+
+    /**
+     * The amount of bits used to split a power of two into sub buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    /**
+     * The amount of buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * The highest power of two that can be recorded, higher values are counted in the last bucket.
+     * 2^40 nanoseconds is more than 18 minutes.
+     */
+    private static final int MAX_EXPONENT = 40;
+    /**
+     * The total amount of buckets.
+     */
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    /**
+     * The percentage that represents all values.
+     */
+    private static final double HUNDRED_PERCENT = 100d;
+
+    /**
+     * The amount of values per bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    /**
+     * The amount of values recorded.
+     */
+    private final AtomicLong count = new AtomicLong(0L);
+    /**
+     * The sum of all values recorded.
+     */
+    private final AtomicLong sum = new AtomicLong(0L);
+    /**
+     * The highest value recorded.
+     */
+    private final AtomicLong max = new AtomicLong(0L);
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, negative values are recorded as 0.
+     */
+    /* package */ void record(final long value) {
+        final long v = Math.max(0L, value);
+        this.counts.incrementAndGet(Histogram.getIndex(v));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(v);
+
+        long currentMax = this.max.get();
+        while (v > currentMax && !this.max.compareAndSet(currentMax, v)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Get the amount of values recorded.
+     *
+     * @return The amount of values.
+     */
+    /* package */ long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Get the average of all values recorded.
+     *
+     * @return The mean, or 0 if nothing has been recorded.
+     */
+    /* package */ double getMean() {
+        final long c = this.count.get();
+        return c == 0 ? 0d : (double) this.sum.get() / (double) c;
+    }
+
+    /**
+     * Get the highest value recorded.
+     *
+     * @return The maximum, or 0 if nothing has been recorded.
+     */
+    /* package */ long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Get the value which {@code percentile} percent of the recorded values did not exceed.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket containing the percentile, or 0 if nothing has been recorded.
+     */
+    /* package */ long getPercentile(final double percentile) {
+        if (percentile < 0d || percentile > HUNDRED_PERCENT) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100, but was " + percentile);
+        }
+
+        final long c = this.count.get();
+        if (c == 0) {
+            return 0L;
+        }
+
+        final long target = Math.max(1L, (long) Math.ceil(percentile / HUNDRED_PERCENT * c));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target) {
+                return Math.min(Histogram.getUpperBound(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Get the bucket in which a value is counted.
+     *
+     * @param value The value, at least 0.
+     * @return The index of the bucket.
+     */
+    private static int getIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int exponent = Math.min(MAX_EXPONENT, Long.SIZE - 1 - Long.numberOfLeadingZeros(value));
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) Math.min(SUB_BUCKETS - 1, (value >> shift) - SUB_BUCKETS);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the highest value that is counted in a bucket.
+     *
+     * @param index The index of the bucket.
+     * @return The upper bound of the bucket.
+     */
+    private static long getUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+}
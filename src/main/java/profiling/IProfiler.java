@@ -0,0 +1,87 @@
+package profiling;
+
+/**
+ * Interface for a Profiler, which records how long the {@link Phases phases} of the game take and keeps
+ * {@link Counters counters} of how often things happen.
+ * <br>
+ * Timing a phase looks like this:
+ * <pre>
+ * long start = profiler.start();
+ * doSomething();
+ * start = profiler.record(Phases.updateObjects, start);
+ * doSomethingElse();
+ * profiler.record(Phases.cleanUp, start);
+ * </pre>
+ */
+public interface IProfiler {
+
+    /**
+     * Get the moment at which a phase starts.
+     *
+     * @return The current time in nanoseconds.
+     */
+    long start();
+
+    /**
+     * Records that {@code phase} ran from {@code start} until now. Can be called from any thread.
+     *
+     * @param phase The phase that ended.
+     * @param start The moment at which the phase started, as returned by {@link #start()}.
+     * @return The current time in nanoseconds, which can be used as the start of the next phase.
+     */
+    long record(final Phases phase, final long start);
+
+    /**
+     * Get the amount of times a phase has been recorded.
+     *
+     * @param phase The phase.
+     * @return The amount of recordings.
+     */
+    long getCount(final Phases phase);
+
+    /**
+     * Get the duration which {@code percentile} percent of the recordings of a phase did not exceed.
+     *
+     * @param phase      The phase.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The duration in nanoseconds, or 0 if the phase has not been recorded.
+     */
+    long getPercentile(final Phases phase, final double percentile);
+
+    /**
+     * Get the longest recorded duration of a phase.
+     *
+     * @param phase The phase.
+     * @return The duration in nanoseconds, or 0 if the phase has not been recorded.
+     */
+    long getMax(final Phases phase);
+
+    /**
+     * Adds an amount to a counter. Can be called from any thread.
+     *
+     * @param counter The counter.
+     * @param amount  The amount to add.
+     */
+    void count(final Counters counter, final long amount);
+
+    /**
+     * Get the total of a counter.
+     *
+     * @param counter The counter.
+     * @return Everything that has been added to the counter.
+     */
+    long getTotal(final Counters counter);
+
+    /**
+     * Get a human readable overview of all the recorded phases and counters.
+     *
+     * @return The overview, one phase or counter per line.
+     */
+    String getReport();
+
+    /**
+     * Writes the report to the log and to a file.
+     */
+    void dump();
+
+}
@@ -0,0 +1,71 @@
+package profiling;
+
+/**
+ * The phases of the game that are timed by the {@link IProfiler}, most of them are part of a tick or a frame.
+ */
+public enum Phases {
+    /**
+     * Launching the game until the first interactive frame has been rendered.
+     */
+    startup,
+    /**
+     * A complete tick of the game loop.
+     */
+    tick,
+    /**
+     * Updating all the objects in the World.
+     */
+    updateObjects,
+    /**
+     * Removing the blocks that fell below the screen.
+     */
+    cleanUp,
+    /**
+     * Creating the blocks that came into view.
+     */
+    newBlocks,
+    /**
+     * Checking the collisions of the Doodles.
+     */
+    checkCollisions,
+    /**
+     * Updating the speed of the camera.
+     */
+    updateCameraSpeed,
+    /**
+     * Updating the progression of the player.
+     */
+    progressionUpdate,
+    /**
+     * Recording a complete frame on the game thread.
+     */
+    recordFrame,
+    /**
+     * Drawing a complete frame to the screen.
+     */
+    frame,
+    /**
+     * Showing a drawn frame and waiting for it to reach the screen.
+     */
+    present,
+    /**
+     * Copying a presented frame for the recording.
+     */
+    captureFrame,
+    /**
+     * Rendering the back layer of the World.
+     */
+    renderBack,
+    /**
+     * Rendering the middle layer of the World.
+     */
+    renderMiddle,
+    /**
+     * Rendering the lights of the darkness mode in the World.
+     */
+    renderLights,
+    /**
+     * Rendering the front layer of the World.
+     */
+    renderFront
+}
@@ -0,0 +1,180 @@
+package profiling;
+
+import logging.ILogger;
+import system.IServiceLocator;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Standard implementation of the Profiler. Keeps a {@link Histogram} per phase.
+ */
+public final class Profiler implements IProfiler {
+
+    /**
+     * The file to which the report is written when the profiler is dumped.
+     */
+    private static final String REPORT_FILE = "profile.log";
+    /**
+     * The amount of nanoseconds in a microsecond.
+     */
+    private static final double NANOSECONDS_PER_MICROSECOND = 1000d;
+    /**
+     * The median percentile.
+     */
+    private static final double P50 = 50d;
+    /**
+     * The percentile that shows the slow outliers.
+     */
+    private static final double P99 = 99d;
+
+    /**
+     * Used to gain access to all services.
+     */
+    private final transient IServiceLocator serviceLocator;
+    /**
+     * The logger.
+     */
+    private final ILogger logger;
+    /**
+     * The histogram of every phase.
+     */
+    private final Map<Phases, Histogram> histograms = new EnumMap<>(Phases.class);
+    /**
+     * The total of every counter.
+     */
+    private final Map<Counters, LongAdder> counters = new EnumMap<>(Counters.class);
+
+    /**
+     * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
+     */
+    private Profiler(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = sL.getLoggerFactory().createLogger(Profiler.class);
+        for (Phases phase : Phases.values()) {
+            this.histograms.put(phase, new Histogram());
+        }
+        for (Counters counter : Counters.values()) {
+            this.counters.put(counter, new LongAdder());
+        }
+    }
+
+    /**
+     * Registers itself to an {@link IServiceLocator} so that other classes can use the services provided by this class.
+     *
+     * @param sL The IServiceLocator to which the class should offer its functionality
+     */
+    public static void register(final IServiceLocator sL) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        sL.provide(new Profiler(sL));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long record(final Phases phase, final long start) {
+        final long now = System.nanoTime();
+        this.histograms.get(phase).record(now - start);
+        return now;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount(final Phases phase) {
+        return this.histograms.get(phase).getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPercentile(final Phases phase, final double percentile) {
+        return this.histograms.get(phase).getPercentile(percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMax(final Phases phase) {
+        return this.histograms.get(phase).getMax();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void count(final Counters counter, final long amount) {
+        this.counters.get(counter).add(amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotal(final Counters counter) {
+        return this.counters.get(counter).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getReport() {
+        final StringBuilder report = new StringBuilder("phase: count, mean, p50, p99, max (microseconds)");
+        for (Map.Entry<Phases, Histogram> entry : this.histograms.entrySet()) {
+            final Histogram histogram = entry.getValue();
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            report.append(System.lineSeparator()).append(String.format(Locale.ROOT,
+                    "%s: %d, %.1f, %.1f, %.1f, %.1f",
+                    entry.getKey().name(),
+                    histogram.getCount(),
+                    histogram.getMean() / NANOSECONDS_PER_MICROSECOND,
+                    histogram.getPercentile(P50) / NANOSECONDS_PER_MICROSECOND,
+                    histogram.getPercentile(P99) / NANOSECONDS_PER_MICROSECOND,
+                    histogram.getMax() / NANOSECONDS_PER_MICROSECOND));
+        }
+        for (Map.Entry<Counters, LongAdder> entry : this.counters.entrySet()) {
+            final long total = entry.getValue().sum();
+            if (total != 0) {
+                report.append(System.lineSeparator()).append(entry.getKey().name()).append(": ").append(total);
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dump() {
+        final String report = this.getReport();
+        this.logger.info("Profile:" + System.lineSeparator() + report);
+        try {
+            this.serviceLocator.getFileSystem().writeProjectFile(Profiler.REPORT_FILE, report);
+        } catch (IOException e) {
+            this.logger.error("The profile could not be written to " + Profiler.REPORT_FILE);
+        }
+    }
+
+}
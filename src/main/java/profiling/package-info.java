@@ -0,0 +1,4 @@
+/**
+ * Package for measuring how long the phases of a tick and a frame take.
+ */
+package profiling;
@@ -13,7 +13,7 @@ public final class MissionFactory implements IMissionFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger.
      */
@@ -21,8 +21,11 @@ public final class MissionFactory implements IMissionFactory {
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private MissionFactory() {
+    private MissionFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         this.logger = serviceLocator.getLoggerFactory().createLogger(this.getClass());
     }
 
@@ -33,8 +36,7 @@ public final class MissionFactory implements IMissionFactory {
      */
     public static void register(final IServiceLocator serviceLocator) {
         assert serviceLocator != null;
-        MissionFactory.serviceLocator = serviceLocator;
-        MissionFactory.serviceLocator.provide(new MissionFactory());
+        serviceLocator.provide(new MissionFactory(serviceLocator));
     }
 
     /**
@@ -50,7 +52,7 @@ public final class MissionFactory implements IMissionFactory {
         IProgressionObserver observer;
         switch (type) {
             case jumpOnSpring:
-                observer = new SpringUsedObserver(MissionFactory.serviceLocator, times, action);
+                observer = new SpringUsedObserver(this.serviceLocator, times, action);
                 break;
             default:
                 final String error = "The mission type\"" + type.name() + "\" could not be identified";
@@ -59,7 +61,7 @@ public final class MissionFactory implements IMissionFactory {
         }
 
         final String message = type.getMessage(times);
-        Mission mission = new Mission(MissionFactory.serviceLocator, type, message, observer);
+        Mission mission = new Mission(this.serviceLocator, type, message, observer);
 
         observer.setMission(mission);
 
@@ -25,11 +25,16 @@ public final class ProgressionManager implements IProgressionManager {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger.
      */
     private final ILogger logger;
+    /**
+     * Whether the progression is read from and written to the save file. Simulated games keep their progression
+     * in memory so they neither share nor overwrite the progression of the player.
+     */
+    private final boolean persistent;
     /**
      * The class responsible for managing the coins.
      */
@@ -61,8 +66,22 @@ public final class ProgressionManager implements IProgressionManager {
 
     /**
      * Prevents construction from outside the package.
+     *
+     * @param sL The service locator.
+     */
+    private ProgressionManager(final IServiceLocator sL) {
+        this(sL, true);
+    }
+
+    /**
+     * Prevents construction from outside the package.
+     *
+     * @param sL The service locator.
+     * @param p  Whether the progression should be read from and written to the save file.
      */
-    private ProgressionManager() {
+    private ProgressionManager(final IServiceLocator sL, final boolean p) {
+        this.serviceLocator = sL;
+        this.persistent = p;
         this.logger = serviceLocator.getLoggerFactory().createLogger(ProgressionManager.class);
         this.coinManager = new CoinManager(this);
         this.rankManager = new RankManager(this);
@@ -80,8 +99,18 @@ public final class ProgressionManager implements IProgressionManager {
      */
     public static void register(final IServiceLocator sL) {
         assert sL != null;
-        ProgressionManager.serviceLocator = sL;
-        ProgressionManager.serviceLocator.provide(new ProgressionManager());
+        sL.provide(new ProgressionManager(sL));
+    }
+
+    /**
+     * Register a ProgressionManager into the service locator that starts from the default progression and never
+     * touches the save file.
+     *
+     * @param sL the service locator.
+     */
+    public static void registerInMemory(final IServiceLocator sL) {
+        assert sL != null;
+        sL.provide(new ProgressionManager(sL, false));
     }
 
     /**
@@ -90,7 +119,11 @@ public final class ProgressionManager implements IProgressionManager {
     @Override
     public void init() {
         if (this.powerupLevelManager.powerupLevels.isEmpty()) {
-            this.loadData();
+            if (this.persistent) {
+                this.loadData();
+            } else {
+                this.progressionFromDefault();
+            }
         }
     }
 
@@ -210,8 +243,8 @@ public final class ProgressionManager implements IProgressionManager {
     private void loadData() {
         Object jsonObject = null;
         try {
-            jsonObject = ProgressionManager.serviceLocator.getFileSystem().parseJson(
-                    ProgressionManager.serviceLocator.getConstants().getSaveFilePath(), new TypeToken<SaveFile>() {
+            jsonObject = this.serviceLocator.getFileSystem().parseJson(
+                    this.serviceLocator.getConstants().getSaveFilePath(), new TypeToken<SaveFile>() {
             }.getType());
         } catch (FileNotFoundException e) {
             this.logger.warning("Save file was not found -> default progression used.");
@@ -228,6 +261,10 @@ public final class ProgressionManager implements IProgressionManager {
      * Saved the progression of the player to the disk.
      */
     private void saveData() {
+        if (!this.persistent) {
+            return;
+        }
+
         SaveFile image = new SaveFile();
 
         image.setCoins(this.coinManager.coins);
@@ -248,7 +285,7 @@ public final class ProgressionManager implements IProgressionManager {
         }
         image.setPowerupLevels(powerupLevelEntries);
 
-        IFileSystem fileSystem = ProgressionManager.serviceLocator.getFileSystem();
+        IFileSystem fileSystem = this.serviceLocator.getFileSystem();
         String json = fileSystem.serializeJson(image);
         try {
             fileSystem.writeProjectFile(serviceLocator.getConstants().getSaveFilePath(), json);
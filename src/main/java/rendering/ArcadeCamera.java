@@ -29,7 +29,11 @@ import static rendering.AccelerationType.fast;
     /**
      * The y-coordinate of the camera.
      */
-    private static AtomicDouble y = new AtomicDouble(0d);
+    private final AtomicDouble y = new AtomicDouble(0d);
+    /**
+     * The y-coordinate of the camera before the latest update.
+     */
+    private volatile double previousY = 0d;
     /**
      * The speed of the camera.
      */
@@ -54,7 +58,16 @@ import static rendering.AccelerationType.fast;
      */
     @Override
     public double getYPos() {
-        return ArcadeCamera.y.get();
+        return this.y.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getYPos(final double alpha) {
+        final double current = this.getYPos();
+        return this.previousY + (current - this.previousY) * alpha;
     }
 
     /**
@@ -62,7 +75,8 @@ import static rendering.AccelerationType.fast;
      */
     @Override
     public void setYPos(final double yPos) {
-        ArcadeCamera.y.set(yPos);
+        this.previousY = yPos;
+        this.y.set(yPos);
     }
 
     /**
@@ -85,7 +99,8 @@ import static rendering.AccelerationType.fast;
         }
 
         this.speed += ArcadeCamera.NORMAL_ACCELERATION;
-        this.setYPos(this.getYPos() - this.speed - this.extraSpeed);
+        this.previousY = this.getYPos();
+        this.y.set(this.previousY - this.speed - this.extraSpeed);
     }
 
 }
@@ -12,7 +12,7 @@ public final class CameraFactory implements ICameraFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the SceneFactory class.
      */
@@ -27,15 +27,17 @@ public final class CameraFactory implements ICameraFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        CameraFactory.serviceLocator = sL;
-        CameraFactory.serviceLocator.provide(new CameraFactory());
+        sL.provide(new CameraFactory(sL));
     }
 
     /**
      * Private constructor to prevent instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private CameraFactory() {
-        this.logger = CameraFactory.serviceLocator.getLoggerFactory().createLogger(CameraFactory.class);
+    private CameraFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(CameraFactory.class);
     }
 
     /**
@@ -56,6 +58,19 @@ public final class CameraFactory implements ICameraFactory {
         return new DoodleCamera(serviceLocator, doodle);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICamera createDoodleCamera(final IDoodle doodle, final int height) {
+        if (height <= 0) {
+            throw new IllegalArgumentException("The height of a camera must be positive");
+        }
+
+        this.logger.info("A new DoodleCamera has been created with a height of " + height);
+        return new DoodleCamera(serviceLocator, doodle, height);
+    }
+
     /**
      * {@inheritDoc}
      */
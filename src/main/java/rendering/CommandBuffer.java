@@ -0,0 +1,941 @@
+package rendering;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Shape;
+import java.util.Arrays;
+
+/**
+ * Records draw commands so they can be replayed to a {@link Graphics2D} in one pass.
+ * <br>
+ * A command buffer is a snapshot of a frame: it is recorded by the game thread, then {@link #sort() sorted} and
+ * handed to the thread that paints, which can replay it as often as it likes. The commands are stored in primitive
+ * arrays that are reused every frame, so recording a command does not create any objects. Commands that are
+ * positioned relative to the camera are replayed at the camera position interpolated between the two most recent
+ * ticks, and between the previous and the latest position of the object that recorded them. Every command gets a
+ * sort key, and the commands are replayed in the order of their keys:
+ * <ul>
+ *     <li>Outside a layer the commands keep the order in which they were recorded.</li>
+ *     <li>Inside a layer the commands are grouped by image, so the same image is drawn back to back. The commands
+ *     of a single object keep their order: the n-th command of every object is drawn before the (n+1)-th command
+ *     of any object.</li>
+ * </ul>
+ * Commands that fall completely outside the screen are not recorded at all.
+ * <br>
+ * The commands between {@link #startViewport} and {@link #endViewport()} are drawn into a rectangle of the screen,
+ * with their own camera. Their positions are relative to the corner of the rectangle, and they are clipped to it.
+ * <br>
+ * A command buffer is not thread safe, it must be handed over between threads safely.
+ */
+/* package */ final class CommandBuffer {
+
+    /**
+     * Clears the screen.
+     */
+    private static final byte CLEAR = 0;
+    /**
+     * Draws an image at its own size.
+     */
+    private static final byte IMAGE = 1;
+    /**
+     * Draws an image scaled to a size.
+     */
+    private static final byte IMAGE_SCALED = 2;
+    /**
+     * Draws an image rotated around its center.
+     */
+    private static final byte IMAGE_ROTATED = 3;
+    /**
+     * Draws an image scaled to a size and rotated around its center.
+     */
+    private static final byte IMAGE_SCALED_ROTATED = 4;
+    /**
+     * Draws the outline of a rectangle.
+     */
+    private static final byte RECTANGLE = 5;
+    /**
+     * Fills a rectangle with a color.
+     */
+    private static final byte FILLED_RECTANGLE = 6;
+    /**
+     * Draws a text.
+     */
+    private static final byte TEXT = 7;
+    /**
+     * Draws a text with its own font size, rotated around its position.
+     */
+    private static final byte TEXT_ROTATED = 8;
+    /**
+     * The type of a command that cuts a light out of the darkness.
+     */
+    private static final byte LIGHT = 9;
+    /**
+     * The type of a command that draws the darkness.
+     */
+    private static final byte LIGHT_MAP = 10;
+    /**
+     * The type of a command that starts drawing into a viewport.
+     */
+    private static final byte VIEWPORT = 11;
+    /**
+     * The type of a command that stops drawing into a viewport.
+     */
+    private static final byte VIEWPORT_END = 12;
+    /**
+     * Marks a command that is positioned relative to the camera.
+     */
+    private static final byte RELATIVE = 0x40;
+    /**
+     * Marks an image command that draws only a part of its image.
+     */
+    private static final byte REGION = 0x20;
+    /**
+     * Used to get the type of a command without its {@link #RELATIVE} and {@link #REGION} marks.
+     */
+    private static final byte TYPE_MASK = 0x1F;
+
+    /**
+     * The amount of integers stored per command: x, y, width, height and four extra values.
+     */
+    private static final int STRIDE = 8;
+    /**
+     * The offset of the extra values in the integers of a command.
+     */
+    private static final int EXTRA_1 = 4, EXTRA_2 = 5, EXTRA_3 = 6, EXTRA_4 = 7;
+    /**
+     * The amount of commands the buffer can hold before it has to grow.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+    /**
+     * The tick time of a frame that is interpolated by {@link Renderer#setInterpolation(double)} instead.
+     */
+    /* package */ static final long NO_TICK_TIME = Long.MIN_VALUE;
+
+    /**
+     * The amount of bits of the sort key used by the index of the command.
+     */
+    private static final int INDEX_BITS = 22;
+    /**
+     * The amount of bits of the sort key used by the image of the command.
+     */
+    private static final int IMAGE_BITS = 16;
+    /**
+     * The amount of bits of the sort key used by the depth of the command within its object.
+     */
+    private static final int DEPTH_BITS = 12;
+    /**
+     * The amount of bits of the sort key used by the layer of the command.
+     */
+    private static final int LAYER_BITS = 13;
+    /**
+     * The maximum amount of commands the buffer can hold, more commands are dropped.
+     */
+    private static final int MAX_COMMANDS = 1 << INDEX_BITS;
+    /**
+     * The highest layer that can be stored in a sort key.
+     */
+    private static final int MAX_LAYER = (1 << LAYER_BITS) - 1;
+    /**
+     * The highest depth that can be stored in a sort key.
+     */
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    /**
+     * Used to get the index of a command from its sort key.
+     */
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1L;
+    /**
+     * Used to get the key of an image.
+     */
+    private static final int IMAGE_MASK = (1 << IMAGE_BITS) - 1;
+
+    /**
+     * All colors, without copying the array for every command.
+     */
+    private static final Color[] COLORS = Color.values();
+    /**
+     * All text alignments, without copying the array for every command.
+     */
+    private static final TextAlignment[] ALIGNMENTS = TextAlignment.values();
+
+    /**
+     * The width of the screen.
+     */
+    private final int width;
+    /**
+     * The height of the screen.
+     */
+    private final int height;
+    /**
+     * The fonts used for texts.
+     */
+    private final FontRegistry fonts;
+    /**
+     * The texts that have already been drawn into images.
+     */
+    private final TextCache texts;
+    /**
+     * The darkness into which the lights are cut.
+     */
+    private final LightMap lights;
+    /**
+     * The Y position of the camera at the previous tick.
+     */
+    private double previousCameraY = 0d;
+    /**
+     * The Y position of the camera at the latest tick.
+     */
+    private double cameraY = 0d;
+    /**
+     * The rectangle in which the commands that are being recorded are visible, and the camera they are drawn with.
+     */
+    private int visibleWidth, visibleHeight;
+    /**
+     * The Y positions of the camera used to check whether the commands that are being recorded are visible.
+     */
+    private double visiblePreviousY = 0d, visibleY = 0d;
+    /**
+     * The Y positions of the camera of every viewport, at the previous and at the latest tick.
+     */
+    private double[] viewportCameras = new double[2 * 2];
+    /**
+     * The amount of viewports that have been recorded.
+     */
+    private int viewports = 0;
+    /**
+     * Whether a viewport is being recorded.
+     */
+    private boolean inViewport = false;
+    /**
+     * Whether the buffer has been published, but not yet been picked up for painting.
+     */
+    private boolean fresh = false;
+    /**
+     * The time at which the latest tick of the frame was due, or {@link #NO_TICK_TIME}.
+     */
+    private long tickTime = CommandBuffer.NO_TICK_TIME;
+    /**
+     * The motion during the latest tick of the commands that are being recorded.
+     */
+    private int motionX = 0, motionY = 0;
+
+    /**
+     * The type of every command.
+     */
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    /**
+     * The integers of every command, {@link #STRIDE} per command.
+     */
+    private int[] ints = new int[INITIAL_CAPACITY * STRIDE];
+    /**
+     * The horizontal and vertical motion during the latest tick of every command, 2 per command.
+     */
+    private int[] motions = new int[INITIAL_CAPACITY * 2];
+    /**
+     * The angle of every command.
+     */
+    private double[] angles = new double[INITIAL_CAPACITY];
+    /**
+     * The image or text of every command.
+     */
+    private Object[] references = new Object[INITIAL_CAPACITY];
+    /**
+     * The sort key of every command.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+    /**
+     * The amount of recorded commands.
+     */
+    private int count = 0;
+    /**
+     * The current layer.
+     */
+    private int layer = 0;
+    /**
+     * The depth of the next command within the current object.
+     */
+    private int depth = 0;
+    /**
+     * Whether the commands are currently grouped by image.
+     */
+    private boolean inLayer = false;
+    /**
+     * While replaying, the interpolation between the ticks and the camera position of the commands.
+     */
+    private double replayAlpha = 0d;
+    /**
+     * While replaying, the Y position of the camera used for the commands.
+     */
+    private int replayCameraOffset = 0;
+    /**
+     * While replaying, the clip the graphics had before the viewport that is being drawn.
+     */
+    private Shape replayClip;
+    /**
+     * While replaying, the corner of the viewport that is being drawn.
+     */
+    private int replayViewportX = 0, replayViewportY = 0;
+
+    /**
+     * Create a command buffer.
+     *
+     * @param w The width of the screen.
+     * @param h The height of the screen.
+     * @param f The fonts used for texts.
+     * @param t The cache of drawn texts, shared with the other buffers.
+     * @param l The light map, shared with the other buffers.
+     */
+    /* package */ CommandBuffer(final int w, final int h, final FontRegistry f, final TextCache t, final LightMap l) {
+        this.width = w;
+        this.height = h;
+        this.visibleWidth = w;
+        this.visibleHeight = h;
+        this.fonts = f;
+        this.texts = t;
+        this.lights = l;
+    }
+
+    /**
+     * Set the position of the camera, used for the commands that are positioned relative to it.
+     *
+     * @param previous The Y position of the camera at the previous tick.
+     * @param current  The Y position of the camera at the latest tick.
+     */
+    /* package */ void setCamera(final double previous, final double current) {
+        this.previousCameraY = previous;
+        this.cameraY = current;
+        if (!this.inViewport) {
+            this.visiblePreviousY = previous;
+            this.visibleY = current;
+        }
+    }
+
+    /**
+     * Starts drawing into a rectangle of the screen. Must not be called inside a layer or another viewport.
+     *
+     * @param x        The X position of the viewport on the screen.
+     * @param y        The Y position of the viewport on the screen.
+     * @param w        The width of the viewport.
+     * @param h        The height of the viewport.
+     * @param previous The Y position of the camera of the viewport at the previous tick.
+     * @param current  The Y position of the camera of the viewport at the latest tick.
+     */
+    /* package */ void startViewport(final int x, final int y, final int w, final int h, final double previous,
+                                     final double current) {
+        assert !this.inLayer && !this.inViewport;
+        if (this.viewports * 2 == this.viewportCameras.length) {
+            this.viewportCameras = Arrays.copyOf(this.viewportCameras, this.viewportCameras.length * 2);
+        }
+        this.viewportCameras[this.viewports * 2] = previous;
+        this.viewportCameras[this.viewports * 2 + 1] = current;
+
+        this.nextLayer();
+        this.add(CommandBuffer.VIEWPORT, false, null, x, y, w, h, this.viewports, 0, 0, 0, 0d);
+        this.viewports++;
+        this.inViewport = true;
+        this.visibleWidth = w;
+        this.visibleHeight = h;
+        this.visiblePreviousY = previous;
+        this.visibleY = current;
+    }
+
+    /**
+     * Stops drawing into the current viewport, the commands that follow are drawn on the whole screen again.
+     */
+    /* package */ void endViewport() {
+        assert !this.inLayer && this.inViewport;
+        this.nextLayer();
+        this.add(CommandBuffer.VIEWPORT_END, false, null, 0, 0, 0, 0, 0, 0, 0, 0, 0d);
+        this.inViewport = false;
+        this.visibleWidth = this.width;
+        this.visibleHeight = this.height;
+        this.visiblePreviousY = this.previousCameraY;
+        this.visibleY = this.cameraY;
+    }
+
+    /**
+     * Check whether the buffer has been published, but not yet been picked up for painting.
+     *
+     * @return {@code true} if the buffer contains a new frame.
+     */
+    /* package */ boolean isFresh() {
+        return this.fresh;
+    }
+
+    /**
+     * Mark whether the buffer contains a new frame.
+     *
+     * @param f {@code true} when the buffer is published, {@code false} when it is picked up.
+     */
+    /* package */ void setFresh(final boolean f) {
+        this.fresh = f;
+    }
+
+    /**
+     * Get the time at which the latest tick of the frame was due.
+     *
+     * @return The time in nanoseconds of {@link System#nanoTime()}, or {@link #NO_TICK_TIME}.
+     */
+    /* package */ long getTickTime() {
+        return this.tickTime;
+    }
+
+    /**
+     * Set the time at which the latest tick of the frame was due.
+     *
+     * @param t The time in nanoseconds of {@link System#nanoTime()}, or {@link #NO_TICK_TIME}.
+     */
+    /* package */ void setTickTime(final long t) {
+        this.tickTime = t;
+    }
+
+    /**
+     * Set the motion during the latest tick of the commands that are recorded next, which are replayed between their
+     * previous and their latest position. Only applies to the commands that are positioned relative to the camera.
+     *
+     * @param x The horizontal motion.
+     * @param y The vertical motion.
+     */
+    /* package */ void setMotion(final int x, final int y) {
+        this.motionX = x;
+        this.motionY = y;
+    }
+
+    /**
+     * Starts a layer, in which the commands are grouped by image.
+     */
+    /* package */ void startLayer() {
+        this.nextLayer();
+        this.inLayer = true;
+    }
+
+    /**
+     * Starts the commands of the next object in the current layer.
+     */
+    /* package */ void nextObject() {
+        this.depth = 0;
+    }
+
+    /**
+     * Ends the current layer, the commands that follow keep their order again.
+     */
+    /* package */ void endLayer() {
+        this.nextLayer();
+        this.inLayer = false;
+    }
+
+    /**
+     * Get the amount of recorded commands.
+     *
+     * @return The amount of commands waiting to be replayed.
+     */
+    /* package */ int size() {
+        return this.count;
+    }
+
+    /**
+     * Records clearing the screen.
+     */
+    /* package */ void clear() {
+        this.add(CommandBuffer.CLEAR, false, null, 0, 0, this.width, this.height, 0, 0, 0, 0, 0d);
+    }
+
+    /**
+     * Records drawing an image.
+     *
+     * @param image    The image.
+     * @param x        The X position.
+     * @param y        The Y position.
+     * @param w        The width of the image.
+     * @param h        The height of the image.
+     * @param relative Whether the position is relative to the camera.
+     */
+    /* package */ void image(final Image image, final int x, final int y, final int w, final int h,
+                             final boolean relative) {
+        if (this.isVisible(x, y, w, h, relative)) {
+            this.add(CommandBuffer.IMAGE, relative, image, x, y, w, h, 0, 0, 0, 0, 0d);
+        }
+    }
+
+    /**
+     * Records drawing an image scaled to a size.
+     *
+     * @param image    The image.
+     * @param x        The X position.
+     * @param y        The Y position.
+     * @param w        The width to scale to.
+     * @param h        The height to scale to.
+     * @param relative Whether the position is relative to the camera.
+     */
+    /* package */ void scaledImage(final Image image, final int x, final int y, final int w, final int h,
+                                   final boolean relative) {
+        if (this.isVisible(x, y, w, h, relative)) {
+            this.add(CommandBuffer.IMAGE_SCALED, relative, image, x, y, w, h, 0, 0, 0, 0, 0d);
+        }
+    }
+
+    /**
+     * Records drawing an image rotated around the center of its original size.
+     *
+     * @param image       The image.
+     * @param x           The X position.
+     * @param y           The Y position.
+     * @param w           The width to scale to.
+     * @param h           The height to scale to.
+     * @param imageWidth  The original width of the image.
+     * @param imageHeight The original height of the image.
+     * @param theta       The angle in radians.
+     * @param scaled      Whether the image is scaled to {@code w} and {@code h}.
+     * @param relative    Whether the position is relative to the camera.
+     */
+    /* package */ void rotatedImage(final Image image, final int x, final int y, final int w, final int h,
+                                    final int imageWidth, final int imageHeight, final double theta,
+                                    final boolean scaled, final boolean relative) {
+        // A rotated image can reach as far as its diagonal from its center
+        final int reach = Math.max(Math.max(w, h), Math.max(imageWidth, imageHeight));
+        if (this.isVisible(x - reach, y - reach, w + 2 * reach, h + 2 * reach, relative)) {
+            final byte type = scaled ? CommandBuffer.IMAGE_SCALED_ROTATED : CommandBuffer.IMAGE_ROTATED;
+            this.add(type, relative, image, x, y, w, h, imageWidth, imageHeight, 0, 0, theta);
+        }
+    }
+
+    /**
+     * Records drawing a part of an image, scaled to a size.
+     *
+     * @param image        The image.
+     * @param x            The X position.
+     * @param y            The Y position.
+     * @param w            The width to scale to.
+     * @param h            The height to scale to.
+     * @param sourceX      The X position of the part in the image.
+     * @param sourceY      The Y position of the part in the image.
+     * @param sourceWidth  The width of the part.
+     * @param sourceHeight The height of the part.
+     * @param relative     Whether the position is relative to the camera.
+     */
+    /* package */ void imageRegion(final Image image, final int x, final int y, final int w, final int h,
+                                   final int sourceX, final int sourceY, final int sourceWidth, final int sourceHeight,
+                                   final boolean relative) {
+        if (this.isVisible(x, y, w, h, relative)) {
+            this.add((byte) (CommandBuffer.IMAGE_SCALED | CommandBuffer.REGION), relative, image, x, y, w, h,
+                    sourceWidth, sourceHeight, sourceX, sourceY, 0d);
+        }
+    }
+
+    /**
+     * Records drawing a part of an image scaled to a size, rotated around the center of the original size of the part.
+     *
+     * @param image        The image.
+     * @param x            The X position.
+     * @param y            The Y position.
+     * @param w            The width to scale to.
+     * @param h            The height to scale to.
+     * @param sourceX      The X position of the part in the image.
+     * @param sourceY      The Y position of the part in the image.
+     * @param sourceWidth  The width of the part.
+     * @param sourceHeight The height of the part.
+     * @param theta        The angle in radians.
+     * @param relative     Whether the position is relative to the camera.
+     */
+    /* package */ void rotatedImageRegion(final Image image, final int x, final int y, final int w, final int h,
+                                          final int sourceX, final int sourceY, final int sourceWidth,
+                                          final int sourceHeight, final double theta, final boolean relative) {
+        final int reach = Math.max(Math.max(w, h), Math.max(sourceWidth, sourceHeight));
+        if (this.isVisible(x - reach, y - reach, w + 2 * reach, h + 2 * reach, relative)) {
+            this.add((byte) (CommandBuffer.IMAGE_SCALED_ROTATED | CommandBuffer.REGION), relative, image, x, y, w, h,
+                    sourceWidth, sourceHeight, sourceX, sourceY, theta);
+        }
+    }
+
+    /**
+     * Records drawing the outline of a rectangle.
+     *
+     * @param x        The X position.
+     * @param y        The Y position.
+     * @param w        The width of the rectangle.
+     * @param h        The height of the rectangle.
+     * @param relative Whether the position is relative to the camera.
+     */
+    /* package */ void rectangle(final int x, final int y, final int w, final int h, final boolean relative) {
+        if (this.isVisible(x, y, w + 1, h + 1, relative)) {
+            this.add(CommandBuffer.RECTANGLE, relative, null, x, y, w, h, 0, 0, 0, 0, 0d);
+        }
+    }
+
+    /**
+     * Records filling a rectangle.
+     *
+     * @param x        The X position.
+     * @param y        The Y position.
+     * @param w        The width of the rectangle.
+     * @param h        The height of the rectangle.
+     * @param color    The color of the rectangle.
+     * @param relative Whether the position is relative to the camera.
+     */
+    /* package */ void filledRectangle(final int x, final int y, final int w, final int h, final Color color,
+                                       final boolean relative) {
+        if (this.isVisible(x, y, w, h, relative)) {
+            this.add(CommandBuffer.FILLED_RECTANGLE, relative, null, x, y, w, h, color.ordinal(), 0, 0, 0, 0d);
+        }
+    }
+
+    /**
+     * Records drawing a text.
+     *
+     * @param msg         The text.
+     * @param x           The X position.
+     * @param y           The Y position of the baseline.
+     * @param alignment   The way the text is aligned to {@code x}.
+     * @param color       The color of the text.
+     * @param fontSize    The size of the font, or 0 for the default size.
+     * @param antialiased Whether the text is drawn with antialiasing.
+     * @param relative    Whether the position is relative to the camera.
+     */
+    /* package */ void text(final String msg, final int x, final int y, final TextAlignment alignment, final Color color,
+                            final int fontSize, final boolean antialiased, final boolean relative) {
+        this.add(CommandBuffer.TEXT, relative, msg, x, y, alignment.ordinal(), color.ordinal(), fontSize,
+                antialiased ? 1 : 0, 0, 0, 0d);
+    }
+
+    /**
+     * Records drawing a centered text with its own font size, rotated around its position.
+     *
+     * @param msg         The text.
+     * @param x           The X position of the center on the screen.
+     * @param y           The Y position of the baseline on the screen.
+     * @param color       The color of the text.
+     * @param rotation    The angle in radians.
+     * @param fontSize    The size of the font.
+     * @param antialiased Whether the text is drawn with antialiasing.
+     */
+    /* package */ void rotatedText(final String msg, final int x, final int y, final Color color,
+                                   final double rotation, final int fontSize, final boolean antialiased) {
+        this.add(CommandBuffer.TEXT_ROTATED, false, msg, x, y, TextAlignment.center.ordinal(), color.ordinal(),
+                fontSize, antialiased ? 1 : 0, 0, 0, rotation);
+    }
+
+    /**
+     * Records cutting a light out of the darkness, which is drawn by the next {@link #lightMap()}.
+     *
+     * @param x        The X position of the center.
+     * @param y        The Y position of the center.
+     * @param radius   The radius of the light.
+     * @param relative Whether the position is relative to the camera.
+     */
+    /* package */ void light(final int x, final int y, final int radius, final boolean relative) {
+        if (this.isVisible(x - radius, y - radius, 2 * radius, 2 * radius, relative)) {
+            this.add(CommandBuffer.LIGHT, relative, null, x, y, radius, 0, 0, 0, 0, 0, 0d);
+        }
+    }
+
+    /**
+     * Records drawing the darkness over everything that has been drawn before, except where the lights that were
+     * recorded since the previous light map have been cut out.
+     */
+    /* package */ void lightMap() {
+        this.add(CommandBuffer.LIGHT_MAP, false, null, 0, 0, this.width, this.height, 0, 0, 0, 0, 0d);
+    }
+
+    /**
+     * Sorts the commands in the order in which they have to be replayed. Must be called once, after recording.
+     */
+    /* package */ void sort() {
+        Arrays.sort(this.keys, 0, this.count);
+    }
+
+    /**
+     * Replays all commands in the order of their sort keys. The commands stay in the buffer, so a frame can be
+     * replayed again when no new frame has been published yet.
+     *
+     * @param graphics The graphics to draw to.
+     * @param alpha    How far the frame is between the previous tick (0) and the latest tick (1).
+     */
+    /* package */ void replay(final Graphics2D graphics, final double alpha) {
+        this.replayAlpha = alpha;
+        this.replayCameraOffset = CommandBuffer.interpolate(this.previousCameraY, this.cameraY, alpha);
+        this.lights.reset();
+        for (int i = 0; i < this.count; i++) {
+            this.replay(graphics, (int) (this.keys[i] & CommandBuffer.INDEX_MASK));
+        }
+        this.replayClip = null;
+    }
+
+    /**
+     * Interpolates the position of a camera between two ticks.
+     *
+     * @param previous The position at the previous tick.
+     * @param current  The position at the latest tick.
+     * @param alpha    How far the frame is between the previous tick (0) and the latest tick (1).
+     * @return The position of the camera on the screen.
+     */
+    private static int interpolate(final double previous, final double current, final double alpha) {
+        return (int) Math.round(previous + (current - previous) * alpha);
+    }
+
+    /**
+     * Removes all commands, so a new frame can be recorded.
+     */
+    /* package */ void reset() {
+        Arrays.fill(this.references, 0, this.count, null);
+        this.count = 0;
+        this.layer = 0;
+        this.depth = 0;
+        this.inLayer = false;
+        this.viewports = 0;
+        this.inViewport = false;
+        this.visibleWidth = this.width;
+        this.visibleHeight = this.height;
+        this.motionX = 0;
+        this.motionY = 0;
+    }
+
+    /**
+     * Moves on to the next layer.
+     */
+    private void nextLayer() {
+        this.layer = Math.min(this.layer + 1, CommandBuffer.MAX_LAYER);
+        this.depth = 0;
+    }
+
+    /**
+     * Check whether a rectangle is at least partially on the screen, or in the viewport that is being recorded. A
+     * rectangle that is positioned relative to the camera is visible when it is on the screen at any camera position
+     * and at any position of its motion between the previous and the latest tick.
+     *
+     * @param x        The X position of the rectangle.
+     * @param y        The Y position of the rectangle.
+     * @param w        The width of the rectangle.
+     * @param h        The height of the rectangle.
+     * @param relative Whether the position is relative to the camera.
+     * @return {@code true} if a part of the rectangle is on the screen.
+     */
+    private boolean isVisible(final int x, final int y, final int w, final int h, final boolean relative) {
+        if (!relative) {
+            return x < this.visibleWidth && x + w > 0 && y < this.visibleHeight && y + h > 0;
+        }
+        final int left = Math.min(x, x - this.motionX);
+        final int right = Math.max(x, x - this.motionX) + w;
+        if (left >= this.visibleWidth || right <= 0) {
+            return false;
+        }
+        final double top = Math.min(y, y - this.motionY) - Math.max(this.visiblePreviousY, this.visibleY);
+        final double bottom = Math.max(y, y - this.motionY) - Math.min(this.visiblePreviousY, this.visibleY) + h;
+        return top < this.visibleHeight && bottom > 0;
+    }
+
+    /**
+     * Adds a command to the buffer.
+     *
+     * @param type      The type of the command.
+     * @param relative  Whether the position is relative to the camera.
+     * @param reference The image or text of the command.
+     * @param x         The X position.
+     * @param y         The Y position.
+     * @param w         The width, or the alignment of a text.
+     * @param h         The height, or the color of a text.
+     * @param extra1    The first extra value.
+     * @param extra2    The second extra value.
+     * @param extra3    The third extra value.
+     * @param extra4    The fourth extra value.
+     * @param angle     The angle.
+     */
+    private void add(final byte type, final boolean relative, final Object reference, final int x, final int y, final int w, final int h,
+                     final int extra1, final int extra2, final int extra3, final int extra4, final double angle) {
+        if (this.count == CommandBuffer.MAX_COMMANDS) {
+            return;
+        } else if (this.count == this.types.length) {
+            this.grow();
+        }
+
+        final int index = this.count;
+        this.types[index] = relative ? (byte) (type | CommandBuffer.RELATIVE) : type;
+        this.references[index] = reference;
+        this.angles[index] = angle;
+        final int offset = index * CommandBuffer.STRIDE;
+        this.ints[offset] = x;
+        this.ints[offset + 1] = y;
+        this.ints[offset + 2] = w;
+        this.ints[offset + 3] = h;
+        this.ints[offset + EXTRA_1] = extra1;
+        this.ints[offset + EXTRA_2] = extra2;
+        this.ints[offset + EXTRA_3] = extra3;
+        this.ints[offset + EXTRA_4] = extra4;
+        this.motions[index * 2] = relative ? this.motionX : 0;
+        this.motions[index * 2 + 1] = relative ? this.motionY : 0;
+
+        long key = (long) this.layer << (DEPTH_BITS + IMAGE_BITS + INDEX_BITS);
+        if (this.inLayer) {
+            final int imageKey = reference instanceof Image ? System.identityHashCode(reference) & IMAGE_MASK : 0;
+            key |= (long) this.depth << (IMAGE_BITS + INDEX_BITS);
+            key |= (long) imageKey << INDEX_BITS;
+            this.depth = Math.min(this.depth + 1, CommandBuffer.MAX_DEPTH);
+        }
+        this.keys[index] = key | index;
+        this.count++;
+    }
+
+    /**
+     * Doubles the capacity of the buffer.
+     */
+    private void grow() {
+        final int capacity = this.types.length * 2;
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.ints = Arrays.copyOf(this.ints, capacity * CommandBuffer.STRIDE);
+        this.motions = Arrays.copyOf(this.motions, capacity * 2);
+        this.angles = Arrays.copyOf(this.angles, capacity);
+        this.references = Arrays.copyOf(this.references, capacity);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+    }
+
+    /**
+     * Replays a single command.
+     *
+     * @param graphics The graphics to draw to.
+     * @param index    The index of the command.
+     */
+    private void replay(final Graphics2D graphics, final int index) {
+        final int offset = index * CommandBuffer.STRIDE;
+        final byte type = this.types[index];
+        // The part of its motion the command has not made yet at the interpolated moment
+        final double remaining = 1d - this.replayAlpha;
+        final int x = this.ints[offset] - (int) Math.round(this.motions[index * 2] * remaining);
+        final int y = (type & CommandBuffer.RELATIVE) == 0 ? this.ints[offset + 1]
+                : this.ints[offset + 1] - (int) Math.round(this.motions[index * 2 + 1] * remaining)
+                - this.replayCameraOffset;
+        final int w = this.ints[offset + 2];
+        final int h = this.ints[offset + 3];
+
+        switch (type & CommandBuffer.TYPE_MASK) {
+            case CLEAR:
+                graphics.clearRect(x, y, w, h);
+                break;
+            case IMAGE:
+                graphics.drawImage((Image) this.references[index], x, y, null);
+                break;
+            case IMAGE_SCALED:
+                if ((type & CommandBuffer.REGION) == 0) {
+                    graphics.drawImage((Image) this.references[index], x, y, w, h, null);
+                } else {
+                    final int sourceX = this.ints[offset + EXTRA_3];
+                    final int sourceY = this.ints[offset + EXTRA_4];
+                    graphics.drawImage((Image) this.references[index], x, y, x + w, y + h, sourceX, sourceY,
+                            sourceX + this.ints[offset + EXTRA_1], sourceY + this.ints[offset + EXTRA_2], null);
+                }
+                break;
+            case IMAGE_ROTATED:
+            case IMAGE_SCALED_ROTATED:
+                this.replayRotatedImage(graphics, index, offset, x, y);
+                break;
+            case RECTANGLE:
+                graphics.drawRect(x, y, w, h);
+                break;
+            case FILLED_RECTANGLE:
+                final java.awt.Color currentColor = graphics.getColor();
+                graphics.setColor(COLORS[this.ints[offset + EXTRA_1]].getColor());
+                graphics.fillRect(x, y, w, h);
+                graphics.setColor(currentColor);
+                break;
+            case TEXT:
+            case TEXT_ROTATED:
+                this.replayText(graphics, index, offset, x, y);
+                break;
+            case LIGHT:
+                this.lights.light(x, y, w);
+                break;
+            case LIGHT_MAP:
+                this.lights.draw(graphics);
+                break;
+            case VIEWPORT:
+                this.replayClip = graphics.getClip();
+                this.replayViewportX = x;
+                this.replayViewportY = y;
+                graphics.translate(x, y);
+                graphics.clipRect(0, 0, w, h);
+                final int viewport = this.ints[offset + EXTRA_1];
+                this.replayCameraOffset = CommandBuffer.interpolate(this.viewportCameras[viewport * 2],
+                        this.viewportCameras[viewport * 2 + 1], this.replayAlpha);
+                break;
+            case VIEWPORT_END:
+                graphics.translate(-this.replayViewportX, -this.replayViewportY);
+                graphics.setClip(this.replayClip);
+                this.replayCameraOffset = CommandBuffer.interpolate(this.previousCameraY, this.cameraY,
+                        this.replayAlpha);
+                break;
+            default:
+                throw new IllegalStateException("Unknown draw command: " + this.types[index]);
+        }
+    }
+
+    /**
+     * Replays drawing a rotated image.
+     *
+     * @param graphics The graphics to draw to.
+     * @param index    The index of the command.
+     * @param offset   The offset of the integers of the command.
+     * @param x        The X position on the screen.
+     * @param y        The Y position on the screen.
+     */
+    private void replayRotatedImage(final Graphics2D graphics, final int index, final int offset, final int x,
+                                    final int y) {
+        final Image image = (Image) this.references[index];
+        final double theta = this.angles[index];
+        final double halfWidth = (double) this.ints[offset + EXTRA_1] / 2d;
+        final double halfHeight = (double) this.ints[offset + EXTRA_2] / 2d;
+        final double translateX = x + halfWidth;
+        final double translateY = y + halfHeight;
+
+        graphics.translate(translateX, translateY);
+        graphics.rotate(theta);
+        graphics.translate(-halfWidth, -halfHeight);
+        if ((this.types[index] & CommandBuffer.REGION) != 0) {
+            final int sourceX = this.ints[offset + EXTRA_3];
+            final int sourceY = this.ints[offset + EXTRA_4];
+            graphics.drawImage(image, 0, 0, this.ints[offset + 2], this.ints[offset + 3], sourceX, sourceY,
+                    sourceX + this.ints[offset + EXTRA_1], sourceY + this.ints[offset + EXTRA_2], null);
+        } else if ((this.types[index] & CommandBuffer.TYPE_MASK) == CommandBuffer.IMAGE_SCALED_ROTATED) {
+            graphics.drawImage(image, 0, 0, this.ints[offset + 2], this.ints[offset + 3], null);
+        } else {
+            graphics.drawImage(image, 0, 0, null);
+        }
+        graphics.translate(halfWidth, halfHeight);
+        graphics.rotate(-theta);
+        graphics.translate(-translateX, -translateY);
+    }
+
+    /**
+     * Replays drawing a text, by drawing an image of the text from the {@link TextCache}.
+     *
+     * @param graphics The graphics to draw to.
+     * @param index    The index of the command.
+     * @param offset   The offset of the integers of the command.
+     * @param position The X position on the screen.
+     * @param y        The Y position of the baseline on the screen.
+     */
+    private void replayText(final Graphics2D graphics, final int index, final int offset, final int position,
+                            final int y) {
+        final TextCache.Raster raster = this.texts.get((String) this.references[index],
+                this.fonts.getFont(this.ints[offset + EXTRA_1]), COLORS[this.ints[offset + 3]].getColor(),
+                this.ints[offset + EXTRA_2] != 0);
+
+        int x = position;
+        switch (ALIGNMENTS[this.ints[offset + 2]]) {
+            case center:
+                x = (int) (x - (double) raster.getWidth() / 2d);
+                break;
+            case right:
+                x = x - raster.getWidth();
+                break;
+            default:
+                break;
+        }
+
+        final double rotation = this.angles[index];
+        if (rotation != 0d) {
+            graphics.rotate(rotation, x, y);
+            graphics.drawImage(raster.getImage(), x - raster.getOriginX(), y - raster.getOriginY(), null);
+            graphics.rotate(-rotation, x, y);
+        } else {
+            graphics.drawImage(raster.getImage(), x - raster.getOriginX(), y - raster.getOriginY(), null);
+        }
+    }
+
+}
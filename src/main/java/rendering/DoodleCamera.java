@@ -10,7 +10,7 @@ import system.IServiceLocator;
 /* package */ final class DoodleCamera implements ICamera {
 
     /**
-     * The maximum height of a Doodle on the screen when playing alone.
+     * The maximum height of a Doodle on the screen, as a part of the visible height.
      */
     private static final double DOODLE_THRESHOLD = 3 / 7d;
 
@@ -21,11 +21,19 @@ import system.IServiceLocator;
     /**
      * The y-coordinate of the camera. When the doodle jumps high enough, this value decreases.
      */
-    private static AtomicDouble y = new AtomicDouble(0d);
+    private final AtomicDouble y = new AtomicDouble(0d);
+    /**
+     * The y-coordinate of the camera before the latest update.
+     */
+    private volatile double previousY = 0d;
     /**
      * The Doodle the camera uses as reference point.
      */
     private final IDoodle doodle;
+    /**
+     * The height of the part of the world the camera shows, or 0 if it shows the height of the game.
+     */
+    private final int height;
 
     /**
      * Package constructor to prevent instantiation from outside the package.
@@ -33,8 +41,19 @@ import system.IServiceLocator;
      * @param d The Doodle that should be used as reference point.
      */
     /* package */ DoodleCamera(final IServiceLocator sL, final IDoodle d) {
+        this(sL, d, 0);
+    }
+
+    /**
+     * Package constructor to prevent instantiation from outside the package.
+     * @param sL The serviceLocator for the Game.
+     * @param d The Doodle that should be used as reference point.
+     * @param h The height of the part of the world the camera shows, such as the view of one player in split-screen.
+     */
+    /* package */ DoodleCamera(final IServiceLocator sL, final IDoodle d, final int h) {
         this.serviceLocator = sL;
         this.doodle = d;
+        this.height = h;
     }
 
     /**
@@ -42,7 +61,16 @@ import system.IServiceLocator;
      */
     @Override
     public double getYPos() {
-        return DoodleCamera.y.get();
+        return this.y.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getYPos(final double alpha) {
+        final double current = this.getYPos();
+        return this.previousY + (current - this.previousY) * alpha;
     }
 
     /**
@@ -50,7 +78,8 @@ import system.IServiceLocator;
      */
     @Override
     public void setYPos(final double yPos) {
-        DoodleCamera.y.set(yPos);
+        this.previousY = yPos;
+        this.y.set(yPos);
     }
 
     /**
@@ -65,9 +94,9 @@ import system.IServiceLocator;
      */
     @Override
     public void update(final double delta) {
-        int height = this.serviceLocator.getConstants().getGameHeight();
-        double newY = Math.min(this.getYPos(), this.doodle.getYPos() - height * DoodleCamera.DOODLE_THRESHOLD);
-        this.setYPos(newY);
+        int height = this.height > 0 ? this.height : this.serviceLocator.getConstants().getGameHeight();
+        this.previousY = this.getYPos();
+        this.y.set(Math.min(this.previousY, this.doodle.getYPos() - height * DoodleCamera.DOODLE_THRESHOLD));
     }
 
 }
@@ -0,0 +1,137 @@
+package rendering;
+
+import filesystem.IFileSystem;
+
+import java.awt.Font;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every font that is used to draw texts, so a font file is only read once and a font is only derived once
+ * for every style and size.
+ * <br>
+ * The registry is safe to use from several threads.
+ */
+/* package */ final class FontRegistry {
+
+    /**
+     * The name of the font file used for all texts.
+     */
+    /* package */ static final String DEFAULT_NAME = "al-seana.ttf";
+    /**
+     * The style used for all texts.
+     */
+    /* package */ static final int DEFAULT_STYLE = Font.BOLD;
+    /**
+     * The size of texts that do not have their own size.
+     */
+    /* package */ static final int DEFAULT_SIZE = 50;
+
+    /**
+     * Used to read the font files.
+     */
+    private final IFileSystem fileSystem;
+    /**
+     * The fonts as they were read, per file name.
+     */
+    private final Map<String, Font> baseFonts = new ConcurrentHashMap<>();
+    /**
+     * The derived fonts, per name, style and size.
+     */
+    private final Map<FontKey, Font> fonts = new ConcurrentHashMap<>();
+
+    /**
+     * Create an empty font registry.
+     *
+     * @param fS The file system from which the font files are read.
+     */
+    /* package */ FontRegistry(final IFileSystem fS) {
+        assert fS != null;
+        this.fileSystem = fS;
+    }
+
+    /**
+     * Get a font, reading and deriving it the first time it is requested.
+     *
+     * @param name  The name of the font file.
+     * @param style The style of the font, like {@link Font#BOLD}.
+     * @param size  The size of the font.
+     * @return The font.
+     */
+    /* package */ Font getFont(final String name, final int style, final int size) {
+        return this.fonts.computeIfAbsent(new FontKey(name, style, size), key ->
+                this.baseFonts.computeIfAbsent(name, this.fileSystem::getFont).deriveFont(style, (float) size));
+    }
+
+    /**
+     * Get the font used for all texts at a size.
+     *
+     * @param size The size of the font, or 0 for the default size.
+     * @return The font.
+     */
+    /* package */ Font getFont(final int size) {
+        return this.getFont(FontRegistry.DEFAULT_NAME, FontRegistry.DEFAULT_STYLE,
+                size == 0 ? FontRegistry.DEFAULT_SIZE : size);
+    }
+
+    /**
+     * The name, style and size of a font.
+     */
+    private static final class FontKey {
+
+        /**
+         * A prime used to combine the hash codes of the fields.
+         */
+        private static final int HASH_PRIME = 31;
+
+        /**
+         * The name of the font file.
+         */
+        private final String name;
+        /**
+         * The style of the font.
+         */
+        private final int style;
+        /**
+         * The size of the font.
+         */
+        private final int size;
+
+        /**
+         * Creates a new FontKey.
+         *
+         * @param n  The name of the font file.
+         * @param st The style of the font.
+         * @param sz The size of the font.
+         */
+        private FontKey(final String n, final int st, final int sz) {
+            this.name = n;
+            this.style = st;
+            this.size = sz;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof FontKey)) {
+                return false;
+            }
+            final FontKey key = (FontKey) other;
+            return this.name.equals(key.name) && this.style == key.style && this.size == key.size;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.name.hashCode();
+            hash = FontKey.HASH_PRIME * hash + this.style;
+            return FontKey.HASH_PRIME * hash + this.size;
+        }
+
+    }
+
+}
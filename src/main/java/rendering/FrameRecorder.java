@@ -0,0 +1,256 @@
+package rendering;
+
+import constants.IConstants;
+import logging.ILogger;
+import system.IServiceLocator;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the presented frames and encodes them on a background thread.
+ * <br>
+ * The frames are drawn into a small ring of reused images. When a frame is presented, it is replayed into a free
+ * image which is handed to the encoder thread, and the encoder returns the image to the ring when it has been
+ * written. When the encoder falls behind and no image is free, the frame is dropped instead of waiting for the
+ * encoder, so recording never stalls the game loop.
+ */
+public final class FrameRecorder {
+
+    /**
+     * The amount of images in the ring.
+     */
+    /* package */ static final int RING_SIZE = 4;
+    /**
+     * The amount of milliseconds the encoder waits for a frame before it checks whether it must stop.
+     */
+    private static final long POLL_TIME = 100L;
+
+    /**
+     * The logger for the FrameRecorder class.
+     */
+    private final ILogger logger;
+    /**
+     * Writes the recorded frames.
+     */
+    private final IFrameEncoder encoder;
+    /**
+     * The images that can be drawn into.
+     */
+    private final BlockingQueue<Frame> free = new ArrayBlockingQueue<>(FrameRecorder.RING_SIZE);
+    /**
+     * The images that wait to be encoded, in the order in which they were recorded.
+     */
+    private final BlockingQueue<Frame> pending = new ArrayBlockingQueue<>(FrameRecorder.RING_SIZE);
+    /**
+     * The thread that encodes the frames.
+     */
+    private final Thread thread;
+    /**
+     * The amount of frames that have been recorded.
+     */
+    private final AtomicLong captured = new AtomicLong(0);
+    /**
+     * The amount of frames that have been dropped because the encoder fell behind.
+     */
+    private final AtomicLong dropped = new AtomicLong(0);
+    /**
+     * The amount of frames that have been encoded.
+     */
+    private final AtomicLong encoded = new AtomicLong(0);
+    /**
+     * The size of the game, from which the frames are scaled to the resolution of the recording.
+     */
+    private final double gameWidth, gameHeight;
+    /**
+     * Whether the recording has stopped.
+     */
+    private volatile boolean stopped = false;
+
+    /**
+     * Create a recorder, the encoder thread is started by {@link #start()}.
+     *
+     * @param sL  The service locator.
+     * @param enc The encoder that writes the frames.
+     * @param w   The width of the recorded frames.
+     * @param h   The height of the recorded frames.
+     */
+    public FrameRecorder(final IServiceLocator sL, final IFrameEncoder enc, final int w, final int h) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        if (enc == null) {
+            throw new IllegalArgumentException("The encoder cannot be null");
+        }
+        if (w <= 0 || h <= 0) {
+            throw new IllegalArgumentException("The resolution of the recorded frames must be positive");
+        }
+        this.logger = sL.getLoggerFactory().createLogger(FrameRecorder.class);
+        this.encoder = enc;
+
+        final IConstants constants = sL.getConstants();
+        this.gameWidth = constants.getGameWidth();
+        this.gameHeight = constants.getGameHeight();
+        for (int i = 0; i < FrameRecorder.RING_SIZE; i++) {
+            this.free.add(new Frame(w, h));
+        }
+
+        this.thread = new Thread(this::encodeFrames, "frame-encoder");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the encoder thread.
+     */
+    public void start() {
+        this.thread.start();
+        this.logger.info("Recording frames");
+    }
+
+    /**
+     * Replays the latest published frame into a free image and hands it to the encoder, or drops the frame when no
+     * image is free. Must be called from the thread that presents the frames.
+     *
+     * @param renderer The renderer that presented the frame.
+     */
+    public void capture(final IRenderer renderer) {
+        if (this.stopped) {
+            return;
+        }
+
+        final Frame frame = this.free.poll();
+        if (frame == null) {
+            this.dropped.incrementAndGet();
+            return;
+        }
+
+        // The frames are replayed at the render scale of the renderer, which can change while recording
+        final double renderScale = renderer.getRenderScale();
+        frame.graphics.setTransform(AffineTransform.getScaleInstance(
+                frame.image.getWidth() / (this.gameWidth * renderScale),
+                frame.image.getHeight() / (this.gameHeight * renderScale)));
+        Arrays.fill(frame.pixels, 0);
+        renderer.setGraphicsBuffer(frame.graphics);
+        renderer.flush();
+        this.pending.add(frame);
+        this.captured.incrementAndGet();
+    }
+
+    /**
+     * Encodes the pending frames until the recording stops.
+     */
+    private void encodeFrames() {
+        try {
+            while (!this.stopped || !this.pending.isEmpty()) {
+                final Frame frame = this.pending.poll(FrameRecorder.POLL_TIME, TimeUnit.MILLISECONDS);
+                if (frame != null) {
+                    this.encoder.encode(frame.image);
+                    this.encoded.incrementAndGet();
+                    this.free.add(frame);
+                }
+            }
+        } catch (IOException e) {
+            this.stopped = true;
+            this.logger.error("The recorded frames could not be encoded");
+            this.logger.error(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops recording, waits until the pending frames have been encoded and closes the encoder.
+     */
+    public void stop() {
+        this.stopped = true;
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            this.encoder.close();
+        } catch (IOException e) {
+            this.logger.error(e);
+        }
+        this.logger.info("Recorded " + this.captured.get() + " frames, " + this.dropped.get() + " dropped");
+    }
+
+    /**
+     * Get the amount of frames that have been recorded.
+     *
+     * @return The amount of frames that have been handed to the encoder.
+     */
+    public long getCaptured() {
+        return this.captured.get();
+    }
+
+    /**
+     * Get the amount of frames that have been dropped.
+     *
+     * @return The amount of frames that were not recorded because the encoder fell behind.
+     */
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Get the amount of frames that have been encoded.
+     *
+     * @return The amount of frames that have been written by the encoder.
+     */
+    public long getEncoded() {
+        return this.encoded.get();
+    }
+
+    /**
+     * Get the depth of the encode queue.
+     *
+     * @return The amount of frames that wait to be encoded.
+     */
+    public int getQueueDepth() {
+        return this.pending.size();
+    }
+
+    /**
+     * An image of the ring.
+     */
+    private static final class Frame {
+
+        /**
+         * The image the frame is drawn into.
+         */
+        private final BufferedImage image;
+        /**
+         * The graphics of the image, scaled from the size of the replayed frames to the resolution of the image.
+         */
+        private final Graphics2D graphics;
+        /**
+         * The pixels of the image.
+         */
+        private final int[] pixels;
+
+        /**
+         * Create an image for the ring.
+         *
+         * @param w The width of the image.
+         * @param h The height of the image.
+         */
+        private Frame(final int w, final int h) {
+            this.image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+            this.graphics = this.image.createGraphics();
+        }
+
+    }
+
+}
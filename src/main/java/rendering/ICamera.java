@@ -14,6 +14,18 @@ public interface ICamera extends IUpdatable {
      */
     double getYPos();
 
+    /**
+     * Get the Y position of the camera interpolated between the two most recent simulation ticks.
+     * The game objects are interpolated between their two most recent positions as well, so a camera
+     * that follows an object keeps it in place.
+     *
+     * @param alpha How far the renderer is between the previous tick (0) and the latest tick (1).
+     * @return The interpolated Y position.
+     */
+    default double getYPos(final double alpha) {
+        return this.getYPos();
+    }
+
     /**
      * Sets the y-position of the camera to the value specified.
      *
@@ -22,6 +22,16 @@ public interface ICameraFactory {
      */
     ICamera createDoodleCamera(final IDoodle doodle);
 
+    /**
+     * Creates a new Doodle camera that shows a part of the height of the game, such as the view of one player in
+     * split-screen.
+     *
+     * @param doodle The Doodle that should be used as reference point.
+     * @param height The height of the part of the world the camera shows.
+     * @return A new ICamera.
+     */
+    ICamera createDoodleCamera(final IDoodle doodle, final int height);
+
     /**
      * Creates a arcade camera.
      *
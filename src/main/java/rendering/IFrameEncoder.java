@@ -0,0 +1,20 @@
+package rendering;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes recorded frames to a file, see {@link FrameRecorder}.
+ */
+public interface IFrameEncoder extends Closeable {
+
+    /**
+     * Encodes a frame and writes it after the previous frame.
+     *
+     * @param frame The frame, which may be reused after this method returns.
+     * @throws IOException When the frame cannot be written.
+     */
+    void encode(final BufferedImage frame) throws IOException;
+
+}
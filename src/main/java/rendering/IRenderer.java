@@ -1,5 +1,6 @@
 package rendering;
 
+import objects.IGameObject;
 import resources.sprites.ISprite;
 
 import java.awt.Point;
@@ -53,6 +54,16 @@ public interface IRenderer {
      */
     void drawSprite(final ISprite image, final Point point, final int width, final int height, final double theta);
 
+    /**
+     * Set how many pre-rotated frames are used for a sprite that is drawn rotated. The sprite is then drawn as the
+     * frame closest to its angle, which is as fast as drawing a sprite that is not rotated. By default sprites are
+     * rotated exactly when they are drawn.
+     *
+     * @param sprite The sprite, identified by its name.
+     * @param frames The amount of frames in a full turn, or 0 to rotate the sprite exactly.
+     */
+    void setRotationFrames(final ISprite sprite, final int frames);
+
     /**
      * Draw a rectangle relative to the camera.
      *
@@ -181,6 +192,179 @@ public interface IRenderer {
      */
     void fillRectangle(final Point point, final int width, final int height, final Color color);
 
+    /**
+     * Draw a filled rectangle relative to the screen.
+     *
+     * @param point  the position of the rectangle
+     * @param width  the width of the rectangle
+     * @param height the height of the rectangle
+     * @param color  the color of the rectangle
+     */
+    void fillRectangleHUD(final Point point, final int width, final int height, final Color color);
+
+    /**
+     * Draw a light that cuts through the darkness of the next {@link #drawLightMap() light map}.
+     *
+     * @param point  the position of the center of the light.
+     * @param radius the radius of the light, must be positive.
+     */
+    void drawLight(final Point point, final int radius);
+
+    /**
+     * Darken everything drawn so far, except where the lights drawn since the previous light map shine. The darkness
+     * is drawn at a lower resolution than the screen, see {@link #setLightResolution(int)}.
+     */
+    void drawLightMap();
+
+    /**
+     * Set the resolution at which the darkness is drawn. A lower resolution is faster, but makes the edges of the
+     * lights less sharp.
+     *
+     * @param divisor the amount of times the darkness is smaller than the screen in each direction, at least 1.
+     */
+    void setLightResolution(final int divisor);
+
+    /**
+     * Set the scale at which the frames are drawn, relative to the size of the game. Everything is still drawn in
+     * the coordinates of the game, but the frames are drawn at the scaled resolution and the sprites are drawn from
+     * copies that are scaled once, so a frame can be shown on a smaller screen without scaling it. Must be set before
+     * the first frame is drawn.
+     *
+     * @param scale the scale, larger than 0 and at most 1.
+     */
+    void setRenderScale(final double scale);
+
+    /**
+     * Get the scale at which the frames are drawn, relative to the size of the game.
+     *
+     * @return the scale, 1 when the frames are drawn at the size of the game.
+     */
+    double getRenderScale();
+
+    /**
+     * Prepare a sprite to be drawn at its own size, so the first frame that draws it does not have to scale it to
+     * the {@link #setRenderScale(double) render scale}.
+     *
+     * @param sprite the sprite that will be drawn.
+     */
+    void prepareSprite(final ISprite sprite);
+
+    /**
+     * Set the quality at which the frames are drawn from the next frame on: the rendering hints and the resolution
+     * of the darkness. The render scale of the tier is applied by the {@link QualityGovernor}.
+     *
+     * @param tier the quality tier.
+     */
+    void setQuality(final QualityTier tier);
+
+    /**
+     * Start a layer of separate objects, such as the platforms of the World. Everything drawn in a layer is drawn
+     * on top of everything drawn before it, but within the layer the draws are grouped by sprite instead of being
+     * drawn in order. The draws of one object do keep their order, as long as {@link #nextObject()} is called
+     * after every object.
+     */
+    void startLayer();
+
+    /**
+     * Mark the end of the draws of an object in the current layer.
+     */
+    void nextObject();
+
+    /**
+     * End the current layer, everything drawn from now on is drawn in order again.
+     */
+    void endLayer();
+
+    /**
+     * Start drawing into a rectangle of the screen with its own camera and scale, such as the view of one player in
+     * split-screen. Until {@link #endViewport()}, everything is drawn scaled and clipped to the rectangle, draws
+     * relative to the camera use the camera of the viewport, draws relative to the screen are relative to the corner
+     * of the viewport, and {@link #getCamera()} returns the camera of the viewport. Must not be called inside a layer
+     * or another viewport.
+     *
+     * @param camera the camera of the viewport.
+     * @param point  the position of the viewport on the screen.
+     * @param width  the width of the viewport on the screen.
+     * @param height the height of the viewport on the screen.
+     * @param scale  the scale from the game to the viewport, larger than 0.
+     */
+    void startViewport(final ICamera camera, final Point point, final int width, final int height,
+                       final double scale);
+
+    /**
+     * Stop drawing into the current viewport, everything drawn from now on is drawn on the whole screen again.
+     */
+    void endViewport();
+
+    /**
+     * Add a sprite that never moves to the static sprites, which are drawn by {@link #drawStaticSprites()}. By default
+     * they are still drawn one by one every frame, so they take as many draws as any other sprite; only
+     * {@link #setStaticSpriteTiles(boolean) tiles} draw them in fewer calls.
+     *
+     * @param sprite the sprite.
+     * @param point  the position of the sprite in the world.
+     */
+    void addStaticSprite(final ISprite sprite, final Point point);
+
+    /**
+     * Draw the static sprites that are visible with the current camera, relative to the camera.
+     */
+    void drawStaticSprites();
+
+    /**
+     * Set whether the static sprites are drawn from tiles or one by one. The tiles take a few draws instead of one
+     * for every sprite, but every pixel of a tile is blended even where it is transparent. With the software loops
+     * of Java2D the tiles are slower, a frame of the single player world took about twice as long, so the static
+     * sprites are drawn one by one by default and the tiles only reduce the draws when they are turned on.
+     *
+     * @param tiles whether the static sprites are drawn from tiles.
+     */
+    void setStaticSpriteTiles(final boolean tiles);
+
+    /**
+     * Remove the static sprites that are completely below a height, because no camera will show them anymore.
+     *
+     * @param y the height in the world.
+     */
+    void discardStaticSprites(final double y);
+
+    /**
+     * Remove all static sprites.
+     */
+    void clearStaticSprites();
+
+    /**
+     * Draw everything that has been drawn since the previous publish into an image and remove it from the frame, so
+     * the image can be drawn instead by {@link #drawFrozenFrame()} while the scene is covered, for example by the
+     * pause screen. The image is dimmed and blurred once, and kept until {@link #unfreezeFrame()}.
+     *
+     * @param dim  how much the image is darkened, from 0 (not at all) to 1 (black).
+     * @param blur the radius of the blur in the coordinates of the game, or 0 to not blur the image.
+     */
+    void freezeFrame(final double dim, final int blur);
+
+    /**
+     * Draw the frozen frame on the whole screen.
+     */
+    void drawFrozenFrame();
+
+    /**
+     * Discard the frozen frame.
+     */
+    void unfreezeFrame();
+
+    /**
+     * Hand everything that has been drawn since the previous publish over to {@link #flush()} as a complete frame.
+     * Called by the game thread when it has finished drawing a frame, while another thread can be flushing.
+     */
+    void publish();
+
+    /**
+     * Draw the latest published frame to the graphics buffer. When no new frame has been published since the
+     * previous flush, the previous frame is drawn again. Called by the thread that presents the frames.
+     */
+    void flush();
+
     /**
      * Create a graphics buffer for smooth animations and rendering.
      *
@@ -189,7 +373,45 @@ public interface IRenderer {
     void setGraphicsBuffer(final Graphics graphics);
 
     /**
-     * Get the camera used by the Renderer.
+     * Set how far the next frame is between the previous and the latest simulation tick.
+     *
+     * @param alpha A value between 0 (inclusive) and 1 (exclusive)
+     */
+    void setInterpolation(final double alpha);
+
+    /**
+     * Set the time at which the latest simulation tick was due. The frame that is published next carries it, so it
+     * is interpolated by the time that has passed since that tick when it is flushed, instead of by
+     * {@link #setInterpolation(double)}. This keeps the interpolation right when the frames are flushed by another
+     * thread than the one that records them.
+     *
+     * @param time The time in nanoseconds of {@link System#nanoTime()}.
+     */
+    void setTickTime(final long time);
+
+    /**
+     * Set how far the draws that follow, which are positioned relative to the camera, have moved during the latest
+     * tick. They are drawn between their previous and their latest position, interpolated like the camera. A motion
+     * of more than half the width of the game, like an object wrapping around the sides, is not interpolated.
+     *
+     * @param x The horizontal motion in the coordinates of the game.
+     * @param y The vertical motion in the coordinates of the game.
+     */
+    void setMotion(final double x, final double y);
+
+    /**
+     * Set the motion of a game object during the latest tick as the motion of the draws that follow.
+     *
+     * @param gameObject The game object that is drawn next.
+     * @see #setMotion(double, double)
+     */
+    default void setMotion(final IGameObject gameObject) {
+        this.setMotion(gameObject.getXPos() - gameObject.getPreviousXPos(),
+                gameObject.getYPos() - gameObject.getPreviousYPos());
+    }
+
+    /**
+     * Get the camera used by the Renderer, which is the camera of the viewport while one is being drawn.
      *
      * @return The camera the Renderer is using
      */
@@ -0,0 +1,366 @@
+package rendering;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RadialGradientPaint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A low resolution image of the darkness over the frame, in which the lights are cut out.
+ * <br>
+ * The map is filled with darkness and every light erases a radial gradient from it. Drawing the map over the frame
+ * then darkens every pixel by how little light reaches it, which is the same as multiplying the frame with the light.
+ * Overlapping lights add up. The gradients are drawn once per radius. The map is only used by the thread that replays
+ * the frames.
+ * <br>
+ * Scaling a translucent image with bilinear interpolation is slow when Java2D has to do it in software, so the map
+ * scales itself up to an overlay at the resolution at which the game is presented, and only where the lights reach.
+ * The rest of the screen is completely dark and is simply filled with black.
+ */
+/* package */ final class LightMap {
+
+    /**
+     * The amount of times the map is smaller than the screen in each direction, when no other resolution is set.
+     */
+    /* package */ static final int DEFAULT_DIVISOR = 4;
+    /**
+     * The amount of times the overlay is smaller than the screen in each direction when no other is given, which is
+     * the scale at which a full resolution frame is presented, so the overlay is drawn without scaling it.
+     */
+    /* package */ static final int DEFAULT_OVERLAY_DIVISOR = 2;
+    /**
+     * The amount of bits after the point of the fixed point positions in the map.
+     */
+    private static final int FRACTION_BITS = 16;
+    /**
+     * The fraction bits of a fixed point position.
+     */
+    private static final int FRACTION_MASK = (1 << FRACTION_BITS) - 1;
+    /**
+     * The amount of bits the alpha of a pixel is shifted.
+     */
+    private static final int ALPHA_SHIFT = 24;
+    /**
+     * The positions in the gradients at which the strength of the light is given.
+     */
+    private static final float[] FRACTIONS = {0f, 0.4f, 1f};
+    /**
+     * The strength of the light at each position in the gradients.
+     */
+    private static final Color[] STRENGTHS = {
+            new Color(0, 0, 0, 255),
+            new Color(0, 0, 0, 200),
+            new Color(0, 0, 0, 0)
+    };
+
+    /**
+     * The width of the screen.
+     */
+    private final int width;
+    /**
+     * The height of the screen.
+     */
+    private final int height;
+    /**
+     * The amount of times the overlay is smaller than the screen in each direction.
+     */
+    private final int overlayDivisor;
+    /**
+     * The darkness scaled up from the map, only up to date where the lights of the current map reach.
+     */
+    private final BufferedImage overlay;
+    /**
+     * The pixels of the overlay.
+     */
+    private final int[] overlayPixels;
+    /**
+     * The gradients of the lights, per radius in pixels of the map.
+     */
+    private final Map<Integer, BufferedImage> gradients = new HashMap<>();
+    /**
+     * The parts of the overlay that are reached by the lights of the current map, one per light.
+     */
+    private final List<Rectangle> lights = new ArrayList<>();
+    /**
+     * The part of the screen that is reached by the lights of the current map.
+     */
+    private final Area lit = new Area();
+    /**
+     * The amount of times the map is smaller than the screen, may be changed by any thread.
+     */
+    private volatile int divisor = LightMap.DEFAULT_DIVISOR;
+    /**
+     * The amount of times the current image is smaller than the screen.
+     */
+    private int imageDivisor;
+    /**
+     * The image of the map.
+     */
+    private BufferedImage image;
+    /**
+     * The pixels of the map.
+     */
+    private int[] pixels;
+    /**
+     * The graphics of the map.
+     */
+    private Graphics2D graphics;
+    /**
+     * For every column of the screen, the left column of the map it is interpolated from.
+     */
+    private int[] leftColumns;
+    /**
+     * For every column of the screen, the right column of the map it is interpolated from.
+     */
+    private int[] rightColumns;
+    /**
+     * For every column of the screen, the weight of the right column of the map, as a fixed point fraction.
+     */
+    private int[] columnWeights;
+    /**
+     * The darkness of one row of the screen at the columns of the map.
+     */
+    private int[] column;
+    /**
+     * Whether the map has been filled with darkness since it was last drawn.
+     */
+    private boolean started = false;
+
+    /**
+     * Create a light map.
+     *
+     * @param w The width of the screen.
+     * @param h The height of the screen.
+     */
+    /* package */ LightMap(final int w, final int h) {
+        this(w, h, LightMap.DEFAULT_OVERLAY_DIVISOR);
+    }
+
+    /**
+     * Create a light map with an overlay of a given resolution.
+     *
+     * @param w  The width of the screen.
+     * @param h  The height of the screen.
+     * @param od The amount of times the overlay is smaller than the screen in each direction, at least 1.
+     */
+    /* package */ LightMap(final int w, final int h, final int od) {
+        this.width = w;
+        this.height = h;
+        this.overlayDivisor = od;
+        this.overlay = new BufferedImage(Math.max(1, (w + od - 1) / od), Math.max(1, (h + od - 1) / od),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        this.overlayPixels = ((DataBufferInt) this.overlay.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Set the resolution of the map, which is used from the next frame on.
+     *
+     * @param d The amount of times the map is smaller than the screen in each direction, at least 1.
+     */
+    /* package */ void setDivisor(final int d) {
+        this.divisor = d;
+    }
+
+    /**
+     * Get the resolution of the map.
+     *
+     * @return The amount of times the map is smaller than the screen in each direction.
+     */
+    /* package */ int getDivisor() {
+        return this.divisor;
+    }
+
+    /**
+     * Cuts a light out of the darkness.
+     *
+     * @param x      The X position of the center on the screen.
+     * @param y      The Y position of the center on the screen.
+     * @param radius The radius of the light on the screen.
+     */
+    /* package */ void light(final int x, final int y, final int radius) {
+        this.start();
+        final int mapRadius = Math.max(1, radius / this.imageDivisor);
+        final BufferedImage gradient = this.gradients.computeIfAbsent(mapRadius, LightMap::createGradient);
+        this.graphics.drawImage(gradient, x / this.imageDivisor - mapRadius, y / this.imageDivisor - mapRadius, null);
+
+        final Rectangle reach = new Rectangle(x - radius, y - radius, 2 * radius, 2 * radius)
+                .intersection(new Rectangle(0, 0, this.width, this.height));
+        if (!reach.isEmpty()) {
+            this.lit.add(new Area(reach));
+            final int d = this.overlayDivisor;
+            final int left = reach.x / d, top = reach.y / d;
+            this.lights.add(new Rectangle(left, top, (reach.x + reach.width + d - 1) / d - left,
+                    (reach.y + reach.height + d - 1) / d - top));
+        }
+    }
+
+    /**
+     * Draws the darkness over the screen, the next light starts a new map.
+     *
+     * @param target The graphics of the screen.
+     */
+    /* package */ void draw(final Graphics2D target) {
+        this.start();
+        final Color color = target.getColor();
+        final Area dark = new Area(new Rectangle(0, 0, this.width, this.height));
+        dark.subtract(this.lit);
+        target.setColor(Color.BLACK);
+        target.fill(dark);
+        target.setColor(color);
+
+        if (!this.lights.isEmpty()) {
+            for (Rectangle reach : this.lights) {
+                this.scale(reach);
+            }
+            final Shape clip = target.getClip();
+            final Object interpolation = target.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+            target.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            target.clip(this.lit);
+            target.drawImage(this.overlay, 0, 0, this.overlay.getWidth() * this.overlayDivisor,
+                    this.overlay.getHeight() * this.overlayDivisor, null);
+            target.setClip(clip);
+            if (interpolation != null) {
+                target.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            }
+        }
+        this.started = false;
+    }
+
+    /**
+     * Discards the map, so the next light starts a new map.
+     */
+    /* package */ void reset() {
+        this.started = false;
+    }
+
+    /**
+     * Fills the map with darkness if that has not been done since the map was last drawn.
+     */
+    private void start() {
+        if (this.started) {
+            return;
+        }
+
+        final int d = this.divisor;
+        if (this.image == null || d != this.imageDivisor) {
+            this.resize(d);
+        }
+
+        this.graphics.setComposite(AlphaComposite.Src);
+        this.graphics.setColor(Color.BLACK);
+        this.graphics.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+        this.graphics.setComposite(AlphaComposite.DstOut);
+        this.lights.clear();
+        this.lit.reset();
+        this.started = true;
+    }
+
+    /**
+     * Creates the image of the map for a resolution.
+     *
+     * @param d The amount of times the map is smaller than the screen in each direction.
+     */
+    private void resize(final int d) {
+        if (this.graphics != null) {
+            this.graphics.dispose();
+        }
+        this.imageDivisor = d;
+        this.image = new BufferedImage(Math.max(1, (this.width + d - 1) / d), Math.max(1, (this.height + d - 1) / d),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+        this.graphics = this.image.createGraphics();
+
+        final int lastColumn = this.image.getWidth() - 1;
+        final int overlayWidth = this.overlay.getWidth();
+        this.leftColumns = new int[overlayWidth];
+        this.rightColumns = new int[overlayWidth];
+        this.columnWeights = new int[overlayWidth];
+        this.column = new int[this.image.getWidth()];
+        for (int x = 0; x < overlayWidth; x++) {
+            final int position = this.toMap(x);
+            final int column = position >> LightMap.FRACTION_BITS;
+            this.leftColumns[x] = Math.max(0, Math.min(lastColumn, column));
+            this.rightColumns[x] = Math.max(0, Math.min(lastColumn, column + 1));
+            this.columnWeights[x] = position & LightMap.FRACTION_MASK;
+        }
+    }
+
+    /**
+     * Get the position in the map of the center of a pixel of the overlay, in the same direction.
+     *
+     * @param position The position in the overlay.
+     * @return The position in the map, as a fixed point number.
+     */
+    private int toMap(final int position) {
+        return (int) ((((2L * position + 1L) * this.overlayDivisor << LightMap.FRACTION_BITS)
+                / (2L * this.imageDivisor)) - (1L << (LightMap.FRACTION_BITS - 1)));
+    }
+
+    /**
+     * Scales a part of the map up to the overlay, with bilinear interpolation. For every row of the overlay the map
+     * is first interpolated between two of its rows, so every pixel only has to be interpolated between two columns.
+     *
+     * @param reach The part of the overlay.
+     */
+    private void scale(final Rectangle reach) {
+        final int[] map = this.pixels, out = this.overlayPixels, column = this.column;
+        final int[] lefts = this.leftColumns, rights = this.rightColumns, weights = this.columnWeights;
+        final int mapWidth = this.image.getWidth();
+        final int lastRow = this.image.getHeight() - 1;
+        final int first = lefts[reach.x], last = rights[reach.x + reach.width - 1];
+        final int shift = LightMap.ALPHA_SHIFT, bits = LightMap.FRACTION_BITS;
+        for (int y = reach.y; y < reach.y + reach.height; y++) {
+            final int position = this.toMap(y);
+            final int row = position >> bits;
+            final int rowWeight = position & LightMap.FRACTION_MASK;
+            final int top = Math.max(0, Math.min(lastRow, row)) * mapWidth;
+            final int bottom = Math.max(0, Math.min(lastRow, row + 1)) * mapWidth;
+            for (int x = first; x <= last; x++) {
+                final int upper = map[top + x] >>> shift;
+                column[x] = upper + (((map[bottom + x] >>> shift) - upper) * rowWeight >> bits);
+            }
+
+            int index = y * this.overlay.getWidth() + reach.x;
+            for (int x = reach.x; x < reach.x + reach.width; x++, index++) {
+                final int left = column[lefts[x]];
+                out[index] = (left + ((column[rights[x]] - left) * weights[x] >> bits)) << shift;
+            }
+        }
+    }
+
+    /**
+     * Draws the gradient of a light, which is opaque where the light is strongest.
+     *
+     * @param radius The radius in pixels of the map.
+     * @return An image of twice the radius.
+     */
+    private static BufferedImage createGradient(final int radius) {
+        final BufferedImage gradient = new BufferedImage(2 * radius, 2 * radius, BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D g = gradient.createGraphics();
+        g.setPaint(new RadialGradientPaint(radius, radius, radius, LightMap.FRACTIONS, LightMap.STRENGTHS));
+        g.fillRect(0, 0, 2 * radius, 2 * radius);
+        g.dispose();
+        return gradient;
+    }
+
+    /**
+     * Get the amount of gradients that have been drawn.
+     *
+     * @return The amount of different radii of the lights.
+     */
+    /* package */ int getGradientCount() {
+        return this.gradients.size();
+    }
+
+}
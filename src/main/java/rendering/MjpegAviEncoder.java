@@ -0,0 +1,326 @@
+package rendering;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Writes the frames as JPEG images into a single Motion JPEG video in an AVI container.
+ * <br>
+ * The headers are written when the encoder is created and every frame is appended as soon as it is encoded, so the
+ * frames never have to be kept in memory. The sizes and the amount of frames in the headers are only known when the
+ * encoder is closed, then the index is appended and the headers are patched. The frames must not have an alpha
+ * channel, like the {@link BufferedImage#TYPE_INT_RGB} frames of the {@link FrameRecorder}.
+ */
+public final class MjpegAviEncoder implements IFrameEncoder {
+
+    /**
+     * The quality of the JPEG images, between 0 and 1.
+     */
+    private static final float QUALITY = 0.85f;
+    /**
+     * The amount of microseconds in a second.
+     */
+    private static final int MICROSECONDS = 1000000;
+    /**
+     * The size of the headers in front of the first frame.
+     */
+    private static final int HEADER_SIZE = 224;
+    /**
+     * The position of the size of the RIFF file.
+     */
+    private static final int RIFF_SIZE_POSITION = 4;
+    /**
+     * The position of the total amount of frames in the main header.
+     */
+    private static final int TOTAL_FRAMES_POSITION = 48;
+    /**
+     * The position of the suggested buffer size in the main header.
+     */
+    private static final int MAIN_BUFFER_SIZE_POSITION = 60;
+    /**
+     * The position of the amount of frames in the stream header.
+     */
+    private static final int LENGTH_POSITION = 140;
+    /**
+     * The position of the suggested buffer size in the stream header.
+     */
+    private static final int STREAM_BUFFER_SIZE_POSITION = 144;
+    /**
+     * The position of the size of the list that holds the frames.
+     */
+    private static final int MOVI_SIZE_POSITION = 216;
+    /**
+     * The position of the list type of the list that holds the frames, the offsets in the index are relative to it.
+     */
+    private static final int MOVI_POSITION = 220;
+    /**
+     * The size of a chunk header and of the size of an index entry.
+     */
+    private static final int CHUNK_HEADER_SIZE = 8, INDEX_ENTRY_SIZE = 16;
+    /**
+     * The flag in the main header that tells the file has an index, and the flag in the index of a key frame.
+     */
+    private static final int AVIF_HASINDEX = 0x10, AVIIF_KEYFRAME = 0x10;
+
+    /**
+     * The file the video is written to.
+     */
+    private final RandomAccessFile file;
+    /**
+     * Writes the JPEG images.
+     */
+    private final ImageWriter writer;
+    /**
+     * The parameters of the JPEG images.
+     */
+    private final ImageWriteParam param;
+    /**
+     * The JPEG image of the current frame.
+     */
+    private final Bytes jpeg = new Bytes();
+    /**
+     * The index of the frames, which is written when the encoder is closed.
+     */
+    private final Bytes index = new Bytes();
+    /**
+     * A buffer for the headers of the chunks and the entries of the index.
+     */
+    private final ByteBuffer header = ByteBuffer.allocate(MjpegAviEncoder.INDEX_ENTRY_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    /**
+     * The amount of frames that have been written.
+     */
+    private int frames = 0;
+    /**
+     * The size of the largest frame.
+     */
+    private int maxFrameSize = 0;
+
+    /**
+     * Create an encoder that writes a video to a file, an existing file is overwritten.
+     *
+     * @param output The file the video is written to.
+     * @param w      The width of the frames.
+     * @param h      The height of the frames.
+     * @param fps    The amount of frames per second at which the video is played.
+     * @throws IOException When the file cannot be written or no JPEG writer is available.
+     */
+    public MjpegAviEncoder(final File output, final int w, final int h, final int fps) throws IOException {
+        if (output == null) {
+            throw new IllegalArgumentException("The file cannot be null");
+        }
+        if (w <= 0 || h <= 0 || fps <= 0) {
+            throw new IllegalArgumentException("The resolution and frame rate must be positive");
+        }
+
+        final Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer is available");
+        }
+        this.writer = writers.next();
+        this.param = this.writer.getDefaultWriteParam();
+        this.param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        this.param.setCompressionQuality(MjpegAviEncoder.QUALITY);
+
+        this.file = new RandomAccessFile(output, "rw");
+        this.file.setLength(0);
+        this.file.write(MjpegAviEncoder.createHeaders(w, h, fps));
+    }
+
+    /**
+     * Creates the headers of the video, the sizes and amounts of frames are patched when the encoder is closed.
+     *
+     * @param w   The width of the frames.
+     * @param h   The height of the frames.
+     * @param fps The amount of frames per second.
+     * @return The headers in front of the first frame.
+     */
+    private static byte[] createHeaders(final int w, final int h, final int fps) {
+        final ByteBuffer buffer = ByteBuffer.allocate(MjpegAviEncoder.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        putFourCC(buffer, "RIFF");
+        buffer.putInt(0);
+        putFourCC(buffer, "AVI ");
+
+        // The main header
+        putFourCC(buffer, "LIST");
+        buffer.putInt(192);
+        putFourCC(buffer, "hdrl");
+        putFourCC(buffer, "avih");
+        buffer.putInt(56);
+        buffer.putInt(MjpegAviEncoder.MICROSECONDS / fps);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(MjpegAviEncoder.AVIF_HASINDEX);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(1);
+        buffer.putInt(0);
+        buffer.putInt(w);
+        buffer.putInt(h);
+        buffer.put(new byte[16]);
+
+        // The header of the video stream
+        putFourCC(buffer, "LIST");
+        buffer.putInt(116);
+        putFourCC(buffer, "strl");
+        putFourCC(buffer, "strh");
+        buffer.putInt(56);
+        putFourCC(buffer, "vids");
+        putFourCC(buffer, "MJPG");
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(1);
+        buffer.putInt(fps);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(-1);
+        buffer.putInt(0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) w);
+        buffer.putShort((short) h);
+
+        // The format of the frames
+        putFourCC(buffer, "strf");
+        buffer.putInt(40);
+        buffer.putInt(40);
+        buffer.putInt(w);
+        buffer.putInt(h);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 24);
+        putFourCC(buffer, "MJPG");
+        buffer.putInt(w * h * 3);
+        buffer.put(new byte[16]);
+
+        // The list that holds the frames
+        putFourCC(buffer, "LIST");
+        buffer.putInt(0);
+        putFourCC(buffer, "movi");
+        return buffer.array();
+    }
+
+    /**
+     * Writes a four character code.
+     *
+     * @param buffer The buffer to write to.
+     * @param code   The code, four ASCII characters.
+     */
+    private static void putFourCC(final ByteBuffer buffer, final String code) {
+        buffer.put(code.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(final BufferedImage frame) throws IOException {
+        this.jpeg.reset();
+        try (ImageOutputStream out = new MemoryCacheImageOutputStream(this.jpeg)) {
+            this.writer.setOutput(out);
+            this.writer.write(null, new IIOImage(frame, null, null), this.param);
+        }
+        final int size = this.jpeg.size();
+        final long position = this.file.getFilePointer();
+
+        this.header.clear();
+        putFourCC(this.header, "00dc");
+        this.header.putInt(size);
+        this.file.write(this.header.array(), 0, MjpegAviEncoder.CHUNK_HEADER_SIZE);
+        this.jpeg.writeTo(this.file);
+        if (size % 2 != 0) {
+            this.file.write(0);
+        }
+
+        this.header.clear();
+        putFourCC(this.header, "00dc");
+        this.header.putInt(MjpegAviEncoder.AVIIF_KEYFRAME);
+        this.header.putInt((int) (position - MjpegAviEncoder.MOVI_POSITION));
+        this.header.putInt(size);
+        this.index.write(this.header.array(), 0, MjpegAviEncoder.INDEX_ENTRY_SIZE);
+
+        this.frames++;
+        this.maxFrameSize = Math.max(this.maxFrameSize, size);
+    }
+
+    /**
+     * Appends the index, patches the headers and closes the file.
+     *
+     * @throws IOException When the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            final long moviEnd = this.file.getFilePointer();
+            this.header.clear();
+            putFourCC(this.header, "idx1");
+            this.header.putInt(this.index.size());
+            this.file.write(this.header.array(), 0, MjpegAviEncoder.CHUNK_HEADER_SIZE);
+            this.index.writeTo(this.file);
+            final long length = this.file.getFilePointer();
+
+            this.patch(MjpegAviEncoder.RIFF_SIZE_POSITION, (int) (length - MjpegAviEncoder.CHUNK_HEADER_SIZE));
+            this.patch(MjpegAviEncoder.TOTAL_FRAMES_POSITION, this.frames);
+            this.patch(MjpegAviEncoder.MAIN_BUFFER_SIZE_POSITION, this.maxFrameSize);
+            this.patch(MjpegAviEncoder.LENGTH_POSITION, this.frames);
+            this.patch(MjpegAviEncoder.STREAM_BUFFER_SIZE_POSITION, this.maxFrameSize);
+            this.patch(MjpegAviEncoder.MOVI_SIZE_POSITION, (int) (moviEnd - MjpegAviEncoder.MOVI_POSITION));
+        } finally {
+            this.writer.dispose();
+            this.file.close();
+        }
+    }
+
+    /**
+     * Overwrites a value in the headers.
+     *
+     * @param position The position of the value in the file.
+     * @param value    The new value.
+     * @throws IOException When the file cannot be written.
+     */
+    private void patch(final long position, final int value) throws IOException {
+        this.file.seek(position);
+        this.file.writeInt(Integer.reverseBytes(value));
+    }
+
+    /**
+     * Get the amount of frames that have been written.
+     *
+     * @return The amount of frames in the video.
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * A buffer of bytes that can be written to a file without copying it.
+     */
+    private static final class Bytes extends ByteArrayOutputStream {
+
+        /**
+         * Writes the bytes to the current position of a file.
+         *
+         * @param f The file to write to.
+         * @throws IOException When the file cannot be written.
+         */
+        private void writeTo(final RandomAccessFile f) throws IOException {
+            f.write(this.buf, 0, this.count);
+        }
+
+    }
+
+}
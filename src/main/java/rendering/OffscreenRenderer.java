@@ -0,0 +1,524 @@
+package rendering;
+
+import constants.IConstants;
+import logging.ILogger;
+import resources.sprites.ISprite;
+import system.IServiceLocator;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * A renderer that draws into an offscreen image instead of a window, for capturing frames without a display.
+ * <br>
+ * Everything is recorded and replayed like the {@link Renderer} does, but {@link #capture()} replays the latest
+ * published frame into an image of a chosen resolution. The image and its pixels are reused for every capture, so
+ * capturing a frame does not create any objects. Like the Renderer, the game thread records frames and a single
+ * thread captures them.
+ */
+public final class OffscreenRenderer implements IRenderer {
+
+    /**
+     * The renderer that records and replays the frames.
+     */
+    private final Renderer renderer;
+    /**
+     * The image the frames are drawn into.
+     */
+    private final BufferedImage image;
+    /**
+     * The graphics of the image, scaled from the size of the game to the resolution of the image.
+     */
+    private final Graphics2D graphics;
+    /**
+     * The horizontal and vertical scale from the size of the game to the resolution of the image.
+     */
+    private final double scaleX, scaleY;
+    /**
+     * The pixels of the image, one RGB value in the lowest 24 bits per pixel, row by row.
+     */
+    private final int[] pixels;
+
+    /**
+     * Prevent public instantiations of the OffscreenRenderer.
+     *
+     * @param sL The service locator.
+     * @param w  The width of the captured frames.
+     * @param h  The height of the captured frames.
+     */
+    private OffscreenRenderer(final IServiceLocator sL, final int w, final int h) {
+        this.renderer = new Renderer(sL);
+        this.image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+
+        final IConstants constants = sL.getConstants();
+        this.scaleX = (double) w / constants.getGameWidth();
+        this.scaleY = (double) h / constants.getGameHeight();
+        this.graphics = this.image.createGraphics();
+        this.graphics.scale(this.scaleX, this.scaleY);
+
+        final ILogger logger = sL.getLoggerFactory().createLogger(OffscreenRenderer.class);
+        logger.info("Capturing frames offscreen at " + w + "x" + h);
+    }
+
+    /**
+     * Registers an offscreen renderer to an {@link IServiceLocator} so that other classes draw into it.
+     *
+     * @param sL The IServiceLocator to which the class should offer its functionality
+     * @param w  The width of the captured frames.
+     * @param h  The height of the captured frames.
+     */
+    public static void register(final IServiceLocator sL, final int w, final int h) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        if (w <= 0 || h <= 0) {
+            throw new IllegalArgumentException("The resolution of the captured frames must be positive");
+        }
+        sL.provide(new OffscreenRenderer(sL, w, h));
+    }
+
+    /**
+     * Draws the latest published frame into the image, on a black background. When no new frame has been published since the previous
+     * capture, the previous frame is drawn again.
+     *
+     * @return The image, which is reused by the next capture.
+     */
+    public BufferedImage capture() {
+        Arrays.fill(this.pixels, 0);
+        this.renderer.setGraphicsBuffer(this.graphics);
+        this.renderer.flush();
+        return this.image;
+    }
+
+    /**
+     * Get the pixels of the latest captured frame.
+     *
+     * @return The pixels with their RGB values in the lowest 24 bits, row by row. The array is overwritten by the
+     * next capture.
+     */
+    public int[] getPixels() {
+        return this.pixels;
+    }
+
+    /**
+     * Get the width of the captured frames.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return this.image.getWidth();
+    }
+
+    /**
+     * Get the height of the captured frames.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return this.image.getHeight();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.renderer.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSprite(final ISprite sprite, final Point point) {
+        this.renderer.drawSprite(sprite, point);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSprite(final ISprite sprite, final Point point, final double theta) {
+        this.renderer.drawSprite(sprite, point, theta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSprite(final ISprite sprite, final Point point, final int width, final int height) {
+        this.renderer.drawSprite(sprite, point, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSprite(final ISprite sprite, final Point point, final int width, final int height,
+                           final double theta) {
+        this.renderer.drawSprite(sprite, point, width, height, theta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRotationFrames(final ISprite sprite, final int frames) {
+        this.renderer.setRotationFrames(sprite, frames);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawRectangle(final Point point, final int width, final int height) {
+        this.renderer.drawRectangle(point, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSpriteHUD(final ISprite sprite, final Point point) {
+        this.renderer.drawSpriteHUD(sprite, point);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawSpriteHUD(final ISprite sprite, final Point point, final int width, final int height) {
+        this.renderer.drawSpriteHUD(sprite, point, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawRectangleHUD(final Point point, final int width, final int height) {
+        this.renderer.drawRectangleHUD(point, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawText(final Point point, final String msg) {
+        this.renderer.drawText(point, msg);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextHUD(final Point point, final String msg) {
+        this.renderer.drawTextHUD(point, msg);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawText(final Point point, final String msg, final TextAlignment alignment) {
+        this.renderer.drawText(point, msg, alignment);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextHUD(final Point point, final String msg, final TextAlignment alignment) {
+        this.renderer.drawTextHUD(point, msg, alignment);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawText(final Point point, final String msg, final Color color) {
+        this.renderer.drawText(point, msg, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextExtraOptions(final Point point, final String msg, final Color color, final double rotation,
+                                     final int fontSize) {
+        this.renderer.drawTextExtraOptions(point, msg, color, rotation, fontSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextHUD(final Point point, final String msg, final Color color) {
+        this.renderer.drawTextHUD(point, msg, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawText(final Point point, final String msg, final TextAlignment alignment, final Color color) {
+        this.renderer.drawText(point, msg, alignment, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextHUD(final Point point, final String msg, final TextAlignment alignment, final Color color) {
+        this.renderer.drawTextHUD(point, msg, alignment, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillRectangle(final Point point, final int width, final int height, final Color color) {
+        this.renderer.fillRectangle(point, width, height, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillRectangleHUD(final Point point, final int width, final int height, final Color color) {
+        this.renderer.fillRectangleHUD(point, width, height, color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawLight(final Point point, final int radius) {
+        this.renderer.drawLight(point, radius);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawLightMap() {
+        this.renderer.drawLightMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLightResolution(final int divisor) {
+        this.renderer.setLightResolution(divisor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRenderScale(final double scale) {
+        this.renderer.setRenderScale(scale);
+        // The frames are drawn at the render scale, so they are scaled less to reach the resolution of the image
+        this.graphics.setTransform(AffineTransform.getScaleInstance(this.scaleX / scale, this.scaleY / scale));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getRenderScale() {
+        return this.renderer.getRenderScale();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prepareSprite(final ISprite sprite) {
+        this.renderer.prepareSprite(sprite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setQuality(final QualityTier tier) {
+        this.renderer.setQuality(tier);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startLayer() {
+        this.renderer.startLayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextObject() {
+        this.renderer.nextObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endLayer() {
+        this.renderer.endLayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startViewport(final ICamera camera, final Point point, final int width, final int height,
+                              final double scale) {
+        this.renderer.startViewport(camera, point, width, height, scale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endViewport() {
+        this.renderer.endViewport();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addStaticSprite(final ISprite sprite, final Point point) {
+        this.renderer.addStaticSprite(sprite, point);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawStaticSprites() {
+        this.renderer.drawStaticSprites();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void discardStaticSprites(final double y) {
+        this.renderer.discardStaticSprites(y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearStaticSprites() {
+        this.renderer.clearStaticSprites();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStaticSpriteTiles(final boolean tiles) {
+        this.renderer.setStaticSpriteTiles(tiles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void freezeFrame(final double dim, final int blur) {
+        this.renderer.freezeFrame(dim, blur);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawFrozenFrame() {
+        this.renderer.drawFrozenFrame();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unfreezeFrame() {
+        this.renderer.unfreezeFrame();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish() {
+        this.renderer.publish();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        this.renderer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGraphicsBuffer(final Graphics g) {
+        this.renderer.setGraphicsBuffer(g);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInterpolation(final double alpha) {
+        this.renderer.setInterpolation(alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTickTime(final long time) {
+        this.renderer.setTickTime(time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMotion(final double x, final double y) {
+        this.renderer.setMotion(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICamera getCamera() {
+        return this.renderer.getCamera();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCamera(final ICamera camera) {
+        this.renderer.setCamera(camera);
+    }
+
+}
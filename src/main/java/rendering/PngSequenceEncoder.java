@@ -0,0 +1,71 @@
+package rendering;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes every frame to its own PNG file in a directory, numbered in the order in which they were encoded.
+ */
+public final class PngSequenceEncoder implements IFrameEncoder {
+
+    /**
+     * The format of the names of the files, with the number of the frame.
+     */
+    private static final String FILE_NAME_FORMAT = "frame-%06d.png";
+
+    /**
+     * The directory the frames are written to.
+     */
+    private final File directory;
+    /**
+     * The amount of frames that have been written.
+     */
+    private int frames = 0;
+
+    /**
+     * Create an encoder that writes into a directory, the directory is created when it does not exist.
+     *
+     * @param dir The directory the frames are written to.
+     * @throws IOException When the directory cannot be created.
+     */
+    public PngSequenceEncoder(final File dir) throws IOException {
+        if (dir == null) {
+            throw new IllegalArgumentException("The directory cannot be null");
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("The directory \"" + dir + "\" could not be created");
+        }
+        this.directory = dir;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(final BufferedImage frame) throws IOException {
+        final File file = new File(this.directory, String.format(PngSequenceEncoder.FILE_NAME_FORMAT, this.frames));
+        if (!ImageIO.write(frame, "png", file)) {
+            throw new IOException("No PNG writer is available");
+        }
+        this.frames++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Get the amount of frames that have been written.
+     *
+     * @return The amount of files that have been written.
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+}
@@ -0,0 +1,232 @@
+package rendering;
+
+import com.google.gson.JsonParseException;
+import logging.ILogger;
+import system.IServiceLocator;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lowers the quality at which the frames are drawn when the game cannot keep up, and raises it again when it can.
+ * <br>
+ * The governor is given the time the game spent on every frame, and keeps the average over the latest
+ * {@link #WINDOW} frames. When that average exceeds the budget of a frame, the next lower {@link QualityTier tier} is
+ * used. When the average stays well below the budget for a while, the next higher tier is used again. A tier that is
+ * lowered right after it was raised has to wait twice as long before it is raised again, so the quality does not
+ * keep switching between two tiers. Every change is measured over a complete new window.
+ * <br>
+ * The governor must be used by the thread that records the frames, before it records a frame.
+ */
+public final class QualityGovernor {
+
+    /**
+     * The amount of frames over which the frame time is averaged.
+     */
+    /* package */ static final int WINDOW = 60;
+    /**
+     * The part of the budget the average frame time must stay below before the quality is raised.
+     */
+    /* package */ static final double RESTORE_FRACTION = 0.6d;
+    /**
+     * The amount of windows the average frame time must stay below the restore threshold before the quality is
+     * raised, at first and at most.
+     */
+    /* package */ static final int MIN_CALM_WINDOWS = 2, MAX_CALM_WINDOWS = 32;
+    /**
+     * The amount of nanoseconds in a millisecond.
+     */
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000d;
+
+    /**
+     * The logger for the QualityGovernor class.
+     */
+    private final ILogger logger;
+    /**
+     * The renderer of which the quality is governed.
+     */
+    private final IRenderer renderer;
+    /**
+     * The tiers, from the highest to the lowest quality.
+     */
+    private final List<QualityTier> tiers;
+    /**
+     * The amount of nanoseconds a frame may take.
+     */
+    private final long budget;
+    /**
+     * The render scale the game was started with, which the render scale of a tier is a part of.
+     */
+    private final double baseRenderScale;
+    /**
+     * The times of the latest frames, in the order in which they are overwritten.
+     */
+    private final long[] frameTimes = new long[QualityGovernor.WINDOW];
+    /**
+     * The sum of the times of the latest frames.
+     */
+    private long sum = 0L;
+    /**
+     * The amount of frames since the tier changed.
+     */
+    private long frames = 0L;
+    /**
+     * The amount of consecutive frames in which the average was below the restore threshold.
+     */
+    private long calmFrames = 0L;
+    /**
+     * The amount of windows the average must stay below the restore threshold before the quality is raised.
+     */
+    private int calmWindows = QualityGovernor.MIN_CALM_WINDOWS;
+    /**
+     * Whether the latest change raised the quality.
+     */
+    private boolean raised = false;
+    /**
+     * The index of the current tier.
+     */
+    private int tier = 0;
+
+    /**
+     * Create a governor and apply the highest tier.
+     *
+     * @param sL The service locator.
+     * @param t  The tiers, from the highest to the lowest quality.
+     * @param b  The amount of nanoseconds a frame may take.
+     */
+    public QualityGovernor(final IServiceLocator sL, final List<QualityTier> t, final long b) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        if (t == null || t.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one quality tier");
+        }
+        if (b <= 0L) {
+            throw new IllegalArgumentException("The frame budget must be positive");
+        }
+        this.logger = sL.getLoggerFactory().createLogger(QualityGovernor.class);
+        this.renderer = sL.getRenderer();
+        this.tiers = new ArrayList<>(t);
+        this.budget = b;
+        this.baseRenderScale = this.renderer.getRenderScale();
+
+        this.apply(this.tiers.get(0), null);
+        this.logger.info("Governing the quality with " + this.tiers.size() + " tiers " + this.tiers
+                + " and a frame budget of " + this.toMilliseconds(b) + " ms");
+    }
+
+    /**
+     * Reads quality tiers from a JSON file, an array of objects with the fields of a {@link QualityTier}.
+     *
+     * @param sL       The service locator.
+     * @param filename The name of the file.
+     * @return The tiers in the file, or the {@link QualityTier#DEFAULT_TIERS default tiers} when the file cannot be
+     * read or contains tiers that cannot be used.
+     */
+    public static List<QualityTier> loadTiers(final IServiceLocator sL, final String filename) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        final ILogger logger = sL.getLoggerFactory().createLogger(QualityGovernor.class);
+        try {
+            final QualityTier[] tiers = (QualityTier[]) sL.getFileSystem().parseJson(filename, QualityTier[].class);
+            if (tiers != null && tiers.length > 0 && Arrays.stream(tiers).allMatch(QualityTier::isValid)) {
+                return Arrays.asList(tiers);
+            }
+            logger.warning("The quality tiers in \"" + filename + "\" are not valid -> default tiers used.");
+        } catch (FileNotFoundException | JsonParseException e) {
+            logger.warning("The quality tiers could not be read from \"" + filename + "\" -> default tiers used.");
+        }
+        return QualityTier.DEFAULT_TIERS;
+    }
+
+    /**
+     * Adds the time of the latest frame and changes the tier when the frames take too long or have enough headroom.
+     *
+     * @param frameTime The amount of nanoseconds the latest frame took.
+     */
+    public void update(final long frameTime) {
+        final int index = (int) (this.frames % QualityGovernor.WINDOW);
+        this.sum += frameTime - this.frameTimes[index];
+        this.frameTimes[index] = frameTime;
+        this.frames++;
+        if (this.frames < QualityGovernor.WINDOW) {
+            return;
+        }
+
+        final long average = this.sum / QualityGovernor.WINDOW;
+        if (average > this.budget) {
+            if (this.tier < this.tiers.size() - 1) {
+                if (this.raised && this.frames < 2L * QualityGovernor.WINDOW) {
+                    this.calmWindows = Math.min(2 * this.calmWindows, QualityGovernor.MAX_CALM_WINDOWS);
+                }
+                this.setTier(this.tier + 1, average);
+            }
+            this.calmFrames = 0L;
+        } else if (average < this.budget * QualityGovernor.RESTORE_FRACTION) {
+            this.calmFrames++;
+            if (this.tier > 0 && this.calmFrames >= (long) this.calmWindows * QualityGovernor.WINDOW) {
+                this.setTier(this.tier - 1, average);
+            }
+        } else {
+            this.calmFrames = 0L;
+        }
+    }
+
+    /**
+     * Switches to another tier and starts measuring it from scratch.
+     *
+     * @param index   The index of the new tier.
+     * @param average The average frame time that caused the change.
+     */
+    private void setTier(final int index, final long average) {
+        final QualityTier previous = this.tiers.get(this.tier);
+        this.raised = index < this.tier;
+        this.tier = index;
+        this.apply(this.tiers.get(index), previous);
+        this.logger.info("Quality " + (this.raised ? "raised" : "lowered") + " from " + previous + " to "
+                + this.tiers.get(index) + ", frames took " + this.toMilliseconds(average) + " ms of the "
+                + this.toMilliseconds(this.budget) + " ms budget on average");
+
+        Arrays.fill(this.frameTimes, 0L);
+        this.sum = 0L;
+        this.frames = 0L;
+        this.calmFrames = 0L;
+    }
+
+    /**
+     * Applies the settings of a tier to the renderer.
+     *
+     * @param next     The tier to apply.
+     * @param previous The tier that was applied before, or {@code null} if no tier has been applied yet.
+     */
+    private void apply(final QualityTier next, final QualityTier previous) {
+        this.renderer.setQuality(next);
+        final double previousScale = previous == null ? 1d : previous.getRenderScale();
+        if (next.getRenderScale() != previousScale) {
+            this.renderer.setRenderScale(this.baseRenderScale * next.getRenderScale());
+        }
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds with one decimal.
+     *
+     * @param nanoseconds The amount of nanoseconds.
+     * @return The amount of milliseconds.
+     */
+    private double toMilliseconds(final long nanoseconds) {
+        return Math.round(nanoseconds / QualityGovernor.NANOSECONDS_PER_MILLISECOND * 10d) / 10d;
+    }
+
+    /**
+     * Get the current tier.
+     *
+     * @return The tier at which the frames are drawn.
+     */
+    public QualityTier getTier() {
+        return this.tiers.get(this.tier);
+    }
+
+}
@@ -0,0 +1,162 @@
+package rendering;
+
+import resources.sprites.ScalingQuality;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The settings of one level of quality at which the frames are drawn, see {@link QualityGovernor}.
+ * <br>
+ * The tiers can be read from a JSON file, in which every setting that is left out keeps the value of the highest
+ * quality.
+ *
+ * <p><b>IMMUTABLE</b>
+ */
+public final class QualityTier {
+
+    /**
+     * The tiers that are used when no tiers have been configured, from the highest to the lowest quality.
+     */
+    public static final List<QualityTier> DEFAULT_TIERS = Collections.unmodifiableList(Arrays.asList(
+            new QualityTier("high", ScalingQuality.smooth, true, true, LightMap.DEFAULT_DIVISOR, 1d),
+            new QualityTier("medium", ScalingQuality.smooth, false, true, LightMap.DEFAULT_DIVISOR, 1d),
+            new QualityTier("low", ScalingQuality.fast, false, false, 2 * LightMap.DEFAULT_DIVISOR, 1d),
+            new QualityTier("lowest", ScalingQuality.fast, false, false, 2 * LightMap.DEFAULT_DIVISOR, 0.75d)
+    ));
+
+    /**
+     * The name of the tier, used in the log.
+     */
+    private String name = "high";
+    /**
+     * The interpolation used when images are scaled while they are drawn.
+     */
+    private ScalingQuality interpolation = ScalingQuality.smooth;
+    /**
+     * Whether the edges of shapes are smoothed.
+     */
+    private boolean antialiasing = true;
+    /**
+     * Whether the edges of texts are smoothed.
+     */
+    private boolean textAntialiasing = true;
+    /**
+     * The amount of times the darkness is smaller than the game, see {@link IRenderer#setLightResolution(int)}.
+     */
+    private int lightResolution = LightMap.DEFAULT_DIVISOR;
+    /**
+     * The part of the render scale the game was started with at which the frames are drawn, larger than 0 and at
+     * most 1.
+     */
+    private double renderScale = 1d;
+
+    /**
+     * Create a tier with the highest quality, used when a tier is read from a JSON file.
+     */
+    private QualityTier() {
+    }
+
+    /**
+     * Create a tier.
+     *
+     * @param n   The name of the tier.
+     * @param i   The interpolation used when images are scaled while they are drawn.
+     * @param aa  Whether the edges of shapes are smoothed.
+     * @param taa Whether the edges of texts are smoothed.
+     * @param lr  The amount of times the darkness is smaller than the game.
+     * @param rs  The part of the render scale the game was started with at which the frames are drawn.
+     */
+    public QualityTier(final String n, final ScalingQuality i, final boolean aa, final boolean taa, final int lr,
+                       final double rs) {
+        if (n == null || i == null) {
+            throw new IllegalArgumentException("The name and interpolation of a quality tier cannot be null");
+        }
+        if (lr < 1) {
+            throw new IllegalArgumentException("The light resolution divisor must be at least 1");
+        }
+        if (rs <= 0d || rs > 1d) {
+            throw new IllegalArgumentException("The render scale of a quality tier must be larger than 0 and at most 1");
+        }
+        this.name = n;
+        this.interpolation = i;
+        this.antialiasing = aa;
+        this.textAntialiasing = taa;
+        this.lightResolution = lr;
+        this.renderScale = rs;
+    }
+
+    /**
+     * Get the name of the tier.
+     *
+     * @return The name of the tier.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the interpolation used when images are scaled while they are drawn.
+     *
+     * @return The interpolation.
+     */
+    public ScalingQuality getInterpolation() {
+        return this.interpolation;
+    }
+
+    /**
+     * Check whether the edges of shapes are smoothed.
+     *
+     * @return {@code true} if shapes are drawn with antialiasing.
+     */
+    public boolean isAntialiasing() {
+        return this.antialiasing;
+    }
+
+    /**
+     * Check whether the edges of texts are smoothed.
+     *
+     * @return {@code true} if texts are drawn with antialiasing.
+     */
+    public boolean isTextAntialiasing() {
+        return this.textAntialiasing;
+    }
+
+    /**
+     * Get the resolution of the darkness.
+     *
+     * @return The amount of times the darkness is smaller than the game in each direction.
+     */
+    public int getLightResolution() {
+        return this.lightResolution;
+    }
+
+    /**
+     * Get the scale at which the frames are drawn.
+     *
+     * @return The part of the render scale the game was started with.
+     */
+    public double getRenderScale() {
+        return this.renderScale;
+    }
+
+    /**
+     * Check whether the settings of the tier can be used, a tier read from a JSON file can have any value.
+     *
+     * @return {@code true} if all settings are within their range.
+     */
+    /* package */ boolean isValid() {
+        return this.name != null && this.interpolation != null && this.lightResolution >= 1
+                && this.renderScale > 0d && this.renderScale <= 1d;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -2,53 +2,179 @@ package rendering;
 
 import constants.IConstants;
 import logging.ILogger;
+import math.ICalc;
 import resources.sprites.ISprite;
+import resources.sprites.ScalingQuality;
 import system.IServiceLocator;
 
 import java.awt.Graphics2D;
-import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.RenderingHints;
 import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.awt.image.ConvolveOp;
+import java.awt.image.Kernel;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class is responsible for rendering all Sprites.
+ * <br>
+ * Nothing is drawn directly, every draw is recorded in a {@link CommandBuffer} by the game thread. A recorded frame is
+ * handed to the painting thread by {@link #publish()}, and replayed by {@link #flush()}. Three buffers are used, so
+ * neither thread ever has to wait for the other: one is being recorded, one is being displayed, and one holds the
+ * latest published frame.
+ * <br>
+ * The game thread only waits for the painting thread when it changes what every buffer shares, such as the render
+ * scale or the darkness, or when it replays a frame itself to freeze it.
  */
 public final class Renderer implements IRenderer {
 
     /**
-     * The font size used for {@link #font50}.
+     * The quality with which sprites that are drawn at a different size are scaled.
      */
-    private static final float font50SIZE = 50F;
+    private static final ScalingQuality SCALING_QUALITY = ScalingQuality.smooth;
+    /**
+     * The alpha of a color that is completely opaque.
+     */
+    private static final int OPAQUE = 255;
 
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * Used to log all actions of the game.
      */
     private final ILogger logger;
     /**
-     * The camera for the renderer.
+     * The camera for the renderer, or of the viewport that is being drawn.
      */
     private ICamera camera = new StaticCamera();
+    /**
+     * The camera of the whole frame while a viewport is being drawn, {@code null} otherwise.
+     */
+    private ICamera frameCamera;
+    /**
+     * How far the current frame is between the previous and the latest simulation tick.
+     */
+    private volatile double interpolation = 0d;
+    /**
+     * The time at which the latest tick of the frame that is being recorded was due, or
+     * {@link CommandBuffer#NO_TICK_TIME} if the frames are interpolated by {@link #interpolation}.
+     */
+    private long tickTime = CommandBuffer.NO_TICK_TIME;
+    /**
+     * Guards the buffers that are handed to the painting thread and the darkness that they share while they are
+     * replaced or replayed.
+     */
+    private final Object paintLock = new Object();
     /**
      * The graphics that are to be used by the renderer.
      */
     private Graphics2D graphics;
     /**
-     * The font used to draw text with size 50.
+     * The frame that is being recorded by the game thread.
      */
-    private final Font font50;
+    private CommandBuffer recording;
+    /**
+     * The latest published frame, waiting to be picked up by the painting thread.
+     */
+    private final AtomicReference<CommandBuffer> ready;
+    /**
+     * The frame that is being displayed by the painting thread.
+     */
+    private CommandBuffer displaying;
+    /**
+     * Whether the position of the camera has been captured for the frame that is being recorded.
+     */
+    private boolean cameraCaptured = false;
+    /**
+     * The amount of pre-rotated frames of the sprites that are not rotated exactly, per sprite name.
+     */
+    private final Map<String, Integer> rotationFrames = new ConcurrentHashMap<>();
+    /**
+     * The fonts used for texts.
+     */
+    private final FontRegistry fonts;
+    /**
+     * The texts that have already been drawn into images.
+     */
+    private final TextCache texts;
+    /**
+     * The darkness into which the lights are cut.
+     */
+    private LightMap lights;
+    /**
+     * The amount of times the darkness is smaller than the game in each direction.
+     */
+    private int lightDivisor = LightMap.DEFAULT_DIVISOR;
+    /**
+     * The scale at which the frames are drawn, relative to the size of the game.
+     */
+    private double renderScale = 1d;
+    /**
+     * The scale from the game to the screen of the current draws, the render scale times the scale of the viewport.
+     */
+    private double drawScale = 1d;
+    /**
+     * The height of the part of the world that is visible in the frame or viewport, in the coordinates of the game.
+     */
+    private double visibleHeight;
+    /**
+     * The sprites that never move, drawn into tiles of the world.
+     */
+    private final TileCache tiles;
+    /**
+     * Whether the static sprites are drawn from the tiles instead of one by one, which is slower in software.
+     */
+    private boolean staticSpriteTiles = false;
+    /**
+     * The quality at which the frames are drawn.
+     */
+    private volatile QualityTier quality = QualityTier.DEFAULT_TIERS.get(0);
+    /**
+     * The frame that is drawn while the scene is covered, {@code null} if no frame is frozen.
+     */
+    private BufferedImage frozenFrame;
 
     /**
-     * Prevent public instantiations of the Renderer.
+     * Prevent public instantiations of the Renderer, the {@link OffscreenRenderer} uses one internally.
+     *
+     * @param sL The service locator.
      */
-    private Renderer() {
+    /* package */ Renderer(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         logger = serviceLocator.getLoggerFactory().createLogger(this.getClass());
-        Font font = serviceLocator.getFileSystem().getFont("al-seana.ttf");
-        font50 = font.deriveFont(Font.BOLD, font50SIZE);
+        this.fonts = new FontRegistry(serviceLocator.getFileSystem());
+        // Read the font file now, rather than while painting the first frame with text
+        this.fonts.getFont(0);
+        this.texts = new TextCache();
+        this.tiles = new TileCache(serviceLocator);
+        this.ready = new AtomicReference<>();
+        this.visibleHeight = serviceLocator.getConstants().getGameHeight();
+        this.createBuffers();
+    }
+
+    /**
+     * Creates the frames and the darkness at the resolution of the render scale.
+     */
+    private void createBuffers() {
+        final IConstants constants = this.serviceLocator.getConstants();
+        final int w = (int) Math.round(constants.getGameWidth() * this.renderScale);
+        final int h = (int) Math.round(constants.getGameHeight() * this.renderScale);
+        // The overlay of the darkness is drawn at the size at which a full resolution frame is presented
+        final int overlayDivisor = Math.max(1,
+                (int) Math.round(LightMap.DEFAULT_OVERLAY_DIVISOR * this.renderScale));
+        synchronized (this.paintLock) {
+            this.lights = new LightMap(w, h, overlayDivisor);
+            this.lights.setDivisor(this.toLightDivisor(this.lightDivisor));
+            this.recording = new CommandBuffer(w, h, this.fonts, this.texts, this.lights);
+            this.ready.set(new CommandBuffer(w, h, this.fonts, this.texts, this.lights));
+            this.displaying = new CommandBuffer(w, h, this.fonts, this.texts, this.lights);
+        }
     }
 
     /**
@@ -60,8 +186,7 @@ public final class Renderer implements IRenderer {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        Renderer.serviceLocator = sL;
-        Renderer.serviceLocator.provide(new Renderer());
+        sL.provide(new Renderer(sL));
     }
 
     /**
@@ -69,8 +194,7 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void clear() {
-        IConstants constants = Renderer.serviceLocator.getConstants();
-        this.graphics.clearRect(0, 0, constants.getGameWidth(), constants.getGameHeight());
+        this.recording.clear();
     }
 
     /**
@@ -78,13 +202,8 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawRectangle(final Point point, final int width, final int height) {
-        assert this.graphics != null;
-
-        String drawMsg = "drawRectangle(" + point.getX() + ", " + point.getY() + ", " + width + ", " + height + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
-
-        this.graphics.drawRect((int) point.getX(), (int) (point.getY() - this.camera.getYPos()), width, height);
+        this.worldCommands().rectangle(this.toScreen(point.getX()), this.toScreen(point.getY()),
+                this.toScreen(width), this.toScreen(height), true);
     }
 
     /**
@@ -92,16 +211,11 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSprite(final ISprite sprite, final Point point) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        String drawMsg = "drawSprite(" + sprite.getName() + ", " + point.getX() + ", " + point.getY() + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
-
-        this.graphics.drawImage(sprite.getImage(), (int) point.getX(), (int) (point.getY() - this.camera.getYPos()), null);
+        this.recordSprite(this.worldCommands(), sprite, point, sprite.getWidth(), sprite.getHeight(), true);
     }
 
     /**
@@ -109,27 +223,11 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSprite(final ISprite sprite, final Point point, final double theta) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        String drawMsg = "drawSprite(" + sprite.getName() + ", " + point.getX() + ", " + point.getY() + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
-
-        double halfWidth = (double) sprite.getWidth() / 2d;
-        double halfHeight = (double) sprite.getHeight() / 2d;
-        double translateX = point.getX() + halfWidth;
-        double translateY = point.getY() - this.camera.getYPos() + halfHeight;
-
-        this.graphics.translate(translateX, translateY);
-        this.graphics.rotate(theta);
-        this.graphics.translate(-halfWidth, -halfHeight);
-        this.graphics.drawImage(sprite.getImage(), 0, 0, null);
-        this.graphics.translate(halfWidth, halfHeight);
-        this.graphics.rotate(-theta);
-        this.graphics.translate(-translateX, -translateY);
+        this.recordRotatedSprite(sprite, point, sprite.getWidth(), sprite.getHeight(), theta);
     }
 
     /**
@@ -137,16 +235,11 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSprite(final ISprite sprite, final Point point, final int width, final int height) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        String drawMsg = "drawSprite(" + sprite.getName() + ", " + point.getX() + ", " + point.getY() + ", " + width + ", " + height + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
-
-        this.graphics.drawImage(sprite.getImage(), (int) point.getX(), (int) (point.getY() - this.camera.getYPos()), width, height, null);
+        this.recordSprite(this.worldCommands(), sprite, point, width, height, true);
     }
 
     /**
@@ -154,27 +247,30 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSprite(final ISprite sprite, final Point point, final int width, final int height, final double theta) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        String drawMsg = "drawSprite(" + sprite.getName() + ", " + point.getX() + ", " + point.getY() + ", " + width + ", " + height + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
+        this.recordRotatedSprite(sprite, point, width, height, theta);
+    }
 
-        double halfWidth = (double) sprite.getWidth() / 2d;
-        double halfHeight = (double) sprite.getHeight() / 2d;
-        double translateX = point.getX() + halfWidth;
-        double translateY = point.getY() - this.camera.getYPos() + halfHeight;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRotationFrames(final ISprite sprite, final int frames) {
+        if (sprite == null) {
+            throw new IllegalArgumentException("A null image is not allowed");
+        }
+        if (frames < 0) {
+            throw new IllegalArgumentException("The amount of rotation frames cannot be negative");
+        }
 
-        this.graphics.translate(translateX, translateY);
-        this.graphics.rotate(theta);
-        this.graphics.translate(-halfWidth, -halfHeight);
-        this.graphics.drawImage(sprite.getImage(), 0, 0, width, height, null);
-        this.graphics.translate(halfWidth, halfHeight);
-        this.graphics.rotate(-theta);
-        this.graphics.translate(-translateX, -translateY);
+        if (frames == 0) {
+            this.rotationFrames.remove(sprite.getName());
+        } else {
+            this.rotationFrames.put(sprite.getName(), frames);
+        }
     }
 
     /**
@@ -182,10 +278,8 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawRectangleHUD(final Point point, final int width, final int height) {
-        assert this.graphics != null;
-
-        this.logger.info("drawRectangle(" + point.getX() + ", " + point.getY() + ", " + width + ", " + height + ")");
-        this.graphics.drawRect((int) point.getX(), (int) point.getY(), width, height);
+        this.recording.rectangle(this.toScreen(point.getX()), this.toScreen(point.getY()),
+                this.toScreen(width), this.toScreen(height), false);
     }
 
     /**
@@ -193,13 +287,11 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSpriteHUD(final ISprite sprite, final Point point) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        this.logger.info("drawImage(" + point.getX() + ", " + point.getY() + ")");
-        this.graphics.drawImage(sprite.getImage(), (int) point.getX(), (int) point.getY(), null);
+        this.recordSprite(this.recording, sprite, point, sprite.getWidth(), sprite.getHeight(), false);
     }
 
     /**
@@ -207,13 +299,11 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawSpriteHUD(final ISprite sprite, final Point point, final int width, final int height) {
-        assert this.graphics != null;
         if (sprite == null) {
             throw new IllegalArgumentException("A null image is not allowed");
         }
 
-        this.logger.info("drawSprite(" + point.getX() + ", " + point.getY() + ")");
-        this.graphics.drawImage(sprite.getImage(), (int) point.getX(), (int) point.getY(), width, height, null);
+        this.recordSprite(this.recording, sprite, point, width, height, false);
     }
 
     /**
@@ -221,7 +311,6 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawText(final Point point, final String msg) {
-        assert this.graphics != null;
         drawText(point, msg, TextAlignment.left);
     }
 
@@ -230,7 +319,6 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawTextHUD(final Point point, final String msg) {
-        assert this.graphics != null;
         drawTextHUD(point, msg, TextAlignment.left);
     }
 
@@ -239,8 +327,7 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawText(final Point point, final String msg, final TextAlignment alignment) {
-        assert graphics != null;
-        drawText(new Point((int) point.getX(), (int) (point.getY() - camera.getYPos())), msg, alignment, Color.white);
+        drawText(point, msg, alignment, Color.white);
     }
 
     /**
@@ -248,7 +335,6 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawTextHUD(final Point point, final String msg, final TextAlignment alignment) {
-        assert graphics != null;
         drawTextHUD(point,  msg, alignment, Color.white);
     }
 
@@ -257,7 +343,6 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawText(final Point point, final String msg, final Color color) {
-        assert this.graphics != null;
         drawText(point, msg, TextAlignment.left, color);
     }
 
@@ -266,14 +351,8 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawTextExtraOptions(final Point point, final String msg, final Color color, final double rotation, final int fontSize) {
-        assert this.graphics != null;
-        java.awt.Color currentColor = graphics.getColor();
-        int xPos = prepareDrawText(point, msg, TextAlignment.center, color.getColor(), serviceLocator.getFileSystem().getFont("al-seana.ttf").deriveFont(Font.BOLD, fontSize));
-        graphics.rotate(rotation, xPos, point.getY());
-        graphics.drawString(msg, xPos, (int) point.getY());
-        this.logger.info("drawString(" + point.getX() + ", " + point.getY() + ", " + msg + ", " + color.name());
-
-        graphics.setColor(currentColor);
+        this.recording.rotatedText(msg, this.toScreen(point.getX()), this.toScreen(point.getY()), color, rotation,
+                this.toFontSize(fontSize), this.quality.isTextAntialiasing());
     }
 
     /**
@@ -281,7 +360,6 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawTextHUD(final Point point, final String msg, final Color color) {
-        assert this.graphics != null;
         drawTextHUD(point, msg, TextAlignment.left, color);
     }
 
@@ -290,46 +368,355 @@ public final class Renderer implements IRenderer {
      */
     @Override
     public void drawText(final Point point, final String msg, final TextAlignment alignment, final Color color) {
-        assert graphics != null;
-        java.awt.Color currentColor = graphics.getColor();
+        this.worldCommands().text(msg, this.toScreen(point.getX()), this.toScreen(point.getY()), alignment, color,
+                this.toFontSize(0), this.quality.isTextAntialiasing(), true);
+    }
 
-        int xPos = prepareDrawText(point, msg, alignment, color.getColor(), font50);
-        graphics.drawString(msg, xPos, (int) (point.getY() - camera.getYPos()));
-        this.logger.info("drawString(" + point.getX() + ", " + point.getY() + ", " + msg + ", " + alignment.name() + ", " + color.name());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawTextHUD(final Point point, final String msg, final TextAlignment alignment, final Color color) {
+        this.recording.text(msg, this.toScreen(point.getX()), this.toScreen(point.getY()), alignment, color,
+                this.toFontSize(0), this.quality.isTextAntialiasing(), false);
+    }
 
-        graphics.setColor(currentColor);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillRectangle(final Point point, final int width, final int height, final Color color) {
+        this.worldCommands().filledRectangle(this.toScreen(point.getX()), this.toScreen(point.getY()),
+                this.toScreen(width), this.toScreen(height), color, true);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void drawTextHUD(final Point point, final String msg, final TextAlignment alignment, final Color color) {
-        assert graphics != null;
-        java.awt.Color currentColor = graphics.getColor();
+    public void fillRectangleHUD(final Point point, final int width, final int height, final Color color) {
+        this.recording.filledRectangle(this.toScreen(point.getX()), this.toScreen(point.getY()),
+                this.toScreen(width), this.toScreen(height), color, false);
+    }
 
-        int xPos = prepareDrawText(point, msg, alignment, color.getColor(), font50);
-        graphics.drawString(msg, xPos, (int) point.getY());
-        this.logger.info("drawString(" + point.getX() + ", " + point.getY() + ", " + msg + ", " + alignment.name() + ", " + color.name());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawLight(final Point point, final int radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("The radius of a light must be positive");
+        }
 
-        graphics.setColor(currentColor);
+        this.worldCommands().light(this.toScreen(point.getX()), this.toScreen(point.getY()),
+                Math.max(1, this.toScreen(radius)), true);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void fillRectangle(final Point point, final int width, final int height, final Color color) {
-        assert this.graphics != null;
+    public void drawLightMap() {
+        this.recording.lightMap();
+    }
 
-        String drawMsg = "drawRectangle(" + point.getX() + ", " + point.getY() + ", " + width + ", " + height + ") - ";
-        String cameraMsg = "Camera corrected Y-position = " + (point.getY() - this.camera.getYPos());
-        this.logger.info(drawMsg + cameraMsg);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLightResolution(final int divisor) {
+        if (divisor < 1) {
+            throw new IllegalArgumentException("The light resolution divisor must be at least 1");
+        }
+
+        this.lightDivisor = divisor;
+        synchronized (this.paintLock) {
+            this.lights.setDivisor(this.toLightDivisor(divisor));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRenderScale(final double scale) {
+        if (scale <= 0d || scale > 1d) {
+            throw new IllegalArgumentException("The render scale must be larger than 0 and at most 1");
+        }
 
-        java.awt.Color currentColor = graphics.getColor();
-        graphics.setColor(color.getColor());
-        graphics.fillRect((int) point.getX(), (int) (point.getY() - camera.getYPos()), width, height);
-        graphics.setColor(currentColor);
+        this.renderScale = scale;
+        this.drawScale = scale;
+        this.createBuffers();
+        final IConstants constants = this.serviceLocator.getConstants();
+        this.logger.info("Rendering at " + this.toScreen(constants.getGameWidth()) + "x"
+                + this.toScreen(constants.getGameHeight()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getRenderScale() {
+        return this.renderScale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prepareSprite(final ISprite sprite) {
+        if (sprite == null) {
+            throw new IllegalArgumentException("A null image is not allowed");
+        }
+
+        this.getScaledSprite(sprite, this.toScreen(sprite.getWidth()), this.toScreen(sprite.getHeight()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setQuality(final QualityTier tier) {
+        if (tier == null) {
+            throw new IllegalArgumentException("The quality tier cannot be null");
+        }
+
+        this.quality = tier;
+        this.setLightResolution(tier.getLightResolution());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startLayer() {
+        this.recording.startLayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextObject() {
+        this.recording.nextObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endLayer() {
+        this.recording.endLayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startViewport(final ICamera c, final Point point, final int width, final int height,
+                              final double scale) {
+        if (c == null) {
+            throw new IllegalArgumentException("The camera of a viewport cannot be null");
+        }
+        if (width <= 0 || height <= 0 || scale <= 0d) {
+            throw new IllegalArgumentException("The size and scale of a viewport must be positive");
+        }
+        if (this.frameCamera != null) {
+            throw new IllegalStateException("A viewport is already being drawn");
+        }
+
+        final int x = this.toScreen(point.getX()), y = this.toScreen(point.getY());
+        final int w = this.toScreen(width), h = this.toScreen(height);
+        this.frameCamera = this.camera;
+        this.camera = c;
+        this.drawScale = this.renderScale * scale;
+        this.visibleHeight = height / scale;
+        this.recording.startViewport(x, y, w, h, c.getYPos(0d) * this.drawScale, c.getYPos(1d) * this.drawScale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endViewport() {
+        if (this.frameCamera == null) {
+            throw new IllegalStateException("No viewport is being drawn");
+        }
+
+        this.recording.endViewport();
+        this.camera = this.frameCamera;
+        this.frameCamera = null;
+        this.drawScale = this.renderScale;
+        this.visibleHeight = this.serviceLocator.getConstants().getGameHeight();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addStaticSprite(final ISprite sprite, final Point point) {
+        if (sprite == null) {
+            throw new IllegalArgumentException("A null image is not allowed");
+        }
+
+        this.tiles.add(sprite, (int) point.getX(), (int) point.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawStaticSprites() {
+        final double previousY = this.camera.getYPos(0d), currentY = this.camera.getYPos(1d);
+        final int first = (int) Math.floor(Math.min(previousY, currentY) / TileCache.TILE_HEIGHT);
+        final int last = (int) Math.floor((Math.max(previousY, currentY) + this.visibleHeight)
+                / TileCache.TILE_HEIGHT);
+        final CommandBuffer commands = this.worldCommands();
+        if (!this.staticSpriteTiles) {
+            // The sprites are grouped by image, like the platforms of the World
+            commands.startLayer();
+            this.tiles.visit(first, last, (sprite, x, y) -> this.recordSprite(commands, sprite, this.toScreen(x),
+                    this.toScreen(y), this.toScreen(sprite.getWidth()), this.toScreen(sprite.getHeight()), true));
+            commands.endLayer();
+            return;
+        }
+
+        for (int index = first; index <= last; index++) {
+            final BufferedImage tile = this.tiles.get(index, this.drawScale);
+            if (tile != null) {
+                commands.image(tile, 0, TileCache.toScreen(index, this.drawScale), tile.getWidth(),
+                        tile.getHeight(), true);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStaticSpriteTiles(final boolean t) {
+        this.staticSpriteTiles = t;
+        this.logger.info("Static sprites are drawn " + (t ? "from tiles" : "one by one"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void discardStaticSprites(final double y) {
+        this.tiles.discardBelow(y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearStaticSprites() {
+        this.tiles.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void freezeFrame(final double dim, final int blur) {
+        if (dim < 0d || dim > 1d) {
+            throw new IllegalArgumentException("The dimming of a frozen frame must be between 0 and 1");
+        }
+        if (blur < 0) {
+            throw new IllegalArgumentException("The blur radius of a frozen frame cannot be negative");
+        }
+        assert this.frameCamera == null;
+
+        final IConstants constants = this.serviceLocator.getConstants();
+        final int w = this.toScreen(constants.getGameWidth()), h = this.toScreen(constants.getGameHeight());
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = image.createGraphics();
+        this.applyQuality(g);
+        this.recording.sort();
+        // The darkness of the recording is shared with the frames that are being painted
+        synchronized (this.paintLock) {
+            this.recording.replay(g, this.interpolation);
+        }
+        if (dim > 0d) {
+            g.setColor(new java.awt.Color(0, 0, 0, (int) Math.round(dim * Renderer.OPAQUE)));
+            g.fillRect(0, 0, w, h);
+        }
+        g.dispose();
+
+        final int radius = this.toScreen(blur);
+        if (radius > 0) {
+            // A box blur is separable, so it is applied horizontally and then vertically
+            final float[] kernel = new float[2 * radius + 1];
+            Arrays.fill(kernel, 1f / kernel.length);
+            image = new ConvolveOp(new Kernel(kernel.length, 1, kernel), ConvolveOp.EDGE_NO_OP, null)
+                    .filter(image, null);
+            image = new ConvolveOp(new Kernel(1, kernel.length, kernel), ConvolveOp.EDGE_NO_OP, null)
+                    .filter(image, null);
+        }
+
+        this.frozenFrame = image;
+        this.recording.reset();
+        this.cameraCaptured = false;
+        this.logger.info("Froze a frame of " + w + "x" + h + " dimmed by " + dim + " and blurred by " + blur);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawFrozenFrame() {
+        if (this.frozenFrame == null) {
+            throw new IllegalStateException("No frame has been frozen");
+        }
+
+        final IConstants constants = this.serviceLocator.getConstants();
+        final int w = this.toScreen(constants.getGameWidth()), h = this.toScreen(constants.getGameHeight());
+        final int imageWidth = this.frozenFrame.getWidth(), imageHeight = this.frozenFrame.getHeight();
+        if (w == imageWidth && h == imageHeight) {
+            this.recording.image(this.frozenFrame, 0, 0, w, h, false);
+        } else {
+            // The render scale changed since the frame was frozen
+            this.recording.imageRegion(this.frozenFrame, 0, 0, w, h, 0, 0, imageWidth, imageHeight, false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unfreezeFrame() {
+        this.frozenFrame = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish() {
+        assert this.frameCamera == null;
+        this.recording.sort();
+        this.recording.setTickTime(this.tickTime);
+        this.recording.setFresh(true);
+        this.recording = this.ready.getAndSet(this.recording);
+        this.recording.reset();
+        this.cameraCaptured = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        assert this.graphics != null;
+        synchronized (this.paintLock) {
+            final CommandBuffer latest = this.ready.get();
+            if (latest.isFresh()) {
+                this.displaying = this.ready.getAndSet(this.displaying);
+                this.displaying.setFresh(false);
+            }
+            this.displaying.replay(this.graphics, this.getInterpolation(this.displaying));
+        }
     }
 
     /**
@@ -338,17 +725,79 @@ public final class Renderer implements IRenderer {
     @Override
     public void setGraphicsBuffer(final Graphics g) {
         if (g == null) {
-            throw new IllegalArgumentException("The graphics buffer cannot be null");
+            final String error = "The graphics buffer cannot be null";
+            this.logger.error(error);
+            throw new IllegalArgumentException(error);
         }
 
         this.graphics = (Graphics2D) g;
+        this.applyQuality(this.graphics);
+    }
 
-        this.graphics.setRenderingHint(
+    /**
+     * Sets the rendering hints of the current quality tier.
+     *
+     * @param g The graphics to draw with.
+     */
+    private void applyQuality(final Graphics2D g) {
+        final QualityTier tier = this.quality;
+        g.setRenderingHint(
                 RenderingHints.KEY_ANTIALIASING,
-                RenderingHints.VALUE_ANTIALIAS_ON);
-        this.graphics.setRenderingHint(
+                tier.isAntialiasing() ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setRenderingHint(
                 RenderingHints.KEY_TEXT_ANTIALIASING,
-                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                tier.isTextAntialiasing()
+                        ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g.setRenderingHint(
+                RenderingHints.KEY_INTERPOLATION,
+                tier.getInterpolation().getInterpolation());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInterpolation(final double alpha) {
+        assert alpha >= 0d && alpha < 1d;
+        this.interpolation = alpha;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTickTime(final long time) {
+        this.tickTime = time;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMotion(final double x, final double y) {
+        if (Math.abs(x) > this.serviceLocator.getConstants().getGameWidth() / 2d) {
+            this.recording.setMotion(0, 0);
+        } else {
+            this.recording.setMotion(this.toScreen(x), this.toScreen(y));
+        }
+    }
+
+    /**
+     * Get how far a frame is between the previous and the latest tick when it is replayed now.
+     *
+     * @param frame The frame.
+     * @return The time that has passed since the latest tick of the frame relative to the length of a tick, at most
+     * 1, or the interpolation that has been set when the frame does not carry the time of its tick.
+     */
+    private double getInterpolation(final CommandBuffer frame) {
+        final long time = frame.getTickTime();
+        if (time == CommandBuffer.NO_TICK_TIME) {
+            return this.interpolation;
+        }
+
+        final double tickLength = (double) ICalc.NANOSECONDS
+                / this.serviceLocator.getConstants().getTicksPerSecond();
+        return Math.min(1d, Math.max(0d, (System.nanoTime() - time) / tickLength));
     }
 
     /**
@@ -368,34 +817,144 @@ public final class Renderer implements IRenderer {
     }
 
     /**
-     * Returns the X-position at which text should be drawn.
+     * Records drawing a sprite at a size. A copy of the sprite that is scaled to that size is drawn when possible,
+     * so it does not have to be scaled every frame.
      *
-     * @param point The point at which the text should be drawn
-     * @param msg The text that should be drawn
-     * @param alignment The way the text is aligned
-     * @param font The font that's used to draw the text
-     * @return The X-position at which the text should be drawn
-     */
-    private int prepareDrawText(final Point point, final String msg, final TextAlignment alignment, final java.awt.Color color, final Font font) {
-        graphics.setFont(font);
-        graphics.setColor(color);
-        double xPos;
-        switch (alignment) {
-            case left:
-                xPos = point.getX();
-                break;
-            case center:
-                xPos = point.getX() - (double) graphics.getFontMetrics().stringWidth(msg) / 2d;
-                break;
-            case right:
-                xPos = point.getX() - (double) graphics.getFontMetrics().stringWidth(msg);
-                break;
-            default:
-                final String error = "The text alignment enum constant could not be identified: " + alignment.toString();
-                logger.error(error);
-                throw new InternalError(error);
-        }
-        return (int) xPos;
+     * @param commands The frame to record to.
+     * @param sprite   The sprite to draw.
+     * @param point    The position to draw at.
+     * @param width    The width to draw the sprite with.
+     * @param height   The height to draw the sprite with.
+     * @param relative Whether the position is relative to the camera.
+     */
+    private void recordSprite(final CommandBuffer commands, final ISprite sprite, final Point point,
+                              final int width, final int height, final boolean relative) {
+        this.recordSprite(commands, sprite, this.toScreen(point.getX()), this.toScreen(point.getY()),
+                this.toScreen(width), this.toScreen(height), relative);
+    }
+
+    /**
+     * Records drawing a sprite at a size on the screen.
+     *
+     * @param commands The frame to record to.
+     * @param sprite   The sprite to draw.
+     * @param x        The X position on the screen.
+     * @param y        The Y position on the screen.
+     * @param width    The width on the screen.
+     * @param height   The height on the screen.
+     * @param relative Whether the position is relative to the camera.
+     */
+    private void recordSprite(final CommandBuffer commands, final ISprite sprite, final int x, final int y,
+                              final int width, final int height, final boolean relative) {
+        final ISprite scaled = this.getScaledSprite(sprite, width, height);
+        if (scaled.isRegion()) {
+            commands.imageRegion(scaled.getImage(), x, y, width, height,
+                    scaled.getX(), scaled.getY(), scaled.getWidth(), scaled.getHeight(), relative);
+        } else if (scaled.getWidth() == width && scaled.getHeight() == height) {
+            commands.image(scaled.getImage(), x, y, width, height, relative);
+        } else {
+            commands.scaledImage(scaled.getImage(), x, y, width, height, relative);
+        }
+    }
+
+    /**
+     * Records drawing a rotated sprite at a size, relative to the camera. When the sprite has rotation frames, the
+     * closest frame is drawn around the same center instead.
+     *
+     * @param sprite The sprite to draw.
+     * @param point  The position to draw at.
+     * @param w      The width to draw the sprite with.
+     * @param h      The height to draw the sprite with.
+     * @param theta  The angle in radians.
+     */
+    private void recordRotatedSprite(final ISprite sprite, final Point point, final int w, final int h,
+                                     final double theta) {
+        final int x = this.toScreen(point.getX()), y = this.toScreen(point.getY());
+        final int width = this.toScreen(w), height = this.toScreen(h);
+        final Integer frames = sprite.getName() == null ? null : this.rotationFrames.get(sprite.getName());
+        if (frames != null) {
+            final ISprite frame = this.serviceLocator.getSpriteFactory().getRotatedSprite(sprite, width, height,
+                    theta, frames, Renderer.SCALING_QUALITY);
+            this.recordSprite(this.worldCommands(), frame, x + (width - frame.getWidth()) / 2,
+                    y + (height - frame.getHeight()) / 2, frame.getWidth(), frame.getHeight(), true);
+            return;
+        }
+
+        final ISprite scaled = this.getScaledSprite(sprite, width, height);
+        if (scaled.isRegion()) {
+            this.worldCommands().rotatedImageRegion(scaled.getImage(), x, y, width, height,
+                    scaled.getX(), scaled.getY(), scaled.getWidth(), scaled.getHeight(), theta, true);
+        } else {
+            final boolean isScaled = scaled.getWidth() != width || scaled.getHeight() != height;
+            this.worldCommands().rotatedImage(scaled.getImage(), x, y, width, height,
+                    scaled.getWidth(), scaled.getHeight(), theta, isScaled, true);
+        }
+    }
+
+    /**
+     * Returns a copy of a sprite that is scaled to a size, so it can be drawn without scaling it every frame.
+     *
+     * @param sprite The sprite to scale.
+     * @param width  The width to scale to.
+     * @param height The height to scale to.
+     * @return The scaled sprite, or {@code sprite} itself if it already has that size or could not be scaled.
+     */
+    private ISprite getScaledSprite(final ISprite sprite, final int width, final int height) {
+        if (sprite.getWidth() == width && sprite.getHeight() == height) {
+            return sprite;
+        }
+        return this.serviceLocator.getSpriteFactory().getScaledSprite(sprite, width, height, Renderer.SCALING_QUALITY);
+    }
+
+    /**
+     * Returns the frame that is being recorded, after capturing the position of the camera for it.
+     * <br>
+     * The camera is captured at the first draw relative to it, so the frame uses the camera of the latest tick.
+     *
+     * @return The frame that is being recorded.
+     */
+    private CommandBuffer worldCommands() {
+        // A viewport captures its own camera when it starts
+        if (!this.cameraCaptured && this.frameCamera == null) {
+            this.recording.setCamera(this.camera.getYPos(0d) * this.renderScale,
+                    this.camera.getYPos(1d) * this.renderScale);
+            this.cameraCaptured = true;
+        }
+        return this.recording;
+    }
+
+    /**
+     * Converts a position or size in the game to the screen the frames are drawn to, or to the viewport that is
+     * being drawn.
+     *
+     * @param value The position or size in the coordinates of the game.
+     * @return The position or size in pixels of the screen.
+     */
+    private int toScreen(final double value) {
+        return (int) Math.round(value * this.drawScale);
+    }
+
+    /**
+     * Converts the size of a font to the screen the frames are drawn to.
+     *
+     * @param size The size of the font in the game, or 0 for the default size.
+     * @return The size of the font on the screen, or 0 for the default size.
+     */
+    private int toFontSize(final int size) {
+        if (this.drawScale == 1d) {
+            return size;
+        }
+        return Math.max(1, this.toScreen(size == 0 ? FontRegistry.DEFAULT_SIZE : size));
+    }
+
+    /**
+     * Converts the resolution of the darkness relative to the game to the screen the frames are drawn to.
+     *
+     * @param divisor The amount of times the darkness is smaller than the game.
+     * @return The amount of times the darkness is smaller than the screen, at least 1.
+     */
+    private int toLightDivisor(final int divisor) {
+        return Math.max(1, (int) Math.round(divisor * this.renderScale));
     }
 
 }
@@ -10,7 +10,7 @@ import com.google.common.util.concurrent.AtomicDouble;
     /**
      * The y-coordinate of the camera. When the doodle jumps high enough, this value decreases.
      */
-    private static AtomicDouble y = new AtomicDouble(0d);
+    private final AtomicDouble y = new AtomicDouble(0d);
 
     /**
      * Package constructor to prevent instantiation from outside the package.
@@ -37,7 +37,7 @@ import com.google.common.util.concurrent.AtomicDouble;
      */
     @Override
     public double getYPos() {
-        return StaticCamera.y.get();
+        return this.y.get();
     }
 
     /**
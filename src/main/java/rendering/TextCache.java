@@ -0,0 +1,257 @@
+package rendering;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Keeps texts that have been drawn into images, so drawing the same text again is a single blit and does not
+ * lay out and measure the glyphs again.
+ * <br>
+ * The cache is bounded by the amount of bytes of the images, the least recently used texts are dropped when it
+ * grows too large. The cache is safe to use from several threads.
+ */
+/* package */ final class TextCache {
+
+    /**
+     * The maximum amount of bytes the images of the texts may take up.
+     */
+    private static final long MAX_BYTES = 8L * 1024L * 1024L;
+    /**
+     * The amount of bytes used by a pixel of an image.
+     */
+    private static final int BYTES_PER_PIXEL = 4;
+    /**
+     * The amount of empty pixels around a text, for glyphs that reach outside their bounds.
+     */
+    private static final int PADDING = 2;
+
+    /**
+     * Used to measure texts before they are drawn.
+     */
+    private final Graphics2D measuring;
+    /**
+     * The drawn texts.
+     */
+    private final LoadingCache<TextKey, Raster> cache;
+
+    /**
+     * Create an empty text cache.
+     */
+    /* package */ TextCache() {
+        this.measuring = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE).createGraphics();
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(TextCache.MAX_BYTES)
+                .weigher((TextKey key, Raster raster) -> raster.image.getWidth() * raster.image.getHeight()
+                        * TextCache.BYTES_PER_PIXEL)
+                .build(
+                        new CacheLoader<TextKey, Raster>() {
+                            @Override
+                            public Raster load(final TextKey key) {
+                                return draw(key);
+                            }
+                        }
+                );
+    }
+
+    /**
+     * Get a text drawn into an image, drawing it the first time it is requested.
+     *
+     * @param text        The text.
+     * @param font        The font of the text.
+     * @param color       The color of the text.
+     * @param antialiased Whether the text is drawn with antialiasing, see {@link QualityTier#isTextAntialiasing()}.
+     * @return The drawn text.
+     */
+    /* package */ Raster get(final String text, final Font font, final java.awt.Color color,
+                             final boolean antialiased) {
+        return this.cache.getUnchecked(new TextKey(text, font, color, antialiased));
+    }
+
+    /**
+     * Draws a text into a new image that is just large enough.
+     *
+     * @param key The text, font, color and antialiasing.
+     * @return The drawn text.
+     */
+    private Raster draw(final TextKey key) {
+        final FontMetrics metrics;
+        synchronized (this.measuring) {
+            TextCache.setHints(this.measuring, key.antialiased);
+            metrics = this.measuring.getFontMetrics(key.font);
+        }
+        final int width = metrics.stringWidth(key.text);
+        final int originY = TextCache.PADDING + metrics.getAscent();
+        final BufferedImage image = new BufferedImage(width + 2 * TextCache.PADDING,
+                originY + metrics.getDescent() + TextCache.PADDING, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            TextCache.setHints(graphics, key.antialiased);
+            graphics.setFont(key.font);
+            graphics.setColor(key.color);
+            graphics.drawString(key.text, TextCache.PADDING, originY);
+        } finally {
+            graphics.dispose();
+        }
+        return new Raster(image, width, TextCache.PADDING, originY);
+    }
+
+    /**
+     * Draw texts with the same quality as the Renderer does.
+     *
+     * @param graphics    The graphics to set the hints of.
+     * @param antialiased Whether the text is drawn with antialiasing.
+     */
+    private static void setHints(final Graphics2D graphics, final boolean antialiased) {
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                antialiased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                antialiased ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+    }
+
+    /**
+     * A text that has been drawn into an image.
+     */
+    /* package */ static final class Raster {
+
+        /**
+         * The image containing the text.
+         */
+        private final BufferedImage image;
+        /**
+         * The width of the text, without the padding.
+         */
+        private final int width;
+        /**
+         * The position in the image of the start of the baseline of the text.
+         */
+        private final int originX, originY;
+
+        /**
+         * Creates a new Raster.
+         *
+         * @param i  The image containing the text.
+         * @param w  The width of the text.
+         * @param oX The X position of the start of the baseline.
+         * @param oY The Y position of the baseline.
+         */
+        private Raster(final BufferedImage i, final int w, final int oX, final int oY) {
+            this.image = i;
+            this.width = w;
+            this.originX = oX;
+            this.originY = oY;
+        }
+
+        /**
+         * Get the image containing the text.
+         *
+         * @return The image.
+         */
+        /* package */ BufferedImage getImage() {
+            return this.image;
+        }
+
+        /**
+         * Get the width of the text, which is used to align it.
+         *
+         * @return The width of the text.
+         */
+        /* package */ int getWidth() {
+            return this.width;
+        }
+
+        /**
+         * Get the X position in the image of the start of the baseline of the text.
+         *
+         * @return The X position.
+         */
+        /* package */ int getOriginX() {
+            return this.originX;
+        }
+
+        /**
+         * Get the Y position in the image of the baseline of the text.
+         *
+         * @return The Y position.
+         */
+        /* package */ int getOriginY() {
+            return this.originY;
+        }
+
+    }
+
+    /**
+     * Identifies a text drawn with a font, a color and with or without antialiasing.
+     */
+    private static final class TextKey {
+
+        /**
+         * The prime used to combine the hash codes of the fields.
+         */
+        private static final int HASH_PRIME = 31;
+        /**
+         * The text.
+         */
+        private final String text;
+        /**
+         * The font of the text.
+         */
+        private final Font font;
+        /**
+         * The color of the text.
+         */
+        private final java.awt.Color color;
+        /**
+         * Whether the text is drawn with antialiasing.
+         */
+        private final boolean antialiased;
+
+        /**
+         * Creates a new TextKey.
+         *
+         * @param t  The text.
+         * @param f  The font of the text.
+         * @param c  The color of the text.
+         * @param aa Whether the text is drawn with antialiasing.
+         */
+        private TextKey(final String t, final Font f, final java.awt.Color c, final boolean aa) {
+            this.text = t;
+            this.font = f;
+            this.color = c;
+            this.antialiased = aa;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof TextKey)) {
+                return false;
+            }
+            final TextKey key = (TextKey) other;
+            return this.text.equals(key.text) && this.font.equals(key.font) && this.color.equals(key.color)
+                    && this.antialiased == key.antialiased;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.text.hashCode();
+            hash = TextKey.HASH_PRIME * hash + this.font.hashCode();
+            hash = TextKey.HASH_PRIME * hash + this.color.hashCode();
+            return TextKey.HASH_PRIME * hash + Boolean.hashCode(this.antialiased);
+        }
+
+    }
+
+}
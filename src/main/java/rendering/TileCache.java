@@ -0,0 +1,247 @@
+package rendering;
+
+import resources.sprites.ISprite;
+import resources.sprites.ScalingQuality;
+import system.IServiceLocator;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps sprites that never move drawn into tiles of the world, so drawing them can be a few blits of whole tiles.
+ * <br>
+ * A tile is a horizontal strip of the world, as wide as the game and {@link #TILE_HEIGHT} high. A sprite is added to
+ * every tile it overlaps, and a tile is drawn into an image the first time it is needed at a scale. The tiles are in
+ * the coordinates of the world, so every viewport that shows a part of the world blits from the same images. A tile
+ * to which a sprite is added after it was drawn is drawn into a new image, so an image that is handed to the painting
+ * thread never changes.
+ * <br>
+ * A tile cache is not thread safe, it must only be used by the thread that records the frames.
+ */
+/* package */ final class TileCache {
+
+    /**
+     * The height of a tile in the coordinates of the game.
+     */
+    /* package */ static final int TILE_HEIGHT = 256;
+    /**
+     * The quality with which the sprites are scaled to the scale of the tiles.
+     */
+    private static final ScalingQuality SCALING_QUALITY = ScalingQuality.smooth;
+
+    /**
+     * Used to gain access to all services.
+     */
+    private final IServiceLocator serviceLocator;
+    /**
+     * The tiles that contain sprites, by their index from the top of the world.
+     */
+    private final TreeMap<Integer, Tile> tiles = new TreeMap<>();
+
+    /**
+     * Create an empty tile cache.
+     *
+     * @param sL The service locator.
+     */
+    /* package */ TileCache(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+    }
+
+    /**
+     * Adds a sprite to the tiles it overlaps.
+     *
+     * @param sprite The sprite.
+     * @param x      The X position of the sprite in the world.
+     * @param y      The Y position of the sprite in the world.
+     */
+    /* package */ void add(final ISprite sprite, final int x, final int y) {
+        final int first = Math.floorDiv(y, TileCache.TILE_HEIGHT);
+        final int last = Math.floorDiv(y + sprite.getHeight() - 1, TileCache.TILE_HEIGHT);
+        for (int index = first; index <= last; index++) {
+            final Tile tile = this.tiles.computeIfAbsent(index, i -> new Tile());
+            tile.sprites.add(new Entry(sprite, x, y));
+            tile.image = null;
+        }
+    }
+
+    /**
+     * Get the image of a tile, drawing it if it has not been drawn at the scale yet.
+     *
+     * @param index The index of the tile from the top of the world.
+     * @param scale The scale from the game to the image.
+     * @return The image of the tile, or {@code null} if no sprite overlaps the tile.
+     */
+    /* package */ BufferedImage get(final int index, final double scale) {
+        final Tile tile = this.tiles.get(index);
+        if (tile == null) {
+            return null;
+        }
+        if (tile.image == null || tile.scale != scale) {
+            tile.image = this.draw(tile, index, scale);
+            tile.scale = scale;
+        }
+        return tile.image;
+    }
+
+    /**
+     * Visits the sprites that overlap a range of tiles. Every sprite is visited once, from the first tile of the range
+     * that it overlaps, so a sprite that starts above the range but reaches into it is visited as well.
+     *
+     * @param first   The index of the top tile of the range.
+     * @param last    The index of the bottom tile of the range.
+     * @param visitor The visitor that is given every sprite with its position in the world.
+     */
+    /* package */ void visit(final int first, final int last, final SpriteVisitor visitor) {
+        for (Map.Entry<Integer, Tile> tile : this.tiles.subMap(first, true, last, true).entrySet()) {
+            final int index = tile.getKey();
+            for (Entry entry : tile.getValue().sprites) {
+                if (Math.max(first, Math.floorDiv(entry.y, TileCache.TILE_HEIGHT)) == index) {
+                    visitor.visit(entry.sprite, entry.x, entry.y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of tiles that contain sprites.
+     *
+     * @return The amount of tiles.
+     */
+    /* package */ int size() {
+        return this.tiles.size();
+    }
+
+    /**
+     * Removes the tiles that are completely below a height.
+     *
+     * @param y The height in the world below which no tile is drawn anymore.
+     */
+    /* package */ void discardBelow(final double y) {
+        this.tiles.tailMap((int) Math.ceil(y / TileCache.TILE_HEIGHT), true).clear();
+    }
+
+    /**
+     * Removes all tiles.
+     */
+    /* package */ void clear() {
+        this.tiles.clear();
+    }
+
+    /**
+     * Get the position of a tile on the screen.
+     *
+     * @param index The index of the tile from the top of the world.
+     * @param scale The scale from the game to the screen.
+     * @return The Y position of the top of the tile in pixels.
+     */
+    /* package */ static int toScreen(final int index, final double scale) {
+        return (int) Math.round((double) index * TileCache.TILE_HEIGHT * scale);
+    }
+
+    /**
+     * Draws the sprites of a tile into a new image. The image is a pixel higher than the tile, so the tiles
+     * overlap instead of leaving gaps when the height of a tile is not a whole amount of pixels.
+     *
+     * @param tile  The tile.
+     * @param index The index of the tile from the top of the world.
+     * @param scale The scale from the game to the image.
+     * @return The image of the tile.
+     */
+    private BufferedImage draw(final Tile tile, final int index, final double scale) {
+        final int width = (int) Math.round(this.serviceLocator.getConstants().getGameWidth() * scale);
+        final int height = (int) Math.ceil(TileCache.TILE_HEIGHT * scale) + 1;
+        final BufferedImage image = new BufferedImage(Math.max(1, width), height, BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, TileCache.SCALING_QUALITY.getInterpolation());
+
+        final int top = TileCache.toScreen(index, scale);
+        for (Entry entry : tile.sprites) {
+            final int x = (int) Math.round(entry.x * scale);
+            final int y = (int) Math.round(entry.y * scale) - top;
+            final int w = (int) Math.round(entry.sprite.getWidth() * scale);
+            final int h = (int) Math.round(entry.sprite.getHeight() * scale);
+            final ISprite scaled = w == entry.sprite.getWidth() && h == entry.sprite.getHeight() ? entry.sprite
+                    : this.serviceLocator.getSpriteFactory().getScaledSprite(entry.sprite, w, h,
+                    TileCache.SCALING_QUALITY);
+            if (scaled.isRegion()) {
+                graphics.drawImage(scaled.getImage(), x, y, x + w, y + h, scaled.getX(), scaled.getY(),
+                        scaled.getX() + scaled.getWidth(), scaled.getY() + scaled.getHeight(), null);
+            } else {
+                graphics.drawImage(scaled.getImage(), x, y, w, h, null);
+            }
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * Is given the sprites of the tiles, see {@link #visit(int, int, SpriteVisitor)}.
+     */
+    /* package */ interface SpriteVisitor {
+
+        /**
+         * Visit a sprite.
+         *
+         * @param sprite The sprite.
+         * @param x      The X position of the sprite in the world.
+         * @param y      The Y position of the sprite in the world.
+         */
+        void visit(ISprite sprite, int x, int y);
+
+    }
+
+    /**
+     * A strip of the world.
+     */
+    private static final class Tile {
+
+        /**
+         * The sprites that overlap the tile.
+         */
+        private final List<Entry> sprites = new ArrayList<>();
+        /**
+         * The image of the tile, or {@code null} if the tile has not been drawn since its latest sprite was added.
+         */
+        private BufferedImage image;
+        /**
+         * The scale at which the image has been drawn.
+         */
+        private double scale;
+
+    }
+
+    /**
+     * A sprite at a position in the world.
+     */
+    private static final class Entry {
+
+        /**
+         * The sprite.
+         */
+        private final ISprite sprite;
+        /**
+         * The position of the sprite in the world.
+         */
+        private final int x, y;
+
+        /**
+         * Create an entry.
+         *
+         * @param s  The sprite.
+         * @param xP The X position of the sprite in the world.
+         * @param yP The Y position of the sprite in the world.
+         */
+        private Entry(final ISprite s, final int xP, final int yP) {
+            this.sprite = s;
+            this.x = xP;
+            this.y = yP;
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+package resources;
+
+import logging.ILogger;
+import rendering.IRenderer;
+import resources.audio.IAudioManager;
+import resources.audio.Sounds;
+import resources.sprites.ISpriteFactory;
+import system.IServiceLocator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads all {@link IRes.Sprites sprites} of the active skin and all {@link Sounds sounds} in parallel, so they do
+ * not have to be loaded the first time they are drawn or played.
+ * <br>
+ * The assets are loaded into the caches of the {@link ISpriteFactory} and the {@link IAudioManager}, which are safe
+ * to use from several threads. Assets that are already cached are not loaded again. When all sprites have been
+ * loaded, they are packed into a texture atlas.
+ * <br>
+ * When the frames are drawn at a smaller {@link rendering.IRenderer#setRenderScale(double) render scale}, every sprite
+ * is scaled down once as soon as it is loaded instead. The sprites are then drawn from their scaled copies, so they
+ * are not packed into an atlas.
+ */
+public final class AssetPreloader {
+
+    /**
+     * The amount of nanoseconds in a millisecond.
+     */
+    private static final long NANOSECONDS_PER_MILLISECOND = 1000000L;
+    /**
+     * The minimum amount of worker threads, loading sounds mostly waits for the sound device.
+     */
+    private static final int MIN_THREADS = 2;
+
+    /**
+     * Used to gain access to all services.
+     */
+    private final transient IServiceLocator serviceLocator;
+    /**
+     * The logger for the AssetPreloader class.
+     */
+    private final ILogger logger;
+    /**
+     * The total amount of assets to load.
+     */
+    private final int total;
+    /**
+     * The amount of assets that have been loaded.
+     */
+    private final AtomicInteger loaded = new AtomicInteger(0);
+    /**
+     * Whether all assets have been loaded and the texture atlas has been packed.
+     */
+    private volatile boolean done = false;
+    /**
+     * The moment at which loading started.
+     */
+    private volatile long startTime;
+
+    /**
+     * Create a preloader for the assets of a service locator.
+     *
+     * @param sL The service locator whose sprites and sounds must be loaded.
+     */
+    public AssetPreloader(final IServiceLocator sL) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        this.serviceLocator = sL;
+        this.logger = sL.getLoggerFactory().createLogger(AssetPreloader.class);
+        this.total = IRes.Sprites.values().length + Sounds.values().length;
+    }
+
+    /**
+     * Starts loading all assets on a pool of daemon threads and returns immediately.
+     */
+    public void start() {
+        this.startTime = System.nanoTime();
+        final int threads = Math.max(AssetPreloader.MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "asset-preloader-" + this.count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        final ISpriteFactory spriteFactory = this.serviceLocator.getSpriteFactory();
+        final IRenderer renderer = this.serviceLocator.getRenderer();
+        for (IRes.Sprites sprite : IRes.Sprites.values()) {
+            pool.execute(() -> this.load(sprite.toString(),
+                    () -> renderer.prepareSprite(spriteFactory.getSprite(sprite))));
+        }
+        final IAudioManager audioManager = this.serviceLocator.getAudioManager();
+        for (Sounds sound : Sounds.values()) {
+            pool.execute(() -> this.load(sound.toString(), () -> audioManager.preload(sound)));
+        }
+        pool.shutdown();
+        this.logger.info("Preloading " + this.total + " assets on " + threads + " threads");
+    }
+
+    /**
+     * Get how much of the assets has been loaded.
+     *
+     * @return A value between 0 and 1.
+     */
+    public double getProgress() {
+        return (double) this.loaded.get() / (double) this.total;
+    }
+
+    /**
+     * Check whether all assets have been loaded.
+     *
+     * @return {@code true} if all assets have been loaded and packed.
+     */
+    public boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * Loads a single asset and counts it as loaded, even when it could not be loaded.
+     *
+     * @param name   The name of the asset.
+     * @param loader Loads the asset.
+     */
+    private void load(final String name, final Runnable loader) {
+        try {
+            loader.run();
+        } catch (RuntimeException e) {
+            this.logger.warning("The asset \"" + name + "\" could not be preloaded");
+        }
+
+        if (this.loaded.incrementAndGet() == this.total) {
+            try {
+                if (this.serviceLocator.getRenderer().getRenderScale() == 1d) {
+                    this.serviceLocator.getSpriteFactory().packAtlas();
+                }
+            } catch (RuntimeException e) {
+                this.logger.warning("The sprites could not be packed into a texture atlas");
+            }
+            this.logger.info("Preloaded " + this.total + " assets in "
+                    + (System.nanoTime() - this.startTime) / AssetPreloader.NANOSECONDS_PER_MILLISECOND + " ms");
+            this.done = true;
+        }
+    }
+
+}
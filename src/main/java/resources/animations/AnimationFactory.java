@@ -19,7 +19,7 @@ public final class AnimationFactory implements IAnimationFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the SpriteFactory class.
      */
@@ -32,9 +32,12 @@ public final class AnimationFactory implements IAnimationFactory {
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private AnimationFactory() {
-        this.logger = resources.animations.AnimationFactory.serviceLocator.getLoggerFactory().createLogger(this.getClass());
+    private AnimationFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(this.getClass());
         animationCache = CacheBuilder.newBuilder()
                 .maximumSize(Long.MAX_VALUE)
                 .build(
@@ -56,8 +59,7 @@ public final class AnimationFactory implements IAnimationFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        resources.animations.AnimationFactory.serviceLocator = sL;
-        resources.animations.AnimationFactory.serviceLocator.provide(new AnimationFactory());
+        sL.provide(new AnimationFactory(sL));
     }
 
     /**
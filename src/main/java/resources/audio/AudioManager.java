@@ -28,7 +28,7 @@ public final class AudioManager implements IAudioManager {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * A fake clip to return when a clip is requested from the clips map to prevent errors.
      */
@@ -182,9 +182,12 @@ public final class AudioManager implements IAudioManager {
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private AudioManager() {
-        this.logger = AudioManager.serviceLocator.getLoggerFactory().createLogger(this.getClass());
+    private AudioManager(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(this.getClass());
         soundsCache = CacheBuilder.newBuilder()
                 .maximumSize(Long.MAX_VALUE)
                 .build(
@@ -195,7 +198,6 @@ public final class AudioManager implements IAudioManager {
                             }
                         }
                 );
-        this.preload();
     }
 
     /**
@@ -207,8 +209,7 @@ public final class AudioManager implements IAudioManager {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        AudioManager.serviceLocator = sL;
-        AudioManager.serviceLocator.provide(new AudioManager());
+        sL.provide(new AudioManager(sL));
     }
 
     /**
@@ -217,7 +218,20 @@ public final class AudioManager implements IAudioManager {
     @Override
     public void preload() {
         for (Sounds sound : Sounds.values()) {
-            soundsCache.put(sound, loadClip(sound));
+            this.preload(sound);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preload(final Sounds sound) {
+        assert sound != null;
+        try {
+            this.soundsCache.get(sound);
+        } catch (ExecutionException e) {
+            this.logger.error(e);
         }
     }
 
@@ -279,7 +293,7 @@ public final class AudioManager implements IAudioManager {
     private Clip loadClip(final Sounds sound) {
         try {
             final String filePath = sound.getFilepath();
-            final Clip clip = AudioManager.serviceLocator.getFileSystem().readSound(filePath);
+            final Clip clip = this.serviceLocator.getFileSystem().readSound(filePath);
             logger.info("Sound loaded: \"" + filePath + "\"");
             return clip;
         } catch (FileNotFoundException e) {
@@ -10,6 +10,12 @@ public interface IAudioManager {
      */
     void preload();
 
+    /**
+     * Preload a single sound, if it has not been loaded yet. Can be called from any thread.
+     * @param sound The sound that should be loaded
+     */
+    void preload(final Sounds sound);
+
     /**
      * Play a sound specified one time.
      * @param sound The sound that should be played
@@ -15,12 +15,34 @@ public interface ISprite {
     String getName();
 
     /**
-     * Get the image of the sprite.
+     * Get the image of the sprite. When the sprite is a {@link #isRegion() region}, the image contains other
+     * sprites as well.
      *
      * @return The image of the sprite.
      */
     Image getImage();
 
+    /**
+     * Get the X position of the sprite in its image.
+     *
+     * @return The X position of the sprite in its image.
+     */
+    int getX();
+
+    /**
+     * Get the Y position of the sprite in its image.
+     *
+     * @return The Y position of the sprite in its image.
+     */
+    int getY();
+
+    /**
+     * Check whether the sprite is only a part of its image, like a sprite in a texture atlas.
+     *
+     * @return {@code true} if the image is larger than the sprite.
+     */
+    boolean isRegion();
+
     /**
      * Get the width of the sprite.
      *
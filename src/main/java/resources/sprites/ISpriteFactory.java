@@ -18,6 +18,51 @@ public interface ISpriteFactory extends IFactory {
      */
     ISprite getSprite(final IRes.Sprites sprite);
 
+    /**
+     * Get a copy of a sprite that is scaled to a size, so it can be drawn without scaling it again. The copies are
+     * cached, the least recently used copies are dropped when the cache grows too large.
+     *
+     * @param sprite  The sprite to scale.
+     * @param width   The width to scale to.
+     * @param height  The height to scale to.
+     * @param quality The interpolation used to scale the sprite.
+     * @return The scaled sprite, or {@code sprite} itself if it already has that size or cannot be scaled.
+     */
+    ISprite getScaledSprite(final ISprite sprite, final int width, final int height, final ScalingQuality quality);
+
+    /**
+     * Get a copy of a sprite that is scaled to a size and rotated by the nearest of a number of evenly spaced
+     * angles, so a rotating sprite can be drawn without rotating it every frame. All frames of a sprite are drawn
+     * the first time one of them is requested, and cached like scaled sprites.
+     * <br>
+     * The frames are squares with the diagonal of the sprite as their sides, with the rotated sprite in the center.
+     *
+     * @param sprite  The sprite to rotate.
+     * @param width   The width to scale to.
+     * @param height  The height to scale to.
+     * @param theta   The angle in radians.
+     * @param frames  The amount of angles in a full turn.
+     * @param quality The interpolation used to scale and rotate the sprite.
+     * @return The frame closest to the angle.
+     */
+    ISprite getRotatedSprite(final ISprite sprite, final int width, final int height, final double theta,
+                             final int frames, final ScalingQuality quality);
+
+    /**
+     * Packs the sprites that have been loaded into a texture atlas, so they share a few large images. The sprites
+     * that are requested afterwards are regions of the atlas.
+     */
+    void packAtlas();
+
+    /**
+     * Get a sprite in which all sprites of a static layer have been composed. The sprites are cached for as long as
+     * the layer is in use.
+     *
+     * @param layer The layer to compose.
+     * @return A sprite of the size of the layer.
+     */
+    ISprite getLayerSprite(final StaticLayer layer);
+
     ISprite[] getGreenDoodleSprites();
 
     ISprite[] getRedDoodleSprites();
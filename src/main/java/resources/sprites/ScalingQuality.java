@@ -0,0 +1,48 @@
+package resources.sprites;
+
+import java.awt.RenderingHints;
+
+/**
+ * The interpolation used when a sprite is scaled to a new size.
+ */
+public enum ScalingQuality {
+
+    /**
+     * Uses the nearest pixel, fast but blocky.
+     */
+    fast(RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR),
+
+    /**
+     * Blends the four nearest pixels.
+     */
+    smooth(RenderingHints.VALUE_INTERPOLATION_BILINEAR),
+
+    /**
+     * Blends the sixteen nearest pixels, the slowest but sharpest.
+     */
+    best(RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+    /**
+     * The rendering hint used to scale the sprite.
+     */
+    private final Object interpolation;
+
+    /**
+     * Create a scaling quality.
+     *
+     * @param i The value of the {@link RenderingHints#KEY_INTERPOLATION interpolation hint}.
+     */
+    ScalingQuality(final Object i) {
+        this.interpolation = i;
+    }
+
+    /**
+     * Get the value of the {@link RenderingHints#KEY_INTERPOLATION interpolation hint} for this quality.
+     *
+     * @return The value of the rendering hint.
+     */
+    public Object getInterpolation() {
+        return this.interpolation;
+    }
+
+}
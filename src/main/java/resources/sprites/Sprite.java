@@ -18,10 +18,18 @@ public final class Sprite implements ISprite {
      * The image of the sprite.
      */
     private final Image image;
+    /**
+     * The position of the sprite in its image.
+     */
+    private final int x, y;
     /**
      * The width and height of the sprite.
      */
     private final int width, height;
+    /**
+     * Whether the sprite is only a part of its image.
+     */
+    private final boolean region;
     /**
      * The ratio of the sprite.
      */
@@ -34,10 +42,27 @@ public final class Sprite implements ISprite {
      * @param i The image for the sprite.
      */
     /* package */ Sprite(final String n, final BufferedImage i) {
+        this(n, i, 0, 0, i.getWidth(), i.getHeight());
+    }
+
+    /**
+     * Package constructor for a sprite that is a part of an image, used by the {@link TextureAtlas}.
+     *
+     * @param n  The name for the sprite.
+     * @param i  The image that contains the sprite.
+     * @param rX The X position of the sprite in the image.
+     * @param rY The Y position of the sprite in the image.
+     * @param w  The width of the sprite.
+     * @param h  The height of the sprite.
+     */
+    /* package */ Sprite(final String n, final BufferedImage i, final int rX, final int rY, final int w, final int h) {
         this.name = n;
         this.image = i;
-        this.width = i.getWidth();
-        this.height = i.getHeight();
+        this.x = rX;
+        this.y = rY;
+        this.width = w;
+        this.height = h;
+        this.region = rX != 0 || rY != 0 || w != i.getWidth() || h != i.getHeight();
         this.ratio = (double) height / (double) width;
     }
 
@@ -57,6 +82,30 @@ public final class Sprite implements ISprite {
         return this.image;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getX() {
+        return this.x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getY() {
+        return this.y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRegion() {
+        return this.region;
+    }
+
     /**
      * {@inheritDoc}
      */
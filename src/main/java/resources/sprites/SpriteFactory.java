@@ -9,8 +9,15 @@ import resources.IRes;
 import scenes.PauseScreenModes;
 import system.IServiceLocator;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.FileNotFoundException;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -18,10 +25,19 @@ import java.util.concurrent.ExecutionException;
  */
 public final class SpriteFactory implements ISpriteFactory {
 
+    /**
+     * The maximum amount of bytes the scaled sprites may take up.
+     */
+    private static final long MAX_SCALED_BYTES = 32L * 1024L * 1024L;
+    /**
+     * The amount of bytes used by a pixel of a scaled sprite.
+     */
+    private static final int BYTES_PER_PIXEL = 4;
+
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
     /**
      * The logger for the SpriteFactory class.
      */
@@ -31,12 +47,27 @@ public final class SpriteFactory implements ISpriteFactory {
      * The spriteCache for the SpriteFactory.
      */
     private final LoadingCache<IRes.Sprites, ISprite> spriteCache;
+    /**
+     * The cache of scaled sprites, weighed by the amount of bytes of their images.
+     */
+    private final LoadingCache<ScaledKey, ISprite> scaledCache;
+    /**
+     * The cache of composed static layers, which are dropped together with the scene that uses them.
+     */
+    private final LoadingCache<StaticLayer, ISprite> layerCache;
+    /**
+     * The cache of the rotation frames of sprites, weighed by the amount of bytes of their images.
+     */
+    private final LoadingCache<RotatedKey, ISprite[]> rotatedCache;
 
     /**
      * Prevents instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private SpriteFactory() {
-        this.logger = SpriteFactory.serviceLocator.getLoggerFactory().createLogger(SpriteFactory.class);
+    private SpriteFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
+        this.logger = this.serviceLocator.getLoggerFactory().createLogger(SpriteFactory.class);
         spriteCache = CacheBuilder.newBuilder()
                 .maximumSize(Long.MAX_VALUE)
                 .build(
@@ -47,6 +78,39 @@ public final class SpriteFactory implements ISpriteFactory {
                             }
                         }
                 );
+        scaledCache = CacheBuilder.newBuilder()
+                .maximumWeight(SpriteFactory.MAX_SCALED_BYTES)
+                .weigher((ScaledKey key, ISprite scaled) -> key.width * key.height * SpriteFactory.BYTES_PER_PIXEL)
+                .build(
+                        new CacheLoader<ScaledKey, ISprite>() {
+                            @Override
+                            public ISprite load(final ScaledKey key) {
+                                return scaleISprite(key);
+                            }
+                        }
+                );
+        rotatedCache = CacheBuilder.newBuilder()
+                .maximumWeight(SpriteFactory.MAX_SCALED_BYTES)
+                .weigher((RotatedKey key, ISprite[] frames) ->
+                        frames.length * frames[0].getWidth() * frames[0].getHeight() * SpriteFactory.BYTES_PER_PIXEL)
+                .build(
+                        new CacheLoader<RotatedKey, ISprite[]>() {
+                            @Override
+                            public ISprite[] load(final RotatedKey key) {
+                                return rotateISprite(key);
+                            }
+                        }
+                );
+        layerCache = CacheBuilder.newBuilder()
+                .weakKeys()
+                .build(
+                        new CacheLoader<StaticLayer, ISprite>() {
+                            @Override
+                            public ISprite load(final StaticLayer layer) {
+                                return composeLayer(layer);
+                            }
+                        }
+                );
     }
 
     /**
@@ -58,8 +122,7 @@ public final class SpriteFactory implements ISpriteFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        SpriteFactory.serviceLocator = sL;
-        SpriteFactory.serviceLocator.provide(new SpriteFactory());
+        sL.provide(new SpriteFactory(sL));
     }
 
     /**
@@ -71,10 +134,10 @@ public final class SpriteFactory implements ISpriteFactory {
     private ISprite loadISprite(final IRes.Sprites spriteName) {
         assert spriteName != null;
 
-        String filepath = SpriteFactory.serviceLocator.getRes().getSpritePath(spriteName);
+        String filepath = this.serviceLocator.getRes().getSpritePath(spriteName);
 
         try {
-            BufferedImage image = SpriteFactory.serviceLocator.getFileSystem().readImage(filepath);
+            BufferedImage image = SpriteFactory.toCompatibleImage(this.serviceLocator.getFileSystem().readImage(filepath));
             this.logger.info("Sprite loaded: \"" + filepath + "\"");
             return new Sprite(getFileName(filepath), image);
         } catch (FileNotFoundException e) {
@@ -85,6 +148,105 @@ public final class SpriteFactory implements ISpriteFactory {
         }
     }
 
+    /**
+     * Creates an empty image in the format of the screen, so it can be drawn without converting it. When there is
+     * no screen, a premultiplied ARGB image or, for opaque images, an RGB image is created.
+     *
+     * @param width        The width of the image.
+     * @param height       The height of the image.
+     * @param transparency The {@link Transparency transparency} of the image.
+     * @return The new image.
+     */
+    /* package */ static BufferedImage createCompatibleImage(final int width, final int height, final int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            final int type = transparency == Transparency.OPAQUE
+                    ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+            return new BufferedImage(width, height, type);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, transparency);
+    }
+
+    /**
+     * Converts an image to the format of {@link #createCompatibleImage(int, int, int)} and releases the original.
+     * Opaque images stay opaque, so they can be copied to the screen without blending.
+     *
+     * @param image The image as it was read.
+     * @return The converted image, or {@code image} itself if it already has that format.
+     */
+    /* package */ static BufferedImage toCompatibleImage(final BufferedImage image) {
+        final BufferedImage compatible = SpriteFactory.createCompatibleImage(image.getWidth(), image.getHeight(),
+                image.getTransparency() == Transparency.OPAQUE ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+        if (compatible.getColorModel().equals(image.getColorModel())) {
+            return image;
+        }
+
+        final Graphics2D graphics = compatible.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        image.flush();
+        return compatible;
+    }
+
+    /**
+     * Draws a sprite into a new image of the requested size.
+     * <br>
+     * Interpolation only blends the pixels nearest to every pixel of the new image, so a sprite that is shrunk to
+     * less than half its size would skip pixels. Such a sprite is halved step by step first, which averages all of
+     * its pixels.
+     *
+     * @param key The sprite, size and quality to scale to.
+     * @return The scaled {@link ISprite sprite}.
+     */
+    private ISprite scaleISprite(final ScaledKey key) {
+        Image source = key.sprite.getImage();
+        final int transparency = source instanceof BufferedImage && !key.sprite.isRegion()
+                && ((BufferedImage) source).getTransparency() == Transparency.OPAQUE
+                ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        int sourceX = key.sprite.getX(), sourceY = key.sprite.getY();
+        int sourceWidth = key.sprite.getWidth(), sourceHeight = key.sprite.getHeight();
+        while (key.quality != ScalingQuality.fast
+                && sourceWidth >= 2 * key.width && sourceHeight >= 2 * key.height) {
+            final BufferedImage half = SpriteFactory.createCompatibleImage(sourceWidth / 2, sourceHeight / 2,
+                    transparency);
+            SpriteFactory.drawScaled(half, key.quality, source, sourceX, sourceY, sourceWidth, sourceHeight);
+            source = half;
+            sourceX = 0;
+            sourceY = 0;
+            sourceWidth = half.getWidth();
+            sourceHeight = half.getHeight();
+        }
+
+        final BufferedImage image = SpriteFactory.createCompatibleImage(key.width, key.height, transparency);
+        SpriteFactory.drawScaled(image, key.quality, source, sourceX, sourceY, sourceWidth, sourceHeight);
+        return new Sprite(key.sprite.getName(), image);
+    }
+
+    /**
+     * Draws a part of an image scaled to the size of another image.
+     *
+     * @param target  The image to draw into, completely covered by the part.
+     * @param quality The interpolation used to scale the part.
+     * @param source  The image to draw from.
+     * @param x       The X position of the part in the source.
+     * @param y       The Y position of the part in the source.
+     * @param width   The width of the part.
+     * @param height  The height of the part.
+     */
+    private static void drawScaled(final BufferedImage target, final ScalingQuality quality, final Image source,
+                                   final int x, final int y, final int width, final int height) {
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, quality.getInterpolation());
+            graphics.drawImage(source, 0, 0, target.getWidth(), target.getHeight(), x, y, x + width, y + height, null);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -161,6 +323,111 @@ public final class SpriteFactory implements ISpriteFactory {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ISprite getScaledSprite(final ISprite sprite, final int width, final int height,
+                                   final ScalingQuality quality) {
+        assert sprite != null;
+        assert quality != null;
+        if (width <= 0 || height <= 0 || (sprite.getWidth() == width && sprite.getHeight() == height)) {
+            return sprite;
+        }
+
+        try {
+            return this.scaledCache.get(new ScaledKey(sprite, width, height, quality));
+        } catch (ExecutionException e) {
+            this.logger.error(e);
+        }
+
+        return sprite;
+    }
+
+    /**
+     * Draws a sprite into square images at all angles of a rotation.
+     *
+     * @param key The sprite, size, amount of frames and quality.
+     * @return The frames, starting at an angle of 0 and turning clockwise.
+     */
+    private ISprite[] rotateISprite(final RotatedKey key) {
+        final int side = (int) Math.ceil(Math.hypot(key.scaled.width, key.scaled.height));
+        final ISprite sprite = key.scaled.sprite;
+        final ISprite[] frames = new ISprite[key.frames];
+        for (int i = 0; i < key.frames; i++) {
+            final BufferedImage image = SpriteFactory.createCompatibleImage(side, side, Transparency.TRANSLUCENT);
+            final Graphics2D graphics = image.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, key.scaled.quality.getInterpolation());
+                graphics.rotate(2d * Math.PI * i / key.frames, side / 2d, side / 2d);
+                final int x = (side - key.scaled.width) / 2, y = (side - key.scaled.height) / 2;
+                graphics.drawImage(sprite.getImage(), x, y, x + key.scaled.width, y + key.scaled.height,
+                        sprite.getX(), sprite.getY(), sprite.getX() + sprite.getWidth(),
+                        sprite.getY() + sprite.getHeight(), null);
+            } finally {
+                graphics.dispose();
+            }
+            frames[i] = new Sprite(sprite.getName(), image);
+        }
+        return frames;
+    }
+
+    /**
+     * Composes the sprites of a static layer into a single sprite.
+     *
+     * @param layer The layer to compose.
+     * @return The composed {@link ISprite sprite}.
+     */
+    private ISprite composeLayer(final StaticLayer layer) {
+        return new Sprite(layer.getName(), layer.compose(ScalingQuality.smooth));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ISprite getLayerSprite(final StaticLayer layer) {
+        assert layer != null;
+        try {
+            return this.layerCache.get(layer);
+        } catch (ExecutionException e) {
+            this.logger.error(e);
+            throw new IllegalStateException("The static layer \"" + layer.getName() + "\" could not be composed", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ISprite getRotatedSprite(final ISprite sprite, final int width, final int height, final double theta,
+                                    final int frames, final ScalingQuality quality) {
+        assert sprite != null;
+        assert frames > 0;
+        assert quality != null;
+        final double step = 2d * Math.PI / frames;
+        final int frame = Math.floorMod((int) Math.round(theta / step), frames);
+        try {
+            return this.rotatedCache.get(new RotatedKey(new ScaledKey(sprite, width, height, quality), frames))[frame];
+        } catch (ExecutionException e) {
+            this.logger.error(e);
+            throw new IllegalStateException("The sprite \"" + sprite.getName() + "\" could not be rotated", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void packAtlas() {
+        final Map<IRes.Sprites, ISprite> loaded = new EnumMap<>(IRes.Sprites.class);
+        loaded.putAll(this.spriteCache.asMap());
+        final TextureAtlas atlas = new TextureAtlas(loaded);
+        this.spriteCache.putAll(atlas.getRegions());
+        this.logger.info("Packed " + atlas.getRegions().size() + " of " + loaded.size() + " sprites into "
+                + atlas.getPages().size() + " atlas pages");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -359,4 +626,118 @@ public final class SpriteFactory implements ISpriteFactory {
             super(message);
         }
     }
+
+    /**
+     * Identifies a sprite scaled to a size with a quality.
+     */
+    private static final class ScaledKey {
+
+        /**
+         * The prime used to combine the hash codes of the fields.
+         */
+        private static final int HASH_PRIME = 31;
+        /**
+         * The sprite that is scaled.
+         */
+        private final ISprite sprite;
+        /**
+         * The size the sprite is scaled to.
+         */
+        private final int width, height;
+        /**
+         * The interpolation used to scale the sprite.
+         */
+        private final ScalingQuality quality;
+
+        /**
+         * Creates a new ScaledKey.
+         *
+         * @param s The sprite that is scaled.
+         * @param w The width the sprite is scaled to.
+         * @param h The height the sprite is scaled to.
+         * @param q The interpolation used to scale the sprite.
+         */
+        private ScaledKey(final ISprite s, final int w, final int h, final ScalingQuality q) {
+            this.sprite = s;
+            this.width = w;
+            this.height = h;
+            this.quality = q;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof ScaledKey)) {
+                return false;
+            }
+            final ScaledKey key = (ScaledKey) other;
+            return this.sprite == key.sprite && this.width == key.width && this.height == key.height
+                    && this.quality == key.quality;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(this.sprite);
+            hash = ScaledKey.HASH_PRIME * hash + this.width;
+            hash = ScaledKey.HASH_PRIME * hash + this.height;
+            return ScaledKey.HASH_PRIME * hash + this.quality.ordinal();
+        }
+    }
+
+    /**
+     * Identifies the rotation frames of a sprite scaled to a size with a quality.
+     */
+    private static final class RotatedKey {
+
+        /**
+         * The prime used to combine the hash codes of the fields.
+         */
+        private static final int HASH_PRIME = 31;
+        /**
+         * The sprite, the size and the quality.
+         */
+        private final ScaledKey scaled;
+        /**
+         * The amount of frames in a full turn.
+         */
+        private final int frames;
+
+        /**
+         * Creates a new RotatedKey.
+         *
+         * @param s The sprite, the size and the quality.
+         * @param f The amount of frames in a full turn.
+         */
+        private RotatedKey(final ScaledKey s, final int f) {
+            this.scaled = s;
+            this.frames = f;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof RotatedKey)) {
+                return false;
+            }
+            final RotatedKey key = (RotatedKey) other;
+            return this.scaled.equals(key.scaled) && this.frames == key.frames;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return RotatedKey.HASH_PRIME * this.scaled.hashCode() + this.frames;
+        }
+
+    }
+
 }
@@ -0,0 +1,150 @@
+package resources.sprites;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes a part of a scene that does not change, like a background with a few decorations on it. The
+ * {@link ISpriteFactory} composes the sprites of the layer into a single image once, so the whole layer can be drawn
+ * with a single draw.
+ * <br>
+ * Layers are identified by the instance: a scene creates its layers once and keeps using the same instances.
+ */
+public final class StaticLayer {
+
+    /**
+     * The name of the layer.
+     */
+    private final String name;
+    /**
+     * The width and height of the layer.
+     */
+    private final int width, height;
+    /**
+     * The sprites of the layer, in the order in which they are drawn.
+     */
+    private final List<ISprite> sprites = new ArrayList<>();
+    /**
+     * The position and size of every sprite, four values per sprite.
+     */
+    private final List<int[]> bounds = new ArrayList<>();
+
+    /**
+     * Create an empty layer.
+     *
+     * @param n The name of the layer.
+     * @param w The width of the layer.
+     * @param h The height of the layer.
+     */
+    public StaticLayer(final String n, final int w, final int h) {
+        this.name = n;
+        this.width = w;
+        this.height = h;
+    }
+
+    /**
+     * Adds a sprite to the layer, drawn at its own size.
+     *
+     * @param sprite The sprite to add.
+     * @param x      The X position of the sprite in the layer.
+     * @param y      The Y position of the sprite in the layer.
+     * @return The layer itself.
+     */
+    public StaticLayer add(final ISprite sprite, final int x, final int y) {
+        return this.add(sprite, x, y, sprite.getWidth(), sprite.getHeight());
+    }
+
+    /**
+     * Adds a sprite to the layer, scaled to a size.
+     *
+     * @param sprite The sprite to add.
+     * @param x      The X position of the sprite in the layer.
+     * @param y      The Y position of the sprite in the layer.
+     * @param w      The width to draw the sprite at.
+     * @param h      The height to draw the sprite at.
+     * @return The layer itself.
+     */
+    public StaticLayer add(final ISprite sprite, final int x, final int y, final int w, final int h) {
+        assert sprite != null;
+        this.sprites.add(sprite);
+        this.bounds.add(new int[]{x, y, w, h});
+        return this;
+    }
+
+    /**
+     * Get the name of the layer.
+     *
+     * @return The name of the layer.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the width of the layer.
+     *
+     * @return The width of the layer.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the layer.
+     *
+     * @return The height of the layer.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Draws all sprites of the layer into a new image. The image is opaque when an opaque sprite covers all of it.
+     *
+     * @param quality The interpolation used for sprites that are drawn at a different size.
+     * @return The composed image.
+     */
+    /* package */ BufferedImage compose(final ScalingQuality quality) {
+        final int transparency = this.isOpaque() ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        final BufferedImage image = SpriteFactory.createCompatibleImage(
+                Math.max(1, this.width), Math.max(1, this.height), transparency);
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, quality.getInterpolation());
+            for (int i = 0; i < this.sprites.size(); i++) {
+                final ISprite sprite = this.sprites.get(i);
+                final int[] b = this.bounds.get(i);
+                graphics.drawImage(sprite.getImage(), b[0], b[1], b[0] + b[2], b[1] + b[3],
+                        sprite.getX(), sprite.getY(), sprite.getX() + sprite.getWidth(),
+                        sprite.getY() + sprite.getHeight(), null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Check whether the layer is fully covered by an opaque sprite.
+     *
+     * @return {@code true} if nothing behind the layer can be seen through it.
+     */
+    private boolean isOpaque() {
+        for (int i = 0; i < this.sprites.size(); i++) {
+            final Image image = this.sprites.get(i).getImage();
+            final int[] b = this.bounds.get(i);
+            if (image instanceof BufferedImage
+                    && ((BufferedImage) image).getTransparency() == Transparency.OPAQUE
+                    && b[0] <= 0 && b[1] <= 0 && b[0] + b[2] >= this.width && b[1] + b[3] >= this.height) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
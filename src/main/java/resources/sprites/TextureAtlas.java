@@ -0,0 +1,144 @@
+package resources.sprites;
+
+import resources.IRes;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs small sprites into a few large images, the pages of the atlas.
+ * <br>
+ * The sprites are placed on shelves: they are sorted from high to low and placed from left to right, when a shelf
+ * is full a new shelf is started below it, and when a page is full a new page is started. Sprites that are opaque or
+ * too large are not packed, they gain nothing from sharing an image.
+ */
+/* package */ final class TextureAtlas {
+
+    /**
+     * The maximum width and height of a page.
+     */
+    /* package */ static final int PAGE_SIZE = 2048;
+    /**
+     * The maximum width and height of a sprite that is packed.
+     */
+    /* package */ static final int MAX_REGION_SIZE = 512;
+    /**
+     * The amount of empty pixels around every sprite, so scaled sprites do not blend with their neighbours.
+     */
+    private static final int PADDING = 1;
+
+    /**
+     * The pages of the atlas.
+     */
+    private final List<BufferedImage> pages = new ArrayList<>();
+    /**
+     * The sprites in the atlas.
+     */
+    private final Map<IRes.Sprites, ISprite> regions = new EnumMap<>(IRes.Sprites.class);
+
+    /**
+     * Packs sprites into a new atlas.
+     *
+     * @param sprites The sprites to pack, sprites that cannot be packed are ignored.
+     */
+    /* package */ TextureAtlas(final Map<IRes.Sprites, ISprite> sprites) {
+        final List<Map.Entry<IRes.Sprites, ISprite>> packable = new ArrayList<>();
+        for (Map.Entry<IRes.Sprites, ISprite> entry : sprites.entrySet()) {
+            if (TextureAtlas.isPackable(entry.getValue())) {
+                packable.add(entry);
+            }
+        }
+        packable.sort((a, b) -> Integer.compare(b.getValue().getHeight(), a.getValue().getHeight()));
+
+        // Place the sprites on the shelves of the pages
+        final int[] xs = new int[packable.size()];
+        final int[] ys = new int[packable.size()];
+        final int[] pageIndices = new int[packable.size()];
+        final List<int[]> pageSizes = new ArrayList<>();
+        int page = -1, x = 0, y = 0, shelfHeight = 0;
+        for (int i = 0; i < packable.size(); i++) {
+            final ISprite sprite = packable.get(i).getValue();
+            final int w = sprite.getWidth() + 2 * TextureAtlas.PADDING;
+            final int h = sprite.getHeight() + 2 * TextureAtlas.PADDING;
+            if (page >= 0 && x + w > TextureAtlas.PAGE_SIZE) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            if (page < 0 || y + h > TextureAtlas.PAGE_SIZE) {
+                page++;
+                pageSizes.add(new int[2]);
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+            }
+
+            xs[i] = x + TextureAtlas.PADDING;
+            ys[i] = y + TextureAtlas.PADDING;
+            pageIndices[i] = page;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, h);
+            final int[] size = pageSizes.get(page);
+            size[0] = Math.max(size[0], x);
+            size[1] = Math.max(size[1], y + h);
+        }
+
+        // Draw the sprites onto pages that are just large enough
+        final List<Graphics2D> graphics = new ArrayList<>();
+        for (int[] size : pageSizes) {
+            final BufferedImage image = SpriteFactory.createCompatibleImage(size[0], size[1], Transparency.TRANSLUCENT);
+            this.pages.add(image);
+            graphics.add(image.createGraphics());
+        }
+        for (int i = 0; i < packable.size(); i++) {
+            final ISprite sprite = packable.get(i).getValue();
+            final BufferedImage image = this.pages.get(pageIndices[i]);
+            graphics.get(pageIndices[i]).drawImage(sprite.getImage(), xs[i], ys[i], null);
+            this.regions.put(packable.get(i).getKey(),
+                    new Sprite(sprite.getName(), image, xs[i], ys[i], sprite.getWidth(), sprite.getHeight()));
+        }
+        graphics.forEach(Graphics2D::dispose);
+    }
+
+    /**
+     * Check whether a sprite can be packed into an atlas.
+     *
+     * @param sprite The sprite.
+     * @return {@code true} if the sprite is small, translucent and not already part of an image.
+     */
+    private static boolean isPackable(final ISprite sprite) {
+        if (sprite == null || sprite.isRegion()) {
+            return false;
+        }
+        final Image image = sprite.getImage();
+        return image instanceof BufferedImage
+                && ((BufferedImage) image).getTransparency() != Transparency.OPAQUE
+                && sprite.getWidth() <= TextureAtlas.MAX_REGION_SIZE
+                && sprite.getHeight() <= TextureAtlas.MAX_REGION_SIZE;
+    }
+
+    /**
+     * Get the sprites that have been packed into the atlas.
+     *
+     * @return The packed sprites, which are regions of the pages.
+     */
+    /* package */ Map<IRes.Sprites, ISprite> getRegions() {
+        return this.regions;
+    }
+
+    /**
+     * Get the pages of the atlas.
+     *
+     * @return The images into which the sprites have been packed.
+     */
+    /* package */ List<BufferedImage> getPages() {
+        return this.pages;
+    }
+
+}
@@ -1,5 +1,6 @@
 package scenes;
 
+import resources.AssetPreloader;
 import system.IFactory;
 
 /**
@@ -64,4 +65,12 @@ public interface ISceneFactory extends IFactory {
      * @return An IScene of the shop screen.
      */
     IScene createShopScreen();
+
+    /**
+     * Create a splash screen that shows the progress of an asset preloader.
+     *
+     * @param preloader The preloader that is loading the assets.
+     * @return An IScene of the splash screen.
+     */
+    IScene createSplashScreen(final AssetPreloader preloader);
 }
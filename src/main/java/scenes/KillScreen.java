@@ -11,6 +11,7 @@ import rendering.IRenderer;
 import rendering.TextAlignment;
 import resources.IRes;
 import resources.sprites.ISprite;
+import resources.sprites.StaticLayer;
 import system.IServiceLocator;
 
 import java.awt.Point;
@@ -109,6 +110,10 @@ import java.awt.Point;
      * Sprites to be displayed on the background of the KillScreen.
      */
     private ISprite background;
+    /**
+     * The background, the game over text and the bottom of the KillScreen, which do not change.
+     */
+    private final StaticLayer staticLayer;
 
     /**
      * Package protected constructor, only allowing the SceneFactory to create a KillScreen.
@@ -127,6 +132,13 @@ import java.awt.Point;
         this.bottomKillScreen = sL.getSpriteFactory().getSprite(IRes.Sprites.killScreenBottom);
         this.gameOverSprite = sL.getSpriteFactory().getSprite(IRes.Sprites.gameOver);
 
+        final IConstants constants = sL.getConstants();
+        this.staticLayer = new StaticLayer("killScreen", constants.getGameWidth(), constants.getGameHeight())
+                .add(this.background, 0, 0)
+                .add(this.gameOverSprite, (int) (constants.getGameWidth() * KillScreen.GAME_OVER_TEXT_X),
+                        (int) (constants.getGameHeight() * KillScreen.GAME_OVER_TEXT_Y))
+                .add(this.bottomKillScreen, 0, constants.getGameHeight() - this.bottomKillScreen.getHeight());
+
         IButtonFactory buttonFactory = sL.getButtonFactory();
         this.playAgainButton = buttonFactory.createPlayAgainButton(
                 KillScreen.PLAY_AGAIN_BUTTON_X,
@@ -182,13 +194,7 @@ import java.awt.Point;
         IConstants constants = this.serviceLocator.getConstants();
         IRenderer renderer = this.serviceLocator.getRenderer();
 
-        renderer.drawSpriteHUD(this.background, new Point(0, 0));
-        renderer.drawSpriteHUD(this.gameOverSprite,
-                new Point((int) (constants.getGameWidth() * KillScreen.GAME_OVER_TEXT_X),
-                        (int) (constants.getGameHeight() * KillScreen.GAME_OVER_TEXT_Y)));
-
-        double y = (double) constants.getGameHeight() - (double) this.bottomKillScreen.getHeight();
-        renderer.drawSpriteHUD(this.bottomKillScreen, new Point(0, (int) y));
+        renderer.drawSpriteHUD(this.serviceLocator.getSpriteFactory().getLayerSprite(this.staticLayer), new Point(0, 0));
         this.playAgainButton.render();
         this.mainMenuButton.render();
 
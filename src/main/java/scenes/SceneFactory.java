@@ -6,6 +6,7 @@ import objects.doodles.DoodleColors;
 import objects.doodles.IDoodle;
 import objects.doodles.IDoodleFactory;
 import rendering.ICamera;
+import resources.AssetPreloader;
 import system.Game;
 import system.IServiceLocator;
 
@@ -21,12 +22,15 @@ public final class SceneFactory implements ISceneFactory {
     /**
      * Used to gain access to all services.
      */
-    private static transient IServiceLocator serviceLocator;
+    private final transient IServiceLocator serviceLocator;
 
     /**
      * Private constructor to prevent instantiation from outside the class.
+     *
+     * @param sL The service locator.
      */
-    private SceneFactory() {
+    private SceneFactory(final IServiceLocator sL) {
+        this.serviceLocator = sL;
         logger = serviceLocator.getLoggerFactory().createLogger(SceneFactory.class);
     }
 
@@ -39,8 +43,7 @@ public final class SceneFactory implements ISceneFactory {
         if (sL == null) {
             throw new IllegalArgumentException("The service locator cannot be null");
         }
-        SceneFactory.serviceLocator = sL;
-        sL.provide(new SceneFactory());
+        sL.provide(new SceneFactory(sL));
     }
 
     /**
@@ -88,6 +91,15 @@ public final class SceneFactory implements ISceneFactory {
         return new ShopScreen(serviceLocator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IScene createSplashScreen(final AssetPreloader preloader) {
+        logger.info("A new SplashScreen has been created");
+        return new SplashScreen(serviceLocator, preloader);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -124,9 +136,10 @@ public final class SceneFactory implements ISceneFactory {
         doodle2.setKeys(Keys.a, Keys.d);
         world.addDoodle(doodle2);
 
-        ICamera camera = serviceLocator.getCameraFactory().createArcadeCamera();
+        // Every Doodle gets its own camera and view, the camera of the renderer only draws the score bar
+        ICamera camera = serviceLocator.getCameraFactory().createStaticCamera();
         serviceLocator.getRenderer().setCamera(camera);
-        world.addUpdatable(camera);
+        world.splitScreen();
 
         Game.setPlayerMode(Game.PlayerModes.multi);
         return world;
@@ -12,6 +12,7 @@ import rendering.TextAlignment;
 import resources.IRes;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
+import resources.sprites.StaticLayer;
 import system.IRenderable;
 import system.IServiceLocator;
 
@@ -163,6 +164,10 @@ import java.util.ArrayList;
      * Sprites of the background of the ChooseMode.
      */
     private ISprite background;
+    /**
+     * The background and the bottom of the ShopScreen, which do not change.
+     */
+    private final StaticLayer staticLayer;
     /**
      * The index of the coin animation. Must be between 0 (inclusive) and 10 (exclusive).
      */
@@ -180,6 +185,10 @@ import java.util.ArrayList;
 
         background = sL.getSpriteFactory().getSprite(IRes.Sprites.background);
         bottomChooseModeScreen = sL.getSpriteFactory().getSprite(IRes.Sprites.killScreenBottom);
+        final IConstants constants = sL.getConstants();
+        staticLayer = new StaticLayer("shopScreen", constants.getGameWidth(), constants.getGameHeight())
+                .add(background, 0, 0)
+                .add(bottomChooseModeScreen, 0, constants.getGameHeight() - bottomChooseModeScreen.getHeight());
 
         IButtonFactory buttonFactory = sL.getButtonFactory();
         IButton mainMenuButton = buttonFactory.createMainMenuButton(
@@ -298,10 +307,7 @@ import java.util.ArrayList;
         final IConstants constants = serviceLocator.getConstants();
         final int width = constants.getGameWidth();
         final int height = constants.getGameHeight();
-        renderer.drawSpriteHUD(this.background, new Point(0, 0));
-
-        double y = (double) height - (double) bottomChooseModeScreen.getHeight();
-        renderer.drawSpriteHUD(this.bottomChooseModeScreen, new Point(0, (int) y));
+        renderer.drawSpriteHUD(serviceLocator.getSpriteFactory().getLayerSprite(this.staticLayer), new Point(0, 0));
 
         ISprite coinSprite = this.coinSprites[(int) coinSpriteIndex];
         final int coinX = width / 2 + coinSprite.getHeight() / 2 - (int) (((double) coinSprite.getWidth() / (double) coinSprite.getHeight()) * (double) coinSprite.getHeight() / 2d);
@@ -0,0 +1,135 @@
+package scenes;
+
+import constants.IConstants;
+import logging.ILogger;
+import rendering.Color;
+import rendering.IRenderer;
+import rendering.TextAlignment;
+import resources.AssetPreloader;
+import system.Game;
+import system.IServiceLocator;
+
+import java.awt.Point;
+
+/**
+ * This class is a scene that is displayed while the assets are loaded when the game is started.
+ * <br>
+ * It does not use any sprites itself, so it can be shown before a single asset has been loaded.
+ */
+/* package */ final class SplashScreen implements IScene {
+
+    /**
+     * The Y position of the loading text, relative to the height of the game.
+     */
+    private static final double TEXT_Y = 0.45d;
+    /**
+     * The Y position of the progress bar, relative to the height of the game.
+     */
+    private static final double BAR_Y = 0.5d;
+    /**
+     * The X position and the width of the progress bar, relative to the width of the game.
+     */
+    private static final double BAR_X = 0.2d, BAR_WIDTH = 0.6d;
+    /**
+     * The height of the progress bar.
+     */
+    private static final int BAR_HEIGHT = 30;
+    /**
+     * The amount of percents in a whole.
+     */
+    private static final int PERCENT = 100;
+
+    /**
+     * Used to access all services.
+     */
+    private final IServiceLocator serviceLocator;
+    /**
+     * The logger for the SplashScreen class.
+     */
+    private final ILogger logger;
+    /**
+     * The preloader of which the progress is shown.
+     */
+    private final AssetPreloader preloader;
+    /**
+     * Whether the main menu has been shown already.
+     */
+    private boolean finished = false;
+
+    /**
+     * Create a splash screen.
+     *
+     * @param sL The service locator.
+     * @param p  The preloader that is loading the assets.
+     */
+    /* package */ SplashScreen(final IServiceLocator sL, final AssetPreloader p) {
+        assert sL != null;
+        assert p != null;
+        this.serviceLocator = sL;
+        this.preloader = p;
+        this.logger = sL.getLoggerFactory().createLogger(SplashScreen.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        this.logger.info("The splash screen is now displaying");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.logger.info("The splash screen is no longer displaying");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void register() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render() {
+        IConstants constants = this.serviceLocator.getConstants();
+        IRenderer renderer = this.serviceLocator.getRenderer();
+        final int gameWidth = constants.getGameWidth();
+        final int gameHeight = constants.getGameHeight();
+        final double progress = this.preloader.getProgress();
+
+        renderer.fillRectangle(new Point(0, 0), gameWidth, gameHeight, Color.darkBlue);
+        renderer.drawTextHUD(new Point(gameWidth / 2, (int) (gameHeight * SplashScreen.TEXT_Y)),
+                "Loading " + (int) (progress * SplashScreen.PERCENT) + "%", TextAlignment.center, Color.white);
+
+        final Point bar = new Point((int) (gameWidth * SplashScreen.BAR_X), (int) (gameHeight * SplashScreen.BAR_Y));
+        final int barWidth = (int) (gameWidth * SplashScreen.BAR_WIDTH);
+        renderer.fillRectangle(bar, barWidth, SplashScreen.BAR_HEIGHT, Color.halfOpaqueWhite);
+        renderer.fillRectangle(bar, (int) (barWidth * progress), SplashScreen.BAR_HEIGHT, Color.white);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double delta) {
+        if (!this.finished && this.preloader.isDone()) {
+            this.finished = true;
+            Game.setScene(this.serviceLocator.getSceneFactory().createMainMenu());
+        }
+    }
+
+}
@@ -2,21 +2,28 @@ package scenes;
 
 import buttons.IButton;
 import logging.ILogger;
+import objects.AGameObject;
 import objects.IGameObject;
 import objects.IJumpable;
+import objects.ILightSource;
 import objects.blocks.BlockTypes;
 import objects.blocks.IBlock;
 import objects.blocks.IBlockFactory;
 import objects.doodles.IDoodle;
 import objects.enemies.IEnemy;
+import profiling.Counters;
+import profiling.IProfiler;
+import profiling.Phases;
 import progression.IProgressionManager;
 import rendering.AccelerationType;
+import rendering.Color;
 import rendering.ICamera;
 import rendering.IRenderer;
 import resources.IRes;
 import resources.audio.Sounds;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
+import resources.sprites.StaticLayer;
 import system.Game;
 import system.IRenderable;
 import system.IServiceLocator;
@@ -55,6 +62,24 @@ public final class World implements IScene {
      * The amount of blocks kept in a buffer.
      */
     private static final int BLOCK_BUFFER = 4;
+    /**
+     * The distance above and below the screen in which objects are still rendered, so objects that move between
+     * two updates do not pop in at the edges.
+     */
+    private static final int CULL_MARGIN = 100;
+    /**
+     * The amount of halves in a whole, used to find the center of a hit box.
+     */
+    private static final double HALF = 2d;
+    /**
+     * The part of the height of the game that is visible in the view of a player in split-screen. A view must be
+     * higher than a jump, so a Doodle does not fall out of its view when it lands on the platform it jumped from.
+     */
+    private static final double SPLIT_VIEW_HEIGHT = 2d / 3d;
+    /**
+     * The space between the views of the players in split-screen.
+     */
+    private static final int SPLIT_GAP = 8;
 
     /**
      * Used to access all services.
@@ -97,15 +122,39 @@ public final class World implements IScene {
     /**
      * The background of the world.
      */
-    private final ISprite background;
+    private final StaticLayer background;
     /**
      * The top bar displaying the score and a pause button.
      */
     private final ScoreBar scoreBar;
+    /**
+     * Whether the World is played in the darkness mode, in which only the surroundings of lights are visible.
+     */
+    private final boolean darkness;
+    /**
+     * The weight of each type of block, from the mode the world is played in.
+     */
+    private final EnumMap<BlockTypes, Integer> blockWeights;
+    /**
+     * The views of the players in split-screen, empty when all Doodles share the camera of the renderer.
+     */
+    private final List<Viewport> viewports = new ArrayList<>();
     /**
      * The highest (and thus latest) created block.
      */
     private IBlock topBlock;
+    /**
+     * The amount of objects that have been rendered and culled during the current render.
+     */
+    private int visited, culled;
+    /**
+     * Whether a Doodle in this world has died.
+     */
+    private volatile boolean gameOver;
+    /**
+     * The score with which the game ended.
+     */
+    private volatile double finalScore;
 
     /**
      * Package visible constructor so a World can only be created via the SceneFactory.
@@ -119,6 +168,7 @@ public final class World implements IScene {
 
         this.serviceLocator = sL;
         this.logger = sL.getLoggerFactory().createLogger(World.class);
+        this.blockWeights = BlockTypes.getWeights(Game.getMode());
 
         this.drawables.put(DrawableLevels.back, Collections.newSetFromMap(new WeakHashMap<>()));
         this.drawables.put(DrawableLevels.middle, Collections.newSetFromMap(new WeakHashMap<>()));
@@ -127,21 +177,19 @@ public final class World implements IScene {
         this.newDrawables.put(DrawableLevels.middle, Collections.newSetFromMap(new WeakHashMap<>()));
         this.newDrawables.put(DrawableLevels.front, Collections.newSetFromMap(new WeakHashMap<>()));
 
+        // Static sprites of a previous world must not be drawn in this one
+        sL.getRenderer().clearStaticSprites();
         IBlockFactory blockFactory = sL.getBlockFactory();
-        this.topBlock = blockFactory.createStartBlock();
-        this.blocks.add(this.topBlock);
-        this.newDrawables.get(DrawableLevels.back).add(this.topBlock);
-        this.newUpdatables.add(this.topBlock);
+        this.addBlock(blockFactory.createStartBlock());
 
         for (int i = 1; i < 2; i++) {
-            this.topBlock = blockFactory.createBlock(this.topBlock.getTopJumpable(), BlockTypes.normalOnlyBlock, false);
-            this.blocks.add(this.topBlock);
-            this.newDrawables.get(DrawableLevels.back).add(this.topBlock);
-            this.newUpdatables.add(this.topBlock);
+            this.addBlock(blockFactory.createBlock(this.topBlock.getTopJumpable(), BlockTypes.normalOnlyBlock, false));
         }
 
-        this.background = sL.getSpriteFactory().getSprite(IRes.Sprites.background);
+        this.background = new StaticLayer("worldBackground", sL.getConstants().getGameWidth(),
+                sL.getConstants().getGameHeight()).add(sL.getSpriteFactory().getSprite(IRes.Sprites.background), 0, 0);
         this.scoreBar = new ScoreBar();
+        this.darkness = Game.getMode() == Game.Modes.darkness;
         this.newDrawables.get(DrawableLevels.front).add(this.scoreBar);
 
         this.serviceLocator.getAudioManager().play(Sounds.START);
@@ -158,6 +206,10 @@ public final class World implements IScene {
     public void start() {
         final IRenderer renderer = this.serviceLocator.getRenderer();
         renderer.getCamera().setYPos(serviceLocator.getConstants().getGameHeight() / 2d);
+        // The views of the players start at the bottom of the game
+        for (Viewport viewport : this.viewports) {
+            viewport.camera.setYPos(serviceLocator.getConstants().getGameHeight() - viewport.viewHeight);
+        }
         this.register();
         this.logger.info("The world is now displaying");
     }
@@ -196,7 +248,14 @@ public final class World implements IScene {
      */
     @Override
     public void render() {
-        this.serviceLocator.getRenderer().drawSpriteHUD(this.background, new Point(0, 0));
+        final IRenderer renderer = this.serviceLocator.getRenderer();
+        final ISprite backgroundSprite = this.serviceLocator.getSpriteFactory().getLayerSprite(this.background);
+        if (this.viewports.isEmpty()) {
+            renderer.drawSpriteHUD(backgroundSprite, new Point(0, 0));
+        } else {
+            renderer.fillRectangleHUD(new Point(0, 0), this.serviceLocator.getConstants().getGameWidth(),
+                    this.serviceLocator.getConstants().getGameHeight(), Color.black);
+        }
 
         this.drawables.get(DrawableLevels.back).addAll(this.newDrawables.get(DrawableLevels.back));
         this.drawables.get(DrawableLevels.middle).addAll(this.newDrawables.get(DrawableLevels.middle));
@@ -205,9 +264,129 @@ public final class World implements IScene {
         this.newDrawables.get(DrawableLevels.middle).clear();
         this.newDrawables.get(DrawableLevels.front).clear();
 
-        this.drawables.get(DrawableLevels.back).forEach(IRenderable::render);
-        this.drawables.get(DrawableLevels.middle).forEach(IRenderable::render);
-        this.drawables.get(DrawableLevels.front).forEach(IRenderable::render);
+        this.visited = 0;
+        this.culled = 0;
+
+        final IProfiler profiler = this.serviceLocator.getProfiler();
+        long start = profiler.start();
+        if (this.viewports.isEmpty()) {
+            start = this.renderWorld(renderer.getCamera(), this.serviceLocator.getConstants().getGameHeight(), start);
+        } else {
+            for (Viewport viewport : this.viewports) {
+                renderer.startViewport(viewport.camera, viewport.point, viewport.width, viewport.height,
+                        viewport.scale);
+                renderer.drawSpriteHUD(backgroundSprite, new Point(0, 0));
+                start = this.renderWorld(viewport.camera, viewport.viewHeight, start);
+                renderer.endViewport();
+            }
+        }
+        this.renderLayer(this.drawables.get(DrawableLevels.front), 0d, 0d);
+        profiler.record(Phases.renderFront, start);
+        profiler.count(Counters.renderVisited, this.visited);
+        profiler.count(Counters.renderCulled, this.culled);
+    }
+
+    /**
+     * Renders the platforms, the Doodles and the other objects of the world that are visible with a camera. The
+     * platforms that never move are drawn from the static sprites of the renderer, the blocks only draw the rest.
+     *
+     * @param camera The camera.
+     * @param height The height of the part of the world the camera shows.
+     * @param start  The time at which the current phase started.
+     * @return The time at which the latest phase ended.
+     */
+    private long renderWorld(final ICamera camera, final double height, final long start) {
+        // The frame is drawn somewhere between the previous and the current camera position
+        final double previousY = camera.getYPos(0d), currentY = camera.getYPos(1d);
+        final double top = Math.min(previousY, currentY) - World.CULL_MARGIN;
+        final double bottom = Math.max(previousY, currentY) + height + World.CULL_MARGIN;
+
+        final IProfiler profiler = this.serviceLocator.getProfiler();
+        long phase = start;
+        this.serviceLocator.getRenderer().drawStaticSprites();
+        this.renderLayer(this.drawables.get(DrawableLevels.back), top, bottom);
+        phase = profiler.record(Phases.renderBack, phase);
+        this.renderLayer(this.drawables.get(DrawableLevels.middle), top, bottom);
+        phase = profiler.record(Phases.renderMiddle, phase);
+        if (this.darkness) {
+            this.renderLights(top, bottom);
+            phase = profiler.record(Phases.renderLights, phase);
+        }
+        return phase;
+    }
+
+    /**
+     * Renders a set of drawables as one layer, so the renderer can group their draws by sprite.
+     * <br>
+     * Blocks are only rendered when they overlap the visible range, and then only their dynamic elements that
+     * overlap it, their static elements are static sprites.
+     *
+     * @param layer  The drawables of the layer.
+     * @param top    The top of the visible range.
+     * @param bottom The bottom of the visible range.
+     */
+    private void renderLayer(final Set<IRenderable> layer, final double top, final double bottom) {
+        final IRenderer renderer = this.serviceLocator.getRenderer();
+        renderer.startLayer();
+        for (IRenderable renderable : layer) {
+            if (renderable instanceof IBlock) {
+                final IBlock block = (IBlock) renderable;
+                final int elements = block.getElements().size() - block.getStaticElements().size();
+                final int rendered = block.getBottom() < top || block.getTop() > bottom
+                        ? 0 : block.renderDynamic(top, bottom);
+                this.visited += rendered;
+                this.culled += elements - rendered;
+            } else {
+                renderable.render();
+                this.visited++;
+            }
+            renderer.nextObject();
+        }
+        renderer.endLayer();
+    }
+
+    /**
+     * Darkens everything but the surroundings of the Doodles and of the lit objects in the visible blocks. The HUD
+     * elements in the front layer are drawn after the darkness, so they stay visible.
+     *
+     * @param top    The top of the visible range.
+     * @param bottom The bottom of the visible range.
+     */
+    private void renderLights(final double top, final double bottom) {
+        for (IDoodle doodle : this.doodles) {
+            this.renderLight(doodle);
+        }
+        for (IBlock block : this.blocks) {
+            if (block.getBottom() >= top && block.getTop() <= bottom) {
+                for (IGameObject element : block.getElements()) {
+                    this.renderLight(element);
+                }
+            }
+        }
+        this.serviceLocator.getRenderer().drawLightMap();
+    }
+
+    /**
+     * Draws the light of an object around the center of its hit box, if it gives light.
+     *
+     * @param gameObject The object.
+     */
+    private void renderLight(final IGameObject gameObject) {
+        if (!(gameObject instanceof ILightSource)) {
+            return;
+        }
+        final int radius = ((ILightSource) gameObject).getLightRadius();
+        if (radius > 0) {
+            final double[] hitBox = gameObject.getHitBox();
+            final int x = (int) (gameObject.getXPos()
+                    + (hitBox[AGameObject.HITBOX_LEFT] + hitBox[AGameObject.HITBOX_RIGHT]) / World.HALF);
+            final int y = (int) (gameObject.getYPos()
+                    + (hitBox[AGameObject.HITBOX_TOP] + hitBox[AGameObject.HITBOX_BOTTOM]) / World.HALF);
+            final IRenderer renderer = this.serviceLocator.getRenderer();
+            renderer.setMotion(gameObject);
+            renderer.drawLight(new Point(x, y), radius);
+            renderer.setMotion(0d, 0d);
+        }
     }
 
     /**
@@ -215,11 +394,18 @@ public final class World implements IScene {
      */
     @Override
     public void update(final double delta) {
+        final IProfiler profiler = this.serviceLocator.getProfiler();
+        long start = profiler.start();
         this.updateObjects(delta);
+        start = profiler.record(Phases.updateObjects, start);
         this.cleanUp();
+        start = profiler.record(Phases.cleanUp, start);
         this.newBlocks();
+        start = profiler.record(Phases.newBlocks, start);
         this.checkCollisions();
+        start = profiler.record(Phases.checkCollisions, start);
         this.updateCameraSpeed();
+        profiler.record(Phases.updateCameraSpeed, start);
     }
 
     /**
@@ -246,12 +432,38 @@ public final class World implements IScene {
      * @param score The score the player got.
      */
     public void endGameInstance(final double score, final double extraExp) {
+        if (this.gameOver) {
+            return;
+        }
+        this.gameOver = true;
+        this.finalScore = score;
+
         IProgressionManager progressionManager = this.serviceLocator.getProgressionManager();
         progressionManager.addHighScore("Doodle", score);
         progressionManager.addExperience((int) score);
         this.serviceLocator.getAudioManager().stop(Sounds.THEME_SONG);
 
-        Game.setScene(this.serviceLocator.getSceneFactory().createKillScreen((int) score, (int) extraExp));
+        if (Game.getScene() == this) {
+            Game.setScene(this.serviceLocator.getSceneFactory().createKillScreen((int) score, (int) extraExp));
+        }
+    }
+
+    /**
+     * Whether the game in this world has ended.
+     *
+     * @return {@code true} if a Doodle in this world has died.
+     */
+    public boolean isGameOver() {
+        return this.gameOver;
+    }
+
+    /**
+     * Get the score with which the game in this world ended.
+     *
+     * @return The final score, or 0 if the game has not ended yet.
+     */
+    public double getFinalScore() {
+        return this.finalScore;
     }
 
     /**
@@ -265,6 +477,48 @@ public final class World implements IScene {
         this.newDrawables.get(DrawableLevels.middle).add(doodle);
     }
 
+    /**
+     * Give every Doodle its own camera and view, stacked on top of each other. The static sprites of the renderer
+     * are shared by all views. Must be called after all Doodles have been added.
+     */
+    void splitScreen() {
+        final int gameWidth = this.serviceLocator.getConstants().getGameWidth();
+        final int gameHeight = this.serviceLocator.getConstants().getGameHeight();
+        final int viewHeight = (int) (gameHeight * World.SPLIT_VIEW_HEIGHT);
+        final int height = (gameHeight - World.SPLIT_GAP * (this.doodles.size() - 1)) / this.doodles.size();
+        final double scale = (double) height / viewHeight;
+        final int width = (int) (gameWidth * scale);
+
+        for (int i = 0; i < this.doodles.size(); i++) {
+            final IDoodle doodle = this.doodles.get(i);
+            final ICamera camera = this.serviceLocator.getCameraFactory().createDoodleCamera(doodle, viewHeight);
+            camera.setYPos(gameHeight - viewHeight);
+            doodle.setCamera(camera, viewHeight);
+            this.newUpdatables.add(camera);
+            final Point point = new Point((gameWidth - width) / 2, i * (height + World.SPLIT_GAP));
+            this.viewports.add(new Viewport(camera, point, width, height, scale, viewHeight));
+        }
+        this.logger.info("The world is split into " + this.viewports.size() + " views");
+    }
+
+    /**
+     * Add a block to the world, it becomes the top block.
+     *
+     * @param block The new block.
+     */
+    private void addBlock(final IBlock block) {
+        this.topBlock = block;
+        this.blocks.add(block);
+        this.newDrawables.get(DrawableLevels.back).add(block);
+        this.newUpdatables.add(block);
+
+        // The platforms that never move are drawn by the renderer, one by one unless it draws them from tiles
+        final IRenderer renderer = this.serviceLocator.getRenderer();
+        for (IGameObject element : block.getStaticElements()) {
+            renderer.addStaticSprite(element.getSprite(), element.getPoint());
+        }
+    }
+
     /**
      * Update the vertical speed.
      *
@@ -330,24 +584,49 @@ public final class World implements IScene {
      * If that's the case, delete that Block.
      */
     private void cleanUp() {
-        final double yThreshold = serviceLocator.getRenderer().getCamera().getYPos() + serviceLocator.getConstants().getGameHeight();
+        double bottom = serviceLocator.getRenderer().getCamera().getYPos() + serviceLocator.getConstants().getGameHeight();
+        if (!this.viewports.isEmpty()) {
+            // Blocks are only removed when they are below every view
+            bottom = Double.NEGATIVE_INFINITY;
+            for (Viewport viewport : this.viewports) {
+                bottom = Math.max(bottom, viewport.camera.getYPos() + viewport.viewHeight);
+            }
+        }
+        // A frame can still show the camera position of the previous tick
+        this.serviceLocator.getRenderer().discardStaticSprites(bottom + World.CULL_MARGIN);
+        final double yThreshold = bottom;
         HashSet<IBlock> toRemove = blocks.stream().filter(e -> e.getTopJumpable().getYPos() > yThreshold).collect(Collectors.toCollection(HashSet::new));
 
         toRemove.forEach(blocks::remove);
     }
 
     /**
-     * Generate new blocks if there are under 3 present.
+     * Generate new blocks if there are under 3 present. In split-screen a block is also generated when the top block
+     * is getting close to the highest view, as the blocks below the lowest view are kept.
      */
     private void newBlocks() {
-        if (this.blocks.size() < World.BLOCK_BUFFER) {
+        if (this.blocks.size() < World.BLOCK_BUFFER || this.isNearHighestView(this.topBlock)) {
             IJumpable topPlatform = this.topBlock.getTopJumpable();
-            this.topBlock = this.serviceLocator.getBlockFactory()
-                    .createBlock(topPlatform, BlockTypes.randomType(), this.doodles.size() < 2);
-            this.blocks.add(this.topBlock);
-            this.newDrawables.get(DrawableLevels.back).add(this.topBlock);
-            this.newUpdatables.add(this.topBlock);
+            BlockTypes type = BlockTypes.randomType(this.blockWeights, this.serviceLocator.getCalc());
+            this.addBlock(this.serviceLocator.getBlockFactory()
+                    .createBlock(topPlatform, type, this.doodles.size() < 2));
+        }
+    }
+
+    /**
+     * Check whether a block is less than a game height above the highest view in split-screen.
+     *
+     * @param block The block.
+     * @return {@code true} if the world is split and the block is close to the top of a view.
+     */
+    private boolean isNearHighestView(final IBlock block) {
+        final int gameHeight = this.serviceLocator.getConstants().getGameHeight();
+        for (Viewport viewport : this.viewports) {
+            if (block.getTop() > viewport.camera.getYPos() - gameHeight) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -370,6 +649,53 @@ public final class World implements IScene {
         back
     }
 
+    /**
+     * The view of one player in split-screen.
+     */
+    private static final class Viewport {
+
+        /**
+         * The camera that follows the Doodle of the player.
+         */
+        private final ICamera camera;
+        /**
+         * The position of the view on the screen.
+         */
+        private final Point point;
+        /**
+         * The size of the view on the screen.
+         */
+        private final int width, height;
+        /**
+         * The scale from the game to the view.
+         */
+        private final double scale;
+        /**
+         * The height of the part of the world the view shows.
+         */
+        private final int viewHeight;
+
+        /**
+         * Create a view.
+         *
+         * @param c  The camera that follows the Doodle of the player.
+         * @param p  The position of the view on the screen.
+         * @param w  The width of the view on the screen.
+         * @param h  The height of the view on the screen.
+         * @param s  The scale from the game to the view.
+         * @param vH The height of the part of the world the view shows.
+         */
+        private Viewport(final ICamera c, final Point p, final int w, final int h, final double s, final int vH) {
+            this.camera = c;
+            this.point = p;
+            this.width = w;
+            this.height = h;
+            this.scale = s;
+            this.viewHeight = vH;
+        }
+
+    }
+
     /**
      * Update the camera speed based on Doodles locations.
      */
@@ -407,6 +733,10 @@ public final class World implements IScene {
          * The sprite of the score bar.
          */
         private final ISprite scoreBarSprite;
+        /**
+         * The score bar scaled to the width of the game, without the score and the pause button.
+         */
+        private final StaticLayer staticLayer;
         /**
          * The height of the score bar.
          */
@@ -424,10 +754,12 @@ public final class World implements IScene {
          * Create a new scoreBar.
          */
         /* package */ ScoreBar() {
+            final int gameWidth = World.this.serviceLocator.getConstants().getGameWidth();
             this.scoreBarSprite = World.this.serviceLocator.getSpriteFactory().getSprite(IRes.Sprites.scoreBar);
-            this.scaling = (double) World.this.serviceLocator.getConstants().getGameWidth()
-                    / (double) this.scoreBarSprite.getWidth();
+            this.scaling = (double) gameWidth / (double) this.scoreBarSprite.getWidth();
             this.scoreBarHeight = (int) (this.scaling * this.scoreBarSprite.getHeight());
+            this.staticLayer = new StaticLayer("scoreBar", gameWidth, this.scoreBarHeight)
+                    .add(this.scoreBarSprite, 0, 0, gameWidth, this.scoreBarHeight);
 
             ISpriteFactory sf = serviceLocator.getSpriteFactory();
 
@@ -449,7 +781,6 @@ public final class World implements IScene {
             this.scoreText = new ScoreText(scoreX, scoreY, this.scaling, digitSprites);
 
             ISprite pauseSprite = World.this.serviceLocator.getSpriteFactory().getSprite(IRes.Sprites.pause);
-            final int gameWidth = World.this.serviceLocator.getConstants().getGameWidth();
             double pauseX = 1d - pauseSprite.getWidth() * this.scaling / gameWidth - World.PAUSE_OFFSET * this.scaling / gameWidth;
             double pauseY = this.scaling * (this.scoreBarSprite.getHeight() - ScoreBar.SCORE_BAR_DEAD_ZONE) / 2d / gameWidth
                     - (double) pauseSprite.getHeight() * this.scaling / 2d / gameWidth;
@@ -461,8 +792,8 @@ public final class World implements IScene {
          */
         @Override
         public void render() {
-            World.this.serviceLocator.getRenderer().drawSpriteHUD(this.scoreBarSprite, new Point(0, 0),
-                    World.this.serviceLocator.getConstants().getGameWidth(), this.scoreBarHeight);
+            World.this.serviceLocator.getRenderer().drawSpriteHUD(
+                    World.this.serviceLocator.getSpriteFactory().getLayerSprite(this.staticLayer), new Point(0, 0));
             this.scoreText.render();
             this.pauseButton.render();
         }
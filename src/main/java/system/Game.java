@@ -3,28 +3,50 @@ package system;
 import input.IInputManager;
 import logging.ILogger;
 import math.ICalc;
-import objects.blocks.BlockTypes;
 import objects.powerups.Powerups;
+import profiling.IProfiler;
+import profiling.Phases;
+import rendering.FrameRecorder;
+import rendering.IFrameEncoder;
+import rendering.IRenderer;
+import rendering.MjpegAviEncoder;
+import rendering.PngSequenceEncoder;
+import rendering.QualityGovernor;
+import rendering.QualityTier;
+import resources.AssetPreloader;
 import resources.sprites.SpriteFactory;
 import scenes.IScene;
 import scenes.PauseScreenModes;
 import scenes.Popup;
+import scenes.World;
 
 import javax.swing.JFrame;
-import javax.swing.JPanel;
 import javax.swing.WindowConstants;
-import java.awt.Graphics;
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.GridLayout;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.awt.image.BufferStrategy;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static system.Game.Modes.regular;
 import static system.Game.PlayerModes.single;
@@ -49,17 +71,70 @@ public final class Game {
      */
     public static final String LOGFILE_NAME = "async.log";
     /**
-     * The time in milliseconds per frame.
-     */
-    private static final int FRAME_TIME = 16;
-    /**
-     * The target FPS for the game.
+     * The target FPS for the game. Frames are never rendered more often than this.
      */
     private static final int TARGET_FPS = 60;
     /**
      * The optimal time per frame.
      */
     private static final long OPTIMAL_TIME = ICalc.NANOSECONDS / TARGET_FPS;
+    /**
+     * The maximum amount of simulation ticks that are run to catch up before the next frame is rendered.
+     */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    /**
+     * The amount of buffers the frames are drawn to before they are presented.
+     */
+    private static final int BUFFERS = 3;
+    /**
+     * The amount of nanoseconds in a millisecond.
+     */
+    private static final long NANOSECONDS_PER_MILLISECOND = 1000000L;
+    /**
+     * The program argument that runs the game without a window, see {@link #runHeadless(long)} and
+     * {@link #runHeadless(long, int)}.
+     */
+    private static final String HEADLESS_ARGUMENT = "--headless";
+    /**
+     * The amount of ticks a headless game is simulated for when no amount is given.
+     */
+    private static final long HEADLESS_DEFAULT_TICKS = 100000L;
+    /**
+     * The program argument that records the presented frames to a file, see {@link #startRecording(String)}.
+     */
+    private static final String RECORD_ARGUMENT = "--record";
+    /**
+     * The extension of the files that are recorded as a video instead of a sequence of images.
+     */
+    private static final String VIDEO_EXTENSION = ".avi";
+    /**
+     * The program argument that sets the scale at which the frames are drawn, see
+     * {@link rendering.IRenderer#setRenderScale(double)}. By default the frames are drawn at the size of the window.
+     */
+    private static final String RENDER_SCALE_ARGUMENT = "--render-scale";
+    /**
+     * The program argument that allows the window to be resized, the frames are then scaled to fit the window.
+     */
+    private static final String RESIZABLE_ARGUMENT = "--resizable";
+    /**
+     * The program argument that reads the quality tiers from a JSON file, see {@link QualityGovernor#loadTiers}.
+     */
+    private static final String QUALITY_TIERS_ARGUMENT = "--quality-tiers";
+    /**
+     * The program argument that darkens the frozen scene behind the pause screen and popups, from 0 to 1.
+     */
+    private static final String PAUSE_DIM_ARGUMENT = "--pause-dim";
+    /**
+     * The program argument that blurs the frozen scene behind the pause screen and popups, a radius in the
+     * coordinates of the game.
+     */
+    private static final String PAUSE_BLUR_ARGUMENT = "--pause-blur";
+    /**
+     * The program argument that draws the platforms that never move from tiles in fewer draws, which is slower unless
+     * the frames are drawn by hardware, see
+     * {@link IRenderer#setStaticSpriteTiles(boolean)}.
+     */
+    private static final String STATIC_TILES_ARGUMENT = "--static-tiles";
     /**
      * A LOCK to avoid threading issues.
      */
@@ -78,9 +153,37 @@ public final class Game {
      */
     private static ILogger logger;
     /**
-     * The current panel.
+     * The canvas the frames are presented on.
+     */
+    private static Canvas canvas;
+    /**
+     * The amount of frames of which the buffers were lost while presenting them, since the FPS was last logged.
+     */
+    private static final AtomicInteger lostFrames = new AtomicInteger(0);
+    /**
+     * The amount of frames presented by the render thread since the FPS was last logged.
+     */
+    private static final AtomicInteger presentedFrames = new AtomicInteger(0);
+    /**
+     * How long the render thread took to present the latest frame, in nanoseconds.
+     */
+    private static volatile long presentTime = 0L;
+    /**
+     * Records the presented frames, or null when the frames are not recorded.
      */
-    private static JPanel panel;
+    private static FrameRecorder recorder;
+    /**
+     * Whether the window can be resized.
+     */
+    private static boolean resizable = false;
+    /**
+     * The position of the drawn frames on the canvas, not 0 when the canvas is wider or taller than the frames.
+     */
+    private static volatile int viewX = 0, viewY = 0;
+    /**
+     * Lowers the quality of the frames when they take too long, or null when the game has no window.
+     */
+    private static QualityGovernor governor;
     /**
      * The current scene.
      */
@@ -124,7 +227,19 @@ public final class Game {
     /**
      * A {@link Queue} of popups.
      */
-    private static final Set<Popup> activePopups = new HashSet<>();
+    private static final Set<Popup> activePopups = ConcurrentHashMap.newKeySet();
+    /**
+     * The scene of which a frame is frozen while it is covered by the pause screen or a popup, or null.
+     */
+    private static IScene frozenScene;
+    /**
+     * How much the frozen scene is darkened, see {@link IRenderer#freezeFrame(double, int)}.
+     */
+    private static double pauseDim = 0d;
+    /**
+     * The radius of the blur of the frozen scene, see {@link IRenderer#freezeFrame(double, int)}.
+     */
+    private static int pauseBlur = 0;
     /**
      * The enums for the mode.
      */
@@ -204,18 +319,23 @@ public final class Game {
      * The scale of the game.
      */
     private static float scale = 2;
+    /**
+     * The scale from the game to the canvas, declared after {@link #scale} so that it is initialized with its value.
+     */
+    private static volatile double viewScale = 1d / Game.scale;
     /**
      * The pause screen for the game.
      */
     private static IScene pauseScreen;
     /**
-     * Runnables scheduled to run during the next iteration.
+     * The moment at which the game was launched.
      */
-    private static volatile Queue<Runnable> runnables = new LinkedList<>();
+    private static long launchTime;
     /**
-     * Use a double buffer to prevent ConcurrentModificationErrors.
+     * The splash screen shown while the assets are loaded, or {@code null} once the first interactive frame has
+     * been rendered.
      */
-    private static volatile Queue<Runnable> addToRunnables = new LinkedList<>();
+    private static volatile IScene splashScreen;
 
     /**
      * Used by Cucumber test.
@@ -249,20 +369,39 @@ public final class Game {
      * @param argv the arguments to run.
      */
     public static void main(final String[] argv) {
+        Game.launchTime = System.nanoTime();
+        if (argv.length > 0 && Game.HEADLESS_ARGUMENT.equals(argv[0])) {
+            final long maxTicks = argv.length > 1 ? Long.parseLong(argv[1]) : Game.HEADLESS_DEFAULT_TICKS;
+            if (argv.length > 2) {
+                Game.runHeadless(maxTicks, Integer.parseInt(argv[2]));
+            } else {
+                Game.runHeadless(maxTicks);
+            }
+            return;
+        }
+
         new Game(ServiceLocator.getServiceLocator());
         Game.logger.info("The game has been launched");
+        Game.parseArguments(argv);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (Game.recorder != null) {
+                Game.recorder.stop();
+            }
+            Game.serviceLocator.getProfiler().dump();
+        }));
+        final AssetPreloader preloader = new AssetPreloader(Game.serviceLocator);
+        preloader.start();
         Game.serviceLocator.getProgressionManager().init();
         Game.pauseScreen = Game.serviceLocator.getSceneFactory().createPauseScreen();
         IInputManager inputManager = Game.serviceLocator.getInputManager();
 
         // Initialize frame
         Game.frame = new JFrame("Doodle Jump");
-        Game.frame.addMouseListener(inputManager);
         Game.frame.addKeyListener(inputManager);
         Game.frame.setSize(Game.serviceLocator.getConstants().getGameWidth(),
                 Game.serviceLocator.getConstants().getGameHeight());
         Game.frame.setVisible(true);
-        Game.frame.setResizable(false);
+        Game.frame.setResizable(Game.resizable);
         Game.frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         Game.frame.setSize(Game.serviceLocator.getConstants().getGameWidth() / 2,
                 Game.serviceLocator.getConstants().getGameHeight() / 2);
@@ -277,50 +416,226 @@ public final class Game {
 
         });
 
-        // Initialize panel
-        Game.panel = new JPanel() {
-            /**
-             * Paint the component to the proper scale.
-             *
-             * @param g the graphics.
-             */
-            @Override
-            public void paintComponent(final Graphics g) {
-                Game.serviceLocator.getRenderer().setGraphicsBuffer(g);
+        // Initialize canvas, it does not take the focus so the key events keep going to the frame
+        Game.canvas = new Canvas();
+        Game.canvas.setIgnoreRepaint(true);
+        Game.canvas.setFocusable(false);
+        Game.canvas.addMouseListener(inputManager);
+        if (Game.resizable) {
+            Game.canvas.addComponentListener(new ComponentAdapter() {
 
-                ((Graphics2D) g).scale(1 / scale, 1 / scale);
-                if (Game.scene != null) {
-                    Game.scene.render();
+                /**
+                 * Invoked when the size of the canvas changes.
+                 */
+                public void componentResized(final ComponentEvent componentEvent) {
+                    Game.fitView();
                 }
 
-                if (Game.isPaused) {
-                    Game.pauseScreen.render();
-                }
+            });
+        }
+        Game.frame.add(Game.canvas);
+        Game.frame.validate();
+        Game.createBufferStrategy();
 
-                Game.activePopups.forEach(Popup::render);
-                ((Graphics2D) g).scale(Game.scale, Game.scale);
+        Game.splashScreen = Game.serviceLocator.getSceneFactory().createSplashScreen(preloader);
+        Game.setScene(Game.splashScreen);
+        // The mouse events are received by the canvas itself, so they are not offset by the borders of the window
+        inputManager.setMainWindowBorderSize(0, 0);
+        inputManager.setMainWindowScale(Game.scale);
+        if (Game.resizable) {
+            Game.fitView();
+        }
+
+        Game.start();
+    }
+
+    /**
+     * Applies the program arguments of a game with a window.
+     *
+     * @param argv the arguments to run.
+     */
+    private static void parseArguments(final String[] argv) {
+        double renderScale = 1d / Game.scale;
+        String recording = null;
+        String qualityTiers = null;
+        for (int i = 0; i < argv.length; i++) {
+            if (Game.RECORD_ARGUMENT.equals(argv[i]) && i + 1 < argv.length) {
+                recording = argv[++i];
+            } else if (Game.QUALITY_TIERS_ARGUMENT.equals(argv[i]) && i + 1 < argv.length) {
+                qualityTiers = argv[++i];
+            } else if (Game.RENDER_SCALE_ARGUMENT.equals(argv[i]) && i + 1 < argv.length) {
+                renderScale = Double.parseDouble(argv[++i]);
+            } else if (Game.PAUSE_DIM_ARGUMENT.equals(argv[i]) && i + 1 < argv.length) {
+                Game.pauseDim = Math.min(1d, Math.max(0d, Double.parseDouble(argv[++i])));
+            } else if (Game.PAUSE_BLUR_ARGUMENT.equals(argv[i]) && i + 1 < argv.length) {
+                Game.pauseBlur = Math.max(0, Integer.parseInt(argv[++i]));
+            } else if (Game.STATIC_TILES_ARGUMENT.equals(argv[i])) {
+                Game.serviceLocator.getRenderer().setStaticSpriteTiles(true);
+            } else if (Game.RESIZABLE_ARGUMENT.equals(argv[i])) {
+                Game.resizable = true;
+            } else {
+                Game.logger.warning("Unknown program argument \"" + argv[i] + "\"");
             }
-        };
+        }
 
-        Game.panel.setLayout(new GridLayout(1, 1));
-        Game.frame.setContentPane(Game.panel);
+        Game.serviceLocator.getRenderer().setRenderScale(renderScale);
+        Game.governor = new QualityGovernor(Game.serviceLocator, qualityTiers == null ? QualityTier.DEFAULT_TIERS
+                : QualityGovernor.loadTiers(Game.serviceLocator, qualityTiers), Game.OPTIMAL_TIME);
+        if (recording != null) {
+            Game.startRecording(recording);
+        }
+    }
 
-        Game.setScene(Game.serviceLocator.getSceneFactory().createMainMenu());
-        int x = (int) (Game.panel.getLocationOnScreen().getX() - Game.frame.getLocationOnScreen().getX());
-        int y = (int) (Game.panel.getLocationOnScreen().getY() - Game.frame.getLocationOnScreen().getY());
-        Game.serviceLocator.getInputManager().setMainWindowBorderSize(x, y);
+    /**
+     * Scales the game to the largest size at which it fits on the canvas, and centers it.
+     */
+    private static void fitView() {
+        final double width = Game.serviceLocator.getConstants().getGameWidth();
+        final double height = Game.serviceLocator.getConstants().getGameHeight();
+        final double fit = Math.min(Game.canvas.getWidth() / width, Game.canvas.getHeight() / height);
+        if (fit <= 0d) {
+            return;
+        }
 
-        Game.start();
+        Game.viewScale = fit;
+        Game.viewX = (int) ((Game.canvas.getWidth() - width * fit) / 2d);
+        Game.viewY = (int) ((Game.canvas.getHeight() - height * fit) / 2d);
+        final IInputManager inputManager = Game.serviceLocator.getInputManager();
+        inputManager.setMainWindowBorderSize(Game.viewX, Game.viewY);
+        inputManager.setMainWindowScale(1d / fit);
     }
 
     /**
-     * Starts the "engine", the thread that redraws the interface at set
-     * intervals.
+     * Runs a single player game without a window, updating the {@link scenes.World World} as fast as possible.
+     * <br>
+     * Nothing is rendered and no audio is played, so no display or sound device is needed. Like the games of
+     * {@link #runHeadless(long, int)}, the game gets its own service locator with the random seed 0 and an in-memory
+     * progression, so it does not touch the save file. The game stops when the Doodle dies or when {@code maxTicks}
+     * ticks have been simulated, after which the profile is logged.
+     *
+     * @param maxTicks The maximum amount of ticks to simulate
+     * @return The amount of ticks simulated per second
+     */
+    public static double runHeadless(final long maxTicks) {
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("The amount of ticks to simulate must be positive");
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        new Game(ServiceLocatorNoAudio.getServiceLocator());
+        Game.logger.info("The game has been launched headless");
+
+        final IServiceLocator sL = new ServiceLocatorNoAudio(0L);
+        final long start = System.nanoTime();
+        final long ticks = Game.simulate(sL, maxTicks);
+        final long elapsed = Math.max(1L, System.nanoTime() - start);
+
+        final double ticksPerSecond = (double) ticks * ICalc.NANOSECONDS / (double) elapsed;
+        Game.logger.info("Simulated " + ticks + " ticks in " + elapsed / Game.NANOSECONDS_PER_MILLISECOND
+                + " ms (" + Math.round(ticksPerSecond) + " ticks/sec)");
+        sL.getProfiler().dump();
+        return ticksPerSecond;
+    }
+
+    /**
+     * Runs {@code games} single player games side by side without a window, each on its own thread of a
+     * work-stealing pool.
+     * <br>
+     * Every game gets its own service locator, and with that its own camera, random generator and in-memory
+     * progression, so the games do not influence each other. Game {@code i} uses {@code i} as its random seed,
+     * which makes a batch reproducible. A game stops when its Doodle dies or when {@code maxTicks} ticks have been
+     * simulated.
+     *
+     * @param maxTicks The maximum amount of ticks to simulate per game
+     * @param games    The amount of games to simulate
+     * @return The amount of ticks simulated per second, summed over all games
+     */
+    public static double runHeadless(final long maxTicks, final int games) {
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("The amount of ticks to simulate must be positive");
+        }
+        if (games <= 0) {
+            throw new IllegalArgumentException("The amount of games to simulate must be positive");
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        new Game(ServiceLocatorNoAudio.getServiceLocator());
+        Game.logger.info("Simulating " + games + " games headless");
+
+        final List<Callable<Long>> simulations = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            final long seed = i;
+            simulations.add(() -> Game.simulate(new ServiceLocatorNoAudio(seed), maxTicks));
+        }
+
+        final ExecutorService pool = Executors.newWorkStealingPool();
+        final long start = System.nanoTime();
+        long ticks = 0;
+        try {
+            for (Future<Long> simulation : pool.invokeAll(simulations)) {
+                ticks += simulation.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            Game.logger.error(e);
+        } finally {
+            pool.shutdown();
+        }
+        final long elapsed = Math.max(1L, System.nanoTime() - start);
+
+        final double ticksPerSecond = (double) ticks * ICalc.NANOSECONDS / (double) elapsed;
+        Game.logger.info("Simulated " + games + " games, " + ticks + " ticks in "
+                + elapsed / Game.NANOSECONDS_PER_MILLISECOND + " ms (" + Math.round(ticksPerSecond) + " ticks/sec)");
+        return ticksPerSecond;
+    }
+
+    /**
+     * Simulates a single player game in its own {@link World}, independent of the scene shown by the Game.
+     *
+     * @param sL       The service locator owned by this game
+     * @param maxTicks The maximum amount of ticks to simulate
+     * @return The amount of ticks simulated
+     */
+    private static long simulate(final IServiceLocator sL, final long maxTicks) {
+        sL.getProgressionManager().init();
+        return Game.simulate(sL, sL.getSceneFactory().createSinglePlayerWorld(), maxTicks);
+    }
+
+    /**
+     * Simulates a World that has been created with the service locator of its game.
+     *
+     * @param sL       The service locator owned by this game
+     * @param world    The World to simulate
+     * @param maxTicks The maximum amount of ticks to simulate
+     * @return The amount of ticks simulated
+     */
+    /* package */ static long simulate(final IServiceLocator sL, final World world, final long maxTicks) {
+        final IProfiler profiler = sL.getProfiler();
+        final double delta = (double) Game.TARGET_FPS / (double) sL.getConstants().getTicksPerSecond();
+        long ticks = 0;
+        while (ticks < maxTicks && !world.isGameOver()) {
+            final long tickStart = profiler.start();
+            sL.getTaskQueue().runTasks();
+            world.update(delta);
+            final long progressionStart = profiler.start();
+            sL.getProgressionManager().update();
+            profiler.record(Phases.progressionUpdate, progressionStart);
+            profiler.record(Phases.tick, tickStart);
+            ticks++;
+        }
+        world.stop();
+        return ticks;
+    }
+
+    /**
+     * Starts the "engine", the thread that updates the game at a fixed rate, and the thread that redraws the
+     * interface.
      */
     public static void start() {
         Game.frame.setVisible(true);
-        ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor();
-        service.scheduleAtFixedRate(Game::loop, 0, Game.FRAME_TIME, TimeUnit.MILLISECONDS);
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        service.execute(Game::loop);
+        ExecutorService renderService = Executors.newSingleThreadExecutor();
+        renderService.execute(Game::render);
     }
 
     /**
@@ -341,8 +656,8 @@ public final class Game {
         Game.mode = m;
         Game.serviceLocator.getRes().setSkin(m);
         SpriteFactory.register(Game.serviceLocator);
+        new AssetPreloader(Game.serviceLocator).start();
         setScene(Game.serviceLocator.getSceneFactory().newChooseMode());
-        BlockTypes.setMode(m);
         Game.logger.info("The mode is now " + m);
     }
 
@@ -365,51 +680,279 @@ public final class Game {
     }
 
     /**
-     * Loop to update the game 60x per second.
+     * Loop that updates the game with a fixed timestep and records a frame after the ticks.
+     * <br>
+     * The time that passed since the previous iteration is accumulated and consumed in fixed ticks, so the
+     * simulation does not depend on how long an update or a frame takes. When the game falls too far behind,
+     * the remaining time is dropped instead of running an ever growing amount of catch-up ticks.
+     * <br>
+     * After the ticks a frame is recorded and published to the renderer, together with the time at which its
+     * latest tick was due. The published frames are presented by the {@link #render() render thread}, so the next
+     * ticks are simulated while the previous frame is being drawn.
      */
     private static void loop() {
-        long lastLoopTime = System.nanoTime();
-        long lastFpsTime = 0;
+        final int ticksPerSecond = Game.serviceLocator.getConstants().getTicksPerSecond();
+        final long tickTime = ICalc.NANOSECONDS / ticksPerSecond;
+        final double delta = (double) Game.TARGET_FPS / (double) ticksPerSecond;
+
+        long previousTime = System.nanoTime();
+        long lastFpsTime = previousTime;
+        long accumulator = 0;
+        long busyTime = 0;
+        int ticks = 0;
         while (true) {
-            long now = System.nanoTime();
-            long updateLength = now - lastLoopTime;
-            lastLoopTime = now;
-            double delta = updateLength / ((double) Game.OPTIMAL_TIME);
-
-            lastFpsTime += updateLength;
-            if (lastFpsTime >= ICalc.NANOSECONDS) {
-                lastFpsTime = 0;
+            final long now = System.nanoTime();
+            accumulator += now - previousTime;
+            previousTime = now;
+
+            int catchUpTicks = 0;
+            while (accumulator >= tickTime && catchUpTicks < Game.MAX_TICKS_PER_FRAME) {
+                Game.tick(delta);
+                accumulator -= tickTime;
+                catchUpTicks++;
             }
+            ticks += catchUpTicks;
+            if (accumulator >= tickTime) {
+                Game.logger.warning("The game is running behind, dropped " + accumulator / tickTime + " ticks");
+                accumulator %= tickTime;
+            }
+            if (catchUpTicks > 0) {
+                // A frame misses its budget when either thread takes longer than a frame, and a new tier is
+                // applied before the frame is recorded, so the frame is drawn with it
+                final long frameTime = Math.max(busyTime, Game.presentTime);
+                if (frameTime > 0) {
+                    Game.governor.update(frameTime);
+                }
+                Game.serviceLocator.getRenderer().setTickTime(now - accumulator);
+                Game.recordFrame();
+                busyTime = 0;
+            }
+            busyTime += System.nanoTime() - now;
 
-            // Add new runnables
-            while (Game.addToRunnables.size() > 0) {
-                Game.runnables.add(Game.addToRunnables.remove());
+            if (now - lastFpsTime >= ICalc.NANOSECONDS) {
+                final TaskQueue tasks = Game.serviceLocator.getTaskQueue();
+                Game.logger.info("FPS is " + Game.presentedFrames.getAndSet(0) + " ("
+                        + Game.lostFrames.getAndSet(0) + " lost), TPS is " + ticks
+                        + ", tasks waiting: " + tasks.size()
+                        + " (high water mark " + tasks.getHighWaterMark() + ", rejected "
+                        + tasks.getRejected() + "), delayed tasks: " + tasks.getDelayedSize()
+                        + (Game.recorder == null ? "" : ", recorded frames: " + Game.recorder.getCaptured()
+                        + " (" + Game.recorder.getDropped() + " dropped, "
+                        + Game.recorder.getQueueDepth() + " waiting to be encoded)")
+                        + ", quality: " + Game.governor.getTier());
+                lastFpsTime = now;
+                ticks = 0;
             }
-            // Run runnables
-            while (Game.runnables.size() > 0) {
-                (Game.runnables.remove()).run();
+
+            // Sleep until the next tick is due
+            final long sleep = (tickTime - accumulator - (System.nanoTime() - previousTime))
+                    / Game.NANOSECONDS_PER_MILLISECOND;
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Game.logger.error(e);
+                }
             }
+        }
+    }
 
-            // Render the pause screen if necessary, otherwise render the normal scene
-            if (Game.isPaused) {
-                Game.pauseScreen.update(delta);
-            } else {
-                Game.scene.update(delta);
-                Game.serviceLocator.getProgressionManager().update();
+    /**
+     * Loop of the render thread, which presents the latest published frame at the target FPS.
+     * <br>
+     * It runs next to the {@link #loop() game loop} and only shares the frames with it, which the renderer hands
+     * over without waiting. Every frame is interpolated by the time that has passed since its latest tick, so the
+     * frames move smoothly when more frames are presented than ticks are simulated.
+     */
+    private static void render() {
+        long lastFrameTime = System.nanoTime() - Game.OPTIMAL_TIME;
+        while (true) {
+            final long now = System.nanoTime();
+            if (now - lastFrameTime >= Game.OPTIMAL_TIME) {
+                lastFrameTime = now;
+                Game.present();
+                Game.presentTime = System.nanoTime() - now;
+                Game.presentedFrames.incrementAndGet();
             }
 
-            // Render the frame
-            Game.panel.repaint();
+            // Sleep until the next frame is due
+            final long sleep = (Game.OPTIMAL_TIME - (System.nanoTime() - lastFrameTime))
+                    / Game.NANOSECONDS_PER_MILLISECOND;
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Game.logger.error(e);
+                }
+            }
+        }
+    }
 
-            // Sleep until the next frame
-            try {
-                Thread.sleep(Game.FRAME_TIME - (now - System.nanoTime()) / ICalc.NANOSECONDS);
-            } catch (InterruptedException e) {
-                Game.logger.error(e);
+    /**
+     * Advances the simulation by one tick.
+     *
+     * @param delta The length of a tick relative to a frame at the target FPS
+     */
+    private static void tick(final double delta) {
+        final IProfiler profiler = Game.serviceLocator.getProfiler();
+        final long tickStart = profiler.start();
+        Game.serviceLocator.getTaskQueue().runTasks();
+
+        // Update the pause screen if necessary, otherwise update the normal scene
+        if (Game.isPaused) {
+            Game.pauseScreen.update(delta);
+        } else {
+            Game.scene.update(delta);
+            final long progressionStart = profiler.start();
+            Game.serviceLocator.getProgressionManager().update();
+            profiler.record(Phases.progressionUpdate, progressionStart);
+        }
+        profiler.record(Phases.tick, tickStart);
+    }
+
+    /**
+     * Creates the buffers of the canvas, preferably accelerated back buffers that are flipped to the screen.
+     */
+    private static void createBufferStrategy() {
+        final BufferCapabilities accelerated = new BufferCapabilities(new ImageCapabilities(true),
+                new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED);
+        try {
+            Game.canvas.createBufferStrategy(Game.BUFFERS, accelerated);
+        } catch (AWTException e) {
+            // Let AWT pick the best strategy it supports
+            Game.canvas.createBufferStrategy(Game.BUFFERS);
+        }
+
+        final BufferCapabilities capabilities = Game.canvas.getBufferStrategy().getCapabilities();
+        Game.logger.info("Presenting with " + Game.BUFFERS + " buffers, page flipping: "
+                + capabilities.isPageFlipping() + ", accelerated back buffers: "
+                + capabilities.getBackBufferCapabilities().isAccelerated());
+    }
+
+    /**
+     * Draws the latest published frame to the back buffer of the canvas and shows it.
+     * <br>
+     * The back buffers are volatile, so the frame is drawn again when their contents were lost while drawing or
+     * showing it. The frames are drawn at the size of the window, so they are only scaled when the frames are drawn
+     * at another {@link rendering.IRenderer#setRenderScale(double) render scale} or the window has been resized.
+     * Called by the render thread.
+     */
+    private static void present() {
+        final IProfiler profiler = Game.serviceLocator.getProfiler();
+        final long frameStart = profiler.start();
+        final BufferStrategy strategy = Game.canvas.getBufferStrategy();
+        long presentStart;
+        do {
+            do {
+                final Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    Game.serviceLocator.getRenderer().setGraphicsBuffer(g);
+                    Game.transformView(g);
+                    Game.serviceLocator.getRenderer().flush();
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            presentStart = profiler.start();
+            strategy.show();
+            if (strategy.contentsLost()) {
+                Game.lostFrames.incrementAndGet();
+            }
+        } while (strategy.contentsLost());
+
+        // Make sure the frame reaches the screen now instead of whenever the window system flushes
+        Toolkit.getDefaultToolkit().sync();
+        profiler.record(Phases.present, presentStart);
+        if (Game.recorder != null) {
+            final long captureStart = profiler.start();
+            Game.recorder.capture(Game.serviceLocator.getRenderer());
+            profiler.record(Phases.captureFrame, captureStart);
+        }
+        final long frameEnd = profiler.record(Phases.frame, frameStart);
+
+        if (Game.splashScreen != null && Game.scene != Game.splashScreen) {
+            Game.splashScreen = null;
+            profiler.record(Phases.startup, Game.launchTime);
+            Game.logger.info("The first interactive frame was rendered "
+                    + (frameEnd - Game.launchTime) / Game.NANOSECONDS_PER_MILLISECOND + " ms after launch");
+        }
+    }
+
+    /**
+     * Transforms the graphics of the canvas from the drawn frames to the canvas, and clears the borders around them.
+     *
+     * @param g The graphics of the canvas.
+     */
+    private static void transformView(final Graphics2D g) {
+        final int x = Game.viewX, y = Game.viewY;
+        if (x != 0 || y != 0) {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, Game.canvas.getWidth(), Game.canvas.getHeight());
+            g.translate(x, y);
+        }
+        // The frames are drawn at the render scale
+        final double s = Game.viewScale / Game.serviceLocator.getRenderer().getRenderScale();
+        if (s != 1d) {
+            g.scale(s, s);
+        }
+    }
+
+    /**
+     * Starts recording the presented frames at the resolution of the window. A path that ends with
+     * {@value #VIDEO_EXTENSION} is recorded as a Motion JPEG video, any other path is a directory into which every
+     * frame is written as a PNG image.
+     *
+     * @param path The file or directory the frames are recorded to.
+     */
+    private static void startRecording(final String path) {
+        final int w = (int) (Game.serviceLocator.getConstants().getGameWidth() / Game.scale);
+        final int h = (int) (Game.serviceLocator.getConstants().getGameHeight() / Game.scale);
+        try {
+            final IFrameEncoder encoder = path.toLowerCase(Locale.ROOT).endsWith(Game.VIDEO_EXTENSION)
+                    ? new MjpegAviEncoder(new File(path), w, h, Game.TARGET_FPS)
+                    : new PngSequenceEncoder(new File(path));
+            Game.recorder = new FrameRecorder(Game.serviceLocator, encoder, w, h);
+            Game.recorder.start();
+            Game.logger.info("Recording to \"" + path + "\" at " + w + "x" + h);
+        } catch (IOException e) {
+            Game.logger.error("The frames cannot be recorded to \"" + path + "\"");
+            Game.logger.error(e);
+        }
+    }
+
+    /**
+     * Records the current state of the game as a frame and publishes it to the renderer.
+     * <br>
+     * While the scene is covered by the pause screen or a popup, it is drawn once into a frozen frame which is shown
+     * instead of drawing the scene again every frame.
+     */
+    private static void recordFrame() {
+        final IProfiler profiler = Game.serviceLocator.getProfiler();
+        final long recordStart = profiler.start();
+        final IRenderer renderer = Game.serviceLocator.getRenderer();
+        if (Game.isPaused || !Game.activePopups.isEmpty()) {
+            if (Game.frozenScene != Game.scene) {
+                Game.scene.render();
+                renderer.freezeFrame(Game.pauseDim, Game.pauseBlur);
+                Game.frozenScene = Game.scene;
+            }
+            renderer.drawFrozenFrame();
+        } else {
+            if (Game.frozenScene != null) {
+                renderer.unfreezeFrame();
+                Game.frozenScene = null;
             }
+            Game.scene.render();
+        }
 
-            Game.logger.info("FPS is " + Game.getFPS(updateLength, 0));
+        if (Game.isPaused) {
+            Game.pauseScreen.render();
         }
+
+        Game.activePopups.forEach(Popup::render);
+        Game.serviceLocator.getRenderer().publish();
+        profiler.record(Phases.recordFrame, recordStart);
     }
 
     /**
@@ -438,12 +981,46 @@ public final class Game {
     }
 
     /**
-     * Use a buffer to prevent ConcurrentModificationExceptions.
+     * Schedules a task to be run by the game thread during the next tick. Can be called from any thread.
      *
      * @param runnable The runnable to be executed during the next run
+     * @return {@code true} if the task was scheduled, {@code false} if too many tasks were waiting already
+     */
+    public static boolean schedule(final Runnable runnable) {
+        assert runnable != null;
+        final boolean scheduled = Game.serviceLocator.getTaskQueue().offer(runnable);
+        if (!scheduled) {
+            Game.logger.warning("The task queue is full, a task has been dropped");
+        }
+        return scheduled;
+    }
+
+    /**
+     * Schedules a task to be run by the game thread after a delay. Can be called from any thread.
+     *
+     * @param runnable The runnable to be executed
+     * @param delay    The amount of ticks to wait before the task is run
+     * @return The scheduled task, which can be cancelled, or {@code null} if too many tasks were waiting already
      */
-    public static void schedule(final Runnable runnable) {
-        Game.addToRunnables.add(runnable);
+    public static TaskQueue.ScheduledTask schedule(final Runnable runnable, final long delay) {
+        return Game.scheduleRepeating(runnable, delay, 0L);
+    }
+
+    /**
+     * Schedules a task to be run by the game thread repeatedly. Can be called from any thread.
+     *
+     * @param runnable The runnable to be executed
+     * @param delay    The amount of ticks to wait before the task is run for the first time
+     * @param period   The amount of ticks between two runs, or 0 to run the task only once
+     * @return The scheduled task, which can be cancelled, or {@code null} if too many tasks were waiting already
+     */
+    public static TaskQueue.ScheduledTask scheduleRepeating(final Runnable runnable, final long delay, final long period) {
+        assert runnable != null;
+        final TaskQueue.ScheduledTask task = Game.serviceLocator.getTaskQueue().offer(runnable, delay, period);
+        if (task == null) {
+            Game.logger.warning("The task queue is full, a delayed task has been dropped");
+        }
+        return task;
     }
 
     /**
@@ -464,20 +1041,6 @@ public final class Game {
         Game.isPaused = false;
     }
 
-    /**
-     * Returns the current FPS.
-     *
-     * @param threadSleep Amount of time thread has slept
-     * @param renderTime  Amount of time took rendering/updating
-     * @return The current Frames Per Second (FPS)
-     */
-    private static double getFPS(final long threadSleep, final long renderTime) {
-        if (threadSleep + renderTime == 0) {
-            return Game.TARGET_FPS;
-        }
-        return (double) ICalc.NANOSECONDS / (double) (threadSleep + renderTime);
-    }
-
     /**
      * Returns the pause screen.
      *
@@ -13,6 +13,7 @@ import objects.doodles.projectiles.IProjectileFactory;
 import objects.enemies.IEnemyFactory;
 import objects.powerups.IPowerupFactory;
 import progression.IMissionFactory;
+import profiling.IProfiler;
 import progression.IProgressionManager;
 import rendering.ICameraFactory;
 import rendering.IRenderer;
@@ -69,6 +70,10 @@ public interface IServiceLocator {
 
     void provide(IAnimationFactory animationFactory);
 
+    void provide(IProfiler profiler);
+
+    void provide(TaskQueue taskQueue);
+
     IAudioManager getAudioManager();
 
     IEnemyFactory getEnemyFactory();
@@ -111,4 +116,8 @@ public interface IServiceLocator {
 
     IAnimationFactory getAnimationFactory();
 
+    IProfiler getProfiler();
+
+    TaskQueue getTaskQueue();
+
 }
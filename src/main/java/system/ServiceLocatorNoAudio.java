@@ -24,6 +24,8 @@ import objects.enemies.EnemyFactory;
 import objects.enemies.IEnemyFactory;
 import objects.powerups.IPowerupFactory;
 import objects.powerups.PowerupFactory;
+import profiling.IProfiler;
+import profiling.Profiler;
 import progression.IMissionFactory;
 import progression.IProgressionManager;
 import progression.MissionFactory;
@@ -63,6 +65,10 @@ import scenes.SceneFactory;
     private IPowerupFactory powerupFactory;
     private IProjectileFactory projectileFactory;
 
+    // profiling
+    private IProfiler profiler;
+    private TaskQueue taskQueue;
+
     // progression
     private IMissionFactory missionFactory;
     private IProgressionManager progressionManager;
@@ -97,6 +103,18 @@ import scenes.SceneFactory;
         this.init();
     }
 
+    /**
+     * Initialize a ServiceLocator for a simulated game. It owns a seeded random generator and a progression that
+     * is kept in memory, so several of them can run side by side without sharing any state.
+     *
+     * @param seed The seed of the random generator.
+     */
+    /* package */ ServiceLocatorNoAudio(final long seed) {
+        this.init();
+        Calc.register(this, seed);
+        ProgressionManager.registerInMemory(this);
+    }
+
     /**
      * Getter of the singleton service locator.
      *
@@ -293,6 +311,24 @@ import scenes.SceneFactory;
         this.animationFactory = animationFactory;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void provide(final IProfiler p) {
+        assert p != null;
+        this.profiler = p;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void provide(final TaskQueue t) {
+        assert t != null;
+        this.taskQueue = t;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -304,6 +340,10 @@ import scenes.SceneFactory;
             public void preload() {
             }
 
+            @Override
+            public void preload(Sounds sound) {
+            }
+
             @Override
             public void play(Sounds sound) {
             }
@@ -498,6 +538,24 @@ import scenes.SceneFactory;
         return this.animationFactory;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IProfiler getProfiler() {
+        assert this.profiler != null;
+        return this.profiler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TaskQueue getTaskQueue() {
+        assert this.taskQueue != null;
+        return this.taskQueue;
+    }
+
     /**
      * Initialize the ServiceLocator.
      */
@@ -525,6 +583,8 @@ import scenes.SceneFactory;
         ProgressionManager.register(this);
         MissionFactory.register(this);
         AnimationFactory.register(this);
+        Profiler.register(this);
+        TaskQueue.register(this);
     }
 
 }
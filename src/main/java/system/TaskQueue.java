@@ -0,0 +1,313 @@
+package system;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue of tasks that may be filled by any thread but is only run by the game thread.
+ * <br>
+ * The tasks are stored in a ring buffer in which every slot carries a sequence number, so producers claim a
+ * slot with a single compare-and-set and no node is allocated per task. When the buffer is full a task is
+ * rejected instead of blocking the producer, which is counted so the back-pressure can be monitored.
+ * <br>
+ * Tasks can be delayed and repeated. Delays are expressed in ticks of the game loop and start counting when
+ * the game thread picks the task up, so timed tasks stay in step with the simulation.
+ * <br>
+ * Every service locator owns a task queue, which is run at the start of every tick of the game that uses it, so the
+ * games that are simulated side by side each run their own delayed tasks.
+ */
+public final class TaskQueue {
+
+    /**
+     * The maximum amount of tasks that can wait in the queue of a service locator for the next tick.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * The tasks, indexed by their position modulo the capacity.
+     */
+    private final AtomicReferenceArray<Runnable> buffer;
+    /**
+     * The sequence number of every slot. A slot can be written when its sequence equals the position that is
+     * claimed and can be read when its sequence is one past the position.
+     */
+    private final AtomicLongArray sequences;
+    /**
+     * The capacity of the buffer minus one, used to turn a position into an index.
+     */
+    private final int mask;
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong(0L);
+    /**
+     * The next position to be read by the consumer. Only written by the game thread.
+     */
+    private volatile long head;
+    /**
+     * The delayed and repeating tasks that are waiting for their tick, ordered by that tick.
+     * Only accessed by the game thread.
+     */
+    private final PriorityQueue<ScheduledTask> delayed = new PriorityQueue<>();
+    /**
+     * The amount of ticks the queue has run.
+     */
+    private long currentTick;
+    /**
+     * The amount of tasks that were rejected because the buffer was full.
+     */
+    private final AtomicLong rejected = new AtomicLong(0L);
+    /**
+     * The highest amount of tasks that have been waiting in the buffer at the same time.
+     */
+    private final AtomicInteger highWaterMark = new AtomicInteger(0);
+
+    /**
+     * Creates a new task queue.
+     *
+     * @param capacity The maximum amount of tasks waiting in the buffer, must be a power of two
+     */
+    /* package */ TaskQueue(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity of the task queue must be a positive power of two");
+        }
+
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Registers itself to an {@link IServiceLocator} so that other classes can use the services provided by this class.
+     *
+     * @param sL The IServiceLocator to which the class should offer its functionality
+     */
+    public static void register(final IServiceLocator sL) {
+        if (sL == null) {
+            throw new IllegalArgumentException("The service locator cannot be null");
+        }
+        sL.provide(new TaskQueue(TaskQueue.CAPACITY));
+    }
+
+    /**
+     * Adds a task that is run during the next tick. Can be called from any thread.
+     *
+     * @param task The task to run
+     * @return {@code true} if the task was added, {@code false} if the queue was full
+     */
+    public boolean offer(final Runnable task) {
+        assert task != null;
+
+        long position = this.tail.get();
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.buffer.lazySet(index, task);
+                    this.sequences.lazySet(index, position + 1);
+                    this.updateHighWaterMark(position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                this.rejected.incrementAndGet();
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Adds a task that is run once after {@code delay} ticks, or repeatedly every {@code period} ticks after
+     * that. Can be called from any thread.
+     *
+     * @param task   The task to run
+     * @param delay  The amount of ticks to wait before the first run
+     * @param period The amount of ticks between two runs, or 0 to run the task only once
+     * @return The scheduled task, which can be used to cancel it, or {@code null} if the queue was full
+     */
+    public ScheduledTask offer(final Runnable task, final long delay, final long period) {
+        assert task != null;
+        if (delay < 0 || period < 0) {
+            throw new IllegalArgumentException("The delay and period of a task cannot be negative");
+        }
+
+        final ScheduledTask scheduledTask = new ScheduledTask(task, delay, period);
+        return this.offer(scheduledTask) ? scheduledTask : null;
+    }
+
+    /**
+     * Runs all the tasks that are due in this tick. Must only be called by the game thread.
+     * <br>
+     * Tasks that are added while the tasks are running are run during the next tick.
+     */
+    /* package */ void runTasks() {
+        final long end = this.tail.get();
+        long position = this.head;
+        while (position < end) {
+            final int index = (int) position & this.mask;
+            if (this.sequences.get(index) != position + 1) {
+                // A producer claimed this slot but has not published its task yet
+                break;
+            }
+            final Runnable task = this.buffer.get(index);
+            this.buffer.lazySet(index, null);
+            this.sequences.lazySet(index, position + this.mask + 1);
+            position++;
+            this.head = position;
+
+            if (task instanceof ScheduledTask) {
+                final ScheduledTask scheduledTask = (ScheduledTask) task;
+                scheduledTask.dueTick = this.currentTick + scheduledTask.delay;
+                this.delayed.add(scheduledTask);
+            } else {
+                task.run();
+            }
+        }
+
+        while (!this.delayed.isEmpty() && this.delayed.peek().dueTick <= this.currentTick) {
+            final ScheduledTask scheduledTask = this.delayed.poll();
+            if (scheduledTask.cancelled) {
+                continue;
+            }
+            scheduledTask.task.run();
+            if (scheduledTask.period > 0 && !scheduledTask.cancelled) {
+                scheduledTask.dueTick = this.currentTick + scheduledTask.period;
+                this.delayed.add(scheduledTask);
+            }
+        }
+
+        this.currentTick++;
+    }
+
+    /**
+     * Get the amount of tasks waiting in the buffer.
+     *
+     * @return The amount of tasks that have not been picked up by the game thread yet
+     */
+    /* package */ int size() {
+        return (int) Math.max(0L, this.tail.get() - this.head);
+    }
+
+    /**
+     * Get the amount of delayed and repeating tasks that are waiting for their tick.
+     *
+     * @return The amount of delayed tasks
+     */
+    /* package */ int getDelayedSize() {
+        return this.delayed.size();
+    }
+
+    /**
+     * Get the amount of tasks that were rejected because the queue was full.
+     *
+     * @return The amount of rejected tasks
+     */
+    /* package */ long getRejected() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Get the highest amount of tasks that have been waiting in the buffer at the same time.
+     *
+     * @return The high water mark of the buffer
+     */
+    /* package */ int getHighWaterMark() {
+        return this.highWaterMark.get();
+    }
+
+    /**
+     * Raises the high water mark when the buffer holds more tasks than before.
+     *
+     * @param end The position after the task that was just added
+     */
+    private void updateHighWaterMark(final long end) {
+        final int size = (int) (end - this.head);
+        int mark = this.highWaterMark.get();
+        while (size > mark && !this.highWaterMark.compareAndSet(mark, size)) {
+            mark = this.highWaterMark.get();
+        }
+    }
+
+    /**
+     * A task that is run after a delay, and possibly repeated.
+     */
+    public static final class ScheduledTask implements Runnable, Comparable<ScheduledTask> {
+
+        /**
+         * The task to run.
+         */
+        private final Runnable task;
+        /**
+         * The amount of ticks to wait before the first run.
+         */
+        private final long delay;
+        /**
+         * The amount of ticks between two runs, 0 if the task runs only once.
+         */
+        private final long period;
+        /**
+         * The tick at which the task should run next. Only accessed by the game thread.
+         */
+        private long dueTick;
+        /**
+         * Whether the task has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new scheduled task.
+         *
+         * @param t The task to run
+         * @param d The amount of ticks to wait before the first run
+         * @param p The amount of ticks between two runs, 0 if the task runs only once
+         */
+        private ScheduledTask(final Runnable t, final long d, final long p) {
+            this.task = t;
+            this.delay = d;
+            this.period = p;
+        }
+
+        /**
+         * Prevents the task from running again. Can be called from any thread.
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Whether the task has been cancelled.
+         *
+         * @return {@code true} if {@link #cancel()} has been called
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            this.task.run();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(final ScheduledTask other) {
+            return Long.compare(this.dueTick, other.dueTick);
+        }
+
+    }
+
+}
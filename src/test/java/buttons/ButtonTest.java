@@ -12,8 +12,8 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 import rendering.IRenderer;
 import resources.sprites.ISprite;
-import system.Game;
 import system.IServiceLocator;
+import system.TaskQueue;
 
 import java.awt.Image;
 import java.awt.Point;
@@ -29,7 +29,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
  * Test suite for the Button.java class.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({InputManager.class, Game.class})
+@PrepareForTest(InputManager.class)
 public class ButtonTest {
 
     private static InputManager inputManager = mock(InputManager.class);
@@ -37,7 +37,7 @@ public class ButtonTest {
     private static ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
     private static IServiceLocator serviceLocator = mock(IServiceLocator.class);
 
-    private Game game = mock(Game.class);
+    private TaskQueue taskQueue;
     private Tuple2<Integer, Integer> dimensions = new Tuple2<>(30, 20);
     private IButton button, button2;
     private Image image = mock(Image.class);
@@ -56,9 +56,13 @@ public class ButtonTest {
         when(serviceLocator.getInputManager()).thenReturn(inputManager);
         when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
         when(loggerFactory.createLogger(Button.class)).thenReturn(logger);
+        taskQueue = Whitebox.invokeConstructor(TaskQueue.class, 16);
+        when(serviceLocator.getTaskQueue()).thenReturn(taskQueue);
         when(sprite.getImage()).thenReturn(image);
         when(image.getWidth(anyObject())).thenReturn(width);
         when(image.getHeight(anyObject())).thenReturn(height);
+        when(sprite.getWidth()).thenReturn(width);
+        when(sprite.getHeight()).thenReturn(height);
 
         button = new Button(serviceLocator, xPos, yPos, sprite, action, buttonName);
         button2 = new Button(serviceLocator, xPos, yPos, sprite, action, buttonName, dimensions);
@@ -83,25 +87,28 @@ public class ButtonTest {
     }
 
     @Test
-    public void testMouseClickedOnButton() {
+    public void testMouseClickedOnButton() throws Exception {
         int xPosClicked = 15;
         int yPosClicked = 15;
         button.mouseClicked(xPosClicked, yPosClicked);
-        verify(game, times(1)).schedule(action);
+        verify(action, times(0)).run();
+        Whitebox.invokeMethod(taskQueue, "runTasks");
+        verify(action, times(1)).run();
     }
 
     @Test
-    public void testMouseClickedNotOnButton() {
+    public void testMouseClickedNotOnButton() throws Exception {
         int xPosClicked = 40;
         int yPosClicked = 15;
         button.mouseClicked(xPosClicked, yPosClicked);
-        verify(game, times(0)).schedule(action);
+        Whitebox.invokeMethod(taskQueue, "runTasks");
+        verify(action, times(0)).run();
     }
 
     @Test
     public void testConstructor1() {
-        int width = sprite.getImage().getWidth(null);
-        int height = sprite.getImage().getHeight(null);
+        int width = sprite.getWidth();
+        int height = sprite.getHeight();
         int[] topLeft = Whitebox.getInternalState(button, "topLeft");
         int[] bottomRight = Whitebox.getInternalState(button, "bottomRight");
 
@@ -120,8 +127,8 @@ public class ButtonTest {
 
     @Test
     public void testConstructor2() {
-        int width = sprite.getImage().getWidth(null);
-        int height = sprite.getImage().getHeight(null);
+        int width = sprite.getWidth();
+        int height = sprite.getHeight();
         int[] topLeft = Whitebox.getInternalState(button2, "topLeft");
         int[] bottomRight = Whitebox.getInternalState(button2, "bottomRight");
 
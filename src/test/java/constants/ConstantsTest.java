@@ -39,7 +39,7 @@ public class ConstantsTest {
         when(fileSystem.parseJson("constants.json", Map.class)).thenReturn(jsonObject);
 
         Constants.register(serviceLocator);
-        constants = Whitebox.invokeConstructor(Constants.class);
+        constants = Whitebox.invokeConstructor(Constants.class, serviceLocator);
     }
 
     @Test
@@ -89,4 +89,12 @@ public class ConstantsTest {
         assertThat(constants.getSaveFilePath(), is(field.get(constants)));
         assertThat(constants.getSaveFilePath(), instanceOf(String.class));
     }
+
+    @Test
+    public void getTicksPerSecondTest() throws NoSuchFieldException, IllegalAccessException {
+        Field field = Constants.class.getDeclaredField("TICKS_PER_SECOND");
+        field.setAccessible(true);
+        assertThat(constants.getTicksPerSecond(), is(field.get(constants)));
+        assertThat(constants.getTicksPerSecond(), instanceOf(Integer.class));
+    }
 }
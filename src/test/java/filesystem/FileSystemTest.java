@@ -44,7 +44,7 @@ public class FileSystemTest {
 
         FileSystem.register(sL);
 
-        fileSystem = Whitebox.invokeConstructor(FileSystem.class);
+        fileSystem = Whitebox.invokeConstructor(FileSystem.class, sL);
 
         (new File(NOT_EXISTING_NAME)).delete();
     }
@@ -54,8 +54,7 @@ public class InputManagerTest {
         when(mouseEvent.getY()).thenReturn(y);
         when(keyEventArrowLeft.getKeyCode()).thenReturn(KeyCode.getKeyCode(Keys.arrowLeft));
 
-        Whitebox.setInternalState(InputManager.class, "serviceLocator", serviceLocator);
-        inputManager = Whitebox.invokeConstructor(InputManager.class);
+        inputManager = Whitebox.invokeConstructor(InputManager.class, serviceLocator);
 
         mouseObservers.add(mouseObserver);
         keyObserverArrowLeftList.add(keyObserver);
@@ -161,6 +160,19 @@ public class InputManagerTest {
         assertThat(y, is(100));
     }
 
+    @Test
+    public void testSetMainWindowScale() {
+        Whitebox.setInternalState(inputManager, "mouseInputObservers", mouseObservers);
+        inputManager.setMainWindowScale(1.5d);
+        inputManager.mousePressed(mouseEvent);
+        verify(mouseObserver, times(1)).mouseClicked((int) Math.round(1.5d * x), (int) Math.round(1.5d * y));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetMainWindowScaleZero() {
+        inputManager.setMainWindowScale(0d);
+    }
+
     @Test
     public void testMouseClicked() {
         inputManager.mouseClicked(mouseEvent);
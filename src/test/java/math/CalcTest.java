@@ -9,6 +9,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import org.powermock.reflect.Whitebox;
 import system.IServiceLocator;
 
+import java.util.Random;
+
 public class CalcTest {
 
     private IServiceLocator sL;
@@ -89,4 +91,18 @@ public class CalcTest {
     public void randomDoubleTestNegative() {
         calc.getRandomDouble(-42);
     }
+
+    /**
+     * Check that two Calcs registered with the same seed produce the same random numbers.
+     * @throws Exception from the Whitebox invokeConstructor
+     */
+    @Test
+    public void seededCalcsAreReproducibleTest() throws Exception {
+        ICalc first = Whitebox.invokeConstructor(Calc.class, new Random(42L));
+        ICalc second = Whitebox.invokeConstructor(Calc.class, new Random(42L));
+        for (int i = 0; i < 50; i++) {
+            assertThat(first.getRandomIntBetween(0, 1000), is(second.getRandomIntBetween(0, 1000)));
+            assertThat(first.getRandomDouble(1d), is(second.getRandomDouble(1d)));
+        }
+    }
 }
@@ -9,10 +9,13 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
+import rendering.IRenderer;
+import resources.sprites.ISprite;
 import system.IServiceLocator;
 
 import java.util.HashSet;
@@ -21,8 +24,11 @@ import java.util.Set;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mock;
 
 /**
@@ -33,6 +39,7 @@ import static org.powermock.api.mockito.PowerMockito.mock;
 public class BlockTest {
 
     private IServiceLocator serviceLocator;
+    private IRenderer renderer;
     private IGameObject gameObject;
     private IGameObject gameObject2;
     private IJumpable jumpObject;
@@ -44,6 +51,8 @@ public class BlockTest {
     @Before
     public void init() throws Exception {
         serviceLocator = mock(IServiceLocator.class);
+        renderer = mock(IRenderer.class);
+        when(serviceLocator.getRenderer()).thenReturn(renderer);
         gameObject = Mockito.mock(AGameObject.class);
         gameObject2 = Mockito.mock(AGameObject.class);
         jumpObject = Mockito.mock(IJumpable.class);
@@ -61,7 +70,7 @@ public class BlockTest {
     @Test
     public void testGetElements() throws Exception {
         set.add(gameObject);
-        block = Whitebox.invokeConstructor(Block.class, set, jumpObject);
+        block = Whitebox.invokeConstructor(Block.class, serviceLocator, set, jumpObject);
         assertEquals(set, block.getElements());
     }
 
@@ -71,7 +80,7 @@ public class BlockTest {
      */
     @Test
     public void testGetTopJumpable() throws Exception {
-        block = Whitebox.invokeConstructor(Block.class, set, jumpObject);
+        block = Whitebox.invokeConstructor(Block.class, serviceLocator, set, jumpObject);
         assertEquals(jumpObject, block.getTopJumpable());
     }
 
@@ -82,7 +91,7 @@ public class BlockTest {
     public void testRender() {
         set.add(gameObject);
         set.add(gameObject2);
-        block = new Block(set, jumpObject);
+        block = new Block(serviceLocator, set, jumpObject);
         block.render();
         verify(gameObject, times(1)).render();
         verify(gameObject2, times(1)).render();
@@ -90,11 +99,16 @@ public class BlockTest {
 
     @Test
     public void testUpdate() {
+        gameObject = Mockito.mock(IGameObject.class);
+        gameObject2 = Mockito.mock(IGameObject.class);
         set.add(gameObject);
         set.add(gameObject2);
-        block = new Block(set, jumpObject);
+        block = new Block(serviceLocator, set, jumpObject);
         block.update(random);
-        verify(gameObject, times(1)).update(random);
+        InOrder order = inOrder(gameObject);
+        order.verify(gameObject, times(1)).savePosition();
+        order.verify(gameObject, times(1)).update(random);
+        verify(gameObject2, times(1)).savePosition();
         verify(gameObject2, times(1)).update(random);
     }
 
@@ -102,10 +116,86 @@ public class BlockTest {
     public void testRemove() {
         set.add(gameObject);
         set.add(gameObject2);
-        block = new Block(set, jumpObject);
+        block = new Block(serviceLocator, set, jumpObject);
         block.removeElement(gameObject2);
         assertTrue(set.contains(gameObject));
         assertFalse(set.contains(gameObject2));
     }
-}
 
+    @Test
+    public void testBounds() {
+        gameObject = Mockito.mock(IGameObject.class);
+        gameObject2 = Mockito.mock(IGameObject.class);
+        ISprite sprite = Mockito.mock(ISprite.class);
+        when(sprite.getHeight()).thenReturn(20);
+        when(gameObject.getSprite()).thenReturn(sprite);
+        when(gameObject.getYPos()).thenReturn(100d);
+        when(gameObject2.getYPos()).thenReturn(300d);
+        set.add(gameObject);
+        set.add(gameObject2);
+        block = new Block(serviceLocator, set, jumpObject);
+        assertEquals(100d, block.getTop(), 0d);
+        assertEquals(300d, block.getBottom(), 0d);
+
+        when(gameObject2.getSprite()).thenReturn(sprite);
+        block.update(random);
+        assertEquals(320d, block.getBottom(), 0d);
+    }
+
+    @Test
+    public void testBoundsEmpty() {
+        block = new Block(serviceLocator, set, jumpObject);
+        assertTrue(block.getTop() > block.getBottom());
+    }
+
+    @Test
+    public void testRenderRange() {
+        gameObject = Mockito.mock(IGameObject.class);
+        gameObject2 = Mockito.mock(IGameObject.class);
+        ISprite sprite = Mockito.mock(ISprite.class);
+        when(sprite.getHeight()).thenReturn(20);
+        when(gameObject.getSprite()).thenReturn(sprite);
+        when(gameObject2.getSprite()).thenReturn(sprite);
+        when(gameObject.getYPos()).thenReturn(90d);
+        when(gameObject2.getYPos()).thenReturn(500d);
+        set.add(gameObject);
+        set.add(gameObject2);
+        block = new Block(serviceLocator, set, jumpObject);
+        assertEquals(1, block.render(100d, 400d));
+        InOrder order = inOrder(renderer, gameObject);
+        order.verify(renderer, times(1)).setMotion(gameObject);
+        order.verify(gameObject, times(1)).render();
+        order.verify(renderer, times(1)).setMotion(0d, 0d);
+        verify(gameObject2, never()).render();
+        verify(renderer, never()).setMotion(gameObject2);
+    }
+
+    @Test
+    public void testGetStaticElements() {
+        set.add(gameObject);
+        set.add(platform);
+        block = new Block(serviceLocator, set, jumpObject);
+        assertEquals(1, block.getStaticElements().size());
+        assertTrue(block.getStaticElements().contains(platform));
+
+        block.removeElement(platform);
+        assertTrue(block.getStaticElements().isEmpty());
+    }
+
+    @Test
+    public void testRenderDynamic() {
+        gameObject = Mockito.mock(IGameObject.class);
+        ISprite sprite = Mockito.mock(ISprite.class);
+        when(sprite.getHeight()).thenReturn(20);
+        when(gameObject.getSprite()).thenReturn(sprite);
+        when(gameObject.getYPos()).thenReturn(200d);
+        when(platform.getSprite()).thenReturn(sprite);
+        when(platform.getYPos()).thenReturn(200d);
+        set.add(gameObject);
+        set.add(platform);
+        block = new Block(serviceLocator, set, jumpObject);
+        assertEquals(1, block.renderDynamic(100d, 400d));
+        verify(gameObject, times(1)).render();
+        verify(platform, never()).render();
+    }
+}
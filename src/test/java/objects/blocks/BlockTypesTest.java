@@ -1,103 +1,53 @@
 package objects.blocks;
 
+import math.ICalc;
 import org.junit.Test;
-import org.powermock.reflect.Whitebox;
 import system.Game;
 
 import java.util.EnumMap;
 
 import static objects.blocks.BlockTypes.*;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class BlockTypesTest {
 
     @Test
-    public void crashTest() {
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertNotNull(map);
+    public void testGetWeightsIsNotShared() {
+        EnumMap<BlockTypes, Integer> weights = getWeights(Game.Modes.regular);
+        weights.put(standardBlock, 0);
+        assertEquals(10, (int) getWeights(Game.Modes.regular).get(standardBlock));
     }
 
     @Test
-    public void testGetWeight() throws Exception {
-        EnumMap<BlockTypes, Integer> newMap = new EnumMap<>(BlockTypes.class);
-        int[] weights = {(int) (Math.random() * 1000), (int) (Math.random() * 1000), (int) (Math.random() * 1000), (int) (Math.random() * 1000)};
-        newMap.put(standardBlock, weights[0]);
-        newMap.put(normalOnlyBlock, weights[1]);
-        newMap.put(horizontalOnlyBlock, weights[2]);
-        newMap.put(verticalOnlyBlock, weights[3]);
-        Whitebox.setInternalState(BlockTypes.class, "map", newMap);
-
-        int w0 = Whitebox.invokeMethod(standardBlock, "getWeight");
-        assertEquals(weights[0], w0);
-
-        int w1 = Whitebox.invokeMethod(normalOnlyBlock, "getWeight");
-        assertEquals(weights[1], w1);
-
-        int w2 = Whitebox.invokeMethod(horizontalOnlyBlock, "getWeight");
-        assertEquals(weights[2], w2);
-
-        int w3 = Whitebox.invokeMethod(verticalOnlyBlock, "getWeight");
-        assertEquals(weights[3], w3);
+    public void testRandomType() {
+        EnumMap<BlockTypes, Integer> weights = new EnumMap<>(BlockTypes.class);
+        weights.put(standardBlock, 1);
+        weights.put(normalOnlyBlock, 2);
+        weights.put(horizontalOnlyBlock, 3);
+        weights.put(verticalOnlyBlock, 4);
+        ICalc calc = mock(ICalc.class);
+
+        when(calc.getRandomIntBetween(1, 11)).thenReturn(1);
+        assertEquals(standardBlock, randomType(weights, calc));
+        when(calc.getRandomIntBetween(1, 11)).thenReturn(3);
+        assertEquals(normalOnlyBlock, randomType(weights, calc));
+        when(calc.getRandomIntBetween(1, 11)).thenReturn(4);
+        assertEquals(horizontalOnlyBlock, randomType(weights, calc));
+        when(calc.getRandomIntBetween(1, 11)).thenReturn(10);
+        assertEquals(verticalOnlyBlock, randomType(weights, calc));
     }
 
     @Test
-    public void testSetWeight() throws Exception {
-        int[] weights = {(int) (Math.random() * 1000), (int) (Math.random() * 1000), (int) (Math.random() * 1000), (int) (Math.random() * 1000)};
-        Whitebox.invokeMethod(standardBlock, "setWeight", weights[0]);
-        Whitebox.invokeMethod(normalOnlyBlock, "setWeight", weights[1]);
-        Whitebox.invokeMethod(horizontalOnlyBlock, "setWeight", weights[2]);
-        Whitebox.invokeMethod(verticalOnlyBlock, "setWeight", weights[3]);
-
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-
-        assertEquals(weights[0], (int) map.get(standardBlock));
-        assertEquals(weights[1], (int) map.get(normalOnlyBlock));
-        assertEquals(weights[2], (int) map.get(horizontalOnlyBlock));
-        assertEquals(weights[3], (int) map.get(verticalOnlyBlock));
-
-    }
-
-    @Test
-    /**
-     * Note: there is a very very very small chance this test might randomly fail.
-     */
-    public void testgetRandomElement() throws Exception {
-        Whitebox.invokeMethod(standardBlock, "setWeight", 1);
-        Whitebox.invokeMethod(normalOnlyBlock, "setWeight", 2);
-        Whitebox.invokeMethod(horizontalOnlyBlock, "setWeight", 3);
-        Whitebox.invokeMethod(verticalOnlyBlock, "setWeight", 4);
-
-        int[] count = new int[4];
-        for (int i = 0; i < 100000; i++) {
-            BlockTypes type = randomType();
-            if (type.equals(standardBlock)) {
-                count[0]++;
-            } else if (type.equals(normalOnlyBlock)) {
-                count[1]++;
-            } else if (type.equals(horizontalOnlyBlock)) {
-                count[2]++;
-            } else if (type.equals(verticalOnlyBlock)) {
-                count[3]++;
-            }
-        }
-
-        assertTrue(count[0] > 9000);
-        assertTrue(count[0] < 11000);
-
-        assertTrue(count[1] > 19000);
-        assertTrue(count[1] < 21000);
-
-        assertTrue(count[2] > 29000);
-        assertTrue(count[2] < 31000);
-
-        assertTrue(count[3] > 39000);
-        assertTrue(count[3] < 41000);
+    public void testRandomTypeSkipsMissingWeights() {
+        ICalc calc = mock(ICalc.class);
+        when(calc.getRandomIntBetween(1, 2)).thenReturn(1);
+        assertEquals(normalOnlyBlock, randomType(getWeights(Game.Modes.darkness), calc));
     }
 
     @Test
-    public void testSetRegularMode() throws Exception {
+    public void testGetRegularWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
         expectedMap.put(standardBlock, 10);
         expectedMap.put(normalOnlyBlock, 2);
@@ -105,13 +55,11 @@ public class BlockTypesTest {
         expectedMap.put(verticalOnlyBlock, 1);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.regular);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.regular));
     }
 
     @Test
-    public void testSetSpaceMode() throws Exception {
+    public void testGetSpaceWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
         expectedMap.put(standardBlock, 10);
         expectedMap.put(normalOnlyBlock, 2);
@@ -119,13 +67,11 @@ public class BlockTypesTest {
         expectedMap.put(verticalOnlyBlock, 1);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.space);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.space));
     }
 
     @Test
-    public void testSetUnderwaterMode() throws Exception {
+    public void testGetUnderwaterWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
         expectedMap.put(standardBlock, 10);
         expectedMap.put(normalOnlyBlock, 2);
@@ -133,51 +79,34 @@ public class BlockTypesTest {
         expectedMap.put(verticalOnlyBlock, 1);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.underwater);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.underwater));
     }
 
     @Test
-    public void testSetHorizontalOnlyMode() throws Exception {
+    public void testGetHorizontalOnlyWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
-        expectedMap.put(standardBlock, 0);
-        expectedMap.put(normalOnlyBlock, 0);
         expectedMap.put(horizontalOnlyBlock, 1);
-        expectedMap.put(verticalOnlyBlock, 0);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.horizontalOnly);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.horizontalOnly));
     }
 
     @Test
-    public void testSetVerticalOnlyMode() throws Exception {
+    public void testGetVerticalOnlyWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
-        expectedMap.put(standardBlock, 0);
-        expectedMap.put(normalOnlyBlock, 0);
-        expectedMap.put(horizontalOnlyBlock, 0);
         expectedMap.put(verticalOnlyBlock, 1);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.verticalOnly);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.verticalOnly));
     }
 
     @Test
-    public void testSetDarknessMode() throws Exception {
+    public void testGetDarknessWeights() throws Exception {
         EnumMap<BlockTypes, Integer> expectedMap = new EnumMap<>(BlockTypes.class);
-        expectedMap.put(standardBlock, 0);
         expectedMap.put(normalOnlyBlock, 1);
-        expectedMap.put(horizontalOnlyBlock, 0);
-        expectedMap.put(verticalOnlyBlock, 0);
 
 
-        Whitebox.invokeMethod(BlockTypes.class, "setMode", Game.Modes.darkness);
-        EnumMap<BlockTypes, Integer> map = (Whitebox.getInternalState(BlockTypes.class, "map"));
-        assertEquals(expectedMap, map);
+        assertEquals(expectedMap, getWeights(Game.Modes.darkness));
     }
 
 
@@ -0,0 +1,50 @@
+package objects.blocks.platform;
+
+import objects.doodles.IDoodle;
+import org.junit.Before;
+import org.junit.Test;
+import resources.IRes;
+import resources.sprites.ISprite;
+import resources.sprites.ISpriteFactory;
+import system.IServiceLocator;
+
+import java.util.EnumMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PlatformDarknessTest {
+
+    private IPlatform platform;
+    private PlatformDarkness darkness;
+
+    @Before
+    public void setUp() {
+        IServiceLocator serviceLocator = mock(IServiceLocator.class);
+        ISpriteFactory spriteFactory = mock(ISpriteFactory.class);
+        when(serviceLocator.getSpriteFactory()).thenReturn(spriteFactory);
+        when(spriteFactory.getSprite(IRes.Sprites.platform1)).thenReturn(mock(ISprite.class));
+        when(spriteFactory.getSprite(IRes.Sprites.platform4)).thenReturn(mock(ISprite.class));
+
+        platform = mock(IPlatform.class);
+        when(platform.getProps()).thenReturn(new EnumMap<>(Platform.PlatformProperties.class));
+        darkness = new PlatformDarkness(serviceLocator, platform);
+    }
+
+    @Test
+    public void testUnlitUntilJumpedUpon() {
+        assertThat(darkness.getLightRadius(), is(0));
+    }
+
+    @Test
+    public void testLitAfterJumpedUpon() {
+        IDoodle doodle = mock(IDoodle.class);
+        darkness.collidesWith(doodle);
+        verify(platform).collidesWith(doodle);
+        assertThat(darkness.getLightRadius() > 0, is(true));
+    }
+
+}
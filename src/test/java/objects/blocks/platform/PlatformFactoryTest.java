@@ -6,6 +6,7 @@ import logging.ILoggerFactory;
 import math.ICalc;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.reflect.Whitebox;
@@ -24,6 +25,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Matchers.doubleThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @PrepareForTest(PlatformFactory.class)
@@ -62,8 +64,7 @@ public class PlatformFactoryTest {
         when(serviceLocator.getSpriteFactory()).thenReturn(spriteFactory);
         when(serviceLocator.getCalc()).thenReturn(calc);
         when(serviceLocator.getConstants()).thenReturn(constants);
-        Whitebox.setInternalState(PlatformFactory.class, "serviceLocator", serviceLocator);
-        platformFactory = Whitebox.invokeConstructor(PlatformFactory.class);
+        platformFactory = Whitebox.invokeConstructor(PlatformFactory.class, serviceLocator);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -73,10 +74,10 @@ public class PlatformFactoryTest {
 
     @Test
     public void testConstructor() {
-        IServiceLocator sL = mock(IServiceLocator.class);
-        Whitebox.setInternalState(PlatformFactory.class, "serviceLocator", sL);
         PlatformFactory.register(serviceLocator);
-        assertEquals(serviceLocator, (IServiceLocator) Whitebox.getInternalState(PlatformFactory.class, "serviceLocator"));
+        ArgumentCaptor<IPlatformFactory> captor = ArgumentCaptor.forClass(IPlatformFactory.class);
+        verify(serviceLocator).provide(captor.capture());
+        assertEquals(serviceLocator, (IServiceLocator) Whitebox.getInternalState(captor.getValue(), "serviceLocator"));
     }
 
     @Test
@@ -51,8 +51,7 @@ public class DoodleFactoryTest {
         when(spriteFactory.getGreenDoodleSprites()).thenReturn(spritesGreen);
         when(spriteFactory.getRedDoodleSprites()).thenReturn(spritesRed);
 
-        Whitebox.setInternalState(DoodleFactory.class, "serviceLocator", serviceLocator);
-        doodleFactory = Whitebox.invokeConstructor(DoodleFactory.class);
+        doodleFactory = Whitebox.invokeConstructor(DoodleFactory.class, serviceLocator);
 
         Whitebox.setInternalState(doodle, "behavior", behavior);
     }
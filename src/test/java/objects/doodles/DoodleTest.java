@@ -17,6 +17,7 @@ import objects.powerups.PowerupOccasion;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Matchers;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -43,6 +44,7 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.refEq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
@@ -142,6 +144,29 @@ public class DoodleTest {
         doodle.collidesWith(null);
     }
 
+    @Test
+    public void testSetCameraDiesBelowOwnView() throws Exception {
+        ICamera ownCamera = mock(ICamera.class);
+        when(ownCamera.getYPos()).thenReturn(500d);
+        doodle.setYPos(900d);
+        Whitebox.invokeMethod(doodle, "checkDeadPosition");
+        verify(world, times(0)).endGameInstance(Matchers.anyDouble(), Matchers.anyDouble());
+
+        doodle.setCamera(ownCamera, 300);
+        Whitebox.invokeMethod(doodle, "checkDeadPosition");
+        verify(world, times(1)).endGameInstance(Matchers.anyDouble(), Matchers.anyDouble());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCameraNull() {
+        doodle.setCamera(null, 300);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCameraNoHeight() {
+        doodle.setCamera(camera, 0);
+    }
+
     @Test
     public void testFacing() {
         when(regularBehavior.getFacing()).thenReturn(MovementBehavior.Directions.Left);
@@ -267,6 +292,16 @@ public class DoodleTest {
         verify(somePowerup, times(1)).render();
     }
 
+    @Test
+    public void testRenderPowerupMotion() {
+        Whitebox.setInternalState(doodle, "powerup", somePowerup);
+        doodle.render();
+        InOrder order = inOrder(renderer, somePowerup);
+        order.verify(renderer, times(1)).setMotion(somePowerup);
+        order.verify(somePowerup, times(1)).render();
+        order.verify(renderer, times(1)).setMotion(0d, 0d);
+    }
+
     @Test
     public void testRenderOneProjectile() {
         projectiles.add(projectile);
@@ -299,6 +334,17 @@ public class DoodleTest {
         verify(regularBehavior, times(1)).move(0d);
     }
 
+    @Test
+    public void testUpdateSavesPositions() {
+        Whitebox.setInternalState(doodle, "powerup", somePowerup);
+        double y = Whitebox.getInternalState(doodle, "yPos");
+        doodle.update(0d);
+        assertThat(doodle.getPreviousYPos(), is(y));
+        InOrder order = inOrder(somePowerup);
+        order.verify(somePowerup, times(1)).savePosition();
+        order.verify(somePowerup, times(1)).update(0d);
+    }
+
     @Test
     public void testGetScore() {
         double expected = 10d;
@@ -37,8 +37,7 @@ public class ProjectileFactoryTest {
         when(loggerFactory.createLogger(ProjectileFactory.class)).thenReturn(logger);
         when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
 
-        Whitebox.setInternalState(ProjectileFactory.class, "serviceLocator", serviceLocator);
-        projectileFactory = Whitebox.invokeConstructor(ProjectileFactory.class);
+        projectileFactory = Whitebox.invokeConstructor(ProjectileFactory.class, serviceLocator);
     }
 
     @Test
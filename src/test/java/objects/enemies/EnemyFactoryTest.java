@@ -45,8 +45,7 @@ public class EnemyFactoryTest {
 
         whenNew(Point.class).withArguments(xPos, yPos).thenReturn(point);
 
-        Whitebox.setInternalState(EnemyFactory.class, "serviceLocator", serviceLocator);
-        enemyFactory = Whitebox.invokeConstructor(EnemyFactory.class);
+        enemyFactory = Whitebox.invokeConstructor(EnemyFactory.class, serviceLocator);
     }
 
     @Test
@@ -90,7 +90,7 @@ public class PowerupFactoryTest {
     @Before
     public void init() throws Exception {
         PowerupFactory.register(serviceLocator);
-        powerupFactory = Whitebox.invokeConstructor(PowerupFactory.class);
+        powerupFactory = Whitebox.invokeConstructor(PowerupFactory.class, serviceLocator);
     }
 
     @After
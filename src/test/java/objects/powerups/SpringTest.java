@@ -1,5 +1,6 @@
 package objects.powerups;
 
+import constants.IConstants;
 import logging.ILogger;
 import logging.ILoggerFactory;
 import objects.doodles.IDoodle;
@@ -20,6 +21,7 @@ import resources.audio.Sounds;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
 import system.IServiceLocator;
+import system.TaskQueue;
 import java.awt.Point;
 
 import static org.junit.Assert.assertEquals;
@@ -39,6 +41,8 @@ public class SpringTest {
 
     private IAudioManager audioManager;
     private IServiceLocator serviceLocator;
+    private IConstants constants;
+    private TaskQueue taskQueue;
     private ISpriteFactory spriteFactory;
     private IAnimationFactory animationFactory;
     private ISprite sprite, usedSprite;
@@ -57,8 +61,13 @@ public class SpringTest {
      * Initialisation of variables for the test cases.
      */
     @Before
-    public void init() {
+    public void init() throws Exception {
         serviceLocator = mock(IServiceLocator.class);
+        constants = mock(IConstants.class);
+        when(constants.getTicksPerSecond()).thenReturn(60);
+        when(serviceLocator.getConstants()).thenReturn(constants);
+        taskQueue = Whitebox.invokeConstructor(TaskQueue.class, 16);
+        when(serviceLocator.getTaskQueue()).thenReturn(taskQueue);
         spriteFactory = mock(ISpriteFactory.class);
         animationFactory = mock(IAnimationFactory.class);
         sprite = mock(ISprite.class);
@@ -153,6 +162,27 @@ public class SpringTest {
         assertEquals(usedSprite, spring.getSprite());
     }
 
+    /**
+     * Tests if the spring retracts in a task of the task queue once its retract speed has passed.
+     *
+     * @throws Exception throws an exception when the private constructor can not be called or when an exception is thrown
+     *                   in the constructor.
+     */
+    @Test
+    public void testRetract() throws Exception {
+        spring = Whitebox.invokeConstructor(Spring.class, serviceLocator, new Point(50, 200), 1);
+        final double yPos = spring.getYPos();
+        Whitebox.invokeMethod(spring, "animate");
+        final long ticks = Math.round(Powerups.spring.getRetractSpeed(1) * 60 / 1000d);
+        for (long tick = 0; tick < ticks; tick++) {
+            Whitebox.invokeMethod(taskQueue, "runTasks");
+        }
+        assertEquals(usedSprite, spring.getSprite());
+        Whitebox.invokeMethod(taskQueue, "runTasks");
+        assertEquals(sprite, spring.getSprite());
+        assertEquals(yPos, spring.getYPos(), 0.001);
+    }
+
     /**
      * Tests if the getBoost method of the spring object properly returns the value of BOOST.
      *
@@ -1,5 +1,6 @@
 package objects.powerups;
 
+import constants.IConstants;
 import logging.ILogger;
 import logging.ILoggerFactory;
 import objects.doodles.IDoodle;
@@ -17,6 +18,7 @@ import resources.audio.Sounds;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
 import system.IServiceLocator;
+import system.TaskQueue;
 import java.awt.Point;
 
 import java.awt.Point;
@@ -37,6 +39,8 @@ public class TrampolineTest {
 
     private IAudioManager audioManager;
     private IServiceLocator serviceLocator;
+    private IConstants constants;
+    private TaskQueue taskQueue;
     private ISpriteFactory spriteFactory;
     private ISprite sprite, usedSprite;
     private ISprite[] sprites;
@@ -57,8 +61,13 @@ public class TrampolineTest {
      * Initialisation of variables for the test cases.
      */
     @Before
-    public void init() {
+    public void init() throws Exception {
         serviceLocator = mock(IServiceLocator.class);
+        constants = mock(IConstants.class);
+        when(constants.getTicksPerSecond()).thenReturn(60);
+        when(serviceLocator.getConstants()).thenReturn(constants);
+        taskQueue = Whitebox.invokeConstructor(TaskQueue.class, 16);
+        when(serviceLocator.getTaskQueue()).thenReturn(taskQueue);
         spriteFactory = mock(ISpriteFactory.class);
         usedSprite = mock(ISprite.class);
         sprite = mock(ISprite.class);
@@ -152,6 +161,27 @@ public class TrampolineTest {
         assertEquals(633, trampoline.getYPos(), 0.001);
     }
 
+    /**
+     * Tests if the trampoline retracts in a task of the task queue once its retract speed has passed.
+     *
+     * @throws Exception throws an exception when the private constructor can not be called or when an exception is thrown
+     *                   in the constructor.
+     */
+    @Test
+    public void testRetract() throws Exception {
+        trampoline = Whitebox.invokeConstructor(Trampoline.class, serviceLocator, new Point(60, 653), 1);
+        final double yPos = trampoline.getYPos();
+        Whitebox.invokeMethod(trampoline, "animate");
+        final long ticks = Math.round(Powerups.trampoline.getRetractSpeed(1) * 60 / 1000d);
+        for (long tick = 0; tick < ticks; tick++) {
+            Whitebox.invokeMethod(taskQueue, "runTasks");
+        }
+        assertEquals(usedSprite, trampoline.getSprite());
+        Whitebox.invokeMethod(taskQueue, "runTasks");
+        assertEquals(sprite, trampoline.getSprite());
+        assertEquals(yPos, trampoline.getYPos(), 0.001);
+    }
+
     /**
      * Tests if the getBoost method of the trampoline object properly returns the value of BOOST.
      *
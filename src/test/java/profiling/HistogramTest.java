@@ -0,0 +1,65 @@
+package profiling;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramTest {
+
+    private Histogram histogram;
+
+    @Before
+    public void init() {
+        histogram = new Histogram();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.getPercentile(50d), is(0L));
+        assertThat(histogram.getMean(), is(0d));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.getCount(), is(10L));
+        assertThat(histogram.getPercentile(50d), is(5L));
+        assertThat(histogram.getPercentile(100d), is(10L));
+        assertThat(histogram.getMean(), is(5.5d));
+    }
+
+    @Test
+    public void testPercentilesAreWithinPrecision() {
+        for (long i = 1; i <= 100000; i++) {
+            histogram.record(i * 1000L);
+        }
+        final long p50 = histogram.getPercentile(50d);
+        final long p99 = histogram.getPercentile(99d);
+        assertTrue(p50 >= 50000000L && p50 <= 50000000L * 1.07);
+        assertTrue(p99 >= 99000000L && p99 <= 99000000L * 1.07);
+        assertThat(histogram.getMax(), is(100000000L));
+        assertThat(histogram.getPercentile(100d), is(100000000L));
+    }
+
+    @Test
+    public void testHugeAndNegativeValues() {
+        histogram.record(-5L);
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getPercentile(50d), is(0L));
+        assertThat(histogram.getMax(), is(Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        histogram.getPercentile(101d);
+    }
+
+}
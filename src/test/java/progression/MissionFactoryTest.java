@@ -36,8 +36,7 @@ public class MissionFactoryTest {
         when(serviceLocator.getPowerupFactory()).thenReturn(powerupFactory);
         when(serviceLocator.getProgressionManager()).thenReturn(progressionManager);
 
-        Whitebox.setInternalState(MissionFactory.class, "serviceLocator", serviceLocator);
-        missionFactory = Whitebox.invokeConstructor(MissionFactory.class);
+        missionFactory = Whitebox.invokeConstructor(MissionFactory.class, serviceLocator);
     }
 
     @Test
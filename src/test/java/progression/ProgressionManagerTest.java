@@ -60,7 +60,7 @@ public class ProgressionManagerTest {
         when(loggerFactory.createLogger(ProgressionManager.class)).thenReturn(logger);
 
         ProgressionManager.register(serviceLocator);
-        progressionManager = Whitebox.invokeConstructor(ProgressionManager.class);
+        progressionManager = Whitebox.invokeConstructor(ProgressionManager.class, serviceLocator);
 
         expected = new ArrayList<>();
     }
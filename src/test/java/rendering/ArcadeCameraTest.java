@@ -20,7 +20,7 @@ public class ArcadeCameraTest {
 
     @Test
     public void testGetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(ArcadeCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         ((AtomicDouble) y).set(2d);
         assertThat(camera.getYPos(), is(2d));
@@ -31,7 +31,7 @@ public class ArcadeCameraTest {
 
     @Test
     public void testSetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(ArcadeCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         camera.setYPos(2d);
         assertThat(((AtomicDouble) y).get(), is(2d));
@@ -48,6 +48,16 @@ public class ArcadeCameraTest {
         assertFalse(newSpeed == currentSpeed);
     }
 
+    @Test
+    public void testGetYPosInterpolated() {
+        camera.setYPos(10d);
+        camera.update(0d);
+        double current = camera.getYPos();
+
+        assertThat(camera.getYPos(0d), is(10d));
+        assertThat(camera.getYPos(0.5d), is(10d + (current - 10d) / 2d));
+    }
+
     @Test
     public void testSetAccelerationType() {
         camera.setAccelerationType(AccelerationType.fast);
@@ -44,7 +44,7 @@ public class CameraFactoryTest {
     @Before
     public void init() throws Exception {
         CameraFactory.register(serviceLocator);
-        cameraFactory = Whitebox.invokeConstructor(CameraFactory.class);
+        cameraFactory = Whitebox.invokeConstructor(CameraFactory.class, serviceLocator);
     }
 
     @After
@@ -66,6 +66,18 @@ public class CameraFactoryTest {
         verifyNew(DoodleCamera.class).withArguments(serviceLocator, doodle);
     }
 
+    @Test
+    public void testCreateDoodleCameraWithHeight() throws Exception {
+        whenNew(DoodleCamera.class).withArguments(serviceLocator, doodle, 100).thenReturn(doodleCamera);
+        cameraFactory.createDoodleCamera(doodle, 100);
+        verifyNew(DoodleCamera.class).withArguments(serviceLocator, doodle, 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateDoodleCameraNoHeight() {
+        cameraFactory.createDoodleCamera(doodle, 0);
+    }
+
     @Test
     public void testCreateStaticCamera() throws Exception {
         whenNew(StaticCamera.class).withNoArguments().thenReturn(staticCamera);
@@ -0,0 +1,265 @@
+package rendering;
+
+import filesystem.IFileSystem;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CommandBufferTest {
+
+    private static final int WIDTH = 100, HEIGHT = 100;
+
+    private Graphics2D graphics;
+    private Image first;
+    private Image second;
+    private CommandBuffer commands;
+
+    @Before
+    public void init() {
+        graphics = mock(Graphics2D.class);
+        first = mock(Image.class);
+        second = mock(Image.class);
+        IFileSystem fileSystem = mock(IFileSystem.class);
+        when(fileSystem.getFont(anyString())).thenReturn(new Font(Font.SERIF, Font.PLAIN, 1));
+        commands = new CommandBuffer(WIDTH, HEIGHT, new FontRegistry(fileSystem), new TextCache(),
+                new LightMap(WIDTH, HEIGHT));
+    }
+
+    @Test
+    public void testOrderOutsideLayer() {
+        commands.image(first, 1, 1, 10, 10, false);
+        commands.image(second, 2, 2, 10, 10, false);
+        commands.image(first, 3, 3, 10, 10, false);
+        replay();
+
+        InOrder order = inOrder(graphics);
+        order.verify(graphics).drawImage(first, 1, 1, null);
+        order.verify(graphics).drawImage(second, 2, 2, null);
+        order.verify(graphics).drawImage(first, 3, 3, null);
+    }
+
+    @Test
+    public void testLayerGroupsByImage() {
+        commands.startLayer();
+        commands.image(first, 1, 1, 10, 10, false);
+        commands.nextObject();
+        commands.image(second, 2, 2, 10, 10, false);
+        commands.nextObject();
+        commands.image(first, 3, 3, 10, 10, false);
+        commands.nextObject();
+        commands.endLayer();
+        replay();
+
+        if ((System.identityHashCode(first) & 0xFFFF) < (System.identityHashCode(second) & 0xFFFF)) {
+            InOrder order = inOrder(graphics);
+            order.verify(graphics).drawImage(first, 1, 1, null);
+            order.verify(graphics).drawImage(first, 3, 3, null);
+            order.verify(graphics).drawImage(second, 2, 2, null);
+        } else {
+            InOrder order = inOrder(graphics);
+            order.verify(graphics).drawImage(second, 2, 2, null);
+            order.verify(graphics).drawImage(first, 1, 1, null);
+            order.verify(graphics).drawImage(first, 3, 3, null);
+        }
+    }
+
+    @Test
+    public void testLayerKeepsOrderWithinObject() {
+        commands.startLayer();
+        commands.image(first, 1, 1, 10, 10, false);
+        commands.image(second, 1, 1, 10, 10, false);
+        commands.nextObject();
+        commands.image(second, 2, 2, 10, 10, false);
+        commands.image(first, 2, 2, 10, 10, false);
+        commands.nextObject();
+        commands.endLayer();
+        replay();
+
+        InOrder order = inOrder(graphics);
+        order.verify(graphics).drawImage(first, 1, 1, null);
+        order.verify(graphics).drawImage(second, 1, 1, null);
+        InOrder otherOrder = inOrder(graphics);
+        otherOrder.verify(graphics).drawImage(second, 2, 2, null);
+        otherOrder.verify(graphics).drawImage(first, 2, 2, null);
+    }
+
+    @Test
+    public void testLayersKeepTheirOrder() {
+        commands.image(second, 1, 1, 10, 10, false);
+        commands.startLayer();
+        commands.image(first, 2, 2, 10, 10, false);
+        commands.endLayer();
+        commands.image(second, 3, 3, 10, 10, false);
+        replay();
+
+        InOrder order = inOrder(graphics);
+        order.verify(graphics).drawImage(second, 1, 1, null);
+        order.verify(graphics).drawImage(first, 2, 2, null);
+        order.verify(graphics).drawImage(second, 3, 3, null);
+    }
+
+    @Test
+    public void testOffScreenDrawsAreDropped() {
+        commands.image(first, WIDTH, 0, 10, 10, false);
+        commands.image(first, -10, 0, 10, 10, false);
+        commands.scaledImage(first, 0, HEIGHT, 10, 10, false);
+        commands.filledRectangle(0, -10, 10, 10, Color.black, false);
+        assertThat(commands.size(), is(0));
+
+        commands.rotatedImage(first, -15, 0, 10, 10, 10, 10, 1d, false, false);
+        assertThat(commands.size(), is(1));
+    }
+
+    @Test
+    public void testReplayKeepsCommands() {
+        commands.image(first, 1, 1, 10, 10, false);
+        replay();
+        replay();
+        verify(graphics, times(2)).drawImage(first, 1, 1, null);
+        commands.reset();
+        assertThat(commands.size(), is(0));
+        replay();
+        verify(graphics, times(2)).drawImage(first, 1, 1, null);
+    }
+
+    @Test
+    public void testRelativeDrawsFollowCamera() {
+        commands.setCamera(100d, 110d);
+        commands.image(first, 1, 120, 10, 10, true);
+        commands.image(second, 1, 120, 10, 10, false);
+        commands.sort();
+        commands.replay(graphics, 0d);
+        commands.replay(graphics, 0.5d);
+        verify(graphics).drawImage(first, 1, 20, null);
+        verify(graphics).drawImage(first, 1, 15, null);
+        verify(graphics, times(0)).drawImage(second, 1, 120, null);
+    }
+
+    @Test
+    public void testRelativeDrawsFollowTheirMotion() {
+        commands.setMotion(10, -20);
+        commands.image(first, 50, 50, 10, 10, true);
+        commands.image(second, 50, 50, 10, 10, false);
+        commands.sort();
+        commands.replay(graphics, 0d);
+        commands.replay(graphics, 0.5d);
+        verify(graphics).drawImage(first, 40, 70, null);
+        verify(graphics).drawImage(first, 45, 60, null);
+        verify(graphics, times(2)).drawImage(second, 50, 50, null);
+    }
+
+    @Test
+    public void testRelativeCullingUsesBothPositions() {
+        commands.setMotion(-20, -20);
+        commands.image(first, -15, -15, 10, 10, true);
+        assertThat(commands.size(), is(1));
+        commands.image(first, -35, 50, 10, 10, true);
+        commands.image(first, 50, -35, 10, 10, true);
+        assertThat(commands.size(), is(1));
+    }
+
+    @Test
+    public void testResetClearsMotion() {
+        commands.setMotion(10, 10);
+        commands.reset();
+        commands.image(first, 1, 1, 10, 10, true);
+        replay();
+        verify(graphics).drawImage(first, 1, 1, null);
+    }
+
+    @Test
+    public void testRelativeCullingUsesBothCameraPositions() {
+        commands.setCamera(0d, 50d);
+        commands.image(first, 1, 95, 10, 10, true);
+        commands.image(first, 1, 140, 10, 10, true);
+        assertThat(commands.size(), is(2));
+        commands.image(first, 1, 150, 10, 10, true);
+        commands.image(first, 1, -10, 10, 10, true);
+        assertThat(commands.size(), is(2));
+    }
+
+    @Test
+    public void testViewportTranslatesClipsAndFollowsItsCamera() {
+        commands.setCamera(100d, 100d);
+        commands.startViewport(10, 20, 50, 40, 200d, 200d);
+        commands.image(first, 1, 210, 10, 10, true);
+        commands.endViewport();
+        commands.image(second, 1, 110, 10, 10, true);
+        replay();
+
+        InOrder order = inOrder(graphics);
+        order.verify(graphics).translate(10, 20);
+        order.verify(graphics).clipRect(0, 0, 50, 40);
+        order.verify(graphics).drawImage(first, 1, 10, null);
+        order.verify(graphics).translate(-10, -20);
+        order.verify(graphics).drawImage(second, 1, 10, null);
+    }
+
+    @Test
+    public void testViewportCullsToItsSize() {
+        commands.startViewport(0, 0, 50, 40, 0d, 0d);
+        commands.image(first, 1, 30, 10, 10, false);
+        commands.image(first, 1, 45, 10, 10, false);
+        commands.image(first, 60, 1, 10, 10, false);
+        commands.endViewport();
+        commands.image(first, 1, 45, 10, 10, false);
+        assertThat(commands.size(), is(4));
+    }
+
+    @Test
+    public void testImageRegion() {
+        commands.imageRegion(first, 1, 1, 10, 10, 5, 6, 20, 20, false);
+        replay();
+        verify(graphics).drawImage(first, 1, 1, 11, 11, 5, 6, 25, 26, null);
+    }
+
+    @Test
+    public void testGrows() {
+        for (int i = 0; i < 1000; i++) {
+            commands.rectangle(i % WIDTH, 0, 1, 1, false);
+        }
+        assertThat(commands.size(), is(1000));
+        replay();
+        verify(graphics, times(1000)).drawRect(anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testLightMapDarkensAllButLights() {
+        commands.setCamera(100d, 100d);
+        commands.filledRectangle(0, 0, WIDTH, HEIGHT, Color.white, false);
+        commands.light(30, 130, 20, true);
+        commands.light(30, 500, 20, true);
+        assertThat(commands.size(), is(2));
+        commands.lightMap();
+
+        BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D frameGraphics = frame.createGraphics();
+        commands.sort();
+        commands.replay(frameGraphics, 0d);
+        frameGraphics.dispose();
+
+        assertThat((frame.getRGB(30, 30) & 0xFF) > 200, is(true));
+        assertThat((frame.getRGB(90, 90) & 0xFF) < 20, is(true));
+    }
+
+    private void replay() {
+        commands.sort();
+        commands.replay(graphics, 0d);
+    }
+
+}
@@ -34,7 +34,7 @@ public class DoodleCameraTest {
 
     @Test
     public void testGetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(DoodleCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         ((AtomicDouble) y).set(2d);
         assertThat(camera.getYPos(), is(2d));
@@ -45,7 +45,7 @@ public class DoodleCameraTest {
 
     @Test
     public void testSetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(DoodleCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         camera.setYPos(2d);
         assertThat(((AtomicDouble) y).get(), is(2d));
@@ -60,6 +60,28 @@ public class DoodleCameraTest {
         verify(doodle, times(1)).getYPos();
     }
 
+    @Test
+    public void testUpdateWithHeight() {
+        camera = new DoodleCamera(serviceLocator, doodle, 100);
+        camera.setYPos(0d);
+        when(doodle.getYPos()).thenReturn(-100d);
+        camera.update(0d);
+        assertThat(camera.getYPos(), is(-100d - 100 * (3 / 7d)));
+    }
+
+    @Test
+    public void testGetYPosInterpolated() {
+        camera = new DoodleCamera(serviceLocator, doodle, 100);
+        camera.setYPos(0d);
+        when(doodle.getYPos()).thenReturn(-100d);
+        camera.update(0d);
+        double current = camera.getYPos();
+
+        assertThat(camera.getYPos(0d), is(0d));
+        assertThat(camera.getYPos(0.5d), is(current / 2d));
+        assertThat(camera.getYPos(1d), is(current));
+    }
+
     @Test
     public void testSetAccelerationType() {
         camera.setAccelerationType(AccelerationType.fast);
@@ -0,0 +1,126 @@
+package rendering;
+
+import constants.IConstants;
+import logging.ILogger;
+import logging.ILoggerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import system.IServiceLocator;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FrameRecorderTest {
+
+    private IServiceLocator serviceLocator;
+    private IRenderer renderer;
+
+    @Before
+    public void init() {
+        IConstants constants = mock(IConstants.class);
+        when(constants.getGameWidth()).thenReturn(20);
+        when(constants.getGameHeight()).thenReturn(40);
+        ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
+        when(loggerFactory.createLogger(any())).thenReturn(mock(ILogger.class));
+
+        serviceLocator = mock(IServiceLocator.class);
+        when(serviceLocator.getConstants()).thenReturn(constants);
+        when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
+        renderer = mock(IRenderer.class);
+        when(renderer.getRenderScale()).thenReturn(1d);
+        when(serviceLocator.getRenderer()).thenReturn(renderer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNull() {
+        new FrameRecorder(null, mock(IFrameEncoder.class), 10, 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorEmpty() {
+        new FrameRecorder(serviceLocator, mock(IFrameEncoder.class), 10, 0);
+    }
+
+    @Test
+    public void testCaptureEncodesFrames() throws Exception {
+        List<BufferedImage> frames = new ArrayList<>();
+        IFrameEncoder encoder = mock(IFrameEncoder.class);
+        doAnswer(invocation -> {
+            frames.add((BufferedImage) invocation.getArguments()[0]);
+            return null;
+        }).when(encoder).encode(any());
+
+        FrameRecorder recorder = new FrameRecorder(serviceLocator, encoder, 10, 20);
+        recorder.start();
+        recorder.capture(renderer);
+        recorder.capture(renderer);
+        recorder.stop();
+
+        verify(renderer, times(2)).setGraphicsBuffer(any(Graphics.class));
+        verify(renderer, times(2)).flush();
+        verify(encoder).close();
+        assertThat(frames.size(), is(2));
+        assertThat(frames.get(0).getWidth(), is(10));
+        assertThat(frames.get(0).getHeight(), is(20));
+        assertThat(recorder.getCaptured(), is(2L));
+        assertThat(recorder.getEncoded(), is(2L));
+        assertThat(recorder.getDropped(), is(0L));
+        assertThat(recorder.getQueueDepth(), is(0));
+    }
+
+    @Test
+    public void testCaptureDropsFramesWhenEncoderFallsBehind() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IFrameEncoder encoder = mock(IFrameEncoder.class);
+        doAnswer(invocation -> {
+            blocked.countDown();
+            release.await();
+            return null;
+        }).when(encoder).encode(any());
+
+        FrameRecorder recorder = new FrameRecorder(serviceLocator, encoder, 10, 20);
+        recorder.start();
+        recorder.capture(renderer);
+        blocked.await();
+        for (int i = 0; i < FrameRecorder.RING_SIZE + 2; i++) {
+            recorder.capture(renderer);
+        }
+
+        assertThat(recorder.getCaptured(), is((long) FrameRecorder.RING_SIZE));
+        assertThat(recorder.getDropped(), is(3L));
+        assertThat(recorder.getQueueDepth(), is(FrameRecorder.RING_SIZE - 1));
+
+        release.countDown();
+        recorder.stop();
+        assertThat(recorder.getEncoded(), is((long) FrameRecorder.RING_SIZE));
+        assertThat(recorder.getQueueDepth(), is(0));
+    }
+
+    @Test
+    public void testCaptureAfterStop() throws Exception {
+        IFrameEncoder encoder = mock(IFrameEncoder.class);
+        FrameRecorder recorder = new FrameRecorder(serviceLocator, encoder, 10, 20);
+        recorder.start();
+        recorder.stop();
+        recorder.capture(renderer);
+
+        verify(renderer, never()).flush();
+        verify(encoder, never()).encode(any());
+        assertThat(recorder.getCaptured(), is(0L));
+    }
+
+}
@@ -0,0 +1,79 @@
+package rendering;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LightMapTest {
+
+    private static final int WIDTH = 80, HEIGHT = 120;
+
+    private LightMap lights;
+    private BufferedImage frame;
+
+    @Before
+    public void init() {
+        lights = new LightMap(WIDTH, HEIGHT);
+        frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    public void testDarknessWithoutLights() {
+        draw();
+        assertThat(brightness(40, 60) < 20, is(true));
+    }
+
+    @Test
+    public void testLightIsBrightestInTheCenter() {
+        lights.light(40, 60, 32);
+        draw();
+        assertThat(brightness(40, 60) > 200, is(true));
+        assertThat(brightness(40, 60) > brightness(40, 80), is(true));
+        assertThat(brightness(40, 80) > brightness(40, 110), is(true));
+        assertThat(brightness(5, 5) < 20, is(true));
+    }
+
+    @Test
+    public void testLightsAreForgottenAfterDrawing() {
+        lights.light(40, 60, 32);
+        draw();
+        draw();
+        assertThat(brightness(40, 60) < 20, is(true));
+    }
+
+    @Test
+    public void testGradientsAreCachedPerRadius() {
+        lights.light(10, 10, 32);
+        lights.light(50, 50, 32);
+        lights.light(50, 90, 16);
+        assertThat(lights.getGradientCount(), is(2));
+    }
+
+    @Test
+    public void testResolution() {
+        assertThat(lights.getDivisor(), is(LightMap.DEFAULT_DIVISOR));
+        lights.setDivisor(1);
+        lights.light(40, 60, 32);
+        draw();
+        assertThat(lights.getDivisor(), is(1));
+        assertThat(brightness(40, 60) > 200, is(true));
+    }
+
+    private void draw() {
+        Graphics2D g = frame.createGraphics();
+        g.setColor(java.awt.Color.WHITE);
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        lights.draw(g);
+        g.dispose();
+    }
+
+    private int brightness(int x, int y) {
+        return frame.getRGB(x, y) & 0xFF;
+    }
+
+}
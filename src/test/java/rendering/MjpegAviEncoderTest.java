@@ -0,0 +1,76 @@
+package rendering;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MjpegAviEncoderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNull() throws IOException {
+        new MjpegAviEncoder(null, 10, 20, 60);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorEmpty() throws IOException {
+        new MjpegAviEncoder(folder.newFile(), 10, 20, 0);
+    }
+
+    @Test
+    public void testEncode() throws IOException {
+        File file = folder.newFile("recording.avi");
+        MjpegAviEncoder encoder = new MjpegAviEncoder(file, 10, 20, 60);
+        encoder.encode(new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB));
+        encoder.encode(new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB));
+        encoder.close();
+
+        ByteBuffer avi = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(fourCC(avi, 0), is("RIFF"));
+        assertThat(avi.getInt(4), is(avi.capacity() - 8));
+        assertThat(fourCC(avi, 8), is("AVI "));
+        assertThat(avi.getInt(32), is(1000000 / 60));
+        assertThat(avi.getInt(48), is(2));
+        assertThat(avi.getInt(64), is(10));
+        assertThat(avi.getInt(68), is(20));
+        assertThat(avi.getInt(140), is(2));
+        assertThat(fourCC(avi, 220), is("movi"));
+        assertThat(fourCC(avi, 224), is("00dc"));
+
+        // The first frame is a JPEG image
+        assertThat(avi.get(232) & 0xFF, is(0xFF));
+        assertThat(avi.get(233) & 0xFF, is(0xD8));
+
+        // The index follows the frames and points at both of them
+        int idx1 = 220 + avi.getInt(216);
+        assertThat(fourCC(avi, idx1), is("idx1"));
+        assertThat(avi.getInt(idx1 + 4), is(32));
+        assertThat(avi.getInt(idx1 + 16), is(4));
+        int second = 220 + avi.getInt(idx1 + 24 + 8);
+        assertThat(fourCC(avi, second), is("00dc"));
+        assertThat(avi.getInt(second + 4), is(avi.getInt(idx1 + 24 + 12)));
+        assertThat(idx1 + 8 + 32, is(avi.capacity()));
+    }
+
+    private static String fourCC(ByteBuffer buffer, int position) {
+        byte[] code = new byte[4];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = buffer.get(position + i);
+        }
+        return new String(code, StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,86 @@
+package rendering;
+
+import constants.IConstants;
+import filesystem.IFileSystem;
+import logging.ILogger;
+import logging.ILoggerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import system.IServiceLocator;
+
+import java.awt.Font;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OffscreenRendererTest {
+
+    private IServiceLocator serviceLocator;
+    private OffscreenRenderer renderer;
+
+    @Before
+    public void init() {
+        IConstants constants = mock(IConstants.class);
+        when(constants.getGameWidth()).thenReturn(10);
+        when(constants.getGameHeight()).thenReturn(20);
+        IFileSystem fileSystem = mock(IFileSystem.class);
+        when(fileSystem.getFont(anyString())).thenReturn(new Font(Font.SERIF, Font.PLAIN, 1));
+        ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
+        when(loggerFactory.createLogger(any())).thenReturn(mock(ILogger.class));
+
+        serviceLocator = mock(IServiceLocator.class);
+        when(serviceLocator.getConstants()).thenReturn(constants);
+        when(serviceLocator.getFileSystem()).thenReturn(fileSystem);
+        when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
+
+        OffscreenRenderer.register(serviceLocator, 20, 40);
+        ArgumentCaptor<IRenderer> captor = ArgumentCaptor.forClass(IRenderer.class);
+        verify(serviceLocator).provide(captor.capture());
+        renderer = (OffscreenRenderer) captor.getValue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterNull() {
+        OffscreenRenderer.register(null, 20, 40);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterEmpty() {
+        OffscreenRenderer.register(serviceLocator, 0, 40);
+    }
+
+    @Test
+    public void testCaptureScalesToResolution() {
+        renderer.fillRectangle(new Point(5, 10), 5, 10, Color.white);
+        renderer.publish();
+        BufferedImage image = renderer.capture();
+
+        assertThat(image.getWidth(), is(20));
+        assertThat(image.getHeight(), is(40));
+        assertThat(image.getRGB(9, 19) & 0xFFFFFF, is(0));
+        assertThat(image.getRGB(10, 20) & 0xFFFFFF, is(0xFFFFFF));
+        assertThat(renderer.getPixels()[20 * 39 + 19] & 0xFFFFFF, is(0xFFFFFF));
+    }
+
+    @Test
+    public void testCaptureReusesImage() {
+        renderer.fillRectangle(new Point(0, 0), 10, 20, Color.white);
+        renderer.publish();
+        BufferedImage first = renderer.capture();
+        renderer.publish();
+        BufferedImage second = renderer.capture();
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(renderer.getPixels()[0], is(0));
+    }
+
+}
@@ -0,0 +1,43 @@
+package rendering;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PngSequenceEncoderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNull() throws IOException {
+        new PngSequenceEncoder(null);
+    }
+
+    @Test
+    public void testEncode() throws IOException {
+        File dir = new File(folder.getRoot(), "frames");
+        BufferedImage frame = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        frame.setRGB(1, 1, 0x123456);
+
+        PngSequenceEncoder encoder = new PngSequenceEncoder(dir);
+        encoder.encode(frame);
+        encoder.encode(frame);
+        encoder.close();
+
+        assertThat(encoder.getFrames(), is(2));
+        assertThat(new File(dir, "frame-000001.png").isFile(), is(true));
+        BufferedImage read = ImageIO.read(new File(dir, "frame-000000.png"));
+        assertThat(read.getWidth(), is(3));
+        assertThat(read.getRGB(1, 1) & 0xFFFFFF, is(0x123456));
+    }
+
+}
@@ -0,0 +1,184 @@
+package rendering;
+
+import com.google.gson.Gson;
+import filesystem.IFileSystem;
+import logging.ILogger;
+import logging.ILoggerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import resources.sprites.ScalingQuality;
+import system.IServiceLocator;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QualityGovernorTest {
+
+    private static final long BUDGET = 10000000L, SLOW = 2 * BUDGET, FAST = BUDGET / 2;
+
+    private IServiceLocator serviceLocator;
+    private IRenderer renderer;
+    private IFileSystem fileSystem;
+    private ILogger logger;
+    private List<QualityTier> tiers = QualityTier.DEFAULT_TIERS;
+
+    @Before
+    public void init() {
+        logger = mock(ILogger.class);
+        ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
+        when(loggerFactory.createLogger(QualityGovernor.class)).thenReturn(logger);
+        renderer = mock(IRenderer.class);
+        when(renderer.getRenderScale()).thenReturn(1d);
+        fileSystem = mock(IFileSystem.class);
+
+        serviceLocator = mock(IServiceLocator.class);
+        when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
+        when(serviceLocator.getRenderer()).thenReturn(renderer);
+        when(serviceLocator.getFileSystem()).thenReturn(fileSystem);
+    }
+
+    private static void update(final QualityGovernor governor, final long frameTime, final int frames) {
+        for (int i = 0; i < frames; i++) {
+            governor.update(frameTime);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNull() {
+        new QualityGovernor(null, tiers, BUDGET);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNoTiers() {
+        new QualityGovernor(serviceLocator, Collections.emptyList(), BUDGET);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNoBudget() {
+        new QualityGovernor(serviceLocator, tiers, 0L);
+    }
+
+    @Test
+    public void testConstructorAppliesHighestTier() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        assertThat(governor.getTier(), is(tiers.get(0)));
+        verify(renderer, times(1)).setQuality(tiers.get(0));
+        verify(renderer, never()).setRenderScale(anyDouble());
+    }
+
+    @Test
+    public void testUpdateWaitsForAWindow() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW - 1);
+        assertThat(governor.getTier(), is(tiers.get(0)));
+    }
+
+    @Test
+    public void testUpdateLowersQuality() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        assertThat(governor.getTier(), is(tiers.get(1)));
+        verify(renderer, times(1)).setQuality(tiers.get(1));
+        verify(logger, times(1)).info(contains("Quality lowered from high to medium"));
+    }
+
+    @Test
+    public void testUpdateKeepsLowestQuality() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW * (tiers.size() + 1));
+        assertThat(governor.getTier(), is(tiers.get(tiers.size() - 1)));
+    }
+
+    @Test
+    public void testUpdateKeepsQualityWithinBudget() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        update(governor, BUDGET, QualityGovernor.WINDOW * QualityGovernor.MAX_CALM_WINDOWS * 2);
+        assertThat(governor.getTier(), is(tiers.get(1)));
+    }
+
+    @Test
+    public void testUpdateRaisesQuality() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        update(governor, FAST, QualityGovernor.WINDOW * (QualityGovernor.MIN_CALM_WINDOWS + 1) - 2);
+        assertThat(governor.getTier(), is(tiers.get(1)));
+        governor.update(FAST);
+        assertThat(governor.getTier(), is(tiers.get(0)));
+        verify(logger, times(1)).info(contains("Quality raised from medium to high"));
+    }
+
+    @Test
+    public void testUpdateBacksOff() {
+        QualityGovernor governor = new QualityGovernor(serviceLocator, tiers, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        update(governor, FAST, QualityGovernor.WINDOW * (QualityGovernor.MIN_CALM_WINDOWS + 1) - 1);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        assertThat(governor.getTier(), is(tiers.get(1)));
+
+        // Lowered right after it was raised, so it waits twice as long
+        update(governor, FAST, QualityGovernor.WINDOW * (2 * QualityGovernor.MIN_CALM_WINDOWS + 1) - 2);
+        assertThat(governor.getTier(), is(tiers.get(1)));
+        governor.update(FAST);
+        assertThat(governor.getTier(), is(tiers.get(0)));
+    }
+
+    @Test
+    public void testUpdateChangesRenderScale() {
+        when(renderer.getRenderScale()).thenReturn(0.8d);
+        List<QualityTier> scaled = Arrays.asList(tiers.get(0),
+                new QualityTier("scaled", ScalingQuality.fast, false, false, 8, 0.5d));
+        QualityGovernor governor = new QualityGovernor(serviceLocator, scaled, BUDGET);
+        update(governor, SLOW, QualityGovernor.WINDOW);
+        verify(renderer, times(1)).setRenderScale(0.4d);
+        update(governor, FAST, QualityGovernor.WINDOW * (QualityGovernor.MIN_CALM_WINDOWS + 1) - 1);
+        verify(renderer, times(1)).setRenderScale(0.8d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQualityTierInvalidRenderScale() {
+        new QualityTier("invalid", ScalingQuality.smooth, true, true, 4, 0d);
+    }
+
+    @Test
+    public void testLoadTiers() throws FileNotFoundException {
+        QualityTier[] read = new Gson().fromJson("[{\"name\": \"a\"}, {\"name\": \"b\", \"renderScale\": 0.5}]",
+                QualityTier[].class);
+        when(fileSystem.parseJson("tiers.json", QualityTier[].class)).thenReturn(read);
+        List<QualityTier> loaded = QualityGovernor.loadTiers(serviceLocator, "tiers.json");
+        assertThat(loaded.size(), is(2));
+        assertThat(loaded.get(0).getName(), is("a"));
+        assertThat(loaded.get(0).getInterpolation(), is(ScalingQuality.smooth));
+        assertThat(loaded.get(1).getRenderScale(), is(0.5d));
+    }
+
+    @Test
+    public void testLoadTiersInvalid() throws FileNotFoundException {
+        QualityTier[] read = new Gson().fromJson("[{\"lightResolution\": 0}]", QualityTier[].class);
+        when(fileSystem.parseJson("tiers.json", QualityTier[].class)).thenReturn(read);
+        assertThat(QualityGovernor.loadTiers(serviceLocator, "tiers.json"), is(QualityTier.DEFAULT_TIERS));
+        verify(logger, times(1)).warning(anyString());
+    }
+
+    @Test
+    public void testLoadTiersNotFound() throws FileNotFoundException {
+        when(fileSystem.parseJson(eq("tiers.json"), eq(QualityTier[].class))).thenThrow(new FileNotFoundException());
+        assertThat(QualityGovernor.loadTiers(serviceLocator, "tiers.json"), is(QualityTier.DEFAULT_TIERS));
+        verify(logger, times(1)).warning(anyString());
+    }
+
+}
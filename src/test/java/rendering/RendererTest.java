@@ -6,16 +6,24 @@ import logging.ILogger;
 import logging.ILoggerFactory;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.powermock.reflect.Whitebox;
 import resources.sprites.ISprite;
+import resources.sprites.ISpriteFactory;
+import resources.sprites.ScalingQuality;
 import system.IServiceLocator;
 
 import java.awt.*;
 import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 import static org.powermock.api.mockito.PowerMockito.mock;
@@ -23,9 +31,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
 
 public class RendererTest {
 
-    Font font = mock(Font.class);
-    Font font50 = mock(Font.class);
-    FontMetrics fontMetrics = mock(FontMetrics.class);
+    Font font = new Font(Font.SERIF, Font.PLAIN, 1);
     Graphics2D graphics = mock(Graphics2D.class);
     ICamera camera = mock(ICamera.class);
     IConstants constants = mock(IConstants.class);
@@ -35,11 +41,13 @@ public class RendererTest {
     Image image = mock(Image.class);
     IServiceLocator serviceLocator = mock(IServiceLocator.class);
     ISprite sprite = mock(ISprite.class);
+    ISprite scaledSprite = mock(ISprite.class);
+    ISpriteFactory spriteFactory = mock(ISpriteFactory.class);
+    Image scaledImage = mock(Image.class);
 
     Renderer renderer;
 
     int gameHeight = 10, gameWidth = 10;
-    int stringWidth = 10;
     Point point = new Point(1, 1);
 
     @Before
@@ -47,18 +55,18 @@ public class RendererTest {
         when(constants.getGameHeight()).thenReturn(gameHeight);
         when(constants.getGameWidth()).thenReturn(gameWidth);
         when(fileSystem.getFont(anyString())).thenReturn(font);
-        when(font.deriveFont(anyInt(), anyFloat())).thenReturn(font50);
-        when(fontMetrics.stringWidth("foo")).thenReturn(stringWidth);
-        when(fontMetrics.stringWidth("bar")).thenReturn(stringWidth);
-        when(graphics.getFontMetrics()).thenReturn(fontMetrics);
         when(loggerFactory.createLogger(Renderer.class)).thenReturn(logger);
         when(serviceLocator.getConstants()).thenReturn(constants);
         when(serviceLocator.getFileSystem()).thenReturn(fileSystem);
         when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
         when(sprite.getImage()).thenReturn(image);
+        when(serviceLocator.getSpriteFactory()).thenReturn(spriteFactory);
+        when(spriteFactory.getScaledSprite(eq(sprite), anyInt(), anyInt(), anyObject())).thenReturn(sprite);
+        when(scaledSprite.getImage()).thenReturn(scaledImage);
+        when(scaledSprite.getWidth()).thenReturn(20);
+        when(scaledSprite.getHeight()).thenReturn(30);
 
-        Whitebox.setInternalState(Renderer.class, "serviceLocator", serviceLocator);
-        renderer = Whitebox.invokeConstructor(Renderer.class);
+        renderer = Whitebox.invokeConstructor(Renderer.class, serviceLocator);
         Whitebox.setInternalState(renderer, "graphics", graphics);
     }
 
@@ -70,7 +78,23 @@ public class RendererTest {
     @Test
     public void testSetGraphicsBuffer() {
         renderer.setGraphicsBuffer(graphics);
-        verify(graphics, times(2)).setRenderingHint(anyObject(), anyObject());
+        verify(graphics, times(3)).setRenderingHint(anyObject(), anyObject());
+    }
+
+    @Test
+    public void testSetQuality() {
+        renderer.setQuality(QualityTier.DEFAULT_TIERS.get(2));
+        renderer.setGraphicsBuffer(graphics);
+        verify(graphics, times(1)).setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        verify(graphics, times(1)).setRenderingHint(
+                RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        verify(graphics, times(1)).setRenderingHint(
+                RenderingHints.KEY_INTERPOLATION, ScalingQuality.fast.getInterpolation());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetQualityNull() {
+        renderer.setQuality(null);
     }
 
     @Test
@@ -90,38 +114,101 @@ public class RendererTest {
     @Test
     public void testClear() {
         renderer.clear();
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).clearRect(0, 0, gameWidth, gameHeight);
     }
 
     @Test
     public void testDrawRectangle() {
         renderer.drawRectangle(point, 10, 10);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawRect(1, 1, 10, 10);
     }
 
     @Test
     public void testDrawSprite() {
         renderer.drawSprite(sprite, point);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawImage(image, 1, 1, null);
     }
 
     @Test
     public void testDrawSpriteRotate() {
         renderer.drawSprite(sprite, point, 90);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).rotate(90);
         verify(graphics, times(1)).drawImage(image, 0, 0, null);
         verify(graphics, times(1)).rotate(-90);
     }
 
+    @Test
+    public void testDrawSpriteRotationFrames() {
+        when(sprite.getName()).thenReturn("sprite");
+        when(spriteFactory.getRotatedSprite(sprite, 10, 10, 1d, 8, ScalingQuality.smooth)).thenReturn(scaledSprite);
+        renderer.setRotationFrames(sprite, 8);
+        renderer.drawSprite(sprite, point, 10, 10, 1d);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, never()).rotate(anyDouble());
+        verify(graphics, times(1)).drawImage(scaledImage, -4, -9, null);
+    }
+
+    @Test
+    public void testDrawSpriteRotationFramesReset() {
+        when(sprite.getName()).thenReturn("sprite");
+        renderer.setRotationFrames(sprite, 8);
+        renderer.setRotationFrames(sprite, 0);
+        renderer.drawSprite(sprite, point, 1d);
+        verify(spriteFactory, never()).getRotatedSprite(anyObject(), anyInt(), anyInt(), anyDouble(), anyInt(), anyObject());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetRotationFramesNegative() {
+        renderer.setRotationFrames(sprite, -1);
+    }
+
     @Test
     public void testDrawSpriteWidthHeight() {
         renderer.drawSprite(sprite, point, 10, 10);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawImage(image, 1, 1, 10, 10, null);
     }
 
+    @Test
+    public void testSetRenderScale() {
+        when(spriteFactory.getScaledSprite(sprite, 5, 5, ScalingQuality.smooth)).thenReturn(scaledSprite);
+        renderer.setRenderScale(0.5d);
+        renderer.drawSprite(sprite, new Point(4, 6), 10, 10);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(scaledImage, 2, 3, 5, 5, null);
+        assertThat(renderer.getRenderScale(), is(0.5d));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetRenderScaleZero() {
+        renderer.setRenderScale(0d);
+    }
+
+    @Test
+    public void testPrepareSprite() {
+        when(sprite.getWidth()).thenReturn(10);
+        when(sprite.getHeight()).thenReturn(20);
+        renderer.setRenderScale(0.5d);
+        renderer.prepareSprite(sprite);
+        verify(spriteFactory, times(1)).getScaledSprite(sprite, 5, 10, ScalingQuality.smooth);
+    }
+
     @Test
     public void testDrawSpriteWidthHeightRotate() {
         renderer.drawSprite(sprite, point, 10, 10, 90);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).rotate(90);
         verify(graphics, times(1)).drawImage(image, 0, 0, 10, 10, null);
         verify(graphics, times(1)).rotate(-90);
@@ -130,132 +217,496 @@ public class RendererTest {
     @Test
     public void testDrawRectangleHUD() {
         renderer.drawRectangleHUD(point, 10, 10);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawRect(1, 1, 10, 10);
     }
 
     @Test
     public void testDrawSpriteHUD() {
         renderer.drawSpriteHUD(sprite, point);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawImage(image, 1, 1, null);
     }
 
     @Test
     public void testDrawSpriteHUDWidthHeight() {
         renderer.drawSpriteHUD(sprite, point, 10, 10);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).drawImage(image, 1, 1, 10, 10, null);
     }
 
+    @Test
+    public void testDrawSpriteUsesScaledSprite() {
+        when(spriteFactory.getScaledSprite(sprite, 20, 30, ScalingQuality.smooth)).thenReturn(scaledSprite);
+        renderer.drawSprite(sprite, point, 20, 30);
+        renderer.drawSpriteHUD(sprite, point, 20, 30);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(2)).drawImage(scaledImage, 1, 1, null);
+        verify(graphics, never()).drawImage(image, 1, 1, 20, 30, null);
+    }
+
+    @Test
+    public void testDrawSpriteRegion() {
+        when(sprite.isRegion()).thenReturn(true);
+        when(sprite.getX()).thenReturn(4);
+        when(sprite.getY()).thenReturn(6);
+        when(sprite.getWidth()).thenReturn(2);
+        when(sprite.getHeight()).thenReturn(3);
+        renderer.drawSprite(sprite, point);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, 1, 3, 4, 4, 6, 6, 9, null);
+    }
+
     @Test
     public void testDrawText() {
         renderer.drawText(point, "foo");
-        verify(graphics, times(1)).drawString("foo", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.left, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextTextAlignmentLeft() {
         renderer.drawText(point, "bar", TextAlignment.left);
-        verify(graphics, times(1)).drawString("bar", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.left, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextTextAlignmentCenter() {
         renderer.drawText(point, "foo", TextAlignment.center);
-        verify(graphics, times(1)).drawString("foo", 1 - (stringWidth / 2), 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.center, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextTextAlignmentRight() {
         renderer.drawText(point, "bar", TextAlignment.right);
-        verify(graphics, times(1)).drawString("bar", 1 - stringWidth, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.right, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextGraphic() {
         renderer.drawText(point, "foo", rendering.Color.black);
-        verify(graphics, times(1)).setColor(rendering.Color.black.getColor());
-        verify(graphics, times(1)).drawString("foo", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.left, rendering.Color.black);
     }
 
     @Test
     public void testDrawTextAll() {
         renderer.drawText(point, "bar", TextAlignment.left, rendering.Color.black);
-        verify(graphics, times(1)).setColor(rendering.Color.black.getColor());
-        verify(graphics, times(1)).drawString("bar", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.left, rendering.Color.black);
     }
 
     @Test
     public void testDrawTextHUD() {
         renderer.drawTextHUD(point, "foo");
-        verify(graphics, times(1)).drawString("foo", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.left, rendering.Color.white);
+    }
+
+    @Test
+    public void testDrawTextHUDLowQuality() {
+        renderer.setQuality(QualityTier.DEFAULT_TIERS.get(2));
+        renderer.drawTextHUD(point, "foo");
+        renderer.publish();
+        renderer.flush();
+        TextCache.Raster raster = getRaster("foo", rendering.Color.white, false);
+        assertThat(raster == getRaster("foo", rendering.Color.white, true), is(false));
+        verify(graphics, times(1)).drawImage(raster.getImage(), 1 - raster.getOriginX(), 1 - raster.getOriginY(), null);
     }
 
     @Test
     public void testDrawTextTextAlignmentLeftHUD() {
         renderer.drawTextHUD(point, "bar", TextAlignment.left);
-        verify(graphics, times(1)).drawString("bar", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.left, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextTextAlignmentCenterHUD() {
         renderer.drawTextHUD(point, "foo", TextAlignment.center);
-        verify(graphics, times(1)).drawString("foo", 1 - (stringWidth / 2), 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.center, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextTextAlignmentRightHUD() {
         renderer.drawTextHUD(point, "bar", TextAlignment.right);
-        verify(graphics, times(1)).drawString("bar", 1 - stringWidth, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.right, rendering.Color.white);
     }
 
     @Test
     public void testDrawTextGraphicHUD() {
         renderer.drawTextHUD(point, "foo", rendering.Color.black);
-        verify(graphics, times(1)).setColor(rendering.Color.black.getColor());
-        verify(graphics, times(1)).drawString("foo", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("foo", TextAlignment.left, rendering.Color.black);
     }
 
     @Test
     public void testDrawTextAllHUD() {
         renderer.drawTextHUD(point, "bar", TextAlignment.left, rendering.Color.black);
-        verify(graphics, times(1)).setColor(rendering.Color.black.getColor());
-        verify(graphics, times(1)).drawString("bar", 1, 1);
+        renderer.publish();
+        renderer.flush();
+        verifyText("bar", TextAlignment.left, rendering.Color.black);
     }
 
     @Test
     public void testFillRectangle() {
         renderer.fillRectangle(point, 10, 10, rendering.Color.black);
+        renderer.publish();
+        renderer.flush();
         verify(graphics, times(1)).fillRect(1, 1, 10, 10);
         verify(graphics, times(1)).setColor(rendering.Color.black.getColor());
     }
 
+    @Test
+    public void testViewportScalesAndFollowsItsCamera() {
+        ICamera viewportCamera = mock(ICamera.class);
+        when(viewportCamera.getYPos(anyDouble())).thenReturn(2d);
+        renderer.startViewport(viewportCamera, new Point(2, 3), 5, 5, 0.5d);
+        assertThat(renderer.getCamera(), is(viewportCamera));
+        renderer.drawSprite(sprite, new Point(4, 6));
+        renderer.endViewport();
+        assertThat(renderer.getCamera(), is(not(viewportCamera)));
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).translate(2, 3);
+        verify(graphics, times(1)).clipRect(0, 0, 5, 5);
+        verify(graphics, times(1)).drawImage(image, 2, 2, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStartViewportNull() {
+        renderer.startViewport(null, point, 5, 5, 1d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStartViewportEmpty() {
+        renderer.startViewport(camera, point, 0, 5, 1d);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartViewportNested() {
+        renderer.startViewport(camera, point, 5, 5, 1d);
+        renderer.startViewport(camera, point, 5, 5, 1d);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndViewportWithoutViewport() {
+        renderer.endViewport();
+    }
+
+    @Test
+    public void testDrawStaticSprites() {
+        when(sprite.getImage()).thenReturn(new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB));
+        when(sprite.getWidth()).thenReturn(2);
+        when(sprite.getHeight()).thenReturn(2);
+        renderer.setCamera(camera);
+        renderer.setStaticSpriteTiles(true);
+        renderer.addStaticSprite(sprite, new Point(1, 1));
+        renderer.drawStaticSprites();
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(isA(BufferedImage.class), eq(0), eq(0), anyObject());
+
+        renderer.clearStaticSprites();
+        renderer.drawStaticSprites();
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(isA(BufferedImage.class), eq(0), eq(0), anyObject());
+    }
+
+    @Test
+    public void testDrawStaticSpritesOneByOne() {
+        renderer.setCamera(camera);
+        renderer.addStaticSprite(sprite, new Point(1, 1));
+        renderer.addStaticSprite(sprite, new Point(2, 5));
+        renderer.drawStaticSprites();
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, 1, null);
+        verify(graphics, times(1)).drawImage(image, 2, 5, null);
+    }
+
+    @Test
+    public void testDrawStaticSpriteStraddlingTileEdge() {
+        when(sprite.getWidth()).thenReturn(10);
+        when(sprite.getHeight()).thenReturn(10);
+        when(camera.getYPos(anyDouble())).thenReturn(TileCache.TILE_HEIGHT + 4d);
+        renderer.setCamera(camera);
+        renderer.addStaticSprite(sprite, new Point(1, TileCache.TILE_HEIGHT - 5));
+        renderer.drawStaticSprites();
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, -9, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddStaticSpriteNull() {
+        renderer.addStaticSprite(null, point);
+    }
+
+    @Test
+    public void testFillRectangleHUD() {
+        when(camera.getYPos(anyDouble())).thenReturn(5d);
+        renderer.setCamera(camera);
+        renderer.fillRectangleHUD(point, 5, 5, rendering.Color.black);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(1)).fillRect(1, 1, 5, 5);
+    }
+
+    @Test
+    public void testFreezeFrame() {
+        renderer.fillRectangle(new Point(0, 0), gameWidth, gameHeight, rendering.Color.white);
+        renderer.freezeFrame(0.5d, 0);
+        renderer.drawFrozenFrame();
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, never()).fillRect(anyInt(), anyInt(), anyInt(), anyInt());
+        ArgumentCaptor<Image> frozen = ArgumentCaptor.forClass(Image.class);
+        verify(graphics, times(1)).drawImage(frozen.capture(), eq(0), eq(0), isNull(ImageObserver.class));
+        int blue = ((BufferedImage) frozen.getValue()).getRGB(5, 5) & 0xFF;
+        assertThat(blue > 100 && blue < 150, is(true));
+    }
+
+    @Test
+    public void testFreezeFrameBlur() {
+        renderer.fillRectangle(new Point(0, 0), gameWidth / 2, gameHeight, rendering.Color.white);
+        renderer.freezeFrame(0d, 2);
+        renderer.drawFrozenFrame();
+        renderer.publish();
+        renderer.flush();
+        ArgumentCaptor<Image> frozen = ArgumentCaptor.forClass(Image.class);
+        verify(graphics, times(1)).drawImage(frozen.capture(), eq(0), eq(0), isNull(ImageObserver.class));
+        int blue = ((BufferedImage) frozen.getValue()).getRGB(gameWidth / 2, 5) & 0xFF;
+        assertThat(blue > 0 && blue < 255, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFreezeFrameDimInvalid() {
+        renderer.freezeFrame(2d, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFreezeFrameBlurNegative() {
+        renderer.freezeFrame(0d, -1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnfreezeFrame() {
+        renderer.freezeFrame(0d, 0);
+        renderer.unfreezeFrame();
+        renderer.drawFrozenFrame();
+    }
+
+    @Test
+    public void testDrawIsDeferred() {
+        renderer.drawSprite(sprite, point);
+        renderer.flush();
+        verify(graphics, never()).drawImage(image, 1, 1, null);
+        renderer.publish();
+        verify(graphics, never()).drawImage(image, 1, 1, null);
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, 1, null);
+    }
+
+    @Test
+    public void testFlushRepeatsLatestFrame() {
+        renderer.drawSprite(sprite, point);
+        renderer.publish();
+        renderer.flush();
+        renderer.flush();
+        verify(graphics, times(2)).drawImage(image, 1, 1, null);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, times(2)).drawImage(image, 1, 1, null);
+    }
+
+    @Test
+    public void testDrawSpriteInterpolatesCamera() {
+        when(camera.getYPos(0d)).thenReturn(0d);
+        when(camera.getYPos(1d)).thenReturn(4d);
+        renderer.setCamera(camera);
+        renderer.drawSprite(sprite, new Point(1, 3));
+        renderer.drawSpriteHUD(sprite, new Point(1, 3));
+        renderer.publish();
+        renderer.setInterpolation(0.5d);
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, 1, null);
+        verify(graphics, times(1)).drawImage(image, 1, 3, null);
+    }
+
+    @Test
+    public void testDrawSpriteInterpolatesMotion() {
+        renderer.setCamera(camera);
+        renderer.setMotion(2d, -4d);
+        renderer.drawSprite(sprite, new Point(1, 3));
+        renderer.drawSpriteHUD(sprite, new Point(2, 3));
+        renderer.setMotion(0d, 0d);
+        renderer.drawSprite(sprite, new Point(3, 3));
+        renderer.publish();
+        renderer.setInterpolation(0.5d);
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 0, 5, null);
+        verify(graphics, times(1)).drawImage(image, 2, 3, null);
+        verify(graphics, times(1)).drawImage(image, 3, 3, null);
+    }
+
+    @Test
+    public void testWrappingMotionIsNotInterpolated() {
+        renderer.setCamera(camera);
+        renderer.setMotion(8d, 0d);
+        renderer.drawSprite(sprite, new Point(1, 3));
+        renderer.publish();
+        renderer.setInterpolation(0.5d);
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, 3, null);
+    }
+
+    @Test
+    public void testFlushInterpolatesByTickTime() {
+        when(constants.getTicksPerSecond()).thenReturn(60);
+        when(camera.getYPos(0d)).thenReturn(0d);
+        when(camera.getYPos(1d)).thenReturn(4d);
+        renderer.setCamera(camera);
+        renderer.drawSprite(sprite, new Point(1, 3));
+        renderer.setTickTime(System.nanoTime() - 1000000000L);
+        renderer.publish();
+        renderer.setInterpolation(0.5d);
+        renderer.flush();
+        verify(graphics, times(1)).drawImage(image, 1, -1, null);
+    }
+
+    @Test
+    public void testFlushWhilePublishing() throws Exception {
+        renderer.setCamera(camera);
+        Thread recorder = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                renderer.drawSprite(sprite, new Point(1, 3));
+                renderer.publish();
+            }
+        });
+        recorder.start();
+        while (recorder.isAlive()) {
+            renderer.flush();
+        }
+        recorder.join();
+        renderer.flush();
+        verify(graphics, atLeastOnce()).drawImage(image, 1, 3, null);
+    }
+
+    @Test
+    public void testDrawSpriteOffScreen() {
+        renderer.drawSprite(sprite, new Point(gameWidth, 1), 10, 10);
+        renderer.drawSprite(sprite, new Point(1, -10), 10, 10);
+        renderer.publish();
+        renderer.flush();
+        verify(graphics, never()).drawImage(anyObject(), anyInt(), anyInt(), anyInt(), anyInt(), anyObject());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteNull() {
         renderer.drawSprite(null, point);
+        renderer.publish();
+        renderer.flush();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteNullAngle() {
         renderer.drawSprite(null, point, 45);
+        renderer.publish();
+        renderer.flush();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteNullWidthHeight() {
         renderer.drawSprite(null, point, 10, 10);
+        renderer.publish();
+        renderer.flush();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteNullWidthHeightAngle() {
         renderer.drawSprite(null, point, 10, 10, 45);
+        renderer.publish();
+        renderer.flush();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteHUDNull() {
         renderer.drawSpriteHUD(null, point);
+        renderer.publish();
+        renderer.flush();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testDrawSpriteHUDNullWidthNull() {
         renderer.drawSpriteHUD(null, point, 10, 10);
+        renderer.publish();
+        renderer.flush();
+    }
+
+    @Test
+    public void testDrawTextIsCached() {
+        renderer.drawTextHUD(point, "foo");
+        renderer.drawTextHUD(new Point(1, 50), "foo");
+        renderer.publish();
+        renderer.flush();
+        TextCache.Raster raster = getRaster("foo", rendering.Color.white);
+        verify(graphics, times(1)).drawImage(raster.getImage(), 1 - raster.getOriginX(), 1 - raster.getOriginY(), null);
+        verify(graphics, times(1)).drawImage(raster.getImage(), 1 - raster.getOriginX(), 50 - raster.getOriginY(), null);
+        verify(graphics, never()).drawString(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testFontIsReadOnce() {
+        renderer.drawTextHUD(point, "foo");
+        renderer.drawTextExtraOptions(point, "bar", rendering.Color.black, 0d, 20);
+        renderer.publish();
+        renderer.flush();
+        verify(fileSystem, times(1)).getFont(FontRegistry.DEFAULT_NAME);
+    }
+
+    private TextCache.Raster getRaster(String msg, rendering.Color color) {
+        return getRaster(msg, color, true);
+    }
+
+    private TextCache.Raster getRaster(String msg, rendering.Color color, boolean antialiased) {
+        CommandBuffer commands = Whitebox.getInternalState(renderer, "displaying");
+        FontRegistry fonts = Whitebox.getInternalState(commands, "fonts");
+        TextCache texts = Whitebox.getInternalState(commands, "texts");
+        return texts.get(msg, fonts.getFont(0), color.getColor(), antialiased);
+    }
+
+    private void verifyText(String msg, TextAlignment alignment, rendering.Color color) {
+        TextCache.Raster raster = getRaster(msg, color);
+        int x = 1;
+        if (alignment == TextAlignment.center) {
+            x = (int) (1 - raster.getWidth() / 2d);
+        } else if (alignment == TextAlignment.right) {
+            x = 1 - raster.getWidth();
+        }
+        verify(graphics, times(1)).drawImage(raster.getImage(), x - raster.getOriginX(), 1 - raster.getOriginY(), null);
     }
 
 }
@@ -17,13 +17,13 @@ public class StaticCameraTest {
     public void init() {
         camera = new StaticCamera();
 
-        Object y = Whitebox.getInternalState(StaticCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
         ((AtomicDouble) y).set(0d);
     }
 
     @Test
     public void testGetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(StaticCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         ((AtomicDouble) y).set(2d);
         assertThat(camera.getYPos(), is(2d));
@@ -34,7 +34,7 @@ public class StaticCameraTest {
 
     @Test
     public void testSetYPos() throws NoSuchFieldException, IllegalAccessException {
-        Object y = Whitebox.getInternalState(StaticCamera.class, "y");
+        Object y = Whitebox.getInternalState(camera, "y");
 
         camera.setYPos(2d);
         assertThat(((AtomicDouble) y).get(), is(0d));
@@ -0,0 +1,57 @@
+package rendering;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TextCacheTest {
+
+    private TextCache texts;
+    private Font font;
+
+    @Before
+    public void init() {
+        texts = new TextCache();
+        font = new Font(Font.SERIF, Font.PLAIN, 24);
+    }
+
+    @Test
+    public void testGetIsCached() {
+        assertThat(texts.get("foo", font, Color.black, true), is(sameInstance(texts.get("foo", font, Color.black, true))));
+    }
+
+    @Test
+    public void testGetByAntialiasing() {
+        assertThat(texts.get("foo", font, Color.black, false), is(not(sameInstance(texts.get("foo", font, Color.black, true)))));
+    }
+
+    @Test
+    public void testAntialiased() {
+        assertThat(hasPartialAlpha(texts.get("Doodle", font, Color.black, true).getImage()), is(true));
+    }
+
+    @Test
+    public void testNotAntialiased() {
+        assertThat(hasPartialAlpha(texts.get("Doodle", font, Color.black, false).getImage()), is(false));
+    }
+
+    private static boolean hasPartialAlpha(BufferedImage image) {
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int alpha = image.getRGB(x, y) >>> 24;
+                if (alpha != 0 && alpha != 255) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package rendering;
+
+import constants.IConstants;
+import org.junit.Before;
+import org.junit.Test;
+import resources.sprites.ISprite;
+import resources.sprites.ISpriteFactory;
+import system.IServiceLocator;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TileCacheTest {
+
+    private static final int WIDTH = 100;
+
+    private ISprite sprite;
+    private ISprite scaledSprite;
+    private ISpriteFactory spriteFactory;
+    private TileCache tiles;
+
+    @Before
+    public void init() {
+        sprite = mock(ISprite.class);
+        when(sprite.getImage()).thenReturn(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        when(sprite.getWidth()).thenReturn(10);
+        when(sprite.getHeight()).thenReturn(10);
+        scaledSprite = mock(ISprite.class);
+        when(scaledSprite.getImage()).thenReturn(new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB));
+        when(scaledSprite.getWidth()).thenReturn(5);
+        when(scaledSprite.getHeight()).thenReturn(5);
+        spriteFactory = mock(ISpriteFactory.class);
+        when(spriteFactory.getScaledSprite(eq(sprite), anyInt(), anyInt(), anyObject())).thenReturn(scaledSprite);
+
+        IConstants constants = mock(IConstants.class);
+        when(constants.getGameWidth()).thenReturn(WIDTH);
+        IServiceLocator serviceLocator = mock(IServiceLocator.class);
+        when(serviceLocator.getConstants()).thenReturn(constants);
+        when(serviceLocator.getSpriteFactory()).thenReturn(spriteFactory);
+        tiles = new TileCache(serviceLocator);
+    }
+
+    @Test
+    public void testAddToOverlappedTiles() {
+        tiles.add(sprite, 0, TileCache.TILE_HEIGHT - 5);
+        tiles.add(sprite, 0, -20);
+        assertThat(tiles.size(), is(3));
+        assertThat(tiles.get(2, 1d), is(nullValue()));
+    }
+
+    @Test
+    public void testGetDrawsOnce() {
+        tiles.add(sprite, 10, 10);
+        BufferedImage image = tiles.get(0, 1d);
+        assertThat(image.getWidth(), is(WIDTH));
+        assertThat(image.getHeight(), is(TileCache.TILE_HEIGHT + 1));
+        assertThat(image.getRGB(15, 15) >>> 24, is(0xFF));
+        assertThat(image.getRGB(25, 15) >>> 24, is(0));
+        assertThat(tiles.get(0, 1d), is(sameInstance(image)));
+        verify(spriteFactory, never()).getScaledSprite(anyObject(), anyInt(), anyInt(), anyObject());
+    }
+
+    @Test
+    public void testGetDrawsAgainAfterAdd() {
+        tiles.add(sprite, 10, 10);
+        BufferedImage image = tiles.get(0, 1d);
+        tiles.add(sprite, 30, 10);
+        assertThat(tiles.get(0, 1d), is(not(sameInstance(image))));
+    }
+
+    @Test
+    public void testGetScaled() {
+        tiles.add(sprite, 10, 10);
+        BufferedImage image = tiles.get(0, 0.5d);
+        assertThat(image.getWidth(), is(WIDTH / 2));
+        verify(spriteFactory, times(1)).getScaledSprite(eq(sprite), eq(5), eq(5), anyObject());
+    }
+
+    @Test
+    public void testDiscardBelow() {
+        tiles.add(sprite, 0, 0);
+        tiles.add(sprite, 0, TileCache.TILE_HEIGHT);
+        tiles.add(sprite, 0, 2 * TileCache.TILE_HEIGHT);
+        tiles.discardBelow(2 * TileCache.TILE_HEIGHT - 1);
+        assertThat(tiles.size(), is(2));
+        tiles.clear();
+        assertThat(tiles.size(), is(0));
+    }
+
+    @Test
+    public void testVisitOnce() {
+        tiles.add(sprite, 1, TileCache.TILE_HEIGHT - 5);
+        tiles.add(sprite, 2, TileCache.TILE_HEIGHT + 5);
+        List<Integer> visited = new ArrayList<>();
+        tiles.visit(0, 2, (s, x, y) -> visited.add(x));
+        assertThat(visited, is(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void testVisitStraddlingTopEdge() {
+        tiles.add(sprite, 1, TileCache.TILE_HEIGHT - 5);
+        List<Integer> visited = new ArrayList<>();
+        tiles.visit(1, 2, (s, x, y) -> visited.add(y));
+        assertThat(visited, is(Collections.singletonList(TileCache.TILE_HEIGHT - 5)));
+    }
+
+    @Test
+    public void testVisitAboveRange() {
+        tiles.add(sprite, 1, TileCache.TILE_HEIGHT - 20);
+        List<Integer> visited = new ArrayList<>();
+        tiles.visit(1, 2, (s, x, y) -> visited.add(y));
+        assertThat(visited.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testToScreen() {
+        assertThat(TileCache.toScreen(2, 0.5d), is(TileCache.TILE_HEIGHT));
+    }
+
+}
@@ -0,0 +1,113 @@
+package resources;
+
+import logging.ILogger;
+import logging.ILoggerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import rendering.IRenderer;
+import resources.audio.IAudioManager;
+import resources.audio.Sounds;
+import resources.sprites.ISprite;
+import resources.sprites.ISpriteFactory;
+import system.IServiceLocator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AssetPreloaderTest {
+
+    private static final long TIMEOUT = 10000L;
+
+    private IServiceLocator serviceLocator;
+    private ISpriteFactory spriteFactory;
+    private IAudioManager audioManager;
+    private IRenderer renderer;
+    private ILogger logger;
+
+    @Before
+    public void init() {
+        serviceLocator = mock(IServiceLocator.class);
+        spriteFactory = mock(ISpriteFactory.class);
+        audioManager = mock(IAudioManager.class);
+        renderer = mock(IRenderer.class);
+        when(renderer.getRenderScale()).thenReturn(1d);
+        logger = mock(ILogger.class);
+        ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
+        when(loggerFactory.createLogger(AssetPreloader.class)).thenReturn(logger);
+        when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
+        when(serviceLocator.getSpriteFactory()).thenReturn(spriteFactory);
+        when(serviceLocator.getAudioManager()).thenReturn(audioManager);
+        when(serviceLocator.getRenderer()).thenReturn(renderer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorNull() {
+        new AssetPreloader(null);
+    }
+
+    @Test
+    public void testNotStarted() {
+        AssetPreloader preloader = new AssetPreloader(serviceLocator);
+        assertFalse(preloader.isDone());
+        assertThat(preloader.getProgress(), is(0d));
+    }
+
+    @Test
+    public void testLoadsAllAssets() throws InterruptedException {
+        AssetPreloader preloader = new AssetPreloader(serviceLocator);
+        preloader.start();
+        awaitDone(preloader);
+
+        assertThat(preloader.getProgress(), is(1d));
+        for (IRes.Sprites sprite : IRes.Sprites.values()) {
+            verify(spriteFactory).getSprite(sprite);
+        }
+        for (Sounds sound : Sounds.values()) {
+            verify(audioManager).preload(sound);
+        }
+        verify(spriteFactory).packAtlas();
+    }
+
+    @Test
+    public void testScaledSpritesAreNotPacked() throws InterruptedException {
+        ISprite sprite = mock(ISprite.class);
+        when(spriteFactory.getSprite(any(IRes.Sprites.class))).thenReturn(sprite);
+        when(renderer.getRenderScale()).thenReturn(0.5d);
+        AssetPreloader preloader = new AssetPreloader(serviceLocator);
+        preloader.start();
+        awaitDone(preloader);
+
+        verify(renderer, times(IRes.Sprites.values().length)).prepareSprite(sprite);
+        verify(spriteFactory, never()).packAtlas();
+    }
+
+    @Test
+    public void testFailingAssetsAreCounted() throws InterruptedException {
+        when(spriteFactory.getSprite(any(IRes.Sprites.class))).thenThrow(new IllegalStateException());
+        AssetPreloader preloader = new AssetPreloader(serviceLocator);
+        preloader.start();
+        awaitDone(preloader);
+
+        assertTrue(preloader.isDone());
+        verify(logger, atLeastOnce()).warning(anyString());
+    }
+
+    private static void awaitDone(final AssetPreloader preloader) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!preloader.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(preloader.isDone());
+    }
+
+}
@@ -11,11 +11,15 @@ import resources.IRes;
 import scenes.PauseScreenModes;
 import system.IServiceLocator;
 
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.anyObject;
 import static org.powermock.api.mockito.PowerMockito.*;
@@ -30,9 +34,8 @@ public class SpriteFactoryTest {
         ILoggerFactory loggerFactory = mock(ILoggerFactory.class);
         IServiceLocator serviceLocator = mock(IServiceLocator.class);
         when(serviceLocator.getLoggerFactory()).thenReturn(loggerFactory);
-        Whitebox.setInternalState(SpriteFactory.class, "serviceLocator", serviceLocator);
 
-        spriteFactory = spy(Whitebox.invokeConstructor(SpriteFactory.class));
+        spriteFactory = spy(Whitebox.invokeConstructor(SpriteFactory.class, serviceLocator));
         doReturn(mock(ISprite.class)).when(spriteFactory, "loadISprite", anyObject());
     }
 
@@ -250,6 +253,98 @@ public class SpriteFactoryTest {
         assertThat(result, is(""));
     }
 
+    @Test
+    public void TestGetScaledSprite() throws Exception {
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        ISprite result = spriteFactory.getScaledSprite(sprite, 20, 30, ScalingQuality.smooth);
+        assertThat(result.getWidth(), is(20));
+        assertThat(result.getHeight(), is(30));
+        assertThat(result.getName(), is("sprite.png"));
+        assertSame(result, spriteFactory.getScaledSprite(sprite, 20, 30, ScalingQuality.smooth));
+        assertNotSame(result, spriteFactory.getScaledSprite(sprite, 20, 30, ScalingQuality.fast));
+    }
+
+    @Test
+    public void TestGetScaledSpriteSameSize() throws Exception {
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        assertSame(sprite, spriteFactory.getScaledSprite(sprite, 10, 10, ScalingQuality.smooth));
+        assertSame(sprite, spriteFactory.getScaledSprite(sprite, 0, 10, ScalingQuality.smooth));
+    }
+
+    @Test
+    public void TestGetScaledSpriteAveragesAllPixels() throws Exception {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xFFFFFF);
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", image);
+        ISprite result = spriteFactory.getScaledSprite(sprite, 2, 2, ScalingQuality.smooth);
+        int blue = ((BufferedImage) result.getImage()).getRGB(0, 0) & 0xFF;
+        assertThat(blue > 0, is(true));
+        assertThat(((BufferedImage) result.getImage()).getRGB(1, 1) & 0xFF, is(0));
+    }
+
+    @Test
+    public void TestGetRotatedSprite() throws Exception {
+        BufferedImage image = new BufferedImage(30, 40, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xFFFFFFFF);
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", image);
+        ISprite frame = spriteFactory.getRotatedSprite(sprite, 30, 40, 0d, 4, ScalingQuality.fast);
+        assertThat(frame.getWidth(), is(50));
+        assertThat(frame.getHeight(), is(50));
+        assertThat(frame.getName(), is("sprite.png"));
+        assertThat(((BufferedImage) frame.getImage()).getRGB(10, 5), is(0xFFFFFFFF));
+        assertSame(frame, spriteFactory.getRotatedSprite(sprite, 30, 40, 0.1d, 4, ScalingQuality.fast));
+        assertSame(frame, spriteFactory.getRotatedSprite(sprite, 30, 40, 2d * Math.PI, 4, ScalingQuality.fast));
+    }
+
+    @Test
+    public void TestGetRotatedSpriteQuarterTurn() throws Exception {
+        BufferedImage image = new BufferedImage(30, 40, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xFFFFFFFF);
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", image);
+        ISprite frame = spriteFactory.getRotatedSprite(sprite, 30, 40, Math.PI / 2d, 4, ScalingQuality.fast);
+        assertThat(((BufferedImage) frame.getImage()).getRGB(44, 10), is(0xFFFFFFFF));
+        assertSame(frame, spriteFactory.getRotatedSprite(sprite, 30, 40, -3d * Math.PI / 2d, 4, ScalingQuality.fast));
+        assertNotSame(frame, spriteFactory.getRotatedSprite(sprite, 30, 40, -Math.PI / 2d, 4, ScalingQuality.fast));
+    }
+
+    @Test
+    public void TestGetLayerSprite() throws Exception {
+        ISprite sprite = Whitebox.invokeConstructor(Sprite.class, "sprite.png", new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        StaticLayer layer = new StaticLayer("layer", 40, 20).add(sprite, 5, 5);
+        ISprite result = spriteFactory.getLayerSprite(layer);
+        assertThat(result.getWidth(), is(40));
+        assertThat(result.getHeight(), is(20));
+        assertThat(result.getName(), is("layer"));
+        assertSame(result, spriteFactory.getLayerSprite(layer));
+        assertNotSame(result, spriteFactory.getLayerSprite(new StaticLayer("layer", 40, 20).add(sprite, 5, 5)));
+    }
+
+    @Test
+    public void TestToCompatibleImage() {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_3BYTE_BGR);
+        image.setRGB(1, 1, 0xFF123456);
+        BufferedImage result = SpriteFactory.toCompatibleImage(image);
+        assertThat(result.getWidth(), is(3));
+        assertThat(result.getHeight(), is(2));
+        assertThat(result.getTransparency(), is(Transparency.OPAQUE));
+        assertThat(result.getRGB(1, 1), is(0xFF123456));
+    }
+
+    @Test
+    public void TestToCompatibleImageTranslucent() {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_4BYTE_ABGR);
+        image.setRGB(1, 1, 0x80FFFFFF);
+        BufferedImage result = SpriteFactory.toCompatibleImage(image);
+        assertThat(result.getTransparency(), is(Transparency.TRANSLUCENT));
+        assertThat(result.getRGB(1, 1) >>> 24, is(0x80));
+    }
+
+    @Test
+    public void TestToCompatibleImageAlreadyCompatible() {
+        BufferedImage image = SpriteFactory.createCompatibleImage(3, 2, Transparency.TRANSLUCENT);
+        assertSame(image, SpriteFactory.toCompatibleImage(image));
+    }
+
     // No bad weather checks, because Travis doesn't compile the assertions and thus no AssertionErrors will be thrown
     // and it's a private method, so there's less risk other people will use the method for things it isn't supposed to do
 
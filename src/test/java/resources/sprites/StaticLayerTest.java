@@ -0,0 +1,64 @@
+package resources.sprites;
+
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StaticLayerTest {
+
+    @Test
+    public void testComposeDrawsSpritesInOrder() throws Exception {
+        StaticLayer layer = new StaticLayer("layer", 4, 2)
+                .add(createSprite(4, 2, 0xFF0000FF, BufferedImage.TYPE_INT_RGB), 0, 0)
+                .add(createSprite(1, 1, 0xFFFF0000, BufferedImage.TYPE_INT_ARGB), 2, 1);
+
+        BufferedImage image = layer.compose(ScalingQuality.fast);
+
+        assertThat(image.getWidth(), is(4));
+        assertThat(image.getHeight(), is(2));
+        assertThat(image.getTransparency(), is(Transparency.OPAQUE));
+        assertThat(image.getRGB(0, 0), is(0xFF0000FF));
+        assertThat(image.getRGB(2, 1), is(0xFFFF0000));
+    }
+
+    @Test
+    public void testComposeScalesSprites() throws Exception {
+        StaticLayer layer = new StaticLayer("layer", 6, 6)
+                .add(createSprite(2, 2, 0xFF00FF00, BufferedImage.TYPE_INT_ARGB), 1, 1, 4, 4);
+
+        BufferedImage image = layer.compose(ScalingQuality.fast);
+
+        assertThat(image.getTransparency(), is(Transparency.TRANSLUCENT));
+        assertThat(image.getRGB(0, 0), is(0));
+        assertThat(image.getRGB(4, 4), is(0xFF00FF00));
+    }
+
+    @Test
+    public void testComposeRegion() throws Exception {
+        BufferedImage page = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        page.setRGB(3, 3, 0xFFFFFFFF);
+        ISprite region = Whitebox.invokeConstructor(Sprite.class, "region", page, 3, 3, 1, 1);
+        StaticLayer layer = new StaticLayer("layer", 2, 2).add(region, 0, 0);
+
+        BufferedImage image = layer.compose(ScalingQuality.fast);
+
+        assertThat(image.getRGB(0, 0), is(0xFFFFFFFF));
+        assertThat(image.getRGB(1, 1), is(0));
+    }
+
+    private ISprite createSprite(int width, int height, int color, int type) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, color);
+            }
+        }
+        return Whitebox.invokeConstructor(Sprite.class, "sprite", image);
+    }
+
+}
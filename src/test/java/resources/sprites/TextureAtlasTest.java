@@ -0,0 +1,94 @@
+package resources.sprites;
+
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import resources.IRes;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TextureAtlasTest {
+
+    @Test
+    public void testPacksSmallTranslucentSprites() throws Exception {
+        Map<IRes.Sprites, ISprite> sprites = new EnumMap<>(IRes.Sprites.class);
+        sprites.put(IRes.Sprites.zero, createSprite("zero", 10, 20, 0xFF0000FF, BufferedImage.TYPE_INT_ARGB));
+        sprites.put(IRes.Sprites.one, createSprite("one", 30, 5, 0xFF00FF00, BufferedImage.TYPE_INT_ARGB));
+        sprites.put(IRes.Sprites.two, createSprite("two", 7, 7, 0x80FF0000, BufferedImage.TYPE_INT_ARGB));
+
+        TextureAtlas atlas = new TextureAtlas(sprites);
+        Map<IRes.Sprites, ISprite> regions = atlas.getRegions();
+
+        assertThat(regions.size(), is(3));
+        assertThat(atlas.getPages().size(), is(1));
+        List<Rectangle> bounds = new ArrayList<>();
+        for (Map.Entry<IRes.Sprites, ISprite> entry : regions.entrySet()) {
+            ISprite original = sprites.get(entry.getKey());
+            ISprite region = entry.getValue();
+            assertTrue(region.isRegion());
+            assertThat(region.getName(), is(original.getName()));
+            assertThat(region.getWidth(), is(original.getWidth()));
+            assertThat(region.getHeight(), is(original.getHeight()));
+            BufferedImage page = (BufferedImage) region.getImage();
+            BufferedImage image = (BufferedImage) original.getImage();
+            assertThat(page.getRGB(region.getX(), region.getY()) >>> 24, is(image.getRGB(0, 0) >>> 24));
+            assertThat(page.getRGB(region.getX() + region.getWidth() - 1, region.getY() + region.getHeight() - 1),
+                    is(page.getRGB(region.getX(), region.getY())));
+
+            Rectangle rectangle = new Rectangle(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+            for (Rectangle other : bounds) {
+                assertFalse(rectangle.intersects(other));
+            }
+            bounds.add(rectangle);
+        }
+    }
+
+    @Test
+    public void testSkipsOpaqueAndLargeSprites() throws Exception {
+        Map<IRes.Sprites, ISprite> sprites = new EnumMap<>(IRes.Sprites.class);
+        sprites.put(IRes.Sprites.background, createSprite("background", 10, 10, 0xFFFFFFFF, BufferedImage.TYPE_INT_RGB));
+        sprites.put(IRes.Sprites.pauseCover, createSprite("pauseCover", TextureAtlas.MAX_REGION_SIZE + 1, 10,
+                0xFFFFFFFF, BufferedImage.TYPE_INT_ARGB));
+
+        TextureAtlas atlas = new TextureAtlas(sprites);
+
+        assertTrue(atlas.getRegions().isEmpty());
+        assertTrue(atlas.getPages().isEmpty());
+    }
+
+    @Test
+    public void testFillsMultiplePages() throws Exception {
+        Map<IRes.Sprites, ISprite> sprites = new EnumMap<>(IRes.Sprites.class);
+        int size = TextureAtlas.MAX_REGION_SIZE;
+        IRes.Sprites[] names = IRes.Sprites.values();
+        int perPage = (TextureAtlas.PAGE_SIZE / (size + 2)) * (TextureAtlas.PAGE_SIZE / (size + 2));
+        for (int i = 0; i <= perPage; i++) {
+            sprites.put(names[i], createSprite(names[i].name(), size, size, 0xFFFFFFFF, BufferedImage.TYPE_INT_ARGB));
+        }
+
+        TextureAtlas atlas = new TextureAtlas(sprites);
+
+        assertThat(atlas.getRegions().size(), is(perPage + 1));
+        assertThat(atlas.getPages().size(), is(2));
+    }
+
+    private ISprite createSprite(String name, int width, int height, int color, int type) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, color);
+            }
+        }
+        return Whitebox.invokeConstructor(Sprite.class, name, image);
+    }
+
+}
@@ -13,6 +13,7 @@ import progression.Ranks;
 import rendering.IRenderer;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
+import resources.sprites.StaticLayer;
 import system.IServiceLocator;
 
 import java.awt.*;
@@ -29,7 +30,7 @@ public class KillScreenTest {
     private ILogger logger;
     private ILoggerFactory loggerFactory;
     private ISpriteFactory spriteFactory;
-    private ISprite background, bottomKillSCreen, gameOver;
+    private ISprite background, bottomKillSCreen, gameOver, layer;
     private IProgressionManager progressionManager;
     private IButtonFactory buttonFactory;
     private IButton playagain, menu;
@@ -62,6 +63,8 @@ public class KillScreenTest {
 
         spriteFactory = mock(ISpriteFactory.class);
         when(spriteFactory.getSprite(any())).thenReturn(background);
+        layer = mock(ISprite.class);
+        when(spriteFactory.getLayerSprite(any())).thenReturn(layer);
 
         progressionManager = mock(IProgressionManager.class);
         when(progressionManager.getRank()).thenReturn(Ranks.theBoss);
@@ -80,8 +83,8 @@ public class KillScreenTest {
     @Test
     public void testRender() {
         killScreen.render();
-        verify(renderer, times(1)).drawSpriteHUD(background, new Point(0, 0));
-        verify(renderer, times(1)).drawSpriteHUD(background, new Point(10, 30));
+        verify(renderer, times(1)).drawSpriteHUD(layer, new Point(0, 0));
+        verify(renderer, never()).drawSpriteHUD(background, new Point(10, 30));
 
         verify(menu, times(1)).render();
         verify(playagain, times(1)).render();
@@ -89,6 +92,13 @@ public class KillScreenTest {
         verify(progressionManager, times(1)).getRank();
     }
 
+    @Test
+    public void testStaticLayer() {
+        StaticLayer staticLayer = Whitebox.getInternalState(killScreen, "staticLayer");
+        assertEquals(100, staticLayer.getWidth());
+        assertEquals(100, staticLayer.getHeight());
+    }
+
     @Test
     public void testUpdate() {
         Whitebox.setInternalState(killScreen, "expCount", 0);
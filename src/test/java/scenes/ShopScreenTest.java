@@ -15,6 +15,7 @@ import rendering.IRenderer;
 import resources.IRes;
 import resources.sprites.ISprite;
 import resources.sprites.ISpriteFactory;
+import resources.sprites.StaticLayer;
 import system.IServiceLocator;
 
 import java.awt.Point;
@@ -27,6 +28,7 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
@@ -48,7 +50,8 @@ public class ShopScreenTest {
     private IRenderer renderer = mock(IRenderer.class);
     private IScene shopScreen;
     private ISceneFactory sceneFactory = mock(ISceneFactory.class);
-    private ISprite sprite = mock(ISprite.class), background = mock(ISprite.class), bottomScreen = mock(ISprite.class);
+    private ISprite sprite = mock(ISprite.class), background = mock(ISprite.class), bottomScreen = mock(ISprite.class),
+            layer = mock(ISprite.class);
     private ISprite[] sprites = {sprite, sprite, sprite, sprite, sprite, sprite, sprite, sprite, sprite, sprite};
     private ISpriteFactory spriteFactory = mock(ISpriteFactory.class);
 
@@ -73,6 +76,7 @@ public class ShopScreenTest {
         when(spriteFactory.getSprite(IRes.Sprites.menu)).thenReturn(sprite);
         when(spriteFactory.getSprite(IRes.Sprites.background)).thenReturn(background);
         when(spriteFactory.getSprite(IRes.Sprites.killScreenBottom)).thenReturn(bottomScreen);
+        when(spriteFactory.getLayerSprite(any(StaticLayer.class))).thenReturn(layer);
         when(spriteFactory.getCoinSprite(anyInt())).thenReturn(sprite);
         when(spriteFactory.getPowerupSprite(any(Powerups.class), anyInt())).thenReturn(sprite);
         when(buttonFactory.createMainMenuButton(anyDouble(), anyDouble())).thenReturn(button);
@@ -142,8 +146,8 @@ public class ShopScreenTest {
     @Test
     public void testRender() throws Exception {
         shopScreen.render();
-        verify(renderer, times(1)).drawSpriteHUD(background, new Point(0, 0));
-        verify(renderer, times(1)).drawSpriteHUD(bottomScreen, new Point(0, 0));
+        verify(renderer, times(1)).drawSpriteHUD(layer, new Point(0, 0));
+        verify(renderer, never()).drawSpriteHUD(background, new Point(0, 0));
         verify(renderer, atLeastOnce()).drawSpriteHUD(sprite, new Point(anyInt(), anyInt()));
         verify(renderer, atLeastOnce()).drawTextHUD(new Point(anyInt(), anyInt()), anyString(), Color.black);
         verify(button, times(1)).render();
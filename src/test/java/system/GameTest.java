@@ -33,4 +33,12 @@ public class GameTest {
         final Game game = Whitebox.invokeConstructor(Game.class);
         assertThat(Whitebox.getInternalState(Game.class, "serviceLocator"), is(serviceLocator));
     }
+
+    @Test
+    public void testViewScaleAtStartup() {
+        final double viewScale = Whitebox.getInternalState(Game.class, "viewScale");
+        final float scale = Whitebox.getInternalState(Game.class, "scale");
+        assertThat(Double.isInfinite(viewScale), is(false));
+        assertThat(viewScale, is(1d / scale));
+    }
 }
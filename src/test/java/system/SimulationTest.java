@@ -0,0 +1,75 @@
+package system;
+
+import objects.IGameObject;
+import objects.blocks.IBlock;
+import objects.doodles.IDoodle;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import scenes.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SimulationTest {
+
+    private static final long TICKS = 2000L;
+
+    @Test
+    public void testSameSeedSameWorld() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> first = pool.submit(() -> simulate(42L));
+            Future<List<String>> second = pool.submit(() -> simulate(42L));
+            assertThat(first.get(), is(second.get()));
+            assertThat(first.get(), is(simulate(42L)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testOtherSeedOtherWorld() {
+        assertThat(simulate(1L), is(not(simulate(2L))));
+    }
+
+    /**
+     * Simulates a game and describes the world it ended with.
+     *
+     * @param seed The seed of the game.
+     * @return The class and position of every object in the world, sorted.
+     */
+    private static List<String> simulate(final long seed) {
+        IServiceLocator sL = new ServiceLocatorNoAudio(seed);
+        sL.getProgressionManager().init();
+        World world = sL.getSceneFactory().createSinglePlayerWorld();
+        long ticks = Game.simulate(sL, world, TICKS);
+
+        List<String> objects = new ArrayList<>();
+        Set<IBlock> blocks = Whitebox.getInternalState(world, "blocks");
+        for (IBlock block : blocks) {
+            for (IGameObject element : block.getElements()) {
+                objects.add(describe(element));
+            }
+        }
+        List<IDoodle> doodles = Whitebox.getInternalState(world, "doodles");
+        for (IDoodle doodle : doodles) {
+            objects.add(describe(doodle) + " " + doodle.getScore());
+        }
+        Collections.sort(objects);
+        objects.add("ticks " + ticks);
+        return objects;
+    }
+
+    private static String describe(final IGameObject gameObject) {
+        return gameObject.getClass().getSimpleName() + " " + gameObject.getXPos() + " " + gameObject.getYPos();
+    }
+}
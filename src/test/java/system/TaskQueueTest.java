@@ -0,0 +1,152 @@
+package system;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TaskQueueTest {
+
+    private static final int CAPACITY = 8;
+
+    private TaskQueue taskQueue;
+
+    @Before
+    public void init() {
+        taskQueue = new TaskQueue(CAPACITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityNotPowerOfTwo() {
+        new TaskQueue(6);
+    }
+
+    @Test
+    public void testRunsTasksInOrder() {
+        List<Integer> order = new ArrayList<>();
+        taskQueue.offer(() -> order.add(1));
+        taskQueue.offer(() -> order.add(2));
+        taskQueue.offer(() -> order.add(3));
+        assertThat(taskQueue.size(), is(3));
+
+        taskQueue.runTasks();
+        assertThat(order.toString(), is("[1, 2, 3]"));
+        assertThat(taskQueue.size(), is(0));
+    }
+
+    @Test
+    public void testTaskAddedWhileRunningRunsNextTick() {
+        AtomicInteger counter = new AtomicInteger(0);
+        taskQueue.offer(() -> taskQueue.offer(counter::incrementAndGet));
+
+        taskQueue.runTasks();
+        assertThat(counter.get(), is(0));
+        taskQueue.runTasks();
+        assertThat(counter.get(), is(1));
+    }
+
+    @Test
+    public void testRejectsWhenFull() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(taskQueue.offer(() -> { }), is(true));
+        }
+        assertThat(taskQueue.offer(() -> { }), is(false));
+        assertThat(taskQueue.getRejected(), is(1L));
+        assertThat(taskQueue.getHighWaterMark(), is(CAPACITY));
+
+        taskQueue.runTasks();
+        assertThat(taskQueue.offer(() -> { }), is(true));
+    }
+
+    @Test
+    public void testWrapsAround() {
+        AtomicInteger counter = new AtomicInteger(0);
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            taskQueue.offer(counter::incrementAndGet);
+            taskQueue.runTasks();
+        }
+        assertThat(counter.get(), is(CAPACITY * 3));
+    }
+
+    @Test
+    public void testDelayedTask() {
+        AtomicInteger counter = new AtomicInteger(0);
+        taskQueue.offer(counter::incrementAndGet, 2, 0);
+
+        taskQueue.runTasks();
+        taskQueue.runTasks();
+        assertThat(counter.get(), is(0));
+        taskQueue.runTasks();
+        assertThat(counter.get(), is(1));
+        taskQueue.runTasks();
+        assertThat(counter.get(), is(1));
+        assertThat(taskQueue.getDelayedSize(), is(0));
+    }
+
+    @Test
+    public void testRepeatingTaskAndCancel() {
+        AtomicInteger counter = new AtomicInteger(0);
+        TaskQueue.ScheduledTask task = taskQueue.offer(counter::incrementAndGet, 0, 2);
+        assertThat(task, is(notNullValue()));
+
+        for (int i = 0; i < 6; i++) {
+            taskQueue.runTasks();
+        }
+        assertThat(counter.get(), is(3));
+
+        task.cancel();
+        for (int i = 0; i < 6; i++) {
+            taskQueue.runTasks();
+        }
+        assertThat(counter.get(), is(3));
+        assertThat(task.isCancelled(), is(true));
+        assertThat(taskQueue.getDelayedSize(), is(0));
+    }
+
+    @Test
+    public void testDelayedTaskRejectedWhenFull() {
+        for (int i = 0; i < CAPACITY; i++) {
+            taskQueue.offer(() -> { });
+        }
+        assertThat(taskQueue.offer(() -> { }, 1, 0), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDelay() {
+        taskQueue.offer(() -> { }, -1, 0);
+    }
+
+    @Test
+    public void testMultipleProducers() throws InterruptedException {
+        final int producers = 4;
+        final int tasksPerProducer = 10000;
+        final TaskQueue queue = new TaskQueue(64);
+        final AtomicInteger counter = new AtomicInteger(0);
+        final CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            new Thread(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    while (!queue.offer(counter::incrementAndGet)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        while (done.getCount() > 0 || queue.size() > 0) {
+            queue.runTasks();
+        }
+        assertThat(counter.get(), is(producers * tasksPerProducer));
+    }
+
+}